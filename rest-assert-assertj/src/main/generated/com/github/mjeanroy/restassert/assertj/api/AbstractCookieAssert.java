@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.assertj.api;
+
+import org.assertj.core.api.AbstractAssert;
+
+/// Base class for all implementations of assertions for [com.github.mjeanroy.restassert.core.data.Cookie].
+///
+/// @param <S> the "self" type of this assertion class.
+///
+/// Generated on: October 17, 2026 at 7:01:51 AM UTC
+/// Template: ClassAssertTemplate.txt
+abstract class AbstractCookieAssert<S extends AbstractCookieAssert<S>> extends AbstractAssert<S, com.github.mjeanroy.restassert.core.data.Cookie> {
+
+	private final com.github.mjeanroy.restassert.assertj.internal.Cookies assertions = com.github.mjeanroy.restassert.assertj.internal.Cookies.instance();
+
+	protected AbstractCookieAssert(com.github.mjeanroy.restassert.core.data.Cookie actual, Class<?> selfType) {
+		super(actual, selfType);
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasDomain].
+	///
+	/// @param domain See [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasDomain]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasDomain
+	public S hasDomain(java.lang.String domain) {
+		assertions.assertHasDomain(info, actual, domain);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasMaxAge].
+	///
+	/// @param maxAge See [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasMaxAge]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasMaxAge
+	public S hasMaxAge(long maxAge) {
+		assertions.assertHasMaxAge(info, actual, maxAge);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasName].
+	///
+	/// @param name See [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasName]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasName
+	public S hasName(java.lang.String name) {
+		assertions.assertHasName(info, actual, name);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasPath].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasPath]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasPath
+	public S hasPath(java.lang.String path) {
+		assertions.assertHasPath(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasSameSite].
+	///
+	/// @param sameSite See [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasSameSite]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasSameSite
+	public S hasSameSite(java.lang.String sameSite) {
+		assertions.assertHasSameSite(info, actual, sameSite);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasSameSite].
+	///
+	/// @param sameSite See [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasSameSite]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasSameSite
+	public S hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie.SameSite sameSite) {
+		assertions.assertHasSameSite(info, actual, sameSite);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasValue].
+	///
+	/// @param value See [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasValue]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertHasValue
+	public S hasValue(java.lang.String value) {
+		assertions.assertHasValue(info, actual, value);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsHttpOnly].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsHttpOnly
+	public S isHttpOnly() {
+		assertions.assertIsHttpOnly(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsNotHttpOnly].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsNotHttpOnly
+	public S isNotHttpOnly() {
+		assertions.assertIsNotHttpOnly(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsNotSecured].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsNotSecured
+	public S isNotSecured() {
+		assertions.assertIsNotSecured(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsSecured].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Cookies#assertIsSecured
+	public S isSecured() {
+		assertions.assertIsSecured(info, actual);
+		return myself;
+	}
+
+}
+
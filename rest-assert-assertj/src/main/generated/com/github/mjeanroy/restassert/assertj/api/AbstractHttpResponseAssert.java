@@ -0,0 +1,1525 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.assertj.api;
+
+import org.assertj.core.api.AbstractAssert;
+
+/// Base class for all implementations of assertions for [com.github.mjeanroy.restassert.core.data.HttpResponse].
+///
+/// @param <S> the "self" type of this assertion class.
+///
+/// Generated on: October 17, 2026 at 7:01:51 AM UTC
+/// Template: ClassAssertTemplate.txt
+abstract class AbstractHttpResponseAssert<S extends AbstractHttpResponseAssert<S>> extends AbstractAssert<S, com.github.mjeanroy.restassert.core.data.HttpResponse> {
+
+	private final com.github.mjeanroy.restassert.assertj.internal.HttpResponses assertions = com.github.mjeanroy.restassert.assertj.internal.HttpResponses.instance();
+
+	protected AbstractHttpResponseAssert(com.github.mjeanroy.restassert.core.data.HttpResponse actual, Class<?> selfType) {
+		super(actual, selfType);
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowCredentials].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowCredentials
+	public S doesNotHaveAccessControlAllowCredentials() {
+		assertions.assertDoesNotHaveAccessControlAllowCredentials(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowHeaders].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowHeaders
+	public S doesNotHaveAccessControlAllowHeaders() {
+		assertions.assertDoesNotHaveAccessControlAllowHeaders(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowMaxAge].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowMaxAge
+	public S doesNotHaveAccessControlAllowMaxAge() {
+		assertions.assertDoesNotHaveAccessControlAllowMaxAge(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowMethods].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowMethods
+	public S doesNotHaveAccessControlAllowMethods() {
+		assertions.assertDoesNotHaveAccessControlAllowMethods(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowOrigin].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlAllowOrigin
+	public S doesNotHaveAccessControlAllowOrigin() {
+		assertions.assertDoesNotHaveAccessControlAllowOrigin(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlExposeHeaders].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveAccessControlExposeHeaders
+	public S doesNotHaveAccessControlExposeHeaders() {
+		assertions.assertDoesNotHaveAccessControlExposeHeaders(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveCacheControl].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveCacheControl
+	public S doesNotHaveCacheControl() {
+		assertions.assertDoesNotHaveCacheControl(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentDisposition].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentDisposition
+	public S doesNotHaveContentDisposition() {
+		assertions.assertDoesNotHaveContentDisposition(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentEncoding].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentEncoding
+	public S doesNotHaveContentEncoding() {
+		assertions.assertDoesNotHaveContentEncoding(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentSecurityPolicy].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentSecurityPolicy
+	public S doesNotHaveContentSecurityPolicy() {
+		assertions.assertDoesNotHaveContentSecurityPolicy(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentTypeOptions].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveContentTypeOptions
+	public S doesNotHaveContentTypeOptions() {
+		assertions.assertDoesNotHaveContentTypeOptions(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveCookie].
+	///
+	/// @param name See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveCookie]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveCookie
+	public S doesNotHaveCookie(java.lang.String name) {
+		assertions.assertDoesNotHaveCookie(info, actual, name);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveCookie].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveCookie
+	public S doesNotHaveCookie() {
+		assertions.assertDoesNotHaveCookie(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveETag].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveETag
+	public S doesNotHaveETag() {
+		assertions.assertDoesNotHaveETag(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveExpires].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveExpires
+	public S doesNotHaveExpires() {
+		assertions.assertDoesNotHaveExpires(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveFrameOptions].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveFrameOptions
+	public S doesNotHaveFrameOptions() {
+		assertions.assertDoesNotHaveFrameOptions(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveHeader].
+	///
+	/// @param headerName See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveHeader]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveHeader
+	public S doesNotHaveHeader(java.lang.String headerName) {
+		assertions.assertDoesNotHaveHeader(info, actual, headerName);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveLastModified].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveLastModified
+	public S doesNotHaveLastModified() {
+		assertions.assertDoesNotHaveLastModified(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveLocation].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveLocation
+	public S doesNotHaveLocation() {
+		assertions.assertDoesNotHaveLocation(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHavePragma].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHavePragma
+	public S doesNotHavePragma() {
+		assertions.assertDoesNotHavePragma(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveStrictTransportSecurity].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveStrictTransportSecurity
+	public S doesNotHaveStrictTransportSecurity() {
+		assertions.assertDoesNotHaveStrictTransportSecurity(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveXssProtection].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertDoesNotHaveXssProtection
+	public S doesNotHaveXssProtection() {
+		assertions.assertDoesNotHaveXssProtection(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowCredentials].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowCredentials
+	public S hasAccessControlAllowCredentials() {
+		assertions.assertHasAccessControlAllowCredentials(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowHeaders].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowHeaders
+	public S hasAccessControlAllowHeaders() {
+		assertions.assertHasAccessControlAllowHeaders(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowMaxAge].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowMaxAge
+	public S hasAccessControlAllowMaxAge() {
+		assertions.assertHasAccessControlAllowMaxAge(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowMethods].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowMethods
+	public S hasAccessControlAllowMethods() {
+		assertions.assertHasAccessControlAllowMethods(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowOrigin].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlAllowOrigin
+	public S hasAccessControlAllowOrigin() {
+		assertions.assertHasAccessControlAllowOrigin(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlExposeHeaders].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasAccessControlExposeHeaders
+	public S hasAccessControlExposeHeaders() {
+		assertions.assertHasAccessControlExposeHeaders(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCacheControl].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCacheControl
+	public S hasCacheControl() {
+		assertions.assertHasCacheControl(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCharset].
+	///
+	/// @param expectedCharset See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCharset]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCharset
+	public S hasCharset(java.lang.String expectedCharset) {
+		assertions.assertHasCharset(info, actual, expectedCharset);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCharset].
+	///
+	/// @param expectedCharset See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCharset]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCharset
+	public S hasCharset(java.nio.charset.Charset expectedCharset) {
+		assertions.assertHasCharset(info, actual, expectedCharset);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentDisposition].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentDisposition
+	public S hasContentDisposition() {
+		assertions.assertHasContentDisposition(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentEncoding].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentEncoding
+	public S hasContentEncoding() {
+		assertions.assertHasContentEncoding(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentLength].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentLength
+	public S hasContentLength() {
+		assertions.assertHasContentLength(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentSecurityPolicy].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentSecurityPolicy
+	public S hasContentSecurityPolicy() {
+		assertions.assertHasContentSecurityPolicy(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentType].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentType
+	public S hasContentType() {
+		assertions.assertHasContentType(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentTypeOptions].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasContentTypeOptions
+	public S hasContentTypeOptions() {
+		assertions.assertHasContentTypeOptions(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie].
+	///
+	/// @param name See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie
+	public S hasCookie(java.lang.String name) {
+		assertions.assertHasCookie(info, actual, name);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie].
+	///
+	/// @param cookie See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie
+	public S hasCookie(com.github.mjeanroy.restassert.core.data.Cookie cookie) {
+		assertions.assertHasCookie(info, actual, cookie);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie].
+	///
+	/// @param name See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie]
+	/// @param value See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasCookie
+	public S hasCookie(java.lang.String name, java.lang.String value) {
+		assertions.assertHasCookie(info, actual, name, value);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasETag].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasETag
+	public S hasETag() {
+		assertions.assertHasETag(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasExpires].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasExpires
+	public S hasExpires() {
+		assertions.assertHasExpires(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasFrameOptions].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasFrameOptions
+	public S hasFrameOptions() {
+		assertions.assertHasFrameOptions(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasHeader].
+	///
+	/// @param headerName See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasHeader]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasHeader
+	public S hasHeader(java.lang.String headerName) {
+		assertions.assertHasHeader(info, actual, headerName);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasLastModified].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasLastModified
+	public S hasLastModified() {
+		assertions.assertHasLastModified(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasLocation].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasLocation
+	public S hasLocation() {
+		assertions.assertHasLocation(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasMimeType].
+	///
+	/// @param expectedMimeType See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasMimeType]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasMimeType
+	public S hasMimeType(com.github.mjeanroy.restassert.core.data.MediaType expectedMimeType) {
+		assertions.assertHasMimeType(info, actual, expectedMimeType);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasMimeType].
+	///
+	/// @param expectedMimeType See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasMimeType]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasMimeType
+	public S hasMimeType(java.lang.String expectedMimeType) {
+		assertions.assertHasMimeType(info, actual, expectedMimeType);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasNdJsonEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasNdJsonEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasNdJsonEntry
+	public S hasNdJsonEntry(java.lang.String path) {
+		assertions.assertHasNdJsonEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasNdJsonRecordCount].
+	///
+	/// @param expectedCount See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasNdJsonRecordCount]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasNdJsonRecordCount
+	public S hasNdJsonRecordCount(long expectedCount) {
+		assertions.assertHasNdJsonRecordCount(info, actual, expectedCount);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasPragma].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasPragma
+	public S hasPragma() {
+		assertions.assertHasPragma(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasStrictTransportSecurity].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasStrictTransportSecurity
+	public S hasStrictTransportSecurity() {
+		assertions.assertHasStrictTransportSecurity(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasXssProtection].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertHasXssProtection
+	public S hasXssProtection() {
+		assertions.assertHasXssProtection(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccepted].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccepted
+	public S isAccepted() {
+		assertions.assertIsAccepted(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowCredentialsEqualTo].
+	///
+	/// @param flag See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowCredentialsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowCredentialsEqualTo
+	public S isAccessControlAllowCredentialsEqualTo(boolean flag) {
+		assertions.assertIsAccessControlAllowCredentialsEqualTo(info, actual, flag);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowHeadersEqualTo].
+	///
+	/// @param value See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowHeadersEqualTo]
+	/// @param other See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowHeadersEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowHeadersEqualTo
+	public S isAccessControlAllowHeadersEqualTo(java.lang.String value, java.lang.String... other) {
+		assertions.assertIsAccessControlAllowHeadersEqualTo(info, actual, value, other);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowHeadersEqualTo].
+	///
+	/// @param accessControlAllowHeaders See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowHeadersEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowHeadersEqualTo
+	public S isAccessControlAllowHeadersEqualTo(java.lang.Iterable<java.lang.String> accessControlAllowHeaders) {
+		assertions.assertIsAccessControlAllowHeadersEqualTo(info, actual, accessControlAllowHeaders);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMaxAgeEqualTo].
+	///
+	/// @param maxAge See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMaxAgeEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMaxAgeEqualTo
+	public S isAccessControlAllowMaxAgeEqualTo(long maxAge) {
+		assertions.assertIsAccessControlAllowMaxAgeEqualTo(info, actual, maxAge);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMethodsEqualTo].
+	///
+	/// @param method See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMethodsEqualTo]
+	/// @param other See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMethodsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMethodsEqualTo
+	public S isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.RequestMethod method, com.github.mjeanroy.restassert.core.data.RequestMethod... other) {
+		assertions.assertIsAccessControlAllowMethodsEqualTo(info, actual, method, other);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMethodsEqualTo].
+	///
+	/// @param methods See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMethodsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowMethodsEqualTo
+	public S isAccessControlAllowMethodsEqualTo(java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod> methods) {
+		assertions.assertIsAccessControlAllowMethodsEqualTo(info, actual, methods);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowOriginEqualTo].
+	///
+	/// @param accessControlAllowOrigin See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowOriginEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlAllowOriginEqualTo
+	public S isAccessControlAllowOriginEqualTo(java.lang.String accessControlAllowOrigin) {
+		assertions.assertIsAccessControlAllowOriginEqualTo(info, actual, accessControlAllowOrigin);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlExposeHeadersEqualTo].
+	///
+	/// @param accessControlExposeHeaders See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlExposeHeadersEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlExposeHeadersEqualTo
+	public S isAccessControlExposeHeadersEqualTo(java.lang.Iterable<java.lang.String> accessControlExposeHeaders) {
+		assertions.assertIsAccessControlExposeHeadersEqualTo(info, actual, accessControlExposeHeaders);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlExposeHeadersEqualTo].
+	///
+	/// @param value See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlExposeHeadersEqualTo]
+	/// @param other See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlExposeHeadersEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsAccessControlExposeHeadersEqualTo
+	public S isAccessControlExposeHeadersEqualTo(java.lang.String value, java.lang.String... other) {
+		assertions.assertIsAccessControlExposeHeadersEqualTo(info, actual, value, other);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsBadRequest].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsBadRequest
+	public S isBadRequest() {
+		assertions.assertIsBadRequest(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCacheControlEqualTo].
+	///
+	/// @param cacheControl See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCacheControlEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCacheControlEqualTo
+	public S isCacheControlEqualTo(java.lang.String cacheControl) {
+		assertions.assertIsCacheControlEqualTo(info, actual, cacheControl);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCacheControlEqualTo].
+	///
+	/// @param cacheControl See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCacheControlEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCacheControlEqualTo
+	public S isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.CacheControl cacheControl) {
+		assertions.assertIsCacheControlEqualTo(info, actual, cacheControl);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsClientError].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsClientError
+	public S isClientError() {
+		assertions.assertIsClientError(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsConflict].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsConflict
+	public S isConflict() {
+		assertions.assertIsConflict(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentDispositionEqualTo].
+	///
+	/// @param contentDispositionValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentDispositionEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentDispositionEqualTo
+	public S isContentDispositionEqualTo(java.lang.String contentDispositionValue) {
+		assertions.assertIsContentDispositionEqualTo(info, actual, contentDispositionValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentEncodingEqualTo].
+	///
+	/// @param contentEncoding See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentEncodingEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentEncodingEqualTo
+	public S isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.ContentEncoding contentEncoding) {
+		assertions.assertIsContentEncodingEqualTo(info, actual, contentEncoding);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentEncodingEqualTo].
+	///
+	/// @param contentEncodingValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentEncodingEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentEncodingEqualTo
+	public S isContentEncodingEqualTo(java.lang.String contentEncodingValue) {
+		assertions.assertIsContentEncodingEqualTo(info, actual, contentEncodingValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentSecurityPolicyEqualTo].
+	///
+	/// @param contentSecurityPolicy See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentSecurityPolicyEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentSecurityPolicyEqualTo
+	public S isContentSecurityPolicyEqualTo(java.lang.String contentSecurityPolicy) {
+		assertions.assertIsContentSecurityPolicyEqualTo(info, actual, contentSecurityPolicy);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentSecurityPolicyEqualTo].
+	///
+	/// @param contentSecurityPolicy See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentSecurityPolicyEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentSecurityPolicyEqualTo
+	public S isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy contentSecurityPolicy) {
+		assertions.assertIsContentSecurityPolicyEqualTo(info, actual, contentSecurityPolicy);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeEqualTo].
+	///
+	/// @param contentTypeValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeEqualTo
+	public S isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.ContentType contentTypeValue) {
+		assertions.assertIsContentTypeEqualTo(info, actual, contentTypeValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeEqualTo].
+	///
+	/// @param contentTypeValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeEqualTo
+	public S isContentTypeEqualTo(java.lang.String contentTypeValue) {
+		assertions.assertIsContentTypeEqualTo(info, actual, contentTypeValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeOptionsEqualTo].
+	///
+	/// @param contentTypeOptions See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeOptionsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeOptionsEqualTo
+	public S isContentTypeOptionsEqualTo(java.lang.String contentTypeOptions) {
+		assertions.assertIsContentTypeOptionsEqualTo(info, actual, contentTypeOptions);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeOptionsEqualTo].
+	///
+	/// @param contentTypeOptions See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeOptionsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsContentTypeOptionsEqualTo
+	public S isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.ContentTypeOptions contentTypeOptions) {
+		assertions.assertIsContentTypeOptionsEqualTo(info, actual, contentTypeOptions);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCreated].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCreated
+	public S isCreated() {
+		assertions.assertIsCreated(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCss].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCss
+	public S isCss() {
+		assertions.assertIsCss(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCsv].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsCsv
+	public S isCsv() {
+		assertions.assertIsCsv(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsETagEqualTo].
+	///
+	/// @param etagValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsETagEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsETagEqualTo
+	public S isETagEqualTo(java.lang.String etagValue) {
+		assertions.assertIsETagEqualTo(info, actual, etagValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsExpiresEqualTo].
+	///
+	/// @param expiresValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsExpiresEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsExpiresEqualTo
+	public S isExpiresEqualTo(java.util.Date expiresValue) {
+		assertions.assertIsExpiresEqualTo(info, actual, expiresValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsExpiresEqualTo].
+	///
+	/// @param expiresValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsExpiresEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsExpiresEqualTo
+	public S isExpiresEqualTo(java.lang.String expiresValue) {
+		assertions.assertIsExpiresEqualTo(info, actual, expiresValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsForbidden].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsForbidden
+	public S isForbidden() {
+		assertions.assertIsForbidden(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsFrameOptionsEqualTo].
+	///
+	/// @param frameOptions See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsFrameOptionsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsFrameOptionsEqualTo
+	public S isFrameOptionsEqualTo(java.lang.String frameOptions) {
+		assertions.assertIsFrameOptionsEqualTo(info, actual, frameOptions);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsFrameOptionsEqualTo].
+	///
+	/// @param frameOptions See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsFrameOptionsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsFrameOptionsEqualTo
+	public S isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.FrameOptions frameOptions) {
+		assertions.assertIsFrameOptionsEqualTo(info, actual, frameOptions);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsGone].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsGone
+	public S isGone() {
+		assertions.assertIsGone(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsGzipped].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsGzipped
+	public S isGzipped() {
+		assertions.assertIsGzipped(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsHeaderEqualTo].
+	///
+	/// @param headerName See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsHeaderEqualTo]
+	/// @param headerValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsHeaderEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsHeaderEqualTo
+	public S isHeaderEqualTo(java.lang.String headerName, java.lang.String headerValue) {
+		assertions.assertIsHeaderEqualTo(info, actual, headerName, headerValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsHtml].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsHtml
+	public S isHtml() {
+		assertions.assertIsHtml(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsInternalServerError].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsInternalServerError
+	public S isInternalServerError() {
+		assertions.assertIsInternalServerError(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsJavascript].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsJavascript
+	public S isJavascript() {
+		assertions.assertIsJavascript(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsJson].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsJson
+	public S isJson() {
+		assertions.assertIsJson(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLastModifiedEqualTo].
+	///
+	/// @param lastModifiedDate See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLastModifiedEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLastModifiedEqualTo
+	public S isLastModifiedEqualTo(java.util.Date lastModifiedDate) {
+		assertions.assertIsLastModifiedEqualTo(info, actual, lastModifiedDate);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLastModifiedEqualTo].
+	///
+	/// @param lastModifiedValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLastModifiedEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLastModifiedEqualTo
+	public S isLastModifiedEqualTo(java.lang.String lastModifiedValue) {
+		assertions.assertIsLastModifiedEqualTo(info, actual, lastModifiedValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLocationEqualTo].
+	///
+	/// @param locationValue See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLocationEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsLocationEqualTo
+	public S isLocationEqualTo(java.lang.String locationValue) {
+		assertions.assertIsLocationEqualTo(info, actual, locationValue);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMethodNotAllowed].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMethodNotAllowed
+	public S isMethodNotAllowed() {
+		assertions.assertIsMethodNotAllowed(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMovedPermanently].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMovedPermanently
+	public S isMovedPermanently() {
+		assertions.assertIsMovedPermanently(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMovedTemporarily].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMovedTemporarily
+	public S isMovedTemporarily() {
+		assertions.assertIsMovedTemporarily(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMultipleChoices].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsMultipleChoices
+	public S isMultipleChoices() {
+		assertions.assertIsMultipleChoices(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonArrayEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonArrayEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonArrayEntry
+	public S isNdJsonArrayEntry(java.lang.String path) {
+		assertions.assertIsNdJsonArrayEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonBooleanEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonBooleanEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonBooleanEntry
+	public S isNdJsonBooleanEntry(java.lang.String path) {
+		assertions.assertIsNdJsonBooleanEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonNumberEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonNumberEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonNumberEntry
+	public S isNdJsonNumberEntry(java.lang.String path) {
+		assertions.assertIsNdJsonNumberEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonObjectEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonObjectEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonObjectEntry
+	public S isNdJsonObjectEntry(java.lang.String path) {
+		assertions.assertIsNdJsonObjectEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonStringEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonStringEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNdJsonStringEntry
+	public S isNdJsonStringEntry(java.lang.String path) {
+		assertions.assertIsNdJsonStringEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNoContent].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNoContent
+	public S isNoContent() {
+		assertions.assertIsNoContent(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotAcceptable].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotAcceptable
+	public S isNotAcceptable() {
+		assertions.assertIsNotAcceptable(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotClientError].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotClientError
+	public S isNotClientError() {
+		assertions.assertIsNotClientError(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotFound].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotFound
+	public S isNotFound() {
+		assertions.assertIsNotFound(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotImplemented].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotImplemented
+	public S isNotImplemented() {
+		assertions.assertIsNotImplemented(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotModified].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotModified
+	public S isNotModified() {
+		assertions.assertIsNotModified(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotRedirection].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotRedirection
+	public S isNotRedirection() {
+		assertions.assertIsNotRedirection(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotServerError].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotServerError
+	public S isNotServerError() {
+		assertions.assertIsNotServerError(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotSuccess].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsNotSuccess
+	public S isNotSuccess() {
+		assertions.assertIsNotSuccess(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsOk].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsOk
+	public S isOk() {
+		assertions.assertIsOk(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPartialContent].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPartialContent
+	public S isPartialContent() {
+		assertions.assertIsPartialContent(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPdf].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPdf
+	public S isPdf() {
+		assertions.assertIsPdf(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPermanentRedirect].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPermanentRedirect
+	public S isPermanentRedirect() {
+		assertions.assertIsPermanentRedirect(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPragmaEqualTo].
+	///
+	/// @param pragma See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPragmaEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPragmaEqualTo
+	public S isPragmaEqualTo(java.lang.String pragma) {
+		assertions.assertIsPragmaEqualTo(info, actual, pragma);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPreConditionFailed].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsPreConditionFailed
+	public S isPreConditionFailed() {
+		assertions.assertIsPreConditionFailed(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRedirection].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRedirection
+	public S isRedirection() {
+		assertions.assertIsRedirection(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestEntityTooLarge].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestEntityTooLarge
+	public S isRequestEntityTooLarge() {
+		assertions.assertIsRequestEntityTooLarge(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestTimeout].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestTimeout
+	public S isRequestTimeout() {
+		assertions.assertIsRequestTimeout(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestUriTooLong].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestUriTooLong
+	public S isRequestUriTooLong() {
+		assertions.assertIsRequestUriTooLong(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestedRangeNotSatisfiable].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsRequestedRangeNotSatisfiable
+	public S isRequestedRangeNotSatisfiable() {
+		assertions.assertIsRequestedRangeNotSatisfiable(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsResetContent].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsResetContent
+	public S isResetContent() {
+		assertions.assertIsResetContent(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsSeeOther].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsSeeOther
+	public S isSeeOther() {
+		assertions.assertIsSeeOther(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsServerError].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsServerError
+	public S isServerError() {
+		assertions.assertIsServerError(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusBetween].
+	///
+	/// @param start See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusBetween]
+	/// @param end See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusBetween]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusBetween
+	public S isStatusBetween(int start, int end) {
+		assertions.assertIsStatusBetween(info, actual, start, end);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusEqual].
+	///
+	/// @param status See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusEqual]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusEqual
+	public S isStatusEqual(int status) {
+		assertions.assertIsStatusEqual(info, actual, status);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusOutOf].
+	///
+	/// @param start See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusOutOf]
+	/// @param end See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusOutOf]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStatusOutOf
+	public S isStatusOutOf(int start, int end) {
+		assertions.assertIsStatusOutOf(info, actual, start, end);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStrictTransportSecurityEqualTo].
+	///
+	/// @param strictTransportSecurity See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStrictTransportSecurityEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStrictTransportSecurityEqualTo
+	public S isStrictTransportSecurityEqualTo(java.lang.String strictTransportSecurity) {
+		assertions.assertIsStrictTransportSecurityEqualTo(info, actual, strictTransportSecurity);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStrictTransportSecurityEqualTo].
+	///
+	/// @param strictTransportSecurity See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStrictTransportSecurityEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsStrictTransportSecurityEqualTo
+	public S isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.StrictTransportSecurity strictTransportSecurity) {
+		assertions.assertIsStrictTransportSecurityEqualTo(info, actual, strictTransportSecurity);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsSuccess].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsSuccess
+	public S isSuccess() {
+		assertions.assertIsSuccess(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsTemporaryRedirect].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsTemporaryRedirect
+	public S isTemporaryRedirect() {
+		assertions.assertIsTemporaryRedirect(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsText].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsText
+	public S isText() {
+		assertions.assertIsText(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsUnauthorized].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsUnauthorized
+	public S isUnauthorized() {
+		assertions.assertIsUnauthorized(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsUnsupportedMediaType].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsUnsupportedMediaType
+	public S isUnsupportedMediaType() {
+		assertions.assertIsUnsupportedMediaType(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsUtf8].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsUtf8
+	public S isUtf8() {
+		assertions.assertIsUtf8(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXml].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXml
+	public S isXml() {
+		assertions.assertIsXml(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXssProtectionEqualTo].
+	///
+	/// @param xssProtection See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXssProtectionEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXssProtectionEqualTo
+	public S isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.XssProtection xssProtection) {
+		assertions.assertIsXssProtectionEqualTo(info, actual, xssProtection);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXssProtectionEqualTo].
+	///
+	/// @param xssProtection See [com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXssProtectionEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.HttpResponses#assertIsXssProtectionEqualTo
+	public S isXssProtectionEqualTo(java.lang.String xssProtection) {
+		assertions.assertIsXssProtectionEqualTo(info, actual, xssProtection);
+		return myself;
+	}
+
+}
+
@@ -0,0 +1,471 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.assertj.api;
+
+import org.assertj.core.api.AbstractAssert;
+
+/// Base class for all implementations of assertions for [java.lang.String].
+///
+/// @param <S> the "self" type of this assertion class.
+///
+/// Generated on: October 17, 2026 at 7:01:51 AM UTC
+/// Template: ClassAssertTemplate.txt
+abstract class AbstractJsonAssert<S extends AbstractJsonAssert<S>> extends AbstractAssert<S, java.lang.String> {
+
+	private final com.github.mjeanroy.restassert.assertj.internal.Jsons assertions = com.github.mjeanroy.restassert.assertj.internal.Jsons.instance();
+
+	protected AbstractJsonAssert(java.lang.String actual, Class<?> selfType) {
+		super(actual, selfType);
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAllEntriesMatch].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAllEntriesMatch]
+	/// @param assertion See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAllEntriesMatch]
+	/// @param other See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAllEntriesMatch]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAllEntriesMatch
+	public S allEntriesMatch(java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		assertions.assertAllEntriesMatch(info, actual, path, assertion, other);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAnyEntryMatches].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAnyEntryMatches]
+	/// @param assertion See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAnyEntryMatches]
+	/// @param other See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAnyEntryMatches]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertAnyEntryMatches
+	public S anyEntryMatches(java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		assertions.assertAnyEntryMatches(info, actual, path, assertion, other);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContains].
+	///
+	/// @param keys See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContains]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContains
+	public S contains(java.lang.Iterable<java.lang.String> keys) {
+		assertions.assertContains(info, actual, keys);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContains].
+	///
+	/// @param key See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContains]
+	/// @param other See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContains]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContains
+	public S contains(java.lang.String key, java.lang.String... other) {
+		assertions.assertContains(info, actual, key, other);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContainsEntries].
+	///
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContainsEntries]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContainsEntries
+	public S containsEntries(java.lang.Iterable<com.github.mjeanroy.restassert.core.data.JsonEntry> entries) {
+		assertions.assertContainsEntries(info, actual, entries);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContainsEntries].
+	///
+	/// @param entry See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContainsEntries]
+	/// @param other See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContainsEntries]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertContainsEntries
+	public S containsEntries(com.github.mjeanroy.restassert.core.data.JsonEntry entry, com.github.mjeanroy.restassert.core.data.JsonEntry... other) {
+		assertions.assertContainsEntries(info, actual, entry, other);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsArray].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsArray
+	public S isArray() {
+		assertions.assertIsArray(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsArrayEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsArrayEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsArrayEntry
+	public S isArrayEntry(java.lang.String path) {
+		assertions.assertIsArrayEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsBoolean].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsBoolean
+	public S isBoolean() {
+		assertions.assertIsBoolean(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsBooleanEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsBooleanEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsBooleanEntry
+	public S isBooleanEntry(java.lang.String path) {
+		assertions.assertIsBooleanEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param file See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.io.File file, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualTo(info, actual, file, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.nio.file.Path path) {
+		assertions.assertIsEqualTo(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param expected See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.lang.String expected) {
+		assertions.assertIsEqualTo(info, actual, expected);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param expected See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.lang.String expected, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualTo(info, actual, expected, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param file See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.io.File file) {
+		assertions.assertIsEqualTo(info, actual, file);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param url See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.net.URL url, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualTo(info, actual, url, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param url See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.net.URL url) {
+		assertions.assertIsEqualTo(info, actual, url);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param uri See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.net.URI uri, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualTo(info, actual, uri, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.nio.file.Path path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualTo(info, actual, path, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo].
+	///
+	/// @param uri See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualTo
+	public S isEqualTo(java.net.URI uri) {
+		assertions.assertIsEqualTo(info, actual, uri);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param file See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.io.File file, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualToIgnoring(info, actual, file, entries, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param expected See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.lang.String expected, java.lang.Iterable<java.lang.String> entries) {
+		assertions.assertIsEqualToIgnoring(info, actual, expected, entries);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries) {
+		assertions.assertIsEqualToIgnoring(info, actual, path, entries);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param file See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.io.File file, java.lang.Iterable<java.lang.String> entries) {
+		assertions.assertIsEqualToIgnoring(info, actual, file, entries);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param expected See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.lang.String expected, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualToIgnoring(info, actual, expected, entries, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param url See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.net.URL url, java.lang.Iterable<java.lang.String> entries) {
+		assertions.assertIsEqualToIgnoring(info, actual, url, entries);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param url See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.net.URL url, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualToIgnoring(info, actual, url, entries, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualToIgnoring(info, actual, path, entries, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param uri See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.net.URI uri, java.lang.Iterable<java.lang.String> entries) {
+		assertions.assertIsEqualToIgnoring(info, actual, uri, entries);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring].
+	///
+	/// @param uri See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsEqualToIgnoring
+	public S isEqualToIgnoring(java.net.URI uri, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertions.assertIsEqualToIgnoring(info, actual, uri, entries, options);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsNotNull].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsNotNull
+	public S isNotNull() {
+		assertions.assertIsNotNull(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsNumber].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsNumber
+	public S isNumber() {
+		assertions.assertIsNumber(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsNumberEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsNumberEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsNumberEntry
+	public S isNumberEntry(java.lang.String path) {
+		assertions.assertIsNumberEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsObject].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsObject
+	public S isObject() {
+		assertions.assertIsObject(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsObjectEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsObjectEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsObjectEntry
+	public S isObjectEntry(java.lang.String path) {
+		assertions.assertIsObjectEntry(info, actual, path);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsString].
+	///
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsString
+	public S isString() {
+		assertions.assertIsString(info, actual);
+		return myself;
+	}
+
+	/// AssertJ wrapper for [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsStringEntry].
+	///
+	/// @param path See [com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsStringEntry]
+	/// @return The current assert instance, for chaining.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.assertj.internal.Jsons#assertIsStringEntry
+	public S isStringEntry(java.lang.String path) {
+		assertions.assertIsStringEntry(info, actual, path);
+		return myself;
+	}
+
+}
+
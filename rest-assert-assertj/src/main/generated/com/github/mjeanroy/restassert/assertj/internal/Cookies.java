@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.assertj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+
+/// Reusable assertions of http response.
+///
+/// This class is implemented as a singleton.
+/// This class is thread safe.
+///
+/// Generated on: October 17, 2026 at 7:01:51 AM UTC
+/// Template: ClassAssertionsTemplate.txt
+public final class Cookies extends AbstractRestAssertions {
+
+	/// Singleton instance.
+	private static final Cookies INSTANCE = new Cookies();
+
+	/// Returns the singleton instance of this class.
+	///
+	/// @return The instance.
+	public static Cookies instance() {
+		return INSTANCE;
+	}
+
+	/// Original assertions object, retrieved from core module.
+	private final com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions.instance();
+
+	// Private constructor to ensure class is a singleton
+	private Cookies() {
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param domain See [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain
+	public void assertHasDomain(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String domain) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasDomain(actual, domain));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param maxAge See [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge
+	public void assertHasMaxAge(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual, long maxAge) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasMaxAge(actual, maxAge));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param name See [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName
+	public void assertHasName(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String name) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasName(actual, name));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath
+	public void assertHasPath(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasPath(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param sameSite See [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite
+	public void assertHasSameSite(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String sameSite) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasSameSite(actual, sameSite));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param sameSite See [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite
+	public void assertHasSameSite(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual, com.github.mjeanroy.restassert.core.data.Cookie.SameSite sameSite) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasSameSite(actual, sameSite));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param value See [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue
+	public void assertHasValue(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String value) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasValue(actual, value));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isHttpOnly].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isHttpOnly
+	public void assertIsHttpOnly(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isHttpOnly(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotHttpOnly].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotHttpOnly
+	public void assertIsNotHttpOnly(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotHttpOnly(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotSecured].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotSecured
+	public void assertIsNotSecured(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotSecured(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isSecured].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isSecured
+	public void assertIsSecured(AssertionInfo info, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isSecured(actual));
+	}
+
+}
+
@@ -0,0 +1,1679 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.assertj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+
+/// Reusable assertions of http response.
+///
+/// This class is implemented as a singleton.
+/// This class is thread safe.
+///
+/// Generated on: October 17, 2026 at 7:01:51 AM UTC
+/// Template: ClassAssertionsTemplate.txt
+public final class HttpResponses extends AbstractRestAssertions {
+
+	/// Singleton instance.
+	private static final HttpResponses INSTANCE = new HttpResponses();
+
+	/// Returns the singleton instance of this class.
+	///
+	/// @return The instance.
+	public static HttpResponses instance() {
+		return INSTANCE;
+	}
+
+	/// Original assertions object, retrieved from core module.
+	private final com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions.instance();
+
+	// Private constructor to ensure class is a singleton
+	private HttpResponses() {
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials
+	public void assertDoesNotHaveAccessControlAllowCredentials(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveAccessControlAllowCredentials(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders
+	public void assertDoesNotHaveAccessControlAllowHeaders(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveAccessControlAllowHeaders(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge
+	public void assertDoesNotHaveAccessControlAllowMaxAge(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveAccessControlAllowMaxAge(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods
+	public void assertDoesNotHaveAccessControlAllowMethods(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveAccessControlAllowMethods(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin
+	public void assertDoesNotHaveAccessControlAllowOrigin(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveAccessControlAllowOrigin(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders
+	public void assertDoesNotHaveAccessControlExposeHeaders(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveAccessControlExposeHeaders(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl
+	public void assertDoesNotHaveCacheControl(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveCacheControl(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition
+	public void assertDoesNotHaveContentDisposition(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveContentDisposition(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding
+	public void assertDoesNotHaveContentEncoding(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveContentEncoding(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy
+	public void assertDoesNotHaveContentSecurityPolicy(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveContentSecurityPolicy(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions
+	public void assertDoesNotHaveContentTypeOptions(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveContentTypeOptions(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param name See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie
+	public void assertDoesNotHaveCookie(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String name) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveCookie(actual, name));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie
+	public void assertDoesNotHaveCookie(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveCookie(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag
+	public void assertDoesNotHaveETag(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveETag(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires
+	public void assertDoesNotHaveExpires(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveExpires(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions
+	public void assertDoesNotHaveFrameOptions(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveFrameOptions(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param headerName See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader
+	public void assertDoesNotHaveHeader(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String headerName) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveHeader(actual, headerName));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified
+	public void assertDoesNotHaveLastModified(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveLastModified(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation
+	public void assertDoesNotHaveLocation(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveLocation(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma
+	public void assertDoesNotHavePragma(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHavePragma(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity
+	public void assertDoesNotHaveStrictTransportSecurity(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveStrictTransportSecurity(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection
+	public void assertDoesNotHaveXssProtection(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.doesNotHaveXssProtection(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials
+	public void assertHasAccessControlAllowCredentials(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasAccessControlAllowCredentials(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders
+	public void assertHasAccessControlAllowHeaders(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasAccessControlAllowHeaders(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge
+	public void assertHasAccessControlAllowMaxAge(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasAccessControlAllowMaxAge(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods
+	public void assertHasAccessControlAllowMethods(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasAccessControlAllowMethods(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin
+	public void assertHasAccessControlAllowOrigin(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasAccessControlAllowOrigin(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders
+	public void assertHasAccessControlExposeHeaders(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasAccessControlExposeHeaders(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl
+	public void assertHasCacheControl(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasCacheControl(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expectedCharset See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	public void assertHasCharset(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String expectedCharset) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasCharset(actual, expectedCharset));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expectedCharset See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	public void assertHasCharset(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.nio.charset.Charset expectedCharset) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasCharset(actual, expectedCharset));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition
+	public void assertHasContentDisposition(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasContentDisposition(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding
+	public void assertHasContentEncoding(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasContentEncoding(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength
+	public void assertHasContentLength(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasContentLength(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy
+	public void assertHasContentSecurityPolicy(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasContentSecurityPolicy(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType
+	public void assertHasContentType(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasContentType(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions
+	public void assertHasContentTypeOptions(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasContentTypeOptions(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param name See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	public void assertHasCookie(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String name) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasCookie(actual, name));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param cookie See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	public void assertHasCookie(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.Cookie cookie) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasCookie(actual, cookie));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param name See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie]
+	/// @param value See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	public void assertHasCookie(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String name, java.lang.String value) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasCookie(actual, name, value));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag
+	public void assertHasETag(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasETag(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires
+	public void assertHasExpires(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasExpires(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions
+	public void assertHasFrameOptions(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasFrameOptions(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param headerName See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader
+	public void assertHasHeader(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String headerName) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasHeader(actual, headerName));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified
+	public void assertHasLastModified(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasLastModified(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation
+	public void assertHasLocation(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasLocation(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expectedMimeType See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	public void assertHasMimeType(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.MediaType expectedMimeType) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasMimeType(actual, expectedMimeType));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expectedMimeType See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	public void assertHasMimeType(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String expectedMimeType) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasMimeType(actual, expectedMimeType));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry
+	public void assertHasNdJsonEntry(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasNdJsonEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expectedCount See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount
+	public void assertHasNdJsonRecordCount(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, long expectedCount) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasNdJsonRecordCount(actual, expectedCount));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma
+	public void assertHasPragma(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasPragma(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity
+	public void assertHasStrictTransportSecurity(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasStrictTransportSecurity(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection
+	public void assertHasXssProtection(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.hasXssProtection(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted
+	public void assertIsAccepted(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccepted(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param flag See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo
+	public void assertIsAccessControlAllowCredentialsEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, boolean flag) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlAllowCredentialsEqualTo(actual, flag));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param value See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo]
+	/// @param other See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	public void assertIsAccessControlAllowHeadersEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String value, java.lang.String... other) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlAllowHeadersEqualTo(actual, value, other));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param accessControlAllowHeaders See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	public void assertIsAccessControlAllowHeadersEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.Iterable<java.lang.String> accessControlAllowHeaders) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlAllowHeadersEqualTo(actual, accessControlAllowHeaders));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param maxAge See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo
+	public void assertIsAccessControlAllowMaxAgeEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, long maxAge) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlAllowMaxAgeEqualTo(actual, maxAge));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param method See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo]
+	/// @param other See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	public void assertIsAccessControlAllowMethodsEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.RequestMethod method, com.github.mjeanroy.restassert.core.data.RequestMethod... other) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlAllowMethodsEqualTo(actual, method, other));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param methods See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	public void assertIsAccessControlAllowMethodsEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod> methods) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlAllowMethodsEqualTo(actual, methods));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param accessControlAllowOrigin See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo
+	public void assertIsAccessControlAllowOriginEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String accessControlAllowOrigin) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlAllowOriginEqualTo(actual, accessControlAllowOrigin));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param accessControlExposeHeaders See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	public void assertIsAccessControlExposeHeadersEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.Iterable<java.lang.String> accessControlExposeHeaders) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlExposeHeadersEqualTo(actual, accessControlExposeHeaders));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param value See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo]
+	/// @param other See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	public void assertIsAccessControlExposeHeadersEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String value, java.lang.String... other) {
+		assertNotNull(info, actual);
+		check(info, assertions.isAccessControlExposeHeadersEqualTo(actual, value, other));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest
+	public void assertIsBadRequest(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isBadRequest(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param cacheControl See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	public void assertIsCacheControlEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String cacheControl) {
+		assertNotNull(info, actual);
+		check(info, assertions.isCacheControlEqualTo(actual, cacheControl));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param cacheControl See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	public void assertIsCacheControlEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.CacheControl cacheControl) {
+		assertNotNull(info, actual);
+		check(info, assertions.isCacheControlEqualTo(actual, cacheControl));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError
+	public void assertIsClientError(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isClientError(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict
+	public void assertIsConflict(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isConflict(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentDispositionValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo
+	public void assertIsContentDispositionEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String contentDispositionValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentDispositionEqualTo(actual, contentDispositionValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentEncoding See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	public void assertIsContentEncodingEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentEncoding contentEncoding) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentEncodingEqualTo(actual, contentEncoding));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentEncodingValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	public void assertIsContentEncodingEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String contentEncodingValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentEncodingEqualTo(actual, contentEncodingValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentSecurityPolicy See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	public void assertIsContentSecurityPolicyEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String contentSecurityPolicy) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentSecurityPolicyEqualTo(actual, contentSecurityPolicy));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentSecurityPolicy See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	public void assertIsContentSecurityPolicyEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy contentSecurityPolicy) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentSecurityPolicyEqualTo(actual, contentSecurityPolicy));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentTypeValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	public void assertIsContentTypeEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentType contentTypeValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentTypeEqualTo(actual, contentTypeValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentTypeValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	public void assertIsContentTypeEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String contentTypeValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentTypeEqualTo(actual, contentTypeValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentTypeOptions See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	public void assertIsContentTypeOptionsEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String contentTypeOptions) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentTypeOptionsEqualTo(actual, contentTypeOptions));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param contentTypeOptions See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	public void assertIsContentTypeOptionsEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentTypeOptions contentTypeOptions) {
+		assertNotNull(info, actual);
+		check(info, assertions.isContentTypeOptionsEqualTo(actual, contentTypeOptions));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated
+	public void assertIsCreated(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isCreated(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss
+	public void assertIsCss(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isCss(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv
+	public void assertIsCsv(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isCsv(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param etagValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo
+	public void assertIsETagEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String etagValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isETagEqualTo(actual, etagValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expiresValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	public void assertIsExpiresEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.util.Date expiresValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isExpiresEqualTo(actual, expiresValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expiresValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	public void assertIsExpiresEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String expiresValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isExpiresEqualTo(actual, expiresValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden
+	public void assertIsForbidden(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isForbidden(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param frameOptions See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	public void assertIsFrameOptionsEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String frameOptions) {
+		assertNotNull(info, actual);
+		check(info, assertions.isFrameOptionsEqualTo(actual, frameOptions));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param frameOptions See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	public void assertIsFrameOptionsEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.FrameOptions frameOptions) {
+		assertNotNull(info, actual);
+		check(info, assertions.isFrameOptionsEqualTo(actual, frameOptions));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone
+	public void assertIsGone(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isGone(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped
+	public void assertIsGzipped(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isGzipped(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param headerName See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo]
+	/// @param headerValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	public void assertIsHeaderEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String headerName, java.lang.String headerValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isHeaderEqualTo(actual, headerName, headerValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml
+	public void assertIsHtml(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isHtml(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError
+	public void assertIsInternalServerError(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isInternalServerError(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript
+	public void assertIsJavascript(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isJavascript(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson
+	public void assertIsJson(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isJson(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param lastModifiedDate See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	public void assertIsLastModifiedEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.util.Date lastModifiedDate) {
+		assertNotNull(info, actual);
+		check(info, assertions.isLastModifiedEqualTo(actual, lastModifiedDate));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param lastModifiedValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	public void assertIsLastModifiedEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String lastModifiedValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isLastModifiedEqualTo(actual, lastModifiedValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param locationValue See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo
+	public void assertIsLocationEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String locationValue) {
+		assertNotNull(info, actual);
+		check(info, assertions.isLocationEqualTo(actual, locationValue));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed
+	public void assertIsMethodNotAllowed(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isMethodNotAllowed(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently
+	public void assertIsMovedPermanently(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isMovedPermanently(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily
+	public void assertIsMovedTemporarily(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isMovedTemporarily(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices
+	public void assertIsMultipleChoices(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isMultipleChoices(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry
+	public void assertIsNdJsonArrayEntry(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNdJsonArrayEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry
+	public void assertIsNdJsonBooleanEntry(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNdJsonBooleanEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry
+	public void assertIsNdJsonNumberEntry(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNdJsonNumberEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry
+	public void assertIsNdJsonObjectEntry(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNdJsonObjectEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry
+	public void assertIsNdJsonStringEntry(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNdJsonStringEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent
+	public void assertIsNoContent(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNoContent(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable
+	public void assertIsNotAcceptable(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotAcceptable(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError
+	public void assertIsNotClientError(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotClientError(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound
+	public void assertIsNotFound(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotFound(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented
+	public void assertIsNotImplemented(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotImplemented(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified
+	public void assertIsNotModified(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotModified(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection
+	public void assertIsNotRedirection(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotRedirection(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError
+	public void assertIsNotServerError(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotServerError(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess
+	public void assertIsNotSuccess(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotSuccess(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk
+	public void assertIsOk(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isOk(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent
+	public void assertIsPartialContent(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isPartialContent(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf
+	public void assertIsPdf(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isPdf(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect
+	public void assertIsPermanentRedirect(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isPermanentRedirect(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param pragma See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo
+	public void assertIsPragmaEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String pragma) {
+		assertNotNull(info, actual);
+		check(info, assertions.isPragmaEqualTo(actual, pragma));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed
+	public void assertIsPreConditionFailed(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isPreConditionFailed(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection
+	public void assertIsRedirection(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isRedirection(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge
+	public void assertIsRequestEntityTooLarge(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isRequestEntityTooLarge(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout
+	public void assertIsRequestTimeout(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isRequestTimeout(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong
+	public void assertIsRequestUriTooLong(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isRequestUriTooLong(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable
+	public void assertIsRequestedRangeNotSatisfiable(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isRequestedRangeNotSatisfiable(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent
+	public void assertIsResetContent(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isResetContent(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther
+	public void assertIsSeeOther(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isSeeOther(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError
+	public void assertIsServerError(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isServerError(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param start See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween]
+	/// @param end See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	public void assertIsStatusBetween(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, int start, int end) {
+		assertNotNull(info, actual);
+		check(info, assertions.isStatusBetween(actual, start, end));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param status See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual
+	public void assertIsStatusEqual(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, int status) {
+		assertNotNull(info, actual);
+		check(info, assertions.isStatusEqual(actual, status));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param start See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf]
+	/// @param end See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	public void assertIsStatusOutOf(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, int start, int end) {
+		assertNotNull(info, actual);
+		check(info, assertions.isStatusOutOf(actual, start, end));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param strictTransportSecurity See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	public void assertIsStrictTransportSecurityEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String strictTransportSecurity) {
+		assertNotNull(info, actual);
+		check(info, assertions.isStrictTransportSecurityEqualTo(actual, strictTransportSecurity));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param strictTransportSecurity See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	public void assertIsStrictTransportSecurityEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity strictTransportSecurity) {
+		assertNotNull(info, actual);
+		check(info, assertions.isStrictTransportSecurityEqualTo(actual, strictTransportSecurity));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess
+	public void assertIsSuccess(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isSuccess(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect
+	public void assertIsTemporaryRedirect(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isTemporaryRedirect(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText
+	public void assertIsText(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isText(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized
+	public void assertIsUnauthorized(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isUnauthorized(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType
+	public void assertIsUnsupportedMediaType(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isUnsupportedMediaType(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8
+	public void assertIsUtf8(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isUtf8(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml
+	public void assertIsXml(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isXml(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param xssProtection See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	public void assertIsXssProtectionEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, com.github.mjeanroy.restassert.core.data.XssProtection xssProtection) {
+		assertNotNull(info, actual);
+		check(info, assertions.isXssProtectionEqualTo(actual, xssProtection));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param xssProtection See [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	public void assertIsXssProtectionEqualTo(AssertionInfo info, com.github.mjeanroy.restassert.core.data.HttpResponse actual, java.lang.String xssProtection) {
+		assertNotNull(info, actual);
+		check(info, assertions.isXssProtectionEqualTo(actual, xssProtection));
+	}
+
+}
+
@@ -0,0 +1,520 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.assertj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+
+/// Reusable assertions of http response.
+///
+/// This class is implemented as a singleton.
+/// This class is thread safe.
+///
+/// Generated on: October 17, 2026 at 7:01:51 AM UTC
+/// Template: ClassAssertionsTemplate.txt
+public final class Jsons extends AbstractRestAssertions {
+
+	/// Singleton instance.
+	private static final Jsons INSTANCE = new Jsons();
+
+	/// Returns the singleton instance of this class.
+	///
+	/// @return The instance.
+	public static Jsons instance() {
+		return INSTANCE;
+	}
+
+	/// Original assertions object, retrieved from core module.
+	private final com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions.instance();
+
+	// Private constructor to ensure class is a singleton
+	private Jsons() {
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch]
+	/// @param assertion See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch]
+	/// @param other See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	public void assertAllEntriesMatch(AssertionInfo info, java.lang.String actual, java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		assertNotNull(info, actual);
+		check(info, assertions.allEntriesMatch(actual, path, assertion, other));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches]
+	/// @param assertion See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches]
+	/// @param other See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	public void assertAnyEntryMatches(AssertionInfo info, java.lang.String actual, java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		assertNotNull(info, actual);
+		check(info, assertions.anyEntryMatches(actual, path, assertion, other));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param keys See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	public void assertContains(AssertionInfo info, java.lang.String actual, java.lang.Iterable<java.lang.String> keys) {
+		assertNotNull(info, actual);
+		check(info, assertions.contains(actual, keys));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param key See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains]
+	/// @param other See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	public void assertContains(AssertionInfo info, java.lang.String actual, java.lang.String key, java.lang.String... other) {
+		assertNotNull(info, actual);
+		check(info, assertions.contains(actual, key, other));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	public void assertContainsEntries(AssertionInfo info, java.lang.String actual, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.JsonEntry> entries) {
+		assertNotNull(info, actual);
+		check(info, assertions.containsEntries(actual, entries));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param entry See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries]
+	/// @param other See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	public void assertContainsEntries(AssertionInfo info, java.lang.String actual, com.github.mjeanroy.restassert.core.data.JsonEntry entry, com.github.mjeanroy.restassert.core.data.JsonEntry... other) {
+		assertNotNull(info, actual);
+		check(info, assertions.containsEntries(actual, entry, other));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArray].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArray
+	public void assertIsArray(AssertionInfo info, java.lang.String actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isArray(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry
+	public void assertIsArrayEntry(AssertionInfo info, java.lang.String actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isArrayEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBoolean].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBoolean
+	public void assertIsBoolean(AssertionInfo info, java.lang.String actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isBoolean(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry
+	public void assertIsBooleanEntry(AssertionInfo info, java.lang.String actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isBooleanEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param file See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.io.File file, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, file, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.nio.file.Path path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expected See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.lang.String expected) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, expected));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expected See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.lang.String expected, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, expected, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param file See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.io.File file) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, file));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param url See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.net.URL url, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, url, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param url See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.net.URL url) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, url));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param uri See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.net.URI uri, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, uri, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.nio.file.Path path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, path, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param uri See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	public void assertIsEqualTo(AssertionInfo info, java.lang.String actual, java.net.URI uri) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualTo(actual, uri));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param file See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.io.File file, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, file, entries, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expected See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.lang.String expected, java.lang.Iterable<java.lang.String> entries) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, expected, entries));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, path, entries));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param file See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.io.File file, java.lang.Iterable<java.lang.String> entries) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, file, entries));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param expected See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.lang.String expected, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, expected, entries, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param url See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.net.URL url, java.lang.Iterable<java.lang.String> entries) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, url, entries));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param url See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.net.URL url, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, url, entries, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, path, entries, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param uri See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.net.URI uri, java.lang.Iterable<java.lang.String> entries) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, uri, entries));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param uri See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param entries See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @param options See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	public void assertIsEqualToIgnoring(AssertionInfo info, java.lang.String actual, java.net.URI uri, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertNotNull(info, actual);
+		check(info, assertions.isEqualToIgnoring(actual, uri, entries, options));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNotNull].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNotNull
+	public void assertIsNotNull(AssertionInfo info, java.lang.String actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNotNull(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumber].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumber
+	public void assertIsNumber(AssertionInfo info, java.lang.String actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNumber(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry
+	public void assertIsNumberEntry(AssertionInfo info, java.lang.String actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isNumberEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObject].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObject
+	public void assertIsObject(AssertionInfo info, java.lang.String actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isObject(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry
+	public void assertIsObjectEntry(AssertionInfo info, java.lang.String actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isObjectEntry(actual, path));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isString].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isString
+	public void assertIsString(AssertionInfo info, java.lang.String actual) {
+		assertNotNull(info, actual);
+		check(info, assertions.isString(actual));
+	}
+
+	/// AssertJ assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry].
+	///
+	/// @param info Contains information about the assertion.
+	/// @param actual Actual object.
+	/// @param path See [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry]
+	/// @throws AssertionError When assertion fails.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry
+	public void assertIsStringEntry(AssertionInfo info, java.lang.String actual, java.lang.String path) {
+		assertNotNull(info, actual);
+		check(info, assertions.isStringEntry(actual, path));
+	}
+
+}
+
@@ -32,6 +32,7 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.Objects;
 
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions.parseJson;
 import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
 import static com.github.mjeanroy.restassert.core.internal.common.Strings.trimToNull;
 
@@ -76,7 +77,7 @@ public class HttpResponseAssert extends AbstractHttpResponseAssert<HttpResponseA
 	public JsonAssert extractingJsonBody() {
 		isNotNull();
 		return new JsonAssert(
-			actual.getContent()
+			parseJson(actual).json()
 		);
 	}
 
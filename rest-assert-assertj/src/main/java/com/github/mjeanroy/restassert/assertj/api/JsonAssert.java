@@ -24,7 +24,6 @@
 
 package com.github.mjeanroy.restassert.assertj.api;
 
-import com.github.mjeanroy.restassert.core.internal.json.JsonParsers;
 import org.assertj.core.api.BooleanAssert;
 import org.assertj.core.api.DoubleAssert;
 import org.assertj.core.api.ListAssert;
@@ -34,9 +33,14 @@ import org.assertj.core.api.StringAssert;
 import java.util.List;
 import java.util.Map;
 
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions.parseJson;
+
 /// Assertion methods for JSON payloads.
 ///
 /// To create an instance of this class, invoke [JsonAssertions#assertThatJson(String)].
+///
+/// Chained assertions on the same instance share a single parsed document, so the actual
+/// JSON payload is parsed only once.
 public class JsonAssert extends AbstractJsonAssert<JsonAssert> {
 
 	/// Create new assertion instance.
@@ -150,7 +154,8 @@ public class JsonAssert extends AbstractJsonAssert<JsonAssert> {
 
 	@SuppressWarnings("unchecked")
 	private <T> T parse(Class<T> type) {
-		Object v = JsonParsers.getParser().parse(actual);
+		// Reuse the document already parsed by the type assertion.
+		Object v = parseJson(actual).value();
 
 		if (v == null || !type.isAssignableFrom(v.getClass())) {
 			throw new AssertionError(
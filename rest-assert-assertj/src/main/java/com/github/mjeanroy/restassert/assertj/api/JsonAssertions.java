@@ -59,6 +59,8 @@ public class JsonAssertions {
 	/// @param actual the response http that will be used to extract content body.
 	/// @return the created assertion object.
 	public static JsonAssert assertThatJson(HttpResponse actual) {
-		return new JsonAssert(actual.getContent());
+		return new JsonAssert(
+			com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions.parseJson(actual).json()
+		);
 	}
 }
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.assertj.api;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.internal.Failures;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.softly;
+
+/// Soft assertions: run a set of assertions and report all failures at once.
+///
+/// ```
+///   RestAssertSoftly.assertSoftly(() -> {
+///     assertThat(response).isOk();
+///     assertThat(response).isJson();
+///     assertThat(response).hasETag();
+///   });
+/// ```
+///
+/// Assertions are not stopped by the first failure: each failure is collected, and a single
+/// [AssertionError] combining all of them is thrown once every assertion has been evaluated.
+///
+/// Note that only rest-assert assertions are collected: standard AssertJ assertions (such as `isNotNull()`) still fail
+/// immediately.
+public final class RestAssertSoftly {
+
+	// Ensure non instantiation.
+	private RestAssertSoftly() {
+	}
+
+	/// Run given assertions and throws a single [AssertionError] if at least one of them failed.
+	///
+	/// @param assertions Assertions to run.
+	public static void assertSoftly(Runnable assertions) {
+		AssertionResult result = softly(assertions);
+		if (result.isFailure()) {
+			RestAssertError error = result.getError();
+			throw Failures.instance().failure(
+				new WritableAssertionInfo(),
+				new BasicErrorMessageFactory(error.message(), error.args())
+			);
+		}
+	}
+}
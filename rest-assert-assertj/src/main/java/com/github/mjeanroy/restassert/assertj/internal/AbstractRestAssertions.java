@@ -27,10 +27,16 @@ package com.github.mjeanroy.restassert.assertj.internal;
 import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
 import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.description.Description;
 import org.assertj.core.error.BasicErrorMessageFactory;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
 
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.collect;
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.isActive;
+import static com.github.mjeanroy.restassert.core.internal.error.common.CustomError.customError;
+import static com.github.mjeanroy.restassert.core.internal.error.common.DescribedError.describedError;
+
 /// Commons methods to class assertions.
 abstract class AbstractRestAssertions {
 
@@ -46,14 +52,38 @@ abstract class AbstractRestAssertions {
 	/// If result is a failure, it will throw an assertion error with
 	/// assertion error message.
 	///
+	/// Inside [com.github.mjeanroy.restassert.assertj.api.RestAssertSoftly#assertSoftly(Runnable)], the error
+	/// is collected instead.
+	///
 	/// @param info Assertion info.
 	/// @param result Assertion result.
 	void check(AssertionInfo info, AssertionResult result) {
-		if (result.isFailure()) {
+		if (result.isFailure() && !(isActive() && collect(softError(info, result.getError())))) {
 			fail(info, result);
 		}
 	}
 
+	/// Get the error to collect in soft mode: the overriding error message, or the description, are
+	/// applied to the original error if they have been set (the original error is formatted only when
+	/// collected errors are reported).
+	///
+	/// @param info Assertion info.
+	/// @param error Original error.
+	/// @return The error to collect.
+	private static RestAssertError softError(AssertionInfo info, RestAssertError error) {
+		if (info.overridingErrorMessage() != null) {
+			return customError(info.overridingErrorMessage());
+		}
+
+		Description description = info.description();
+		String text = description == null ? null : description.value();
+		if (text == null || text.isEmpty()) {
+			return error;
+		}
+
+		return describedError(text, error);
+	}
+
 	/// Throw an assertion error using assertion result.
 	///
 	/// Exception message is build as [BasicErrorMessageFactory] using
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.benchmarks;
+
+import com.github.mjeanroy.restassert.core.data.CacheControl;
+import com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy;
+import com.github.mjeanroy.restassert.core.data.Cookie;
+import com.github.mjeanroy.restassert.core.data.Cookies;
+import com.github.mjeanroy.restassert.core.internal.common.Dates;
+import com.github.mjeanroy.restassert.core.internal.data.HttpHeaderParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks of header values parsing: cookies, dates, `Cache-Control` and
+/// `Content-Security-Policy` headers.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderParsersBenchmark {
+
+	private static final String SET_COOKIE = "id=a3fWa; Expires=Wed, 21 Oct 2015 07:28:00 GMT; Max-Age=2592000; Domain=example.com; Path=/docs; Secure; HttpOnly; SameSite=Strict";
+	private static final String HTTP_DATE = "Wed, 21 Oct 2015 07:28:00 GMT";
+	private static final String CACHE_CONTROL = "public, max-age=31536000, s-maxage=600, no-transform, must-revalidate";
+	private static final String CONTENT_SECURITY_POLICY = "default-src 'self'; img-src 'self' https://img.example.com data:; script-src 'self' 'unsafe-inline' https://cdn.example.com; style-src 'self' 'unsafe-inline'; report-uri /csp-report";
+
+	private HttpHeaderParser<CacheControl> cacheControlParser;
+	private HttpHeaderParser<ContentSecurityPolicy> contentSecurityPolicyParser;
+
+	@Setup
+	public void setUp() {
+		cacheControlParser = CacheControl.parser();
+		contentSecurityPolicyParser = ContentSecurityPolicy.parser();
+	}
+
+	@Benchmark
+	public Cookie parseCookie() {
+		return Cookies.parse(SET_COOKIE);
+	}
+
+	@Benchmark
+	public String lazyParseCookieName() {
+		return Cookies.lazyParse(SET_COOKIE).getName();
+	}
+
+	@Benchmark
+	public Date parseHttpDate() {
+		return Dates.parseHttpDate(HTTP_DATE);
+	}
+
+	@Benchmark
+	public CacheControl parseCacheControl() {
+		return cacheControlParser.parse(CACHE_CONTROL);
+	}
+
+	@Benchmark
+	public ContentSecurityPolicy parseContentSecurityPolicy() {
+		return contentSecurityPolicyParser.parse(CONTENT_SECURITY_POLICY);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.benchmarks;
+
+import com.github.mjeanroy.restassert.benchmarks.fixtures.HttpResponseFixtures;
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks of [HttpResponseAssertions] status and header checks, over each HTTP client binding.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpResponseAssertionsBenchmark {
+
+	/// HTTP client binding.
+	@Param
+	public HttpResponseFixtures binding;
+
+	private HttpResponseAssertions assertions;
+	private HttpResponse response;
+
+	@Setup
+	public void setUp() {
+		assertions = HttpResponseAssertions.instance();
+		response = binding.create();
+	}
+
+	@Benchmark
+	public AssertionResult isOk() {
+		return assertions.isOk(response);
+	}
+
+	@Benchmark
+	public AssertionResult isSuccess() {
+		return assertions.isSuccess(response);
+	}
+
+	@Benchmark
+	public AssertionResult hasHeader() {
+		return assertions.hasHeader(response, "X-Content-Type-Options");
+	}
+
+	@Benchmark
+	public AssertionResult isHeaderEqualTo() {
+		return assertions.isHeaderEqualTo(response, "ETag", "\"33a64df551425fcc55e4d42a148795d9f25f89d4\"");
+	}
+
+	@Benchmark
+	public AssertionResult isContentTypeEqualTo() {
+		return assertions.isContentTypeEqualTo(response, "application/json; charset=utf-8");
+	}
+
+	@Benchmark
+	public AssertionResult isCacheControlEqualTo() {
+		return assertions.isCacheControlEqualTo(response, "no-cache, no-store, max-age=0, must-revalidate");
+	}
+
+	@Benchmark
+	public AssertionResult isLastModifiedEqualTo() {
+		return assertions.isLastModifiedEqualTo(response, "Wed, 21 Oct 2015 07:28:00 GMT");
+	}
+
+	@Benchmark
+	public AssertionResult hasCookie() {
+		return assertions.hasCookie(response, "id");
+	}
+}
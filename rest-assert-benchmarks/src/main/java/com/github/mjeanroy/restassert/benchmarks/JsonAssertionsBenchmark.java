@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.benchmarks;
+
+import com.github.mjeanroy.restassert.benchmarks.fixtures.JsonFixtures;
+import com.github.mjeanroy.restassert.core.data.JsonEntry;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions.jsonEntry;
+
+/// Benchmarks of [JsonAssertions].
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonAssertionsBenchmark {
+
+	/// Number of users in JSON payloads.
+	@Param({"10", "1000", "10000"})
+	public int size;
+
+	private JsonAssertions assertions;
+	private String actual;
+	private String expected;
+	private String reversed;
+	private List<JsonEntry> entries;
+
+	@Setup
+	public void setUp() {
+		assertions = JsonAssertions.instance();
+		actual = JsonFixtures.users(size);
+		expected = JsonFixtures.users(size);
+		reversed = JsonFixtures.reversedUsers(size);
+		entries = Arrays.asList(
+			jsonEntry("total", size),
+			jsonEntry("page", 1),
+			jsonEntry("users[0].login", "user0"),
+			jsonEntry("users[0].address.city", "London")
+		);
+	}
+
+	@Benchmark
+	public AssertionResult isEqualTo() {
+		return assertions.isEqualTo(actual, expected);
+	}
+
+	@Benchmark
+	public AssertionResult isEqualToWithDifferentKeyOrder() {
+		return assertions.isEqualTo(actual, reversed);
+	}
+
+	@Benchmark
+	public AssertionResult containsEntries() {
+		return assertions.containsEntries(actual, entries);
+	}
+
+	@Benchmark
+	public AssertionResult isObject() {
+		return assertions.isObject(actual);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.benchmarks;
+
+import com.github.mjeanroy.restassert.benchmarks.fixtures.JsonFixtures;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import com.github.mjeanroy.restassert.core.internal.json.DefaultJsonComparator;
+import com.github.mjeanroy.restassert.core.internal.json.JsonComparator;
+import com.github.mjeanroy.restassert.core.internal.json.JsonParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks of [JsonComparator] implementations: [DefaultJsonComparator] and the
+/// comparator selected by [JsonParsers#getComparator()].
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonComparatorBenchmark {
+
+	/// Number of users in JSON payloads.
+	@Param({"10", "1000", "10000"})
+	public int size;
+
+	private JsonComparator defaultComparator;
+	private JsonComparator comparator;
+	private String actual;
+	private String expected;
+	private String reversed;
+
+	@Setup
+	public void setUp() {
+		defaultComparator = new DefaultJsonComparator(JsonParsers.getParser());
+		comparator = JsonParsers.getComparator();
+		actual = JsonFixtures.users(size);
+		expected = JsonFixtures.users(size);
+		reversed = JsonFixtures.reversedUsers(size);
+	}
+
+	@Benchmark
+	public List<RestAssertError> defaultComparator() {
+		return defaultComparator.compare(actual, expected);
+	}
+
+	@Benchmark
+	public List<RestAssertError> defaultComparatorWithDifferentKeyOrder() {
+		return defaultComparator.compare(actual, reversed);
+	}
+
+	@Benchmark
+	public List<RestAssertError> comparator() {
+		return comparator.compare(actual, expected);
+	}
+
+	@Benchmark
+	public List<RestAssertError> comparatorWithDifferentKeyOrder() {
+		return comparator.compare(actual, reversed);
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.benchmarks;
+
+import com.github.mjeanroy.restassert.benchmarks.fixtures.JsonFixtures;
+import com.github.mjeanroy.restassert.core.internal.json.JsonParser;
+import com.github.mjeanroy.restassert.core.internal.json.JsonParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks of [JsonParser] implementations.
+///
+/// The parser is selected once per JVM (see [JsonParsers#getParser()]): each benchmark
+/// runs in its own fork, selecting its parser with the `restassert.json.parser` system property.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonParserBenchmark {
+
+	/// Number of users in JSON payloads.
+	@Param({"10", "1000", "10000"})
+	public int size;
+
+	private JsonParser parser;
+	private String json;
+	private byte[] bytes;
+
+	@Setup
+	public void setUp() {
+		parser = JsonParsers.getParser();
+		json = JsonFixtures.users(size);
+		bytes = json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drestassert.json.parser=jackson3")
+	public Object jackson3() {
+		return parser.parse(json);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drestassert.json.parser=jackson3")
+	public Object jackson3Bytes() {
+		return parser.parse(bytes);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drestassert.json.parser=jackson2")
+	public Object jackson2() {
+		return parser.parse(json);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drestassert.json.parser=jackson2")
+	public Object jackson2Bytes() {
+		return parser.parse(bytes);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drestassert.json.parser=gson")
+	public Object gson() {
+		return parser.parse(json);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drestassert.json.parser=default")
+	public Object builtin() {
+		return parser.parse(json);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drestassert.json.parser=default")
+	public Object builtinBytes() {
+		return parser.parse(bytes);
+	}
+}
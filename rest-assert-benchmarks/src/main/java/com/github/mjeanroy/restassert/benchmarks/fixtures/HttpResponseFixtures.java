@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.benchmarks.fixtures;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.async.AsyncHttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.google.GoogleHttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.junitservers.JunitServersHttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.ning.NingHttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.ok3.OkHttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilder;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
+import com.github.mjeanroy.restassert.tests.builders.apache.ApacheHttpResponseBuilder;
+import com.github.mjeanroy.restassert.tests.builders.async.AsyncHttpResponseBuilder;
+import com.github.mjeanroy.restassert.tests.builders.google.GoogleHttpResponseBuilder;
+import com.github.mjeanroy.restassert.tests.builders.junitservers.JunitServersHttpResponseBuilder;
+import com.github.mjeanroy.restassert.tests.builders.ning.NingHttpResponseBuilder;
+import com.github.mjeanroy.restassert.tests.builders.ok.OkHttpResponseBuilder;
+import com.github.mjeanroy.restassert.tests.builders.spring.SpringMockMvcHttpResponseBuilder;
+
+/// HTTP responses used by benchmarks, created with each HTTP client binding.
+public enum HttpResponseFixtures {
+
+	/// Plain [HttpResponse] implementation.
+	CORE {
+		@Override
+		public HttpResponse create() {
+			return fill(new HttpResponseBuilderImpl()).build();
+		}
+	},
+
+	/// OkHttp response.
+	OK_HTTP {
+		@Override
+		public HttpResponse create() {
+			return OkHttpResponse.create(fill(new OkHttpResponseBuilder()).build());
+		}
+	},
+
+	/// Apache HttpClient response.
+	APACHE {
+		@Override
+		public HttpResponse create() {
+			return ApacheHttpResponse.create(fill(new ApacheHttpResponseBuilder()).build());
+		}
+	},
+
+	/// Google HTTP Client response.
+	GOOGLE {
+		@Override
+		public HttpResponse create() {
+			return GoogleHttpResponse.create(fill(new GoogleHttpResponseBuilder()).build());
+		}
+	},
+
+	/// AsyncHttpClient response.
+	ASYNC_HTTP {
+		@Override
+		public HttpResponse create() {
+			return AsyncHttpResponse.create(fill(new AsyncHttpResponseBuilder()).build());
+		}
+	},
+
+	/// Ning AsyncHttpClient response.
+	NING {
+		@Override
+		public HttpResponse create() {
+			return NingHttpResponse.create(fill(new NingHttpResponseBuilder()).build());
+		}
+	},
+
+	/// junit-servers response.
+	JUNIT_SERVERS {
+		@Override
+		public HttpResponse create() {
+			return JunitServersHttpResponse.create(fill(new JunitServersHttpResponseBuilder()).build());
+		}
+	},
+
+	/// Spring MockMvc response.
+	SPRING_MOCK_MVC {
+		@Override
+		public HttpResponse create() {
+			return SpringMockMvcHttpResponse.create(fill(new SpringMockMvcHttpResponseBuilder()).build());
+		}
+	};
+
+	/// Create the HTTP response.
+	///
+	/// @return The response.
+	public abstract HttpResponse create();
+
+	private static <T> HttpResponseBuilder<T> fill(HttpResponseBuilder<T> builder) {
+		return builder
+			.setStatus(200)
+			.setContent(JsonFixtures.users(10))
+			.addHeader("Content-Type", "application/json; charset=utf-8")
+			.addHeader("Cache-Control", "no-cache, no-store, max-age=0, must-revalidate")
+			.addHeader("ETag", "\"33a64df551425fcc55e4d42a148795d9f25f89d4\"")
+			.addHeader("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT")
+			.addHeader("X-Content-Type-Options", "nosniff")
+			.addHeader("Set-Cookie", "id=a3fWa; Max-Age=2592000; Path=/; Secure; HttpOnly");
+	}
+}
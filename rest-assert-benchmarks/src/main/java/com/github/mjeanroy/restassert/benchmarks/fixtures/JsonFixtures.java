@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.benchmarks.fixtures;
+
+/// JSON payloads used by benchmarks.
+///
+/// Payloads look like the responses of a REST API listing users: each user is an
+/// object with scalar entries, a nested object and a nested array.
+public final class JsonFixtures {
+
+	// Ensure non instantiation.
+	private JsonFixtures() {
+	}
+
+	/// Create a JSON object containing given number of users.
+	///
+	/// @param size Number of users.
+	/// @return The JSON payload.
+	public static String users(int size) {
+		return users(size, false);
+	}
+
+	/// Create a JSON object containing given number of users, with entries of each
+	/// JSON object written in reverse order (compared to [#users(int)]).
+	///
+	/// @param size Number of users.
+	/// @return The JSON payload.
+	public static String reversedUsers(int size) {
+		return users(size, true);
+	}
+
+	private static String users(int size, boolean reversed) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{");
+
+		String[] entries = {
+			"\"total\":" + size,
+			"\"page\":1",
+			"\"users\":" + userArray(size, reversed),
+		};
+
+		append(sb, entries, reversed);
+		sb.append("}");
+		return sb.toString();
+	}
+
+	private static String userArray(int size, boolean reversed) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("[");
+
+		for (int i = 0; i < size; ++i) {
+			if (i > 0) {
+				sb.append(",");
+			}
+
+			sb.append(user(i, reversed));
+		}
+
+		sb.append("]");
+		return sb.toString();
+	}
+
+	private static String user(int id, boolean reversed) {
+		String[] address = {
+			"\"street\":\"" + id + " Baker Street\"",
+			"\"city\":\"London\"",
+			"\"zipCode\":\"NW1 6XE\"",
+		};
+
+		StringBuilder addressBuilder = new StringBuilder("{");
+		append(addressBuilder, address, reversed);
+		addressBuilder.append("}");
+
+		String[] entries = {
+			"\"id\":" + id,
+			"\"login\":\"user" + id + "\"",
+			"\"email\":\"user" + id + "@example.com\"",
+			"\"score\":" + (id * 1.5),
+			"\"admin\":" + (id % 10 == 0),
+			"\"manager\":null",
+			"\"roles\":[\"reader\",\"writer\"]",
+			"\"address\":" + addressBuilder,
+		};
+
+		StringBuilder sb = new StringBuilder("{");
+		append(sb, entries, reversed);
+		sb.append("}");
+		return sb.toString();
+	}
+
+	private static void append(StringBuilder sb, String[] entries, boolean reversed) {
+		for (int i = 0; i < entries.length; ++i) {
+			if (i > 0) {
+				sb.append(",");
+			}
+
+			sb.append(entries[reversed ? entries.length - 1 - i : i]);
+		}
+	}
+}
@@ -101,6 +101,9 @@ public final class Cookies {
 	///
 	/// **Note: Cookie name comparison is case-insensitive.**
 	///
+	/// Fields are compared in order, `Expires`, `Max-Age` and `SameSite` last: a cookie returned by
+	/// [#lazyParse(String)] with another name is never decoded.
+	///
 	/// @param c1 First cookie.
 	/// @param c2 Second cookie.
 	/// @return `true` if `c1` and `c2` are equals, `false` otherwise.
@@ -127,63 +130,108 @@ public final class Cookies {
 	/// Parse Set-Cookie header field and produce a valid Cookie object.
 	/// following [RFC 6265](https://tools.ietf.org/html/rfc6265#page-18).
 	///
+	/// All attributes are decoded immediately, so this method fails if one of them is malformed; see
+	/// [#lazyParse(String)] to defer decoding of `Expires`, `Max-Age` and `SameSite` attributes.
+	///
 	/// @param setCookie Header field.
 	/// @return Cookie.
 	public static Cookie parse(String setCookie) {
+		Cookie cookie = lazyParse(setCookie);
+		return newCookie(
+			cookie.getName(),
+			cookie.getValue(),
+			cookie.getDomain(),
+			cookie.getPath(),
+			cookie.isSecured(),
+			cookie.isHttpOnly(),
+			cookie.getSameSite(),
+			cookie.getMaxAge(),
+			cookie.getExpires()
+		);
+	}
+
+	/// Parse Set-Cookie header field, following [RFC 6265](https://tools.ietf.org/html/rfc6265#page-18), in
+	/// a single pass over the header value.
+	///
+	/// Name, value, domain, path and flags are extracted immediately, but `Expires`, `Max-Age` and `SameSite`
+	/// attributes are only decoded the first time they are requested on the returned cookie (and a malformed
+	/// attribute is reported at that time).
+	///
+	/// @param setCookie Header field.
+	/// @return Cookie.
+	public static Cookie lazyParse(String setCookie) {
 		notBlank(setCookie, "Header Set-Cookie must be defined");
 
-		String[] parts = splitHeader(setCookie.trim());
+		// Remove leading and trailing whitespaces, as String#trim does.
+		int start = trimStart(setCookie, 0, setCookie.length());
+		int length = trimEnd(setCookie, start, setCookie.length());
+
+		// First step: the name-value-pair string consists of the characters up to, but not including, the
+		// first ";", and the unparsed-attributes consist of the remainder of the set-cookie-string.
+		int semiColon = indexOf(setCookie, ';', start, length);
+		int nameValueEnd = semiColon < 0 ? length : semiColon;
+
+		// Then, the name-value-pair string must contain a "=" character, and the name string consists
+		// of the characters up to, but not including, the first "=" character.
+		int equal = indexOf(setCookie, '=', start, nameValueEnd);
+		if (equal < 0) {
+			throw new IllegalArgumentException("Set-Cookie header must have a value");
+		}
+
+		String name = substring(setCookie, start, equal);
+		String value = substring(setCookie, equal + 1, nameValueEnd);
 
-		// Parse name-value-pair.
-		String[] nameValuePair = parseNameValue(parts[0].trim());
-		final String name = nameValuePair[0];
-		final String value = nameValuePair[1];
+		if (name.isEmpty()) {
+			throw new IllegalArgumentException("Set-Cookie header must have a name");
+		}
 
 		// Parse metadata
 		String domain = null;
 		String path = null;
 		boolean secure = false;
 		boolean httpOnly = false;
-		SameSite sameSite = SameSite.LAX;
-		Long maxAge = null;
-		Date expires = null;
+		String sameSite = null;
+		String maxAge = null;
+		String expires = null;
 
-		char[] unparsedAttributes = parts[1].trim().toCharArray();
-		int length = unparsedAttributes.length;
-		int pos = 0;
+		int pos = nameValueEnd + 1;
 		while (pos < length) {
-			MetaDataAttribute next = parseNextPart(unparsedAttributes, pos);
-
-			// Increment new position
-			pos += next.field.length() + 1;
+			int attrEnd = indexOf(setCookie, ';', pos, length);
+			if (attrEnd < 0) {
+				attrEnd = length;
+			}
 
-			String attrName = next.name;
-			String attrValue = next.value;
+			int attrEqual = indexOf(setCookie, '=', pos, attrEnd);
+			int attrNameStart = trimStart(setCookie, pos, attrEqual < 0 ? attrEnd : attrEqual);
+			int attrNameEnd = trimEnd(setCookie, attrNameStart, attrEqual < 0 ? attrEnd : attrEqual);
+			int attrValueStart = attrEqual < 0 ? attrEnd : attrEqual + 1;
 
-			if (attrName.equalsIgnoreCase("domain")) {
-				domain = parseDomain(attrValue);
+			if (isAttribute(setCookie, attrNameStart, attrNameEnd, "domain")) {
+				domain = substring(setCookie, attrValueStart, attrEnd);
 			}
-			else if (attrName.equalsIgnoreCase("path")) {
-				path = parsePath(attrValue);
+			else if (isAttribute(setCookie, attrNameStart, attrNameEnd, "path")) {
+				path = substring(setCookie, attrValueStart, attrEnd);
 			}
-			else if (attrName.equalsIgnoreCase("secure")) {
-				secure = parseSecure();
+			else if (isAttribute(setCookie, attrNameStart, attrNameEnd, "secure")) {
+				secure = true;
 			}
-			else if (attrName.equalsIgnoreCase("httponly")) {
-				httpOnly = parseHttpOnly();
+			else if (isAttribute(setCookie, attrNameStart, attrNameEnd, "httponly")) {
+				httpOnly = true;
 			}
-			else if (attrName.equalsIgnoreCase("max-age")) {
-				maxAge = parseMaxAge(attrValue);
+			else if (isAttribute(setCookie, attrNameStart, attrNameEnd, "max-age")) {
+				maxAge = substring(setCookie, attrValueStart, attrEnd);
 			}
-			else if (attrName.equalsIgnoreCase("expires")) {
-				expires = parseExpires(attrValue);
+			else if (isAttribute(setCookie, attrNameStart, attrNameEnd, "expires")) {
+				expires = substring(setCookie, attrValueStart, attrEnd);
 			}
-			else if (attrName.equalsIgnoreCase("samesite")) {
-				sameSite = parseSameSite(attrValue);
+			else if (isAttribute(setCookie, attrNameStart, attrNameEnd, "samesite")) {
+				sameSite = substring(setCookie, attrValueStart, attrEnd);
 			}
+
+			pos = attrEnd + 1;
 		}
 
-		return newCookie(
+		return new ParsedCookie(
 			name,
 			value,
 			domain,
@@ -196,171 +244,56 @@ public final class Cookies {
 		);
 	}
 
-	/// First step as specified by RFC6265.
-	///
-	/// **If the set-cookie-string contains a %x3B (";") character:**
-	///
-	/// The name-value-pair string consists of the characters up to,
-	/// but not including, the first %x3B (";"), and the unparsed-
-	/// attributes consist of the remainder of the set-cookie-string
-	/// (including the %x3B (";") in question).
-	///
-	/// **Otherwise:**
-	///
-	/// The name-value-pair string consists of all the characters
-	/// contained in the set-cookie-string, and the unparsed-
-	/// attributes is the empty string.
-	///
-	/// @param setCookie Set-Cookie Header.
-	/// @return An array containing the name-value pair as the first element and the unparsed string as the second element.
-	private static String[] splitHeader(String setCookie) {
-		StringBuilder nameValuePair = new StringBuilder();
-		StringBuilder unparsedAttributes = new StringBuilder();
-
-		boolean foundSemiColon = false;
-		StringBuilder current = nameValuePair;
-		for (char c : setCookie.toCharArray()) {
-			if (!foundSemiColon && c == ';') {
-				foundSemiColon = true;
-				current = unparsedAttributes;
-				continue;
+	private static int indexOf(String value, char c, int start, int end) {
+		for (int i = start; i < end; ++i) {
+			if (value.charAt(i) == c) {
+				return i;
 			}
-
-			current.append(c);
 		}
 
-		return new String[]{
-			nameValuePair.toString(),
-			unparsedAttributes.toString()
-		};
+		return -1;
 	}
 
-	/// Parse name-value-pair of Set-Cookie header.
-	///
-	/// As specified:
-	///
-	/// 2. If the name-value-pair string lacks a %x3D ("=") character,
-	/// ignore the set-cookie-string entirely.
-	/// 3. The (possibly empty) name string consists of the characters up
-	/// to, but not including, the first %x3D ("=") character, and the
-	/// (possibly empty) value string consists of the characters after
-	/// the first %x3D ("=") character.
-	/// 4. Remove any leading or trailing WSP characters from the name
-	/// string and the value string.
-	/// 5. If the name string is empty, ignore the set-cookie-string
-	/// entirely.
-	/// 6. The cookie-name is the name string, and the cookie-value is the
-	/// value string.
-	///
-	/// @param nameValuePair Name-Value-Pair value.
-	/// @return An array containing the cookie name as first element and the value as second element.
-	private static String[] parseNameValue(String nameValuePair) {
-		StringBuilder nameBuilder = new StringBuilder();
-		StringBuilder valueBuilder = new StringBuilder();
-
-		boolean isName = true;
-		StringBuilder current = nameBuilder;
-		for (char c : nameValuePair.toCharArray()) {
-			if (isName && c == '=') {
-				isName = false;
-				current = valueBuilder;
-				continue;
-			}
-
-			current.append(c);
-		}
-
-		// If isName == true, then it means that the name-value-pair does not contain the = sign
-		if (isName) {
-			throw new IllegalArgumentException("Set-Cookie header must have a value");
+	private static int trimStart(String value, int start, int end) {
+		int i = start;
+		while (i < end && value.charAt(i) <= ' ') {
+			i++;
 		}
 
-		String name = nameBuilder.toString().trim();
-		String value = valueBuilder.toString().trim();
-
-		if (name.isEmpty()) {
-			throw new IllegalArgumentException("Set-Cookie header must have a name");
-		}
-
-		return new String[]{ name, value };
+		return i;
 	}
 
-	private static MetaDataAttribute parseNextPart(char[] attributes, int pos) {
-		StringBuilder field = new StringBuilder();
-		StringBuilder name = new StringBuilder();
-		StringBuilder value = new StringBuilder();
-
-		StringBuilder current = name;
-		for (int i = pos; i < attributes.length; ++i) {
-			char c = attributes[i];
-			field.append(c);
-
-			if (c == ';') {
-				break;
-			}
-
-			if (c == '=' && current == name) {
-				current = value;
-				continue;
-			}
-
-			current.append(c);
+	private static int trimEnd(String value, int start, int end) {
+		int i = end;
+		while (i > start && value.charAt(i - 1) <= ' ') {
+			i--;
 		}
 
-		return new MetaDataAttribute(
-			field.toString(),
-			name.toString().trim(),
-			value.toString().trim()
-		);
-	}
-
-	/// Parse "Domain" directive of `Set-Cookie` header.
-	/// Basically, just return the domain as it appears.
-	///
-	/// @param domain Domain value.
-	/// @return Domain value.
-	private static String parseDomain(String domain) {
-		return domain;
+		return i;
 	}
 
-	/// Parse "Path" directive of `Set-Cookie` header.
-	/// Basically, just return the path as it appears.
-	///
-	/// @param path Path value.
-	/// @return Path value.
-	private static String parsePath(String path) {
-		return path;
+	private static String substring(String value, int start, int end) {
+		int from = trimStart(value, start, end);
+		return value.substring(from, trimEnd(value, from, end));
 	}
 
-	/// Parse "Secure" directive of `Set-Cookie` header.
-	/// Basically, just return `true`.
-	///
-	/// @return Always `true`.
-	private static boolean parseSecure() {
-		return true;
+	private static boolean isAttribute(String value, int start, int end, String attribute) {
+		return end - start == attribute.length() && value.regionMatches(true, start, attribute, 0, attribute.length());
 	}
 
 	/// Parse "SameSite" directive of `Set-Cookie` header.
 	///
 	/// @param value The raw `SameSite` value.
 	/// @return The SameSite value.
-	private static SameSite parseSameSite(String value) {
+	static SameSite parseSameSite(String value) {
 		return SameSite.parse(value);
 	}
 
-	/// Parse "HttpOnly" directive of `Set-Cookie` header.
-	/// Basically, just return `true`.
-	///
-	/// @return Always `true`.
-	private static boolean parseHttpOnly() {
-		return true;
-	}
-
 	/// Parse Max-Age directive of `Set-Cookie` header.
 	///
 	/// @param maxAge Max-Age value.
 	/// @return The max-age.
-	private static Long parseMaxAge(String maxAge) {
+	static Long parseMaxAge(String maxAge) {
 		return toLong(maxAge, "Max-Age is not a valid number");
 	}
 
@@ -373,7 +306,7 @@ public final class Cookies {
 	///
 	/// @param expires Expires value.
 	/// @return The expires date.
-	private static Date parseExpires(String expires) {
+	static Date parseExpires(String expires) {
 		int hour = -1;
 		int minute = -1;
 		int second = -1;
@@ -469,17 +402,4 @@ public final class Cookies {
 	private static boolean isDelimiter(char c) {
 		return !isNonDelimiter(c);
 	}
-
-	/// Cookie Metadata Attribute.
-	private static class MetaDataAttribute {
-		private final String field;
-		private final String name;
-		private final String value;
-
-		private MetaDataAttribute(String field, String name, String value) {
-			this.field = field;
-			this.name = name;
-			this.value = value;
-		}
-	}
 }
@@ -165,8 +165,8 @@ final class DefaultCookie implements Cookie {
 			return true;
 		}
 
-		if (o instanceof DefaultCookie) {
-			return Cookies.equals(this, (DefaultCookie) o);
+		if (o instanceof DefaultCookie || o instanceof ParsedCookie) {
+			return Cookies.equals(this, (Cookie) o);
 		}
 
 		return false;
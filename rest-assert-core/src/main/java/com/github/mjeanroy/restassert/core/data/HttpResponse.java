@@ -26,8 +26,12 @@ package com.github.mjeanroy.restassert.core.data;
 
 import com.github.mjeanroy.restassert.core.internal.exceptions.NonParsableResponseBodyException;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /// Http response contract.
 public interface HttpResponse {
 
@@ -62,6 +66,32 @@ public interface HttpResponse {
 	/// @throws NonParsableResponseBodyException If response body cannot be read.
 	String getContent();
 
+	/// Get response body, as raw bytes.
+	///
+	/// The returned array may be shared between calls and must not be modified.
+	///
+	/// Default implementation returns the UTF-8 representation of [#getContent()], implementations
+	/// should override it to return the body as it was received.
+	///
+	/// @return Response body.
+	/// @throws NonParsableResponseBodyException If response body cannot be read.
+	default byte[] getContentBytes() {
+		String content = getContent();
+		return content == null ? null : content.getBytes(UTF_8);
+	}
+
+	/// Get response body, as a stream of raw bytes.
+	///
+	/// Each call returns a new stream, reading the body returned by [#getContentBytes()]: note that no built-in
+	/// binding overrides it, so the whole body is read in memory first.
+	///
+	/// @return Response body.
+	/// @throws NonParsableResponseBodyException If response body cannot be read.
+	default InputStream getContentStream() {
+		byte[] bytes = getContentBytes();
+		return bytes == null ? null : new ByteArrayInputStream(bytes);
+	}
+
 	/// Get the list of cookies (i.e cookie objects defined by `Set-Cookie` header.
 	///
 	/// @return List of cookies, may be empty if `Set-Cookie` is missing.
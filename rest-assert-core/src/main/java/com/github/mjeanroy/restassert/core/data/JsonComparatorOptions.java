@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.data;
+
+import com.github.mjeanroy.restassert.core.internal.common.ToStringBuilder;
+import com.github.mjeanroy.restassert.core.internal.json.JsonIgnoredPaths;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+/// Options used to compare JSON documents.
+///
+/// Array order can be ignored for all arrays, or for arrays at given paths only. Paths are
+/// written without array indexes: for example, `items.tags` matches the `tags` array of each
+/// element of the `items` array, and `$` matches the root array.
+///
+/// Entries can also be ignored, using JsonPath expressions made of member names, array indexes
+/// and wildcards (such as `items[*].updatedAt`): ignored entries are skipped during the comparison.
+///
+/// By default, all differences are reported. The comparison can also stop at the first difference (see
+/// [#isFailFast()]), or report a limited number of differences followed by the number of differences
+/// that have not been reported (see [#getMaxErrors()]).
+///
+/// Arrays compared in order may also be aligned (see [#isAlignArrays()]): elements inserted or removed
+/// are then reported as such, instead of shifting the comparison of all following elements.
+///
+/// Large arrays and objects may be compared in parallel (see [#getParallelThreshold()]): differences are
+/// reported in the same order as a sequential comparison.
+///
+/// This class is immutable and thread safe.
+public final class JsonComparatorOptions {
+
+	/// Default options: arrays are compared in order.
+	private static final JsonComparatorOptions DEFAULT_OPTIONS = new JsonComparatorOptions(false, emptySet(), emptySet(), false, 0, 0, false);
+
+	/// Get default options: arrays are compared in order.
+	///
+	/// @return Default options.
+	public static JsonComparatorOptions defaultOptions() {
+		return DEFAULT_OPTIONS;
+	}
+
+	/// Create new options builder.
+	///
+	/// @return Builder.
+	public static JsonComparatorOptionsBuilder builder() {
+		return new JsonComparatorOptionsBuilder();
+	}
+
+	/// Ignore the order of all arrays.
+	private final boolean ignoreArrayOrder;
+
+	/// Paths of arrays whose order is ignored.
+	private final Set<String> ignoreArrayOrderPaths;
+
+	/// Paths of ignored entries.
+	private final Set<String> ignoredPaths;
+
+	/// Stop the comparison at the first difference.
+	private final boolean failFast;
+
+	/// Maximum number of reported differences, `0` if all differences are reported.
+	private final int maxErrors;
+
+	/// Minimum number of elements (or entries) of arrays (or objects) compared in parallel, `0` if
+	/// documents are compared sequentially.
+	private final int parallelThreshold;
+
+	/// Align elements of arrays compared in order.
+	private final boolean alignArrays;
+
+	JsonComparatorOptions(
+		boolean ignoreArrayOrder,
+		Set<String> ignoreArrayOrderPaths,
+		Set<String> ignoredPaths,
+		boolean failFast,
+		int maxErrors,
+		int parallelThreshold,
+		boolean alignArrays
+	) {
+		this.ignoreArrayOrder = ignoreArrayOrder;
+		this.ignoreArrayOrderPaths = unmodifiableSet(new LinkedHashSet<>(ignoreArrayOrderPaths));
+		this.ignoredPaths = unmodifiableSet(new LinkedHashSet<>(ignoredPaths));
+		this.failFast = failFast;
+		this.maxErrors = maxErrors;
+		this.parallelThreshold = parallelThreshold;
+		this.alignArrays = alignArrays;
+	}
+
+	/// Check if order of all arrays is ignored.
+	///
+	/// @return `true` if order of all arrays is ignored, `false` otherwise.
+	public boolean isIgnoreArrayOrder() {
+		return ignoreArrayOrder;
+	}
+
+	/// Get paths of arrays whose order is ignored, normalized with [#normalizePath(String)].
+	///
+	/// @return Paths.
+	public Set<String> getIgnoreArrayOrderPaths() {
+		return ignoreArrayOrderPaths;
+	}
+
+	/// Get paths of ignored entries.
+	///
+	/// @return Paths.
+	public Set<String> getIgnoredPaths() {
+		return ignoredPaths;
+	}
+
+	/// Check if the comparison stops at the first difference: only this difference is reported.
+	///
+	/// @return `true` if comparison stops at the first difference, `false` otherwise.
+	public boolean isFailFast() {
+		return failFast;
+	}
+
+	/// Get the maximum number of reported differences: other differences are counted, but not
+	/// reported.
+	///
+	/// @return Maximum number of reported differences, `0` if all differences are reported.
+	public int getMaxErrors() {
+		return maxErrors;
+	}
+
+	/// Get the minimum number of elements of arrays, or entries of objects, compared in parallel:
+	/// elements are split into tasks executed in the common fork-join pool.
+	///
+	/// @return Minimum number of elements compared in parallel, `0` if documents are compared sequentially.
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/// Check if elements of arrays compared in order are aligned: the longest common subsequence of
+	/// actual and expected elements is computed, so that only inserted, removed and modified elements
+	/// are reported.
+	///
+	/// @return `true` if elements of arrays are aligned, `false` if they are compared index by index.
+	public boolean isAlignArrays() {
+		return alignArrays;
+	}
+
+	/// Check if order of array at given path is ignored.
+	///
+	/// @param path Array path, without array indexes.
+	/// @return `true` if array order is ignored, `false` otherwise.
+	public boolean isArrayOrderIgnored(String path) {
+		return ignoreArrayOrder || (!ignoreArrayOrderPaths.isEmpty() && ignoreArrayOrderPaths.contains(normalizePath(path)));
+	}
+
+	/// Check if these options are the default ones.
+	///
+	/// @return `true` if arrays are compared in order and index by index, no entries are ignored, all differences are
+	/// reported and documents are compared sequentially, `false` otherwise.
+	public boolean isDefault() {
+		return !ignoreArrayOrder && ignoreArrayOrderPaths.isEmpty() && ignoredPaths.isEmpty() && !failFast && maxErrors == 0 && parallelThreshold == 0 && !alignArrays;
+	}
+
+	/// Check if the order of some arrays may be ignored.
+	///
+	/// @return `true` if the order of some arrays may be ignored, `false` otherwise.
+	public boolean hasUnorderedArrays() {
+		return ignoreArrayOrder || !ignoreArrayOrderPaths.isEmpty();
+	}
+
+	/// Check if given path can be ignored, see [JsonComparatorOptionsBuilder#addIgnoredPath(String, String...)].
+	///
+	/// @param path Entry path.
+	/// @return `true` if path can be ignored, `false` otherwise.
+	public static boolean isIgnoredPathSupported(String path) {
+		return path != null && JsonIgnoredPaths.isSupported(path);
+	}
+
+	/// Normalize path: the `$` root prefix is removed, so that `$.items.tags` and `items.tags`
+	/// are the same path, and `$` is the empty path.
+	///
+	/// @param path Path.
+	/// @return Normalized path.
+	static String normalizePath(String path) {
+		if (path.equals("$")) {
+			return "";
+		}
+
+		return path.startsWith("$.") ? path.substring(2) : path;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof JsonComparatorOptions) {
+			JsonComparatorOptions opts = (JsonComparatorOptions) o;
+			return ignoreArrayOrder == opts.ignoreArrayOrder
+				&& Objects.equals(ignoreArrayOrderPaths, opts.ignoreArrayOrderPaths)
+				&& Objects.equals(ignoredPaths, opts.ignoredPaths)
+				&& failFast == opts.failFast
+				&& maxErrors == opts.maxErrors
+				&& parallelThreshold == opts.parallelThreshold
+				&& alignArrays == opts.alignArrays;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(ignoreArrayOrder, ignoreArrayOrderPaths, ignoredPaths, failFast, maxErrors, parallelThreshold, alignArrays);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.toStringBuilder(getClass())
+			.append("ignoreArrayOrder", ignoreArrayOrder)
+			.append("ignoreArrayOrderPaths", ignoreArrayOrderPaths)
+			.append("ignoredPaths", ignoredPaths)
+			.append("failFast", failFast)
+			.append("maxErrors", maxErrors)
+			.append("parallelThreshold", parallelThreshold)
+			.append("alignArrays", alignArrays)
+			.build();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.data;
+
+import com.github.mjeanroy.restassert.core.internal.json.JsonIgnoredPaths;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+
+/// Builder for [JsonComparatorOptions] instances.
+public final class JsonComparatorOptionsBuilder {
+
+	/// Ignore the order of all arrays.
+	private boolean ignoreArrayOrder;
+
+	/// Paths of arrays whose order is ignored.
+	private final Set<String> ignoreArrayOrderPaths;
+
+	/// Paths of ignored entries.
+	private final Set<String> ignoredPaths;
+
+	/// Stop the comparison at the first difference.
+	private boolean failFast;
+
+	/// Maximum number of reported differences, `0` if all differences are reported.
+	private int maxErrors;
+
+	/// Minimum number of elements compared in parallel, `0` if documents are compared sequentially.
+	private int parallelThreshold;
+
+	/// Align elements of arrays compared in order.
+	private boolean alignArrays;
+
+	/// Create builder.
+	JsonComparatorOptionsBuilder() {
+		this.ignoreArrayOrder = false;
+		this.ignoreArrayOrderPaths = new LinkedHashSet<>();
+		this.ignoredPaths = new LinkedHashSet<>();
+		this.failFast = false;
+		this.maxErrors = 0;
+		this.parallelThreshold = 0;
+		this.alignArrays = false;
+	}
+
+	/// Ignore, or not, the order of all arrays.
+	///
+	/// @param ignoreArrayOrder `true` to ignore order of all arrays.
+	/// @return Current builder.
+	public JsonComparatorOptionsBuilder setIgnoreArrayOrder(boolean ignoreArrayOrder) {
+		this.ignoreArrayOrder = ignoreArrayOrder;
+		return this;
+	}
+
+	/// Ignore the order of arrays at given paths, written without array indexes (such
+	/// as `items.tags`).
+	///
+	/// @param path Array path.
+	/// @param other Optional other array paths.
+	/// @return Current builder.
+	public JsonComparatorOptionsBuilder addIgnoreArrayOrder(String path, String... other) {
+		ignoreArrayOrderPaths.add(JsonComparatorOptions.normalizePath(notNull(path, "Array path must not be null")));
+		for (String p : other) {
+			ignoreArrayOrderPaths.add(JsonComparatorOptions.normalizePath(notNull(p, "Array path must not be null")));
+		}
+
+		return this;
+	}
+
+	/// Ignore entries at given paths: ignored entries are not compared, and may be missing from actual or
+	/// expected documents.
+	///
+	/// Paths are JsonPath expressions made of member names, array indexes and wildcards, such
+	/// as `id`, `$.items[0].id` or `items[*].updatedAt`.
+	///
+	/// @param path Entry path.
+	/// @param other Optional other entry paths.
+	/// @return Current builder.
+	/// @throws IllegalArgumentException If a path is not supported.
+	public JsonComparatorOptionsBuilder addIgnoredPath(String path, String... other) {
+		addIgnoredPath(path);
+		for (String p : other) {
+			addIgnoredPath(p);
+		}
+
+		return this;
+	}
+
+	private void addIgnoredPath(String path) {
+		notNull(path, "Entry path must not be null");
+		if (!JsonIgnoredPaths.isSupported(path)) {
+			throw new IllegalArgumentException("JSON path is not supported: " + path);
+		}
+
+		ignoredPaths.add(path);
+	}
+
+	/// Stop, or not, the comparison at the first difference.
+	///
+	/// @param failFast `true` to stop the comparison at the first difference.
+	/// @return Current builder.
+	public JsonComparatorOptionsBuilder setFailFast(boolean failFast) {
+		this.failFast = failFast;
+		return this;
+	}
+
+	/// Report at most given number of differences: other differences are counted and reported as a single
+	/// summary error.
+	///
+	/// @param maxErrors Maximum number of reported differences, `0` to report all differences.
+	/// @return Current builder.
+	/// @throws IllegalArgumentException If `maxErrors` is negative.
+	public JsonComparatorOptionsBuilder setMaxErrors(int maxErrors) {
+		if (maxErrors < 0) {
+			throw new IllegalArgumentException("Maximum number of errors must not be negative");
+		}
+
+		this.maxErrors = maxErrors;
+		return this;
+	}
+
+	/// Compare arrays with at least given number of elements, and objects with at least given number of entries,
+	/// in parallel.
+	///
+	/// @param parallelThreshold Minimum number of elements compared in parallel, `0` to compare documents sequentially.
+	/// @return Current builder.
+	/// @throws IllegalArgumentException If `parallelThreshold` is negative.
+	public JsonComparatorOptionsBuilder setParallelThreshold(int parallelThreshold) {
+		if (parallelThreshold < 0) {
+			throw new IllegalArgumentException("Parallel threshold must not be negative");
+		}
+
+		this.parallelThreshold = parallelThreshold;
+		return this;
+	}
+
+	/// Align, or not, elements of arrays compared in order: when enabled, elements inserted in (or removed from)
+	/// an array are reported as unexpected (or missing) elements, instead of differences on each following element.
+	/// Since elements of aligned arrays may have different indexes, ignored entries below these arrays must use
+	/// wildcards (such as `items[*].updatedAt`) rather than indexes.
+	///
+	/// @param alignArrays `true` to align elements of arrays, `false` to compare them index by index.
+	/// @return Current builder.
+	public JsonComparatorOptionsBuilder setAlignArrays(boolean alignArrays) {
+		this.alignArrays = alignArrays;
+		return this;
+	}
+
+	/// Create options.
+	///
+	/// @return Options.
+	public JsonComparatorOptions build() {
+		return new JsonComparatorOptions(ignoreArrayOrder, ignoreArrayOrderPaths, ignoredPaths, failFast, maxErrors, parallelThreshold, alignArrays);
+	}
+}
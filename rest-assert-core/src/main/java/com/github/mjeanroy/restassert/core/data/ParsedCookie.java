@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.data;
+
+import com.github.mjeanroy.restassert.core.internal.common.ToStringBuilder;
+
+import java.util.Date;
+import java.util.Objects;
+
+/// Cookie read from a `Set-Cookie` header.
+///
+/// Name, value, domain, path and flags are extracted when the header is parsed, but `Expires`,
+/// `Max-Age` and `SameSite` attributes are only decoded the first time they are requested: a malformed
+/// attribute is then reported when it is read.
+///
+/// Decoded values are immutable and may be computed more than once when the cookie is shared between
+/// threads, which is harmless.
+///
+/// The string representation of a cookie renders raw `Expires`, `Max-Age` and `SameSite` attributes, so that
+/// a malformed attribute does not fail while a failure message is built.
+final class ParsedCookie implements Cookie {
+
+	/// Marker for attributes not decoded yet.
+	private static final Object UNDECODED = new Object();
+
+	/// Cookie name.
+	private final String name;
+
+	/// Cookie value.
+	private final String value;
+
+	/// Cookie domain.
+	private final String domain;
+
+	/// Cookie path.
+	private final String path;
+
+	/// Secure flag.
+	private final boolean secure;
+
+	/// HTTP-Only flag.
+	private final boolean httpOnly;
+
+	/// Raw `SameSite` value, `null` if attribute is missing.
+	private final String rawSameSite;
+
+	/// Raw `Max-Age` value, `null` if attribute is missing.
+	private final String rawMaxAge;
+
+	/// Raw `Expires` value, `null` if attribute is missing.
+	private final String rawExpires;
+
+	/// Decoded `SameSite` value.
+	private Object sameSite;
+
+	/// Decoded `Max-Age` value.
+	private Object maxAge;
+
+	/// Decoded `Expires` value, as a timestamp.
+	private Object expires;
+
+	/// Create cookie.
+	///
+	/// @param name Cookie name, must not be null.
+	/// @param value Cookie value, must not be null.
+	/// @param domain Cookie domain.
+	/// @param path Cookie path.
+	/// @param secure Secure flag.
+	/// @param httpOnly HTTP-Only flag.
+	/// @param rawSameSite Raw SameSite value.
+	/// @param rawMaxAge Raw Max-Age value.
+	/// @param rawExpires Raw Expires value.
+	ParsedCookie(
+		String name,
+		String value,
+		String domain,
+		String path,
+		boolean secure,
+		boolean httpOnly,
+		String rawSameSite,
+		String rawMaxAge,
+		String rawExpires
+	) {
+		this.name = name;
+		this.value = value;
+		this.domain = domain;
+		this.path = path;
+		this.secure = secure;
+		this.httpOnly = httpOnly;
+		this.rawSameSite = rawSameSite;
+		this.rawMaxAge = rawMaxAge;
+		this.rawExpires = rawExpires;
+		this.sameSite = UNDECODED;
+		this.maxAge = UNDECODED;
+		this.expires = UNDECODED;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getValue() {
+		return value;
+	}
+
+	@Override
+	public String getDomain() {
+		return domain;
+	}
+
+	@Override
+	public String getPath() {
+		return path;
+	}
+
+	@Override
+	public boolean isSecured() {
+		return secure;
+	}
+
+	@Override
+	public boolean isHttpOnly() {
+		return httpOnly;
+	}
+
+	@Override
+	public SameSite getSameSite() {
+		Object result = sameSite;
+		if (result == UNDECODED) {
+			result = rawSameSite == null ? SameSite.LAX : Cookies.parseSameSite(rawSameSite);
+			sameSite = result;
+		}
+
+		return (SameSite) result;
+	}
+
+	@Override
+	public Long getMaxAge() {
+		Object result = maxAge;
+		if (result == UNDECODED) {
+			result = rawMaxAge == null ? null : Cookies.parseMaxAge(rawMaxAge);
+			maxAge = result;
+		}
+
+		return (Long) result;
+	}
+
+	@Override
+	public Date getExpires() {
+		Object result = expires;
+		if (result == UNDECODED) {
+			result = rawExpires == null ? null : Cookies.parseExpires(rawExpires).getTime();
+			expires = result;
+		}
+
+		// Since a date is mutable, return a new instance to be sure of no side-effect.
+		return result == null ? null : new Date((Long) result);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.toStringBuilder(getClass())
+			.append("name", name)
+			.append("value", value)
+			.append("domain", domain)
+			.append("path", path)
+			.append("secure", secure)
+			.append("httpOnly", httpOnly)
+			.append("sameSite", rawSameSite)
+			.append("maxAge", rawMaxAge)
+			.append("expires", rawExpires)
+			.build();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ParsedCookie || o instanceof DefaultCookie) {
+			return Cookies.equals(this, (Cookie) o);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		try {
+			return Objects.hash(
+				getName(),
+				getValue(),
+				getDomain(),
+				getPath(),
+				isSecured(),
+				isHttpOnly(),
+				getSameSite(),
+				getMaxAge(),
+				getExpires()
+			);
+		}
+		catch (RuntimeException ex) {
+			// A malformed attribute cannot be decoded (so the cookie cannot be compared with another cookie):
+			// hash raw attributes, instead of failing while the cookie is used as a key or rendered in a message.
+			return Objects.hash(name, value, domain, path, secure, httpOnly, rawSameSite, rawMaxAge, rawExpires);
+		}
+	}
+}
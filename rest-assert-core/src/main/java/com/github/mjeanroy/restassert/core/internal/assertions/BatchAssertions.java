@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.isGreaterThan;
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.isPositive;
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static com.github.mjeanroy.restassert.core.internal.error.common.ShouldNotThrow.shouldNotThrow;
+
+/// Run the same assertions against a (potentially large) corpus of HTTP responses:
+///
+/// ```
+///   BatchReport report = BatchAssertions.batchAssertions(spec)
+///     .withParallelism(8)
+///     .run(responses);
+/// ```
+///
+/// Responses are consumed lazily from the given [Iterable] or [Stream], and at most
+/// `2 * parallelism` responses are in flight at any time, so memory stays bounded whatever
+/// the corpus size. Failures never throw: they are collected, per response, into a [BatchReport], as well
+/// as exceptions and errors thrown while a response is checked, except fatal errors (such as an [OutOfMemoryError]):
+/// no other response is checked, and the first fatal error is thrown once pending checks are over.
+///
+/// By default, assertions are evaluated on a dedicated [ForkJoinPool], created for each run; a custom
+/// executor (such as a virtual thread executor) may be given instead, see [#withExecutor(ExecutorService)].
+///
+/// This class is immutable and thread safe.
+public final class BatchAssertions {
+
+	/// Default maximum number of failures retained in the report.
+	private static final int DEFAULT_MAX_FAILURES = 100;
+
+	/// Create batch assertions, running given assertions against each response.
+	///
+	/// @param assertion The assertion.
+	/// @param others Optional other assertions.
+	/// @return Batch assertions.
+	@SafeVarargs
+	public static BatchAssertions batchAssertions(Assertion<HttpResponse> assertion, Assertion<HttpResponse>... others) {
+		ResponseSpecBuilder builder = ResponseSpec.builder().expect(assertion);
+		for (Assertion<HttpResponse> other : others) {
+			builder.expect(other);
+		}
+
+		return new BatchAssertions(
+			builder.build(),
+			Runtime.getRuntime().availableProcessors(),
+			DEFAULT_MAX_FAILURES,
+			null
+		);
+	}
+
+	/// The assertions run against each response.
+	private final ResponseSpec spec;
+
+	/// Maximum number of responses checked concurrently.
+	private final int parallelism;
+
+	/// Maximum number of failures retained in the report.
+	private final int maxFailures;
+
+	/// Custom executor, may be `null`.
+	private final ExecutorService executor;
+
+	// Private constructor, use static factory instead.
+	private BatchAssertions(ResponseSpec spec, int parallelism, int maxFailures, ExecutorService executor) {
+		this.spec = spec;
+		this.parallelism = parallelism;
+		this.maxFailures = maxFailures;
+		this.executor = executor;
+	}
+
+	/// Get new batch assertions, checking at most `parallelism` responses concurrently.
+	///
+	/// With a parallelism of `1` and no custom executor, responses are checked in the calling thread.
+	///
+	/// @param parallelism Parallelism.
+	/// @return New batch assertions.
+	/// @throws IllegalArgumentException If `parallelism` is less than `1`.
+	public BatchAssertions withParallelism(int parallelism) {
+		isGreaterThan(parallelism, 1, "Parallelism must be greater than or equal to 1");
+		return new BatchAssertions(spec, parallelism, maxFailures, executor);
+	}
+
+	/// Get new batch assertions, retaining at most `maxFailures` failures in the report.
+	///
+	/// @param maxFailures Maximum number of retained failures.
+	/// @return New batch assertions.
+	/// @throws IllegalArgumentException If `maxFailures` is negative.
+	public BatchAssertions withMaxFailures(int maxFailures) {
+		isPositive(maxFailures, "Maximum number of failures must be positive");
+		return new BatchAssertions(spec, parallelism, maxFailures, executor);
+	}
+
+	/// Get new batch assertions, evaluated on given executor; the executor is not shut down
+	/// once the batch is over.
+	///
+	/// @param executor The executor.
+	/// @return New batch assertions.
+	public BatchAssertions withExecutor(ExecutorService executor) {
+		notNull(executor, "Executor must not be null");
+		return new BatchAssertions(spec, parallelism, maxFailures, executor);
+	}
+
+	/// Run assertions against each given response.
+	///
+	/// @param responses The responses.
+	/// @return The report.
+	public BatchReport run(Iterable<? extends HttpResponse> responses) {
+		notNull(responses, "Responses must not be null");
+		return run(responses.iterator());
+	}
+
+	/// Run assertions against each given response.
+	///
+	/// @param responses The responses.
+	/// @return The report.
+	public BatchReport run(Stream<? extends HttpResponse> responses) {
+		notNull(responses, "Responses must not be null");
+		return run(responses.iterator());
+	}
+
+	private BatchReport run(Iterator<? extends HttpResponse> responses) {
+		BatchReport.Collector collector = new BatchReport.Collector(maxFailures);
+
+		if (parallelism == 1 && executor == null) {
+			long index = 0;
+			while (responses.hasNext()) {
+				collector.collect(index, check(responses.next()));
+				index++;
+			}
+
+			return collector.toReport();
+		}
+
+		ExecutorService service = executor == null ? new ForkJoinPool(parallelism) : executor;
+		int maxPending = parallelism * 2;
+		Semaphore pending = new Semaphore(maxPending);
+
+		// First fatal error thrown by a check: it is thrown once pending checks are over.
+		AtomicReference<Error> fatalError = new AtomicReference<>();
+
+		try {
+			long index = 0;
+			while (fatalError.get() == null && responses.hasNext()) {
+				HttpResponse response = responses.next();
+				long current = index++;
+
+				pending.acquire();
+
+				try {
+					service.execute(() -> {
+						try {
+							collector.collect(current, check(response));
+						}
+						catch (VirtualMachineError | LinkageError ex) {
+							fatalError.compareAndSet(null, ex);
+						}
+						finally {
+							pending.release();
+						}
+					});
+				}
+				catch (RejectedExecutionException ex) {
+					pending.release();
+					throw ex;
+				}
+			}
+
+			// Wait for pending checks.
+			pending.acquire(maxPending);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Batch assertions have been interrupted", ex);
+		}
+		finally {
+			if (executor == null) {
+				service.shutdown();
+			}
+		}
+
+		Error error = fatalError.get();
+		if (error != null) {
+			throw error;
+		}
+
+		return collector.toReport();
+	}
+
+	private RestAssertError check(HttpResponse response) {
+		try {
+			return spec.handle(response).getError();
+		}
+		catch (VirtualMachineError | LinkageError ex) {
+			// The JVM cannot be trusted anymore, do not go on with other responses.
+			throw ex;
+		}
+		catch (Throwable ex) {
+			// Including errors thrown by custom assertions, such as an AssertionError.
+			return shouldNotThrow(ex);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Collections.unmodifiableList;
+
+/// Result of a batch of assertions, see [BatchAssertions].
+///
+/// To keep memory bounded, a report only retains a limited number of failures: the ones
+/// of the first failing responses (in iteration order). Counters are always exact.
+public final class BatchReport {
+
+	/// Number of checked responses.
+	private final long total;
+
+	/// Number of failing responses.
+	private final long failed;
+
+	/// The retained failures, ordered by response index.
+	private final List<Failure> failures;
+
+	// Private constructor, use collector instead.
+	private BatchReport(long total, long failed, List<Failure> failures) {
+		this.total = total;
+		this.failed = failed;
+		this.failures = unmodifiableList(failures);
+	}
+
+	/// Get the number of checked responses.
+	///
+	/// @return Number of checked responses.
+	public long getTotal() {
+		return total;
+	}
+
+	/// Get the number of failing responses.
+	///
+	/// @return Number of failing responses.
+	public long getFailed() {
+		return failed;
+	}
+
+	/// Get the retained failures, ordered by response index.
+	///
+	/// @return Failures.
+	public List<Failure> getFailures() {
+		return failures;
+	}
+
+	/// Check if all responses passed all assertions.
+	///
+	/// @return `true` if all responses passed, `false` otherwise.
+	public boolean isSuccess() {
+		return failed == 0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("BatchReport{total: %s, failed: %s}", total, failed);
+	}
+
+	/// Failure of a given response.
+	public static final class Failure {
+
+		/// Index of the failing response, in iteration order.
+		private final long index;
+
+		/// The error.
+		private final RestAssertError error;
+
+		// Private constructor, use collector instead.
+		private Failure(long index, RestAssertError error) {
+			this.index = index;
+			this.error = error;
+		}
+
+		/// Get the index of the failing response, in iteration order.
+		///
+		/// @return Response index.
+		public long getIndex() {
+			return index;
+		}
+
+		/// Get the error.
+		///
+		/// @return The error.
+		public RestAssertError getError() {
+			return error;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Failure{index: %s, error: %s}", index, error);
+		}
+	}
+
+	/// Thread-safe collector of assertion results, used to build the final report.
+	static final class Collector {
+
+		/// Maximum number of retained failures.
+		private final int maxFailures;
+
+		/// Retained failures, indexed by response index.
+		private final TreeMap<Long, RestAssertError> failures;
+
+		/// Number of collected results.
+		private long total;
+
+		/// Number of collected failures.
+		private long failed;
+
+		/// Create collector.
+		///
+		/// @param maxFailures Maximum number of retained failures.
+		Collector(int maxFailures) {
+			this.maxFailures = maxFailures;
+			this.failures = new TreeMap<>();
+		}
+
+		/// Collect assertion result of given response.
+		///
+		/// @param index Response index.
+		/// @param error The error, `null` if assertion succeeded.
+		synchronized void collect(long index, RestAssertError error) {
+			total++;
+
+			if (error == null) {
+				return;
+			}
+
+			failed++;
+
+			if (maxFailures == 0) {
+				return;
+			}
+
+			if (failures.size() < maxFailures) {
+				failures.put(index, error);
+			}
+			else if (index < failures.lastKey()) {
+				failures.pollLastEntry();
+				failures.put(index, error);
+			}
+		}
+
+		/// Build the report.
+		///
+		/// @return The report.
+		synchronized BatchReport toReport() {
+			List<Failure> list = new ArrayList<>(failures.size());
+			for (Map.Entry<Long, RestAssertError> entry : failures.entrySet()) {
+				list.add(new Failure(entry.getKey(), entry.getValue()));
+			}
+
+			return new BatchReport(total, failed, list);
+		}
+	}
+}
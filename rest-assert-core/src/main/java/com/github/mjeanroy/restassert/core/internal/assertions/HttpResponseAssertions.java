@@ -46,10 +46,13 @@ import com.github.mjeanroy.restassert.core.internal.assertions.impl.IsDateHeader
 import com.github.mjeanroy.restassert.core.internal.assertions.impl.IsHeaderEqualToAssertion;
 import com.github.mjeanroy.restassert.core.internal.assertions.impl.IsHeaderListEqualToAssertion;
 import com.github.mjeanroy.restassert.core.internal.assertions.impl.IsHeaderMatchingAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.NdJsonRecordCountAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.NdJsonRecordsAssertion;
 import com.github.mjeanroy.restassert.core.internal.assertions.impl.StatusBetweenAssertion;
 import com.github.mjeanroy.restassert.core.internal.assertions.impl.StatusEqualAssertion;
 import com.github.mjeanroy.restassert.core.internal.assertions.impl.StatusOutOfAssertion;
 import com.github.mjeanroy.restassert.core.internal.data.HttpStatusCodes;
+import com.github.mjeanroy.restassert.core.internal.json.ParsedJson;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -109,6 +112,9 @@ public final class HttpResponseAssertions {
 	private static final HttpResponseAssertions INSTANCE = new HttpResponseAssertions();
 	private static final Function<String, String[]> STRING_SPLIT = (input) -> input.split(",");
 
+	/// Assertions applied to records of newline-delimited JSON documents.
+	private static final JsonAssertions JSON_ASSERTIONS = JsonAssertions.instance();
+
 	/// Get singleton object.
 	///
 	/// @return Singleton object.
@@ -2001,6 +2007,90 @@ public final class HttpResponseAssertions {
 		return assertWith(httpResponse, new HasCharsetAssertion(expectedCharset));
 	}
 
+	/// Check that HTTP response body is a newline-delimited JSON document (see [NDJSON](https://github.com/ndjson/ndjson-spec)
+	/// and [JSON Lines](https://jsonlines.org/)) with expected number of records.
+	///
+	/// The body is read one line at a time, blank lines are ignored.
+	///
+	/// @param httpResponse HTTP response to be tested.
+	/// @param expectedCount Expected number of records.
+	/// @return Assertion result.
+	public AssertionResult hasNdJsonRecordCount(HttpResponse httpResponse, long expectedCount) {
+		return assertWith(httpResponse, new NdJsonRecordCountAssertion(expectedCount));
+	}
+
+	/// Check that each record of the newline-delimited JSON document returned in the HTTP response
+	/// body contains given entry (see [JsonAssertions#contains(ParsedJson, String, String...)]).
+	///
+	/// The body is read one line at a time: failing records are reported with their line number.
+	///
+	/// @param httpResponse HTTP response to be tested.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult hasNdJsonEntry(HttpResponse httpResponse, String path) {
+		return assertWith(httpResponse, new NdJsonRecordsAssertion((json) -> JSON_ASSERTIONS.contains(json, path)));
+	}
+
+	/// Check that each record of the newline-delimited JSON document returned in the HTTP response
+	/// body contains given entry, with a string value.
+	///
+	/// The body is read one line at a time: failing records are reported with their line number.
+	///
+	/// @param httpResponse HTTP response to be tested.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isNdJsonStringEntry(HttpResponse httpResponse, String path) {
+		return assertWith(httpResponse, new NdJsonRecordsAssertion((json) -> JSON_ASSERTIONS.isStringEntry(json, path)));
+	}
+
+	/// Check that each record of the newline-delimited JSON document returned in the HTTP response
+	/// body contains given entry, with a number value.
+	///
+	/// The body is read one line at a time: failing records are reported with their line number.
+	///
+	/// @param httpResponse HTTP response to be tested.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isNdJsonNumberEntry(HttpResponse httpResponse, String path) {
+		return assertWith(httpResponse, new NdJsonRecordsAssertion((json) -> JSON_ASSERTIONS.isNumberEntry(json, path)));
+	}
+
+	/// Check that each record of the newline-delimited JSON document returned in the HTTP response
+	/// body contains given entry, with a boolean value.
+	///
+	/// The body is read one line at a time: failing records are reported with their line number.
+	///
+	/// @param httpResponse HTTP response to be tested.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isNdJsonBooleanEntry(HttpResponse httpResponse, String path) {
+		return assertWith(httpResponse, new NdJsonRecordsAssertion((json) -> JSON_ASSERTIONS.isBooleanEntry(json, path)));
+	}
+
+	/// Check that each record of the newline-delimited JSON document returned in the HTTP response
+	/// body contains given entry, with an array value.
+	///
+	/// The body is read one line at a time: failing records are reported with their line number.
+	///
+	/// @param httpResponse HTTP response to be tested.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isNdJsonArrayEntry(HttpResponse httpResponse, String path) {
+		return assertWith(httpResponse, new NdJsonRecordsAssertion((json) -> JSON_ASSERTIONS.isArrayEntry(json, path)));
+	}
+
+	/// Check that each record of the newline-delimited JSON document returned in the HTTP response
+	/// body contains given entry, with an object value.
+	///
+	/// The body is read one line at a time: failing records are reported with their line number.
+	///
+	/// @param httpResponse HTTP response to be tested.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isNdJsonObjectEntry(HttpResponse httpResponse, String path) {
+		return assertWith(httpResponse, new NdJsonRecordsAssertion((json) -> JSON_ASSERTIONS.isObjectEntry(json, path)));
+	}
+
 	/// Check that HTTP response does not contains any cookies.
 	///
 	/// For additional details about Cookies, check:
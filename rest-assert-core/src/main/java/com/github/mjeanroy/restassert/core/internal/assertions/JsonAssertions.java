@@ -24,14 +24,19 @@
 
 package com.github.mjeanroy.restassert.core.internal.assertions;
 
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptionsBuilder;
 import com.github.mjeanroy.restassert.core.data.JsonEntry;
 import com.github.mjeanroy.restassert.core.internal.common.Ios;
+import com.github.mjeanroy.restassert.core.internal.data.HttpResponses;
 import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
 import com.github.mjeanroy.restassert.core.internal.json.JsonType;
-import com.github.mjeanroy.restassert.core.internal.json.DefaultJsonComparator;
 import com.github.mjeanroy.restassert.core.internal.json.JsonComparator;
-import com.github.mjeanroy.restassert.core.internal.json.JsonParser;
+import com.github.mjeanroy.restassert.core.internal.json.JsonFiles;
 import com.github.mjeanroy.restassert.core.internal.json.JsonParsers;
+import com.github.mjeanroy.restassert.core.internal.json.JsonPaths;
+import com.github.mjeanroy.restassert.core.internal.json.ParsedJson;
 import com.github.mjeanroy.restassert.core.internal.loggers.Logger;
 import com.github.mjeanroy.restassert.core.internal.loggers.Loggers;
 import com.jayway.jsonpath.DocumentContext;
@@ -39,27 +44,30 @@ import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
 import java.io.File;
+import java.lang.ref.SoftReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.failure;
 import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
-import static com.github.mjeanroy.restassert.core.internal.common.Files.readFileToString;
-import static com.github.mjeanroy.restassert.core.internal.common.Ios.readUrl;
-import static com.github.mjeanroy.restassert.core.internal.common.Strings.isEmpty;
-import static com.github.mjeanroy.restassert.core.internal.common.Strings.trimToNull;
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
 import static com.github.mjeanroy.restassert.core.internal.error.CompositeError.composeErrors;
 import static com.github.mjeanroy.restassert.core.internal.error.common.ShouldNotBeNull.shouldNotBeNull;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldBeTypeOf.shouldBeTypeOf;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntry.shouldHaveEntry;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntryEqualTo.shouldHaveEntryEqualTo;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveMatchingJsonArrayElement.shouldHaveMatchingJsonArrayElement;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldMatchJsonArrayElement.shouldMatchJsonArrayElement;
 import static java.util.Collections.addAll;
+import static java.util.Collections.emptyMap;
 
 /// Set of reusable assertions on json
 /// values.
@@ -87,12 +95,55 @@ public final class JsonAssertions {
 		return JsonEntry.of(key, value);
 	}
 
-	/// Internal json parser.
-	private final JsonParser parser;
+	/// Marker for entries missing from a JSON document.
+	private static final Object MISSING_ENTRY = new Object();
+
+	/// Last document parsed by the current thread.
+	///
+	/// Chained assertions are usually executed against the same payload instance, keeping
+	/// the last parsed document allows these assertions to parse the payload only once.
+	private static final ThreadLocal<SoftReference<ParsedJson>> lastParsedJson = new ThreadLocal<>();
+
+	/// Parse given JSON payload.
+	///
+	/// The payload is parsed lazily, and consecutive calls with the same payload instance
+	/// (for example, chained assertions on the same actual value) share the same parsed document.
+	///
+	/// @param json JSON payload.
+	/// @return The parsed JSON.
+	public static ParsedJson parseJson(String json) {
+		SoftReference<ParsedJson> ref = lastParsedJson.get();
+		ParsedJson parsedJson = ref == null ? null : ref.get();
+
+		// Strings are immutable, so the same instance means the same payload.
+		if (parsedJson == null || parsedJson.json() != json) {
+			parsedJson = ParsedJson.parse(json);
+			lastParsedJson.set(new SoftReference<>(parsedJson));
+		}
+
+		return parsedJson;
+	}
+
+	/// Parse body of given HTTP response.
+	///
+	/// The body is parsed from its raw bytes (see [HttpResponse#getContentBytes()]), decoded with the charset
+	/// declared by the `Content-Type` header (UTF-8 if it is not declared), and the parsed document is shared
+	/// with the following assertions executed against its raw JSON (see [#parseJson(String)]).
+	///
+	/// @param response HTTP response.
+	/// @return The parsed JSON.
+	public static ParsedJson parseJson(HttpResponse response) {
+		ParsedJson parsedJson = ParsedJson.parseBytes(response.getContentBytes(), HttpResponses.getCharset(response));
+		lastParsedJson.set(new SoftReference<>(parsedJson));
+		return parsedJson;
+	}
+
+	/// Internal json comparator.
+	private final JsonComparator comparator;
 
 	// Private constructor to ensure singleton
 	private JsonAssertions() {
-		this.parser = JsonParsers.getParser();
+		this.comparator = JsonParsers.getComparator();
 	}
 
 	/// Check that given json is not null.
@@ -100,7 +151,15 @@ public final class JsonAssertions {
 	/// @param actual JSON.
 	/// @return Assertion result.
 	public AssertionResult isNotNull(String actual) {
-		return actual == null ? failure(shouldNotBeNull("json")) : success();
+		return isNotNull(parseJson(actual));
+	}
+
+	/// Check that given json is not null.
+	///
+	/// @param actual Parsed JSON.
+	/// @return Assertion result.
+	public AssertionResult isNotNull(ParsedJson actual) {
+		return actual.json() == null ? failure(shouldNotBeNull("json")) : success();
 	}
 
 	/// Check that given json is a JSON string type.
@@ -108,6 +167,14 @@ public final class JsonAssertions {
 	/// @param actual JSON.
 	/// @return Assertion result.
 	public AssertionResult isString(String actual) {
+		return isString(parseJson(actual));
+	}
+
+	/// Check that given json is a JSON string type.
+	///
+	/// @param actual Parsed JSON.
+	/// @return Assertion result.
+	public AssertionResult isString(ParsedJson actual) {
 		return isType(actual, JsonType.STRING);
 	}
 
@@ -117,6 +184,15 @@ public final class JsonAssertions {
 	/// @param path Entry path.
 	/// @return Assertion result.
 	public AssertionResult isStringEntry(String actual, String path) {
+		return isStringEntry(parseJson(actual), path);
+	}
+
+	/// Check that given json is a JSON string type.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isStringEntry(ParsedJson actual, String path) {
 		return isEntryWithType(actual, path, JsonType.STRING);
 	}
 
@@ -126,6 +202,15 @@ public final class JsonAssertions {
 	/// @param path Entry path.
 	/// @return Assertion result.
 	public AssertionResult isNumberEntry(String actual, String path) {
+		return isNumberEntry(parseJson(actual), path);
+	}
+
+	/// Check that given json is a JSON number type.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isNumberEntry(ParsedJson actual, String path) {
 		return isEntryWithType(actual, path, JsonType.NUMBER);
 	}
 
@@ -135,6 +220,15 @@ public final class JsonAssertions {
 	/// @param path Entry path.
 	/// @return Assertion result.
 	public AssertionResult isBooleanEntry(String actual, String path) {
+		return isBooleanEntry(parseJson(actual), path);
+	}
+
+	/// Check that given json is a JSON boolean type.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isBooleanEntry(ParsedJson actual, String path) {
 		return isEntryWithType(actual, path, JsonType.BOOLEAN);
 	}
 
@@ -144,6 +238,15 @@ public final class JsonAssertions {
 	/// @param path Entry path.
 	/// @return Assertion result.
 	public AssertionResult isArrayEntry(String actual, String path) {
+		return isArrayEntry(parseJson(actual), path);
+	}
+
+	/// Check that given json is a JSON array type.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isArrayEntry(ParsedJson actual, String path) {
 		return isEntryWithType(actual, path, JsonType.ARRAY);
 	}
 
@@ -153,24 +256,57 @@ public final class JsonAssertions {
 	/// @param path Entry path.
 	/// @return Assertion result.
 	public AssertionResult isObjectEntry(String actual, String path) {
+		return isObjectEntry(parseJson(actual), path);
+	}
+
+	/// Check that given json is a JSON object type.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Entry path.
+	/// @return Assertion result.
+	public AssertionResult isObjectEntry(ParsedJson actual, String path) {
 		return isEntryWithType(actual, path, JsonType.OBJECT);
 	}
 
-	private AssertionResult isEntryWithType(String actual, String path, JsonType expectedType) {
-		AssertionResult result = contains(actual, path);
-		if (result.isFailure()) {
-			return result;
+	private AssertionResult isEntryWithType(ParsedJson actual, String path, JsonType expectedType) {
+		return isEntryWithType(actual, path, readEntry(actual, path), expectedType);
+	}
+
+	private static AssertionResult isEntryWithType(ParsedJson actual, String path, Object parsedValue, JsonType expectedType) {
+		if (parsedValue == MISSING_ENTRY) {
+			return failure(shouldHaveEntry(actual.json(), path));
 		}
 
-		Object parsedValue = getEntry(actual, path);
 		return isType(actual, path, parsedValue, expectedType);
 	}
 
+	// Read entry at given path, or returns MISSING_ENTRY if the entry does not exist.
+	private static Object readEntry(ParsedJson actual, String path) {
+		if (actual.isEmpty()) {
+			return MISSING_ENTRY;
+		}
+
+		try {
+			return actual.read(path);
+		}
+		catch (PathNotFoundException ex) {
+			return MISSING_ENTRY;
+		}
+	}
+
 	/// Check that given json is a JSON number.
 	///
 	/// @param actual JSON.
 	/// @return Assertion result.
 	public AssertionResult isNumber(String actual) {
+		return isNumber(parseJson(actual));
+	}
+
+	/// Check that given json is a JSON number.
+	///
+	/// @param actual Parsed JSON.
+	/// @return Assertion result.
+	public AssertionResult isNumber(ParsedJson actual) {
 		return isType(actual, JsonType.NUMBER);
 	}
 
@@ -179,6 +315,14 @@ public final class JsonAssertions {
 	/// @param actual JSON.
 	/// @return Assertion result.
 	public AssertionResult isBoolean(String actual) {
+		return isBoolean(parseJson(actual));
+	}
+
+	/// Check that given json is a JSON boolean.
+	///
+	/// @param actual Parsed JSON.
+	/// @return Assertion result.
+	public AssertionResult isBoolean(ParsedJson actual) {
 		return isType(actual, JsonType.BOOLEAN);
 	}
 
@@ -187,6 +331,14 @@ public final class JsonAssertions {
 	/// @param actual JSON.
 	/// @return Assertion result.
 	public AssertionResult isArray(String actual) {
+		return isArray(parseJson(actual));
+	}
+
+	/// Check that given json is a JSON array.
+	///
+	/// @param actual Parsed JSON.
+	/// @return Assertion result.
+	public AssertionResult isArray(ParsedJson actual) {
 		return isType(actual, JsonType.ARRAY);
 	}
 
@@ -195,28 +347,34 @@ public final class JsonAssertions {
 	/// @param actual JSON.
 	/// @return Assertion result.
 	public AssertionResult isObject(String actual) {
-		return isType(actual, JsonType.OBJECT);
+		return isObject(parseJson(actual));
 	}
 
-	private AssertionResult isType(String actual, JsonType expectedType) {
-		String trimmedActual = trimToNull(actual.trim());
+	/// Check that given json is a JSON object.
+	///
+	/// @param actual Parsed JSON.
+	/// @return Assertion result.
+	public AssertionResult isObject(ParsedJson actual) {
+		return isType(actual, JsonType.OBJECT);
+	}
 
-		if (trimmedActual == null) {
+	private static AssertionResult isType(ParsedJson actual, JsonType expectedType) {
+		if (actual.isBlank()) {
 			return failure(shouldNotBeNull("json"));
 		}
 
-		Object parsedValue = parser.parse(trimmedActual);
+		Object parsedValue = actual.value();
 		JsonType actualType = JsonType.getType(parsedValue);
 		if (actualType == expectedType) {
 			return success();
 		}
 
 		return failure(
-			shouldBeTypeOf(actual, expectedType, actualType)
+			shouldBeTypeOf(actual.json(), expectedType, actualType)
 		);
 	}
 
-	private AssertionResult isType(String actual, String path, Object parsedValue, JsonType expectedType) {
+	private static AssertionResult isType(ParsedJson actual, String path, Object parsedValue, JsonType expectedType) {
 		JsonType actualType = JsonType.getType(parsedValue);
 		if (actualType == expectedType) {
 			return success();
@@ -224,7 +382,7 @@ public final class JsonAssertions {
 
 		return failure(
 			shouldBeTypeOf(
-				actual,
+				actual.json(),
 				path,
 				expectedType,
 				actualType
@@ -239,6 +397,16 @@ public final class JsonAssertions {
 	/// @param other Other entries to check.
 	/// @return Assertion result.
 	public AssertionResult contains(String actual, String key, String... other) {
+		return contains(parseJson(actual), key, other);
+	}
+
+	/// Check that given json contains given entries.
+	///
+	/// @param actual Parsed JSON.
+	/// @param key Entry to check.
+	/// @param other Other entries to check.
+	/// @return Assertion result.
+	public AssertionResult contains(ParsedJson actual, String key, String... other) {
 		Set<String> entries = new LinkedHashSet<>();
 		entries.add(key);
 		addAll(entries, other);
@@ -251,12 +419,21 @@ public final class JsonAssertions {
 	/// @param keys Entries to check.
 	/// @return Assertion result.
 	public AssertionResult contains(String actual, Iterable<String> keys) {
+		return contains(parseJson(actual), keys);
+	}
+
+	/// Check that given json contains given entries.
+	///
+	/// @param actual Parsed JSON.
+	/// @param keys Entries to check.
+	/// @return Assertion result.
+	public AssertionResult contains(ParsedJson actual, Iterable<String> keys) {
 		Set<RestAssertError> errors = new LinkedHashSet<>();
 
 		for (String e : keys) {
-			if (isEmpty(actual) || doesNotHaveEntry(actual, e)) {
+			if (actual.isEmpty() || !actual.has(e)) {
 				errors.add(
-					shouldHaveEntry(actual, e)
+					shouldHaveEntry(actual.json(), e)
 				);
 			}
 		}
@@ -271,6 +448,16 @@ public final class JsonAssertions {
 	/// @param other Other entries to check.
 	/// @return Assertion result.
 	public AssertionResult containsEntries(String actual, JsonEntry entry, JsonEntry... other) {
+		return containsEntries(parseJson(actual), entry, other);
+	}
+
+	/// Check that given json contains given entries.
+	///
+	/// @param actual Parsed JSON.
+	/// @param entry Entry to check.
+	/// @param other Other entries to check.
+	/// @return Assertion result.
+	public AssertionResult containsEntries(ParsedJson actual, JsonEntry entry, JsonEntry... other) {
 		Set<JsonEntry> entries = new LinkedHashSet<>();
 		entries.add(entry);
 		addAll(entries, other);
@@ -283,21 +470,33 @@ public final class JsonAssertions {
 	/// @param entries Entries to check.
 	/// @return Assertion result.
 	public AssertionResult containsEntries(String actual, Iterable<JsonEntry> entries) {
+		return containsEntries(parseJson(actual), entries);
+	}
+
+	/// Check that given json contains given entries.
+	///
+	/// @param actual Parsed JSON.
+	/// @param entries Entries to check.
+	/// @return Assertion result.
+	public AssertionResult containsEntries(ParsedJson actual, Iterable<JsonEntry> entries) {
 		Set<RestAssertError> errors = new LinkedHashSet<>();
 
+		// Read all entries at once, with a single walk of the document.
+		Map<String, Object> actualValues = actual.isEmpty() ? emptyMap() : actual.readAll(keys(entries));
+
 		// Collect errors
 		for (JsonEntry e : entries) {
 			String key = e.getKey();
-			if (isEmpty(actual) || doesNotHaveEntry(actual, key)) {
-				errors.add(shouldHaveEntry(actual, key));
+			if (!actualValues.containsKey(key)) {
+				errors.add(shouldHaveEntry(actual.json(), key));
 				continue;
 			}
 
+			Object actualValue = actualValues.get(key);
 			Object expectedValue = e.getValue();
-			Object actualValue = getEntry(actual, key);
 			if (!expectedValue.equals(actualValue)) {
 				errors.add(
-					shouldHaveEntryEqualTo(actual, key, actualValue, expectedValue)
+					shouldHaveEntryEqualTo(actual.json(), key, actualValue, expectedValue)
 				);
 			}
 		}
@@ -305,19 +504,119 @@ public final class JsonAssertions {
 		return errors.isEmpty() ? success() : failure(composeErrors(errors));
 	}
 
-	private static boolean doesNotHaveEntry(String actual, String entry) {
-		try {
-			getEntry(actual, entry);
-			return false;
+	private static List<String> keys(Iterable<JsonEntry> entries) {
+		List<String> keys = new ArrayList<>();
+		for (JsonEntry entry : entries) {
+			keys.add(entry.getKey());
 		}
-		catch (PathNotFoundException ex) {
-			return true;
+
+		return keys;
+	}
+
+	/// Check that every element of given JSON array entry satisfies given assertions.
+	///
+	/// Elements are checked one by one, in order, and the check stops at the first failing
+	/// assertion: the error is reported with the index of the failing element.
+	///
+	/// @param actual JSON.
+	/// @param path Path of the JSON array.
+	/// @param assertion Assertion to check.
+	/// @param other Other assertions to check.
+	/// @return Assertion result.
+	public AssertionResult allEntriesMatch(String actual, String path, JsonEntryAssertion assertion, JsonEntryAssertion... other) {
+		return allEntriesMatch(parseJson(actual), path, assertion, other);
+	}
+
+	/// Check that every element of given JSON array entry satisfies given assertions.
+	///
+	/// Elements are checked one by one, in order, and the check stops at the first failing
+	/// assertion: the error is reported with the index of the failing element.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Path of the JSON array.
+	/// @param assertion Assertion to check.
+	/// @param other Other assertions to check.
+	/// @return Assertion result.
+	public AssertionResult allEntriesMatch(ParsedJson actual, String path, JsonEntryAssertion assertion, JsonEntryAssertion... other) {
+		List<JsonEntryAssertion> assertions = assertions(assertion, other);
+		Object array = readEntry(actual, path);
+		if (!(array instanceof Iterable)) {
+			return isEntryWithType(actual, path, array, JsonType.ARRAY);
+		}
+
+		int index = 0;
+		for (Object element : (Iterable<?>) array) {
+			RestAssertError error = check(ParsedJson.of(element), assertions);
+			if (error != null) {
+				return failure(shouldMatchJsonArrayElement(path, index, error));
+			}
+
+			index++;
+		}
+
+		return success();
+	}
+
+	/// Check that at least one element of given JSON array entry satisfies given assertions.
+	///
+	/// Elements are checked one by one, in order, and the check stops at the first matching element.
+	///
+	/// @param actual JSON.
+	/// @param path Path of the JSON array.
+	/// @param assertion Assertion to check.
+	/// @param other Other assertions to check.
+	/// @return Assertion result.
+	public AssertionResult anyEntryMatches(String actual, String path, JsonEntryAssertion assertion, JsonEntryAssertion... other) {
+		return anyEntryMatches(parseJson(actual), path, assertion, other);
+	}
+
+	/// Check that at least one element of given JSON array entry satisfies given assertions.
+	///
+	/// Elements are checked one by one, in order, and the check stops at the first matching element.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Path of the JSON array.
+	/// @param assertion Assertion to check.
+	/// @param other Other assertions to check.
+	/// @return Assertion result.
+	public AssertionResult anyEntryMatches(ParsedJson actual, String path, JsonEntryAssertion assertion, JsonEntryAssertion... other) {
+		List<JsonEntryAssertion> assertions = assertions(assertion, other);
+		Object array = readEntry(actual, path);
+		if (!(array instanceof Iterable)) {
+			return isEntryWithType(actual, path, array, JsonType.ARRAY);
+		}
+
+		int size = 0;
+		for (Object element : (Iterable<?>) array) {
+			if (check(ParsedJson.of(element), assertions) == null) {
+				return success();
+			}
+
+			size++;
+		}
+
+		return failure(shouldHaveMatchingJsonArrayElement(path, size));
+	}
+
+	private static List<JsonEntryAssertion> assertions(JsonEntryAssertion assertion, JsonEntryAssertion... other) {
+		List<JsonEntryAssertion> assertions = new ArrayList<>(other.length + 1);
+		assertions.add(notNull(assertion, "JSON entry assertion must not be null"));
+		for (JsonEntryAssertion a : other) {
+			assertions.add(notNull(a, "JSON entry assertion must not be null"));
 		}
+
+		return assertions;
 	}
 
-	private static <T> T getEntry(String actual, String entry) {
-		String path = toJsonPath(entry);
-		return JsonPath.read(actual, path);
+	private static RestAssertError check(ParsedJson element, List<JsonEntryAssertion> assertions) {
+		for (JsonEntryAssertion assertion : assertions) {
+			AssertionResult result = assertion.handle(element);
+			if (result.isFailure()) {
+				return result.getError();
+			}
+		}
+
+		return null;
 	}
 
 	/// Check that two json representation are equals.
@@ -326,7 +625,50 @@ public final class JsonAssertions {
 	/// @param expected Expected representation.
 	/// @return Assertion result.
 	public AssertionResult isEqualTo(String actual, String expected) {
-		return doComparison(actual, expected);
+		return isEqualTo(parseJson(actual), expected);
+	}
+
+	/// Check that two json representation are equals.
+	///
+	/// @param actual Parsed JSON.
+	/// @param expected Expected representation.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, String expected) {
+		return doComparison(actual.json(), expected);
+	}
+
+	/// Check that two json documents are equals.
+	///
+	/// Parsed values of both documents are reused, so that an expected document compared with several
+	/// actual documents is parsed only once.
+	///
+	/// @param actual Parsed JSON.
+	/// @param expected Expected parsed JSON.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, ParsedJson expected) {
+		return doComparison(actual, expected, comparator);
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Actual representation.
+	/// @param expected Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(String actual, String expected, JsonComparatorOptions options) {
+		return isEqualTo(parseJson(actual), expected, options);
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Parsed JSON.
+	/// @param expected Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, String expected, JsonComparatorOptions options) {
+		return doComparison(actual.json(), expected, JsonParsers.getComparator(options));
 	}
 
 	/// Check that two json representation are equals.
@@ -335,7 +677,38 @@ public final class JsonAssertions {
 	/// @param file Expected representation.
 	/// @return Assertion result.
 	public AssertionResult isEqualTo(String actual, File file) {
-		return isEqualTo(actual, readFileToString(file.toPath()));
+		return isEqualTo(parseJson(actual), file);
+	}
+
+	/// Check that two json representation are equals.
+	///
+	/// @param actual Parsed JSON.
+	/// @param file Expected representation.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, File file) {
+		return isEqualTo(actual, file, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Actual representation.
+	/// @param file Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(String actual, File file, JsonComparatorOptions options) {
+		return isEqualTo(parseJson(actual), file, options);
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Parsed JSON.
+	/// @param file Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, File file, JsonComparatorOptions options) {
+		return isEqualTo(actual, file.toPath(), options);
 	}
 
 	/// Check that two json representation are equals.
@@ -344,7 +717,38 @@ public final class JsonAssertions {
 	/// @param path Expected representation.
 	/// @return Assertion result.
 	public AssertionResult isEqualTo(String actual, Path path) {
-		return isEqualTo(actual, readFileToString(path));
+		return isEqualTo(parseJson(actual), path);
+	}
+
+	/// Check that two json representation are equals.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Expected representation.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, Path path) {
+		return isEqualTo(actual, path, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Actual representation.
+	/// @param path Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(String actual, Path path, JsonComparatorOptions options) {
+		return isEqualTo(parseJson(actual), path, options);
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, Path path, JsonComparatorOptions options) {
+		return doComparison(actual, JsonFiles.read(path), comparator(options));
 	}
 
 	/// Check that two json representation are equals.
@@ -353,11 +757,42 @@ public final class JsonAssertions {
 	/// @param uri Expected representation.
 	/// @return Assertion result.
 	public AssertionResult isEqualTo(String actual, URI uri) {
+		return isEqualTo(parseJson(actual), uri);
+	}
+
+	/// Check that two json representation are equals.
+	///
+	/// @param actual Parsed JSON.
+	/// @param uri Expected representation.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, URI uri) {
+		return isEqualTo(actual, uri, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Actual representation.
+	/// @param uri Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(String actual, URI uri, JsonComparatorOptions options) {
+		return isEqualTo(parseJson(actual), uri, options);
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Parsed JSON.
+	/// @param uri Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, URI uri, JsonComparatorOptions options) {
 		if (uri == null) {
 			throw new AssertionError("Cannot extract expected JSON from <null> URI");
 		}
 
-		return isEqualTo(actual, Paths.get(uri));
+		return isEqualTo(actual, Paths.get(uri), options);
 	}
 
 	/// Check that two json representation are equals.
@@ -366,13 +801,43 @@ public final class JsonAssertions {
 	/// @param url Expected representation.
 	/// @return Assertion result.
 	public AssertionResult isEqualTo(String actual, URL url) {
+		return isEqualTo(parseJson(actual), url);
+	}
+
+	/// Check that two json representation are equals.
+	///
+	/// @param actual Parsed JSON.
+	/// @param url Expected representation.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, URL url) {
+		return isEqualTo(actual, url, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Actual representation.
+	/// @param url Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(String actual, URL url, JsonComparatorOptions options) {
+		return isEqualTo(parseJson(actual), url, options);
+	}
+
+	/// Check that two json representation are equals, using given comparison options, for
+	/// example to ignore the order of some arrays.
+	///
+	/// @param actual Parsed JSON.
+	/// @param url Expected representation.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualTo(ParsedJson actual, URL url, JsonComparatorOptions options) {
 		if (url == null) {
 			throw new AssertionError("Cannot extract expected JSON from <null> URL");
 		}
 
 		try {
-			String expected = readUrl(url);
-			return isEqualTo(actual, expected);
+			return doComparison(actual, JsonFiles.read(url), comparator(options));
 		}
 		catch (Ios.UrlException ex) {
 			log.error(ex.getMessage(), ex);
@@ -397,21 +862,99 @@ public final class JsonAssertions {
 	/// @param entries Name of entries to ignore.
 	/// @return Assertion result.
 	public AssertionResult isEqualToIgnoring(String actual, String expected, Iterable<String> entries) {
-		final String actualJson;
-		final String expectedJson;
-
-		// Check if some keys needs to be ignored
-		if (entries.iterator().hasNext()) {
-			DocumentContext actualCtx = JsonPath.parse(actual);
-			DocumentContext expectedCtx = JsonPath.parse(expected);
+		return isEqualToIgnoring(parseJson(actual), expected, entries);
+	}
 
-			// Remove keys to ignore
-			// If a key to ignore is not present in actual or expected JSON, we just
-			// ignore it, we make sure it does not fail because of a missing key.
-			// To make sure keys are present in expected json, combine with `containsKey`
+	/// Check that two json representation are equals, ignoring specific entries.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// Entries made of member names, array indexes and wildcards (such as `items[*].updatedAt`) are
+	/// skipped while comparing documents, other entries (such as slices or filters) are deleted from
+	/// both documents before the comparison.
+	///
+	/// @param actual Parsed JSON.
+	/// @param expected Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, String expected, Iterable<String> entries) {
+		return isEqualToIgnoring(actual, expected, entries, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Actual representation.
+	/// @param expected Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(String actual, String expected, Iterable<String> entries, JsonComparatorOptions options) {
+		return isEqualToIgnoring(parseJson(actual), expected, entries, options);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// Entries made of member names, array indexes and wildcards (such as `items[*].updatedAt`) are
+	/// skipped while comparing documents, other entries (such as slices or filters) are deleted from
+	/// both documents before the comparison.
+	///
+	/// @param actual Parsed JSON.
+	/// @param expected Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, String expected, Iterable<String> entries, JsonComparatorOptions options) {
+		// Simple paths are skipped by the comparator, without modifying both documents.
+		JsonComparatorOptions ignoringOptions = ignoring(entries, options);
+		if (ignoringOptions != null) {
+			return doComparison(actual.json(), expected, JsonParsers.getComparator(ignoringOptions));
+		}
+
+		final String actualJson;
+		final String expectedJson;
+
+		// Check if some keys needs to be ignored
+		if (entries.iterator().hasNext()) {
+			DocumentContext actualCtx = JsonPath.parse(actual.json());
+			DocumentContext expectedCtx = JsonPath.parse(expected);
+
+			// Remove keys to ignore
+			// If a key to ignore is not present in actual or expected JSON, we just
+			// ignore it, we make sure it does not fail because of a missing key.
+			// To make sure keys are present in expected json, combine with `containsKey`
 			// assertion.
 			for (String entry : entries) {
-				String path = toJsonPath(entry);
+				JsonPath path = JsonPaths.compile(entry);
 				deleteJsonEntry(actualCtx, path);
 				deleteJsonEntry(expectedCtx, path);
 			}
@@ -420,14 +963,42 @@ public final class JsonAssertions {
 			expectedJson = expectedCtx.jsonString();
 		}
 		else {
-			actualJson = actual;
+			actualJson = actual.json();
 			expectedJson = expected;
 		}
 
-		return doComparison(actualJson, expectedJson);
+		return doComparison(actualJson, expectedJson, comparator(options));
 	}
 
-	private void deleteJsonEntry(DocumentContext ctx, String jsonPath) {
+	// Get comparison options ignoring given entries, or `null` if some entries cannot be ignored by the comparator.
+	private static JsonComparatorOptions ignoring(Iterable<String> entries, JsonComparatorOptions options) {
+		JsonComparatorOptionsBuilder builder = JsonComparatorOptions.builder()
+			.setIgnoreArrayOrder(options.isIgnoreArrayOrder())
+			.setFailFast(options.isFailFast())
+			.setMaxErrors(options.getMaxErrors())
+			.setParallelThreshold(options.getParallelThreshold())
+			.setAlignArrays(options.isAlignArrays());
+
+		for (String path : options.getIgnoreArrayOrderPaths()) {
+			builder.addIgnoreArrayOrder(path);
+		}
+
+		for (String path : options.getIgnoredPaths()) {
+			builder.addIgnoredPath(path);
+		}
+
+		for (String entry : entries) {
+			if (!JsonComparatorOptions.isIgnoredPathSupported(entry)) {
+				return null;
+			}
+
+			builder.addIgnoredPath(entry);
+		}
+
+		return builder.build();
+	}
+
+	private void deleteJsonEntry(DocumentContext ctx, JsonPath jsonPath) {
 		try {
 			ctx.delete(jsonPath);
 		}
@@ -453,7 +1024,71 @@ public final class JsonAssertions {
 	/// @param entries Name of entries to ignore.
 	/// @return Assertion result.
 	public AssertionResult isEqualToIgnoring(String actual, File file, Iterable<String> entries) {
-		return isEqualToIgnoring(actual, readFileToString(file.toPath()), entries);
+		return isEqualToIgnoring(parseJson(actual), file, entries);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param file Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, File file, Iterable<String> entries) {
+		return isEqualToIgnoring(actual, file, entries, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Actual representation.
+	/// @param file Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(String actual, File file, Iterable<String> entries, JsonComparatorOptions options) {
+		return isEqualToIgnoring(parseJson(actual), file, entries, options);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param file Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, File file, Iterable<String> entries, JsonComparatorOptions options) {
+		return isEqualToIgnoring(actual, file.toPath(), entries, options);
 	}
 
 	/// Check that two json representation are equals, ignoring specific entries.
@@ -473,7 +1108,79 @@ public final class JsonAssertions {
 	/// @param entries Name of entries to ignore.
 	/// @return Assertion result.
 	public AssertionResult isEqualToIgnoring(String actual, Path path, Iterable<String> entries) {
-		return isEqualToIgnoring(actual, readFileToString(path), entries);
+		return isEqualToIgnoring(parseJson(actual), path, entries);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, Path path, Iterable<String> entries) {
+		return isEqualToIgnoring(actual, path, entries, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Actual representation.
+	/// @param path Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(String actual, Path path, Iterable<String> entries, JsonComparatorOptions options) {
+		return isEqualToIgnoring(parseJson(actual), path, entries, options);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param path Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, Path path, Iterable<String> entries, JsonComparatorOptions options) {
+		ParsedJson expected = JsonFiles.read(path);
+
+		// Simple paths are skipped by the comparator, so that the parsed expected document can be reused.
+		JsonComparatorOptions ignoringOptions = ignoring(entries, options);
+		if (ignoringOptions != null) {
+			return doComparison(actual, expected, JsonParsers.getComparator(ignoringOptions));
+		}
+
+		return isEqualToIgnoring(actual, expected.json(), entries, options);
 	}
 
 	/// Check that two json representation are equals, ignoring specific entries.
@@ -493,7 +1200,71 @@ public final class JsonAssertions {
 	/// @param entries Name of entries to ignore.
 	/// @return Assertion result.
 	public AssertionResult isEqualToIgnoring(String actual, URI uri, Iterable<String> entries) {
-		return isEqualToIgnoring(actual, new File(uri), entries);
+		return isEqualToIgnoring(parseJson(actual), uri, entries);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param uri Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, URI uri, Iterable<String> entries) {
+		return isEqualToIgnoring(actual, uri, entries, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Actual representation.
+	/// @param uri Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(String actual, URI uri, Iterable<String> entries, JsonComparatorOptions options) {
+		return isEqualToIgnoring(parseJson(actual), uri, entries, options);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param uri Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, URI uri, Iterable<String> entries, JsonComparatorOptions options) {
+		return isEqualToIgnoring(actual, new File(uri), entries, options);
 	}
 
 	/// Check that two json representation are equals, ignoring specific entries.
@@ -513,8 +1284,72 @@ public final class JsonAssertions {
 	/// @param entries Name of entries to ignore.
 	/// @return Assertion result.
 	public AssertionResult isEqualToIgnoring(String actual, URL url, Iterable<String> entries) {
+		return isEqualToIgnoring(parseJson(actual), url, entries);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param url Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, URL url, Iterable<String> entries) {
+		return isEqualToIgnoring(actual, url, entries, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Actual representation.
+	/// @param url Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(String actual, URL url, Iterable<String> entries, JsonComparatorOptions options) {
+		return isEqualToIgnoring(parseJson(actual), url, entries, options);
+	}
+
+	/// Check that two json representation are equals, ignoring specific entries, using given comparison
+	/// options, for example to ignore the order of some arrays.
+	///
+	/// List of entries can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// Note that if some keys to ignore are not in the actual or expected JSON payloads, they
+	/// will be silently ignored.
+	///
+	/// To make sure some keys are in a JSON payload, combine with [#containsEntries(String, Iterable)]
+	/// assertion.
+	///
+	/// @param actual Parsed JSON.
+	/// @param url Expected representation.
+	/// @param entries Name of entries to ignore.
+	/// @param options Comparison options.
+	/// @return Assertion result.
+	public AssertionResult isEqualToIgnoring(ParsedJson actual, URL url, Iterable<String> entries, JsonComparatorOptions options) {
 		try {
-			return isEqualToIgnoring(actual, new File(url.toURI()), entries);
+			return isEqualToIgnoring(actual, new File(url.toURI()), entries, options);
 		}
 		catch (URISyntaxException ex) {
 			throw new AssertionError(ex);
@@ -522,16 +1357,29 @@ public final class JsonAssertions {
 	}
 
 	private AssertionResult doComparison(String actual, String expected) {
+		return doComparison(actual, expected, comparator);
+	}
+
+	// Get the comparator using given options: default options use the comparator of this instance.
+	private JsonComparator comparator(JsonComparatorOptions options) {
+		return notNull(options, "JSON comparator options must not be null").isDefault() ? comparator : JsonParsers.getComparator(options);
+	}
+
+	private static AssertionResult doComparison(String actual, String expected, JsonComparator comparator) {
 		if (actual == null) {
 			return failure(shouldNotBeNull("json"));
 		}
 
-		JsonComparator comparator = new DefaultJsonComparator(parser);
 		List<RestAssertError> errors = comparator.compare(actual, expected);
 		return errors.isEmpty() ? success() : failure(composeErrors(errors));
 	}
 
-	private static String toJsonPath(String path) {
-		return path.startsWith("$.") ? path : ("$." + path);
+	private static AssertionResult doComparison(ParsedJson actual, ParsedJson expected, JsonComparator comparator) {
+		if (actual.json() == null) {
+			return failure(shouldNotBeNull("json"));
+		}
+
+		List<RestAssertError> errors = comparator.compare(actual, expected);
+		return errors.isEmpty() ? success() : failure(composeErrors(errors));
 	}
 }
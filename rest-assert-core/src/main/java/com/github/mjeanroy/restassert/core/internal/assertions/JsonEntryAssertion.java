@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.internal.json.ParsedJson;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+
+/// Assertion on a JSON value, such as an element of a JSON array (see
+/// [JsonAssertions#allEntriesMatch(String, String, JsonEntryAssertion, JsonEntryAssertion...)]
+/// and [JsonAssertions#anyEntryMatches(String, String, JsonEntryAssertion, JsonEntryAssertion...)]).
+///
+/// Entry paths are relative to the asserted value, for example:
+///
+/// ```java
+/// allEntriesMatch(json, "$.items", isNumberEntry("id"), isStringEntry("name"));
+/// ```
+public interface JsonEntryAssertion extends Assertion<ParsedJson> {
+
+	/// Create assertion checking that JSON value contains given entry.
+	///
+	/// @param path Entry path.
+	/// @return The assertion.
+	/// @throws NullPointerException If `path` is `null`.
+	static JsonEntryAssertion hasEntry(String path) {
+		notNull(path, "JSON path must not be null");
+		return json -> JsonAssertions.instance().contains(json, path);
+	}
+
+	/// Create assertion checking that JSON value contains given entry, with given value.
+	///
+	/// @param path Entry path.
+	/// @param value Expected value.
+	/// @return The assertion.
+	/// @throws NullPointerException If `path` is `null`.
+	static JsonEntryAssertion isEntryEqualTo(String path, Object value) {
+		notNull(path, "JSON path must not be null");
+		return json -> JsonAssertions.instance().containsEntries(json, JsonAssertions.jsonEntry(path, value));
+	}
+
+	/// Create assertion checking that given entry of JSON value is a JSON string.
+	///
+	/// @param path Entry path.
+	/// @return The assertion.
+	/// @throws NullPointerException If `path` is `null`.
+	static JsonEntryAssertion isStringEntry(String path) {
+		notNull(path, "JSON path must not be null");
+		return json -> JsonAssertions.instance().isStringEntry(json, path);
+	}
+
+	/// Create assertion checking that given entry of JSON value is a JSON number.
+	///
+	/// @param path Entry path.
+	/// @return The assertion.
+	/// @throws NullPointerException If `path` is `null`.
+	static JsonEntryAssertion isNumberEntry(String path) {
+		notNull(path, "JSON path must not be null");
+		return json -> JsonAssertions.instance().isNumberEntry(json, path);
+	}
+
+	/// Create assertion checking that given entry of JSON value is a JSON boolean.
+	///
+	/// @param path Entry path.
+	/// @return The assertion.
+	/// @throws NullPointerException If `path` is `null`.
+	static JsonEntryAssertion isBooleanEntry(String path) {
+		notNull(path, "JSON path must not be null");
+		return json -> JsonAssertions.instance().isBooleanEntry(json, path);
+	}
+
+	/// Create assertion checking that given entry of JSON value is a JSON array.
+	///
+	/// @param path Entry path.
+	/// @return The assertion.
+	/// @throws NullPointerException If `path` is `null`.
+	static JsonEntryAssertion isArrayEntry(String path) {
+		notNull(path, "JSON path must not be null");
+		return json -> JsonAssertions.instance().isArrayEntry(json, path);
+	}
+
+	/// Create assertion checking that given entry of JSON value is a JSON object.
+	///
+	/// @param path Entry path.
+	/// @return The assertion.
+	/// @throws NullPointerException If `path` is `null`.
+	static JsonEntryAssertion isObjectEntry(String path) {
+		notNull(path, "JSON path must not be null");
+		return json -> JsonAssertions.instance().isObjectEntry(json, path);
+	}
+}
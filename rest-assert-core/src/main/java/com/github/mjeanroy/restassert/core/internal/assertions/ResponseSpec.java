@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.failure;
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
+import static com.github.mjeanroy.restassert.core.internal.error.CompositeError.composeErrors;
+import static com.github.mjeanroy.restassert.core.internal.error.common.ShouldNotBeNull.shouldNotBeNull;
+import static java.util.Collections.unmodifiableList;
+
+/// A reusable, immutable, list of expectations on HTTP responses: status, headers, cookies and body.
+///
+/// Expected values are parsed once, when the specification is built, so that the same specification
+/// can be applied to many responses:
+///
+/// ```
+///   ResponseSpec spec = ResponseSpec.builder()
+///     .isStatusEqual(200)
+///     .isContentTypeEqualTo("application/json; charset=utf-8")
+///     .hasCookie("SESSION")
+///     .build();
+///
+///   for (HttpResponse response : responses) {
+///     AssertionResult result = spec.handle(response);
+///   }
+/// ```
+///
+/// Each response is read at most once: status, headers, body and cookies are read from the original response
+/// the first time an expectation requests them (see [CachedHttpResponse]), and header values are then looked up
+/// in an index of these headers. All failures are reported in a single result.
+///
+/// This class is thread safe.
+public final class ResponseSpec implements Assertion<HttpResponse> {
+
+	/// Create new builder for [ResponseSpec].
+	///
+	/// @return The builder.
+	public static ResponseSpecBuilder builder() {
+		return new ResponseSpecBuilder();
+	}
+
+	/// The expectations, in declaration order.
+	private final List<Assertion<HttpResponse>> assertions;
+
+	/// Create specification.
+	///
+	/// @param assertions The expectations.
+	ResponseSpec(List<Assertion<HttpResponse>> assertions) {
+		this.assertions = unmodifiableList(new ArrayList<>(assertions));
+	}
+
+	/// Get the number of expectations of this specification.
+	///
+	/// @return Number of expectations.
+	public int size() {
+		return assertions.size();
+	}
+
+	@Override
+	public AssertionResult handle(HttpResponse httpResponse) {
+		if (httpResponse == null) {
+			return failure(shouldNotBeNull("HTTP Response"));
+		}
+
+		HttpResponse snapshot = CachedHttpResponse.create(httpResponse);
+		List<RestAssertError> errors = null;
+
+		for (Assertion<HttpResponse> assertion : assertions) {
+			AssertionResult result = assertion.handle(snapshot);
+			if (result.isFailure()) {
+				if (errors == null) {
+					errors = new ArrayList<>(assertions.size());
+				}
+
+				errors.add(result.getError());
+			}
+		}
+
+		if (errors == null) {
+			return success();
+		}
+
+		return failure(errors.size() == 1 ? errors.get(0) : composeErrors(errors));
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.data.ContentType;
+import com.github.mjeanroy.restassert.core.data.Cookie;
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.data.MediaType;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.DoesNotHaveCookieAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.DoesNotHaveHeaderAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.HasCharsetAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.HasCookieAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.HasHeaderAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.HasMimeTypeAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.IsHeaderEqualToAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.IsHeaderMatchingAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.StatusBetweenAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.StatusEqualAssertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.impl.StatusOutOfAssertion;
+import com.github.mjeanroy.restassert.core.internal.data.HttpHeaderParser;
+import com.github.mjeanroy.restassert.core.internal.data.HttpHeaderValue;
+import com.github.mjeanroy.restassert.core.internal.json.JsonException;
+import com.github.mjeanroy.restassert.core.internal.json.ParsedJson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static com.github.mjeanroy.restassert.core.internal.data.HttpHeaders.CONTENT_TYPE;
+
+/// Builder used to create [ResponseSpec] instances.
+///
+/// Expected values given as strings are parsed immediately, so an invalid expected value is reported
+/// when the specification is built, not when it is applied.
+public final class ResponseSpecBuilder {
+
+	/// The expectations, in declaration order.
+	private final List<Assertion<HttpResponse>> assertions;
+
+	/// Create builder.
+	ResponseSpecBuilder() {
+		this.assertions = new ArrayList<>();
+	}
+
+	/// Expect status code to be strictly equal to given status.
+	///
+	/// @param status Expected status.
+	/// @return Current builder.
+	public ResponseSpecBuilder isStatusEqual(int status) {
+		return expect(new StatusEqualAssertion(status));
+	}
+
+	/// Expect status code to be between `start` and `end` (inclusive).
+	///
+	/// @param start Lower bound.
+	/// @param end Upper bound.
+	/// @return Current builder.
+	public ResponseSpecBuilder isStatusBetween(int start, int end) {
+		return expect(new StatusBetweenAssertion(start, end));
+	}
+
+	/// Expect status code to be strictly out of `start` and `end`.
+	///
+	/// @param start Lower bound.
+	/// @param end Upper bound.
+	/// @return Current builder.
+	public ResponseSpecBuilder isStatusOutOf(int start, int end) {
+		return expect(new StatusOutOfAssertion(start, end));
+	}
+
+	/// Expect response to contain given header (header name is case-insensitive).
+	///
+	/// @param name Header name.
+	/// @return Current builder.
+	public ResponseSpecBuilder hasHeader(String name) {
+		return expect(new HasHeaderAssertion(name));
+	}
+
+	/// Expect response **not** to contain given header (header name is case-insensitive).
+	///
+	/// @param name Header name.
+	/// @return Current builder.
+	public ResponseSpecBuilder doesNotHaveHeader(String name) {
+		return expect(new DoesNotHaveHeaderAssertion(name));
+	}
+
+	/// Expect response to contain given header with exact value.
+	///
+	/// @param name Header name.
+	/// @param value Header value.
+	/// @return Current builder.
+	public ResponseSpecBuilder isHeaderEqualTo(String name, String value) {
+		return expect(new IsHeaderEqualToAssertion(name, value, false));
+	}
+
+	/// Expect response to contain given header with a value equivalent to given one: both
+	/// values are compared once parsed with given parser.
+	///
+	/// @param name Header name.
+	/// @param value Header value, parsed immediately.
+	/// @param parser Header parser.
+	/// @return Current builder.
+	public ResponseSpecBuilder isHeaderEqualTo(String name, String value, HttpHeaderParser<? extends HttpHeaderValue> parser) {
+		notNull(parser, "Header parser must not be null");
+		return isHeaderEqualTo(name, parser.parse(value), parser);
+	}
+
+	/// Expect response to contain given header with a value equivalent to given one: the actual
+	/// value is compared once parsed with given parser.
+	///
+	/// @param name Header name.
+	/// @param value Header value.
+	/// @param parser Header parser.
+	/// @return Current builder.
+	public ResponseSpecBuilder isHeaderEqualTo(String name, HttpHeaderValue value, HttpHeaderParser<? extends HttpHeaderValue> parser) {
+		return expect(new IsHeaderMatchingAssertion(name, value, parser));
+	}
+
+	/// Expect response to contain `"Content-Type"` header with expected value.
+	///
+	/// @param contentType Expected value, parsed immediately.
+	/// @return Current builder.
+	public ResponseSpecBuilder isContentTypeEqualTo(String contentType) {
+		return isHeaderEqualTo(CONTENT_TYPE.getName(), contentType, ContentType.parser());
+	}
+
+	/// Expect response to be of given mime type.
+	///
+	/// @param mimeType Expected mime type, parsed immediately.
+	/// @return Current builder.
+	public ResponseSpecBuilder hasMimeType(String mimeType) {
+		return expect(new HasMimeTypeAssertion(MediaType.parser().parse(mimeType)));
+	}
+
+	/// Expect response to have given charset.
+	///
+	/// @param charset Expected charset.
+	/// @return Current builder.
+	public ResponseSpecBuilder hasCharset(String charset) {
+		return expect(new HasCharsetAssertion(charset));
+	}
+
+	/// Expect response to contain cookie with given name.
+	///
+	/// @param name Cookie name.
+	/// @return Current builder.
+	public ResponseSpecBuilder hasCookie(String name) {
+		return expect(new HasCookieAssertion(name));
+	}
+
+	/// Expect response to contain cookie with given name and value.
+	///
+	/// @param name Cookie name.
+	/// @param value Cookie value.
+	/// @return Current builder.
+	public ResponseSpecBuilder hasCookie(String name, String value) {
+		return expect(new HasCookieAssertion(name, value));
+	}
+
+	/// Expect response to contain given cookie.
+	///
+	/// @param cookie Cookie.
+	/// @return Current builder.
+	public ResponseSpecBuilder hasCookie(Cookie cookie) {
+		return expect(new HasCookieAssertion(cookie));
+	}
+
+	/// Expect response not to contain any cookie.
+	///
+	/// @return Current builder.
+	public ResponseSpecBuilder doesNotHaveCookie() {
+		return expect(new DoesNotHaveCookieAssertion());
+	}
+
+	/// Expect response not to contain cookie with given name.
+	///
+	/// @param name Cookie name.
+	/// @return Current builder.
+	public ResponseSpecBuilder doesNotHaveCookie(String name) {
+		return expect(new DoesNotHaveCookieAssertion(name));
+	}
+
+	/// Expect response body to be a JSON document equal to given one.
+	///
+	/// @param json Expected JSON document.
+	/// @return Current builder.
+	/// @throws JsonException If `json` is not a valid JSON document.
+	public ResponseSpecBuilder isJsonEqualTo(String json) {
+		ParsedJson expected = ParsedJson.parse(notNull(json, "Expected JSON must not be null"));
+		// Parse now, so that an invalid document is reported when the specification is built.
+		expected.value();
+		return expect((httpResponse) -> JsonAssertions.instance().isEqualTo(JsonAssertions.parseJson(httpResponse), expected));
+	}
+
+	/// Add custom expectation.
+	///
+	/// @param assertion The expectation.
+	/// @return Current builder.
+	public ResponseSpecBuilder expect(Assertion<HttpResponse> assertion) {
+		assertions.add(notNull(assertion, "Assertion must not be null"));
+		return this;
+	}
+
+	/// Create the specification.
+	///
+	/// @return The specification.
+	public ResponseSpec build() {
+		return new ResponseSpec(assertions);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.failure;
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static com.github.mjeanroy.restassert.core.internal.error.CompositeError.composeErrors;
+
+/// Collect assertion failures, instead of failing on the first one.
+///
+/// A collector is bound to the current thread while [#softly(Runnable)] runs: during this time,
+/// facades record failures with [#collect(RestAssertError)] instead of throwing, and errors are not
+/// formatted until the end, when they are combined into a single error.
+///
+/// Assertions evaluated on another thread are not collected.
+public final class SoftAssertionCollector {
+
+	/// The collector bound to the current thread, if any.
+	private static final ThreadLocal<SoftAssertionCollector> CURRENT = new ThreadLocal<>();
+
+	/// Run given assertions, collecting all failures.
+	///
+	/// When called inside another soft block, failures are collected by the enclosing block and
+	/// this method always returns a success.
+	///
+	/// If assertions throw an exception, failures collected so far are attached to this exception, as
+	/// a suppressed [AssertionError], before it is rethrown.
+	///
+	/// @param assertions Assertions to run.
+	/// @return The assertion result, combining all failures.
+	public static AssertionResult softly(Runnable assertions) {
+		notNull(assertions, "Assertions must not be null");
+
+		if (CURRENT.get() != null) {
+			assertions.run();
+			return success();
+		}
+
+		SoftAssertionCollector collector = new SoftAssertionCollector();
+		CURRENT.set(collector);
+
+		try {
+			assertions.run();
+		}
+		catch (RuntimeException | Error ex) {
+			collector.suppress(ex);
+			throw ex;
+		}
+		finally {
+			CURRENT.remove();
+		}
+
+		return collector.toResult();
+	}
+
+	/// Check if a soft block is running on the current thread.
+	///
+	/// @return `true` if failures are currently collected, `false` otherwise.
+	public static boolean isActive() {
+		return CURRENT.get() != null;
+	}
+
+	/// Record given error if a soft block is running on the current thread.
+	///
+	/// @param error The error.
+	/// @return `true` if error has been collected, `false` if it must be reported immediately.
+	public static boolean collect(RestAssertError error) {
+		notNull(error, "Error must not be null");
+
+		SoftAssertionCollector collector = CURRENT.get();
+		if (collector == null) {
+			return false;
+		}
+
+		collector.errors.add(error);
+		return true;
+	}
+
+	/// Collected errors, in order.
+	private final List<RestAssertError> errors;
+
+	private SoftAssertionCollector() {
+		this.errors = new ArrayList<>();
+	}
+
+	// Attach collected failures to given exception, so that they are not lost.
+	private void suppress(Throwable ex) {
+		AssertionResult result = toResult();
+		if (result.isFailure()) {
+			ex.addSuppressed(new AssertionError(result.getError().buildMessage()));
+		}
+	}
+
+	private AssertionResult toResult() {
+		if (errors.isEmpty()) {
+			return success();
+		}
+
+		return failure(errors.size() == 1 ? errors.get(0) : composeErrors(errors));
+	}
+}
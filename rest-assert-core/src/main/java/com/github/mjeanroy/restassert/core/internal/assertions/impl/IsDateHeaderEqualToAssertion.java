@@ -25,17 +25,16 @@
 package com.github.mjeanroy.restassert.core.internal.assertions.impl;
 
 import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
-import com.github.mjeanroy.restassert.core.internal.common.Dates;
 import com.github.mjeanroy.restassert.core.internal.loggers.Logger;
 import com.github.mjeanroy.restassert.core.internal.loggers.Loggers;
 
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.failure;
 import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
 import static com.github.mjeanroy.restassert.core.internal.common.Dates.formatHttpDate;
+import static com.github.mjeanroy.restassert.core.internal.common.Dates.parseHttpDateMillis;
 import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
 import static com.github.mjeanroy.restassert.core.internal.error.http.ShouldHaveHeader.shouldHaveHeaderWithValue;
 
@@ -45,8 +44,8 @@ public class IsDateHeaderEqualToAssertion extends AbstractHeaderEqualToAssertion
 
 	private static final Logger log = Loggers.getLogger(IsDateHeaderEqualToAssertion.class);
 
-	/// Expected header value.
-	private final String value;
+	/// Expected header value, truncated to the second (since HTTP dates have a precision of one second).
+	private final long millis;
 
 	/// Create assertion.
 	///
@@ -56,21 +55,18 @@ public class IsDateHeaderEqualToAssertion extends AbstractHeaderEqualToAssertion
 		super(name);
 
 		notNull(value, "Header value must not be null");
-		this.value = formatHttpDate(value);
+		this.millis = Math.floorDiv(value.getTime(), 1000L) * 1000L;
 	}
 
 	@Override
 	AssertionResult doAssertion(List<String> values) {
 		log.debug("Extracting and parsing date values from: {}", values);
-		List<String> actualDates = values.stream()
-			.map(Dates::parseHttpDate)
-			.map(Dates::formatHttpDate)
-			.collect(Collectors.toList());
+		for (String value : values) {
+			if (parseHttpDateMillis(value) == millis) {
+				return success();
+			}
+		}
 
-		log.debug("-> Following dates extracted: {}", actualDates);
-		log.debug("-> Try to find: {}", value);
-		return actualDates.contains(value) ?
-			success() :
-			failure(shouldHaveHeaderWithValue(name, value, values));
+		return failure(shouldHaveHeaderWithValue(name, formatHttpDate(millis), values));
 	}
 }
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.impl;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.data.HttpResponses;
+import com.github.mjeanroy.restassert.core.internal.json.NdJsonReader;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.failure;
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveNdJsonRecordCount.shouldHaveNdJsonRecordCount;
+import static com.github.mjeanroy.restassert.core.internal.json.NdJsonReader.ndJsonReader;
+
+/// Check that the body of http response is a newline-delimited JSON document with
+/// expected number of records.
+///
+/// The body is read one line at a time (decoded with the charset declared by the `Content-Type` header,
+/// UTF-8 if it is not declared), records are not parsed.
+public class NdJsonRecordCountAssertion implements HttpResponseAssertion {
+
+	/// Expected number of records.
+	private final long expectedCount;
+
+	/// Create assertion.
+	///
+	/// @param expectedCount Expected number of records.
+	public NdJsonRecordCountAssertion(long expectedCount) {
+		if (expectedCount < 0) {
+			throw new IllegalArgumentException("Number of records must not be negative");
+		}
+
+		this.expectedCount = expectedCount;
+	}
+
+	@Override
+	public AssertionResult handle(HttpResponse httpResponse) {
+		long actualCount = 0;
+		try (NdJsonReader reader = ndJsonReader(httpResponse.getContentStream(), HttpResponses.getCharset(httpResponse))) {
+			while (reader.next() != null) {
+				actualCount++;
+			}
+		}
+
+		return actualCount == expectedCount ? success() : failure(shouldHaveNdJsonRecordCount(actualCount, expectedCount));
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.impl;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.assertions.Assertion;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.data.HttpResponses;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import com.github.mjeanroy.restassert.core.internal.json.NdJsonReader;
+import com.github.mjeanroy.restassert.core.internal.json.ParsedJson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.failure;
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static com.github.mjeanroy.restassert.core.internal.error.CompositeError.composeErrors;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldBeValidJson.shouldBeValidJson;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldMatchNdJsonRecord.shouldMatchNdJsonRecord;
+import static com.github.mjeanroy.restassert.core.internal.json.NdJsonReader.ndJsonReader;
+
+/// Check that each record of the newline-delimited JSON document returned in the body of http
+/// response satisfies given assertion.
+///
+/// The body is read one line at a time, so that only the current record is kept in memory. Errors
+/// are reported with the line number of failing records (including records that are not valid JSON
+/// documents), and the assertion stops once [#MAX_REPORTED_RECORDS] failing records have been found.
+///
+/// The body is decoded with the charset declared by the `Content-Type` header, UTF-8 if it is not declared.
+public class NdJsonRecordsAssertion implements HttpResponseAssertion {
+
+	/// Maximum number of failing records reported.
+	static final int MAX_REPORTED_RECORDS = 10;
+
+	/// Assertion applied to each record.
+	private final Assertion<ParsedJson> recordAssertion;
+
+	/// Create assertion.
+	///
+	/// @param recordAssertion Assertion applied to each record.
+	public NdJsonRecordsAssertion(Assertion<ParsedJson> recordAssertion) {
+		this.recordAssertion = notNull(recordAssertion, "Record assertion must not be null");
+	}
+
+	@Override
+	public AssertionResult handle(HttpResponse httpResponse) {
+		List<RestAssertError> errors = new ArrayList<>();
+		try (NdJsonReader reader = ndJsonReader(httpResponse.getContentStream(), HttpResponses.getCharset(httpResponse))) {
+			ParsedJson record;
+			while (errors.size() < MAX_REPORTED_RECORDS && (record = reader.next()) != null) {
+				if (!isValid(record)) {
+					errors.add(shouldMatchNdJsonRecord(reader.getLineNumber(), shouldBeValidJson(record.json())));
+					continue;
+				}
+
+				AssertionResult result = recordAssertion.handle(record);
+				if (result.isFailure()) {
+					errors.add(shouldMatchNdJsonRecord(reader.getLineNumber(), result.getError()));
+				}
+			}
+		}
+
+		if (errors.isEmpty()) {
+			return success();
+		}
+
+		return failure(errors.size() == 1 ? errors.get(0) : composeErrors(errors));
+	}
+
+	// Parse record: the parsed value is then reused by the record assertion.
+	private static boolean isValid(ParsedJson record) {
+		try {
+			record.value();
+			return true;
+		}
+		catch (RuntimeException ex) {
+			return false;
+		}
+	}
+}
@@ -25,21 +25,22 @@
 package com.github.mjeanroy.restassert.core.internal.common;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
-import static java.util.Arrays.asList;
-
 /// Static Date Utilities.
 public final class Dates {
 
 	private Dates() {
 	}
 
+	/// Value returned by [#parseHttpDateMillis(CharSequence)] when the date cannot be parsed.
+	public static final long INVALID_HTTP_DATE = Long.MIN_VALUE;
+
 	/// Date format pattern used to parse HTTP date headers in RFC 1123 format.
 	/// This should be the default patterns to use.
 	private static final String PATTERN_RFC1123 = "EEE, dd MMM yyyy HH:mm:ss zzz";
@@ -53,14 +54,47 @@ public final class Dates {
 	private static final String PATTERN_ASCTIME = "EEE MMM d HH:mm:ss yyyy";
 
 	/// List of patterns to use to convert http date as string to date object.
-	private static final List<String> PATTERNS = asList(
+	private static final String[] PATTERNS = {
 		PATTERN_RFC1123,
 		PATTERN_RFC1036,
-		PATTERN_ASCTIME
-	);
+		PATTERN_ASCTIME,
+	};
 
 	/// Single Quote Character.
-	private static final String SINGLE_QUOTE = "'";
+	private static final char SINGLE_QUOTE = '\'';
+
+	/// Day names, as written in HTTP dates, starting with thursday (i.e the day of epoch).
+	private static final String[] DAY_NAMES = {
+		"Thu", "Fri", "Sat", "Sun", "Mon", "Tue", "Wed",
+	};
+
+	/// Month names, as written in HTTP dates.
+	private static final String[] MONTH_NAMES = {
+		"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec",
+	};
+
+	/// Number of milliseconds in one second.
+	private static final long MILLIS_PER_SECOND = 1000L;
+
+	/// Number of seconds in one day.
+	private static final long SECONDS_PER_DAY = 86400L;
+
+	/// Lower bound (inclusive) of supported years: earlier dates are handled by [SimpleDateFormat], since
+	/// it uses the julian calendar before the gregorian cutover.
+	private static final int MIN_YEAR = 1600;
+
+	/// Upper bound (inclusive) of supported years.
+	private static final int MAX_YEAR = 9999;
+
+	/// Start of the century of two digits years (used by RFC 1036 dates), computed once: see [#toFullYear(int)].
+	private static final int TWO_DIGITS_YEAR_START = Calendar.getInstance(TimeZone.getTimeZone("GMT"), Locale.US).get(Calendar.YEAR) - 80;
+
+	/// Date formats of [#PATTERNS], created once per thread since [SimpleDateFormat] is not thread safe.
+	private static final ThreadLocal<DateFormat[]> DATE_FORMATS = ThreadLocal.withInitial(Dates::createDateFormats);
+
+	/// Last formatted date: HTTP dates have a precision of one second, so the same value is usually formatted
+	/// several times in a row.
+	private static volatile FormattedHttpDate lastFormattedDate = new FormattedHttpDate(Long.MIN_VALUE, null);
 
 	/// Parse HTTP date to get a real [Date] object.
 	///
@@ -74,23 +108,33 @@ public final class Dates {
 	/// @param date Date to parse.
 	/// @return Date object, `null` if date cannot be parsed.
 	public static Date parseHttpDate(String date) {
-		if (date.length() > 1 && date.startsWith(SINGLE_QUOTE) && date.endsWith(SINGLE_QUOTE)) {
-			date = date.substring(1, date.length() - 1);
+		long millis = parseHttpDateMillis(date);
+		if (millis == INVALID_HTTP_DATE) {
+			// Throw an exception to let user know that the date format is not valid.
+			String message = String.format("HTTP Date must respect standard formats: %s, %s or %s", PATTERN_RFC1123, PATTERN_RFC1036, PATTERN_ASCTIME);
+			throw new IllegalArgumentException(message);
 		}
 
-		for (String pattern : PATTERNS) {
-			DateFormat df = createDateFormat(pattern);
-			try {
-				return df.parse(date);
-			}
-			catch (ParseException ex) {
-				// try next...
-			}
+		return new Date(millis);
+	}
+
+	/// Parse HTTP date and returns the number of milliseconds since epoch.
+	///
+	/// Same formats as [#parseHttpDate(String)] are supported, but this function never throws an exception: it
+	/// returns [#INVALID_HTTP_DATE] if date cannot be parsed.
+	///
+	/// @param date Date to parse.
+	/// @return Milliseconds since epoch, [#INVALID_HTTP_DATE] if date cannot be parsed.
+	public static long parseHttpDateMillis(CharSequence date) {
+		int start = 0;
+		int end = date.length();
+		if (end > 1 && date.charAt(0) == SINGLE_QUOTE && date.charAt(end - 1) == SINGLE_QUOTE) {
+			start++;
+			end--;
 		}
 
-		// Throw an exception to let user know that the date format is not valid.
-		String message = String.format("HTTP Date must respect standard formats: %s, %s or %s", PATTERN_RFC1123, PATTERN_RFC1036, PATTERN_ASCTIME);
-		throw new IllegalArgumentException(message);
+		long millis = new HttpDateReader(date, start, end).read();
+		return millis == INVALID_HTTP_DATE ? parseWithDateFormats(date.subSequence(start, end).toString()) : millis;
 	}
 
 	/// Format HTTP Date using most common pattern (RFC 1123).
@@ -98,13 +142,377 @@ public final class Dates {
 	/// @param date Date to format.
 	/// @return String representation.
 	public static String formatHttpDate(Date date) {
-		DateFormat df = createDateFormat(PATTERN_RFC1123);
-		return df.format(date);
+		return formatHttpDate(date.getTime());
 	}
 
-	private static DateFormat createDateFormat(String pattern) {
-		DateFormat df = new SimpleDateFormat(pattern, Locale.US);
-		df.setTimeZone(TimeZone.getTimeZone("GMT"));
-		return df;
+	/// Format HTTP Date using most common pattern (RFC 1123).
+	///
+	/// @param millis Milliseconds since epoch.
+	/// @return String representation.
+	public static String formatHttpDate(long millis) {
+		long seconds = Math.floorDiv(millis, MILLIS_PER_SECOND);
+
+		FormattedHttpDate formattedDate = lastFormattedDate;
+		if (formattedDate.seconds != seconds) {
+			formattedDate = new FormattedHttpDate(seconds, doFormatHttpDate(millis, seconds));
+			lastFormattedDate = formattedDate;
+		}
+
+		return formattedDate.value;
+	}
+
+	private static String doFormatHttpDate(long millis, long seconds) {
+		long days = Math.floorDiv(seconds, SECONDS_PER_DAY);
+		int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+
+		// Civil date from days since epoch, see: http://howardhinnant.github.io/date_algorithms.html
+		long z = days + 719468;
+		long era = Math.floorDiv(z, 146097);
+		long dayOfEra = z - era * 146097;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long mp = (5 * dayOfYear + 2) / 153;
+		int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+		int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+		if (year < MIN_YEAR || year > MAX_YEAR) {
+			return DATE_FORMATS.get()[0].format(new Date(millis));
+		}
+
+		StringBuilder sb = new StringBuilder(29);
+		sb.append(DAY_NAMES[(int) Math.floorMod(days, 7L)]).append(", ");
+		appendTwoDigits(sb, day).append(' ');
+		sb.append(MONTH_NAMES[month - 1]).append(' ');
+		sb.append(year).append(' ');
+		appendTwoDigits(sb, secondOfDay / 3600).append(':');
+		appendTwoDigits(sb, (secondOfDay / 60) % 60).append(':');
+		appendTwoDigits(sb, secondOfDay % 60).append(" GMT");
+		return sb.toString();
+	}
+
+	private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+		return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+	}
+
+	/// Parse date using [SimpleDateFormat] patterns: this is slow, but supports all dates
+	/// that the hand-written parser does not handle (such as named time zones).
+	private static long parseWithDateFormats(String date) {
+		for (DateFormat dateFormat : DATE_FORMATS.get()) {
+			ParsePosition position = new ParsePosition(0);
+			Date result = dateFormat.parse(date, position);
+			if (result != null) {
+				return result.getTime();
+			}
+		}
+
+		return INVALID_HTTP_DATE;
+	}
+
+	private static DateFormat[] createDateFormats() {
+		TimeZone gmt = TimeZone.getTimeZone("GMT");
+		DateFormat[] dateFormats = new DateFormat[PATTERNS.length];
+		for (int i = 0; i < PATTERNS.length; ++i) {
+			dateFormats[i] = new SimpleDateFormat(PATTERNS[i], Locale.US);
+			dateFormats[i].setTimeZone(gmt);
+		}
+
+		return dateFormats;
+	}
+
+	/// Compute number of days since epoch of given (proleptic gregorian) date.
+	private static long daysSinceEpoch(int year, int month, int day) {
+		// See: http://howardhinnant.github.io/date_algorithms.html
+		int y = month <= 2 ? year - 1 : year;
+		int era = Math.floorDiv(y, 400);
+		int yearOfEra = y - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097L + dayOfEra - 719468;
+	}
+
+	private static boolean isLeapYear(int year) {
+		return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+	}
+
+	private static int daysInMonth(int year, int month) {
+		if (month == 2) {
+			return isLeapYear(year) ? 29 : 28;
+		}
+
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+
+	/// Convert two digits year (used by RFC 1036 dates) to a full year, using the same rule as [SimpleDateFormat]:
+	/// the year is within 80 years before and 20 years after the current year (when this class has been loaded).
+	private static int toFullYear(int twoDigitsYear) {
+		int year = (TWO_DIGITS_YEAR_START / 100) * 100 + twoDigitsYear;
+		return year < TWO_DIGITS_YEAR_START ? year + 100 : year;
+	}
+
+	/// Formatted date, with a precision of one second.
+	private static final class FormattedHttpDate {
+		private final long seconds;
+		private final String value;
+
+		private FormattedHttpDate(long seconds, String value) {
+			this.seconds = seconds;
+			this.value = value;
+		}
+	}
+
+	/// Hand-written HTTP date parser, reading characters of the date directly.
+	///
+	/// Supported formats are:
+	/// - RFC 1123: `Sun, 06 Nov 1994 08:49:37 GMT`
+	/// - RFC 1036: `Sunday, 06-Nov-94 08:49:37 GMT`
+	/// - ANSI C's asctime: `Sun Nov  6 08:49:37 1994`
+	///
+	/// Time zone must be `GMT`, `UTC`, `UT`, `Z` or a numeric offset (such as `+0100` or `GMT+01:00`).
+	private static final class HttpDateReader {
+		private final CharSequence input;
+		private final int end;
+		private int position;
+
+		private HttpDateReader(CharSequence input, int start, int end) {
+			this.input = input;
+			this.position = start;
+			this.end = end;
+		}
+
+		/// Read date.
+		///
+		/// @return Milliseconds since epoch, or [#INVALID_HTTP_DATE] if date is not valid.
+		long read() {
+			skipSpaces();
+
+			// Day name (short or full), not checked against the date (as SimpleDateFormat does).
+			if (!isDayName() || skipLetters() < 3) {
+				return INVALID_HTTP_DATE;
+			}
+
+			boolean hasComma = skip(',');
+			if (skipSpaces() == 0) {
+				return INVALID_HTTP_DATE;
+			}
+
+			int day;
+			int month;
+			int year;
+			int time;
+			int offset = 0;
+
+			if (hasComma) {
+				// RFC 1123 or RFC 1036
+				day = readNumber(1, 2);
+				boolean rfc1036 = skip('-');
+				if (!rfc1036 && skipSpaces() == 0) {
+					return INVALID_HTTP_DATE;
+				}
+
+				month = readMonth();
+				if (rfc1036 ? !skip('-') : skipSpaces() == 0) {
+					return INVALID_HTTP_DATE;
+				}
+
+				year = rfc1036 ? readTwoDigitsYear() : readNumber(4, 4);
+				if (skipSpaces() == 0) {
+					return INVALID_HTTP_DATE;
+				}
+
+				time = readTime();
+				skipSpaces();
+				offset = readZone();
+			}
+			else {
+				// ANSI C's asctime
+				month = readMonth();
+				if (skipSpaces() == 0) {
+					return INVALID_HTTP_DATE;
+				}
+
+				day = readNumber(1, 2);
+				if (skipSpaces() == 0) {
+					return INVALID_HTTP_DATE;
+				}
+
+				time = readTime();
+				if (skipSpaces() == 0) {
+					return INVALID_HTTP_DATE;
+				}
+
+				year = readNumber(4, 4);
+			}
+
+			skipSpaces();
+			if (position != end || day < 1 || month < 1 || year < MIN_YEAR || year > MAX_YEAR || time < 0 || offset == Integer.MIN_VALUE) {
+				return INVALID_HTTP_DATE;
+			}
+
+			if (day > daysInMonth(year, month)) {
+				return INVALID_HTTP_DATE;
+			}
+
+			long seconds = daysSinceEpoch(year, month, day) * SECONDS_PER_DAY + time - offset;
+			return seconds * MILLIS_PER_SECOND;
+		}
+
+		/// Read time, formatted as `HH:mm:ss`.
+		///
+		/// @return Number of seconds since midnight, negative if time is not valid.
+		private int readTime() {
+			int hours = readNumber(2, 2);
+			if (hours < 0 || hours > 23 || !skip(':')) {
+				return -1;
+			}
+
+			int minutes = readNumber(2, 2);
+			if (minutes < 0 || minutes > 59 || !skip(':')) {
+				return -1;
+			}
+
+			int seconds = readNumber(2, 2);
+			if (seconds < 0 || seconds > 59) {
+				return -1;
+			}
+
+			return hours * 3600 + minutes * 60 + seconds;
+		}
+
+		/// Read time zone.
+		///
+		/// @return Offset from GMT, in seconds, or [Integer#MIN_VALUE] if time zone is not supported.
+		private int readZone() {
+			if (skipWord("GMT") || skipWord("UTC") || skipWord("UT") || skip('Z')) {
+				return position == end ? 0 : readOffset();
+			}
+
+			return readOffset();
+		}
+
+		/// Read numeric offset, formatted as `+hhmm` or `+hh:mm`.
+		private int readOffset() {
+			if (position >= end) {
+				return Integer.MIN_VALUE;
+			}
+
+			char sign = input.charAt(position);
+			if (sign != '+' && sign != '-') {
+				return Integer.MIN_VALUE;
+			}
+
+			position++;
+			int hours = readNumber(2, 2);
+			skip(':');
+			int minutes = readNumber(2, 2);
+			if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+				return Integer.MIN_VALUE;
+			}
+
+			int offset = hours * 3600 + minutes * 60;
+			return sign == '-' ? -offset : offset;
+		}
+
+		private boolean isDayName() {
+			for (String dayName : DAY_NAMES) {
+				if (regionMatches(dayName)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private int readMonth() {
+			if (position + 3 > end) {
+				return -1;
+			}
+
+			for (int i = 0; i < MONTH_NAMES.length; ++i) {
+				if (regionMatches(MONTH_NAMES[i])) {
+					position += 3;
+					return i + 1;
+				}
+			}
+
+			return -1;
+		}
+
+		private int readTwoDigitsYear() {
+			int year = readNumber(2, 4);
+			return year >= 0 && year < 100 ? toFullYear(year) : year;
+		}
+
+		/// Read a positive number.
+		///
+		/// @param minDigits Minimum number of digits.
+		/// @param maxDigits Maximum number of digits.
+		/// @return The number, negative if number is not valid.
+		private int readNumber(int minDigits, int maxDigits) {
+			int value = 0;
+			int digits = 0;
+			while (position < end && digits < maxDigits) {
+				char c = input.charAt(position);
+				if (c < '0' || c > '9') {
+					break;
+				}
+
+				value = value * 10 + (c - '0');
+				digits++;
+				position++;
+			}
+
+			return digits < minDigits ? -1 : value;
+		}
+
+		private boolean regionMatches(String word) {
+			if (position + word.length() > end) {
+				return false;
+			}
+
+			for (int i = 0; i < word.length(); ++i) {
+				if (Character.toLowerCase(input.charAt(position + i)) != Character.toLowerCase(word.charAt(i))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private boolean skipWord(String word) {
+			if (regionMatches(word)) {
+				position += word.length();
+				return true;
+			}
+
+			return false;
+		}
+
+		private boolean skip(char c) {
+			if (position < end && input.charAt(position) == c) {
+				position++;
+				return true;
+			}
+
+			return false;
+		}
+
+		private int skipLetters() {
+			int start = position;
+			while (position < end && Character.isLetter(input.charAt(position))) {
+				position++;
+			}
+
+			return position - start;
+		}
+
+		private int skipSpaces() {
+			int start = position;
+			while (position < end && input.charAt(position) == ' ') {
+				position++;
+			}
+
+			return position - start;
+		}
 	}
 }
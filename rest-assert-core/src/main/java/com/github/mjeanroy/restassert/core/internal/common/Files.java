@@ -50,6 +50,23 @@ public final class Files {
 		}
 	}
 
+	/// Read file and return its full text content, decoded with given charset.
+	///
+	/// Contrary to [#readFileToString(Path)], the content is returned as is: line separators
+	/// are not normalized.
+	///
+	/// @param file File.
+	/// @param charset Charset used to decode file content.
+	/// @return File content.
+	public static String readFileToString(Path file, Charset charset) {
+		try {
+			return new String(java.nio.file.Files.readAllBytes(file), charset);
+		}
+		catch (IOException ex) {
+			throw new UnreadableFileException(file, ex);
+		}
+	}
+
 	/// Exception to throw when a file cannot be read and
 	/// fail with [IOException].
 	public static class UnreadableFileException extends RuntimeException {
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.common;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+
+/// A cache, where keys are compared using their identity (i.e `==`) instead of
+/// [Object#equals(Object)].
+///
+/// Keys are weakly referenced: an entry is kept as long as its key is reachable, and is removed
+/// once its key has been garbage collected. Note that values must not reference their key, otherwise
+/// keys would never be garbage collected.
+///
+/// This class is thread safe.
+///
+/// @param <K> Type of keys.
+/// @param <V> Type of values.
+public final class IdentityCache<K, V> {
+
+	/// Create new cache.
+	///
+	/// @param <K> Type of keys.
+	/// @param <V> Type of values.
+	/// @return The cache.
+	public static <K, V> IdentityCache<K, V> identityCache() {
+		return new IdentityCache<>();
+	}
+
+	/// Cache entries.
+	private final ConcurrentMap<IdentityKey, V> entries;
+
+	/// Keys whose referent has been garbage collected.
+	private final ReferenceQueue<Object> queue;
+
+	private IdentityCache() {
+		this.entries = new ConcurrentHashMap<>();
+		this.queue = new ReferenceQueue<>();
+	}
+
+	/// Get the value associated to given key, computing it if needed.
+	///
+	/// @param key The key.
+	/// @param factory The factory used to compute value if it is not already in the cache.
+	/// @return The value.
+	public V get(K key, Function<? super K, ? extends V> factory) {
+		notNull(key, "Key must not be null");
+		purge();
+		return entries.computeIfAbsent(new IdentityKey(key, queue), (k) -> factory.apply(key));
+	}
+
+	/// Get the number of entries currently in the cache.
+	///
+	/// @return Number of entries.
+	public int size() {
+		purge();
+		return entries.size();
+	}
+
+	/// Remove all entries from the cache.
+	public void clear() {
+		entries.clear();
+	}
+
+	// Remove entries whose key has been garbage collected.
+	private void purge() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			entries.remove(reference);
+		}
+	}
+
+	/// Weak reference to a key, compared using its identity.
+	private static final class IdentityKey extends WeakReference<Object> {
+
+		/// Identity hash code of the key, kept once the key has been garbage collected.
+		private final int hash;
+
+		private IdentityKey(Object key, ReferenceQueue<Object> queue) {
+			super(key, queue);
+			this.hash = System.identityHashCode(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof IdentityKey) {
+				Object key = get();
+				return key != null && key == ((IdentityKey) o).get();
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
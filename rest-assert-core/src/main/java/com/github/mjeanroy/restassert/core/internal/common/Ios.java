@@ -25,16 +25,22 @@
 package com.github.mjeanroy.restassert.core.internal.common;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 
 /// Static IO Utilities.
 public final class Ios {
 
+	/// The size of the buffer used to read URL output.
+	private static final int BUFFER_SIZE = 8192;
+
 	private Ios() {
 	}
 
@@ -60,6 +66,33 @@ public final class Ios {
 		return String.join(System.lineSeparator(), lines);
 	}
 
+	/// Read given URL and returns full output, decoded with given charset.
+	///
+	/// Contrary to [#readUrl(URL)], the output is returned as is: line separators
+	/// are not normalized.
+	///
+	/// @param url URL.
+	/// @param charset Charset used to decode output.
+	/// @return The full output.
+	/// @throws UrlException If an error occurred while reading URL.
+	public static String readUrl(URL url, Charset charset) {
+		URLConnection connection = openUrl(url);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (InputStream in = connection.getInputStream()) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+		}
+		catch (IOException ex) {
+			throw new UrlException(ex);
+		}
+
+		return new String(out.toByteArray(), charset);
+	}
+
 	private static URLConnection openUrl(URL url) {
 		try {
 			return url.openConnection();
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.common;
+
+import java.util.function.Supplier;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+
+/// A value that is computed lazily, at most once.
+///
+/// This class is thread safe.
+///
+/// @param <T> Type of value.
+public final class Lazy<T> {
+
+	/// Create lazy value.
+	///
+	/// @param supplier The supplier, that will be called once, the first time value is requested.
+	/// @param <T> Type of value.
+	/// @return The lazy value.
+	public static <T> Lazy<T> lazy(Supplier<T> supplier) {
+		return new Lazy<>(supplier);
+	}
+
+	/// The supplier, released as soon as the value has been computed.
+	private Supplier<T> supplier;
+
+	/// The computed value.
+	private volatile T value;
+
+	/// Flag set once the value has been computed.
+	private volatile boolean initialized;
+
+	private Lazy(Supplier<T> supplier) {
+		this.supplier = notNull(supplier, "Supplier must not be null");
+	}
+
+	/// Get value, computing it if needed.
+	///
+	/// @return The value.
+	public T get() {
+		if (!initialized) {
+			synchronized (this) {
+				if (!initialized) {
+					value = supplier.get();
+					initialized = true;
+					supplier = null;
+				}
+			}
+		}
+
+		return value;
+	}
+
+	/// Check if value has already been computed.
+	///
+	/// @return `true` if value has already been computed, `false` otherwise.
+	public boolean isInitialized() {
+		return initialized;
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.data;
+
+import com.github.mjeanroy.restassert.core.data.HttpHeader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/// Immutable index of HTTP headers, with case-insensitive lookup by header name.
+///
+/// Headers are stored in an open-addressing table keyed by the ASCII case-folded hash of their name:
+/// looking up a header never allocates (header names are compared ignoring ASCII case, as required by
+/// [RFC 7230](https://tools.ietf.org/html/rfc7230#section-3.2) where header names are ASCII tokens).
+///
+/// Values of headers appearing more than once are merged, in order of appearance.
+///
+/// This class is thread safe.
+public final class HeaderIndex {
+
+	/// Empty index.
+	private static final HeaderIndex EMPTY = new Builder().build();
+
+	/// Create new builder for [HeaderIndex].
+	///
+	/// @return The builder.
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/// Get empty index.
+	///
+	/// @return Empty index.
+	public static HeaderIndex emptyHeaderIndex() {
+		return EMPTY;
+	}
+
+	/// Header names, indexed by slot (`null` for empty slots).
+	private final String[] names;
+
+	/// Hash of header names, indexed by slot.
+	private final int[] hashes;
+
+	/// Header values, indexed by slot.
+	private final List<String>[] values;
+
+	/// Headers, in order of appearance.
+	private final List<HttpHeader> headers;
+
+	// Private constructor, use builder instead.
+	private HeaderIndex(String[] names, int[] hashes, List<String>[] values, List<HttpHeader> headers) {
+		this.names = names;
+		this.hashes = hashes;
+		this.values = values;
+		this.headers = headers;
+	}
+
+	/// Check if index contains given header (header name is case-insensitive).
+	///
+	/// @param name Header name.
+	/// @return `true` if header is defined, `false` otherwise.
+	public boolean contains(String name) {
+		return slot(names, hashes, name) >= 0;
+	}
+
+	/// Get values of given header (header name is case-insensitive).
+	///
+	/// @param name Header name.
+	/// @return Header values, empty if header is not defined.
+	public List<String> get(String name) {
+		int slot = slot(names, hashes, name);
+		return slot >= 0 ? values[slot] : emptyList();
+	}
+
+	/// Get all headers, in order of appearance.
+	///
+	/// @return Headers.
+	public List<HttpHeader> getHeaders() {
+		return headers;
+	}
+
+	/// Get the number of (distinct) headers.
+	///
+	/// @return Number of headers.
+	public int size() {
+		return headers.size();
+	}
+
+	/// Find slot of given name in an open-addressing table.
+	///
+	/// @param names Table names.
+	/// @param hashes Table hashes.
+	/// @param name The name to look for.
+	/// @return The slot, or a negative value if name is not in the table.
+	private static int slot(String[] names, int[] hashes, String name) {
+		int hash = hashIgnoreCase(name);
+		int mask = names.length - 1;
+
+		for (int i = hash & mask; ; i = (i + 1) & mask) {
+			String current = names[i];
+			if (current == null) {
+				return -(i + 1);
+			}
+
+			if (hashes[i] == hash && equalsIgnoreCase(current, name)) {
+				return i;
+			}
+		}
+	}
+
+	/// Compute hash of given string, ignoring ASCII case.
+	///
+	/// @param value Input value.
+	/// @return Hash.
+	static int hashIgnoreCase(String value) {
+		int h = 0;
+		for (int i = 0, size = value.length(); i < size; i++) {
+			h = 31 * h + toLowerCase(value.charAt(i));
+		}
+
+		return h ^ (h >>> 16);
+	}
+
+	/// Check that both strings are equal, ignoring ASCII case.
+	///
+	/// @param s1 First string.
+	/// @param s2 Second string.
+	/// @return `true` if both strings are equal, `false` otherwise.
+	static boolean equalsIgnoreCase(String s1, String s2) {
+		int size = s1.length();
+		if (size != s2.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (toLowerCase(s1.charAt(i)) != toLowerCase(s2.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static char toLowerCase(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	/// Builder used to create [HeaderIndex] instances.
+	public static final class Builder {
+
+		/// Minimum capacity of the table, must be a power of two.
+		private static final int MIN_CAPACITY = 8;
+
+		/// Header names, indexed by slot.
+		private String[] names;
+
+		/// Hash of header names, indexed by slot.
+		private int[] hashes;
+
+		/// Header values, indexed by slot.
+		private List<String>[] values;
+
+		/// Slots, in order of appearance.
+		private int[] slots;
+
+		/// Number of (distinct) headers.
+		private int size;
+
+		// Use static factory.
+		private Builder() {
+			this.names = new String[MIN_CAPACITY];
+			this.hashes = new int[MIN_CAPACITY];
+			this.values = newValues(MIN_CAPACITY);
+			this.slots = new int[MIN_CAPACITY];
+		}
+
+		/// Add header value.
+		///
+		/// @param name Header name.
+		/// @param value Header value.
+		/// @return Current builder.
+		public Builder add(String name, String value) {
+			valuesOf(name).add(value);
+			return this;
+		}
+
+		/// Add header values.
+		///
+		/// @param name Header name.
+		/// @param values Header values.
+		/// @return Current builder.
+		public Builder add(String name, Collection<String> values) {
+			valuesOf(name).addAll(values);
+			return this;
+		}
+
+		/// Add all given headers.
+		///
+		/// @param headers Headers.
+		/// @return Current builder.
+		public Builder addAll(Iterable<? extends HttpHeader> headers) {
+			for (HttpHeader header : headers) {
+				add(header.getName(), header.getValues());
+			}
+
+			return this;
+		}
+
+		/// Create the index.
+		///
+		/// @return The index.
+		public HeaderIndex build() {
+			List<String>[] indexedValues = newValues(names.length);
+			List<HttpHeader> headers = new ArrayList<>(size);
+
+			for (int i = 0; i < size; i++) {
+				int slot = slots[i];
+				HttpHeader header = HttpHeader.of(names[slot], values[slot]);
+				indexedValues[slot] = header.getValues();
+				headers.add(header);
+			}
+
+			return new HeaderIndex(names.clone(), hashes.clone(), indexedValues, unmodifiableList(headers));
+		}
+
+		private List<String> valuesOf(String name) {
+			notNull(name, "Header name must not be null");
+
+			int slot = slot(names, hashes, name);
+			if (slot >= 0) {
+				return values[slot];
+			}
+
+			if ((size + 1) * 2 > names.length) {
+				resize();
+				slot = slot(names, hashes, name);
+			}
+
+			slot = -(slot + 1);
+			names[slot] = name;
+			hashes[slot] = hashIgnoreCase(name);
+			values[slot] = new ArrayList<>(1);
+			slots[size++] = slot;
+			return values[slot];
+		}
+
+		private void resize() {
+			int capacity = names.length * 2;
+			int mask = capacity - 1;
+			String[] newNames = new String[capacity];
+			int[] newHashes = new int[capacity];
+			List<String>[] newValues = newValues(capacity);
+			int[] newSlots = new int[capacity];
+
+			for (int i = 0; i < size; i++) {
+				int oldSlot = slots[i];
+				int hash = hashes[oldSlot];
+				int slot = hash & mask;
+				while (newNames[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+
+				newNames[slot] = names[oldSlot];
+				newHashes[slot] = hash;
+				newValues[slot] = values[oldSlot];
+				newSlots[i] = slot;
+			}
+
+			this.names = newNames;
+			this.hashes = newHashes;
+			this.values = newValues;
+			this.slots = newSlots;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static List<String>[] newValues(int capacity) {
+			return (List<String>[]) new List[capacity];
+		}
+	}
+}
@@ -24,11 +24,6 @@
 
 package com.github.mjeanroy.restassert.core.internal.data;
 
-import java.util.Arrays;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
 /// List of standards http headers names.
 public enum HttpHeaders {
 
@@ -133,19 +128,38 @@ public enum HttpHeaders {
 		return single;
 	}
 
-	// Keep headers in an immutable map for fast lookup.
-	private static final Map<String, HttpHeaders> MAP = Arrays.stream(HttpHeaders.values()).collect(
-		Collectors.toMap(
-			httpHeaders -> httpHeaders.getName().toLowerCase(),
-			Function.identity()
-		)
-	);
+	// Keep headers in an open-addressing table (indexed by case-insensitive name hash) for fast lookup.
+	private static final HttpHeaders[] TABLE = indexHeaders();
 
 	/// Find header by its name.
 	///
 	/// @param name Name of header.
 	/// @return Header, null if it is not defined in the enum set.
 	public static HttpHeaders find(String name) {
-		return MAP.get(name.toLowerCase());
+		int mask = TABLE.length - 1;
+		for (int i = HeaderIndex.hashIgnoreCase(name) & mask; ; i = (i + 1) & mask) {
+			HttpHeaders header = TABLE[i];
+			if (header == null || HeaderIndex.equalsIgnoreCase(header.getName(), name)) {
+				return header;
+			}
+		}
+	}
+
+	private static HttpHeaders[] indexHeaders() {
+		HttpHeaders[] values = values();
+		int capacity = Integer.highestOneBit(values.length * 4);
+		int mask = capacity - 1;
+		HttpHeaders[] table = new HttpHeaders[capacity];
+
+		for (HttpHeaders header : values) {
+			int i = HeaderIndex.hashIgnoreCase(header.getName()) & mask;
+			while (table[i] != null) {
+				i = (i + 1) & mask;
+			}
+
+			table[i] = header;
+		}
+
+		return table;
 	}
 }
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.mjeanroy.restassert.core.internal.data;
+
+import com.github.mjeanroy.restassert.core.data.ContentType;
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.loggers.Logger;
+import com.github.mjeanroy.restassert.core.internal.loggers.Loggers;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Static utilities for [HttpResponse].
+public final class HttpResponses {
+
+	private static final Logger log = Loggers.getLogger(HttpResponses.class);
+
+	// Ensure non instantiation
+	private HttpResponses() {
+	}
+
+	/// Get the charset of the response body, declared by the `Content-Type` header.
+	///
+	/// UTF-8 is returned if the response does not declare a charset, or if the declared charset
+	/// is not supported.
+	///
+	/// @param response The HTTP response.
+	/// @return The charset.
+	public static Charset getCharset(HttpResponse response) {
+		List<String> values = response.getHeader(HttpHeaders.CONTENT_TYPE.getName());
+		if (values == null || values.isEmpty()) {
+			return UTF_8;
+		}
+
+		try {
+			String charset = ContentType.parser().parse(values.get(0)).getCharset();
+			return charset == null ? UTF_8 : Charset.forName(charset);
+		}
+		catch (RuntimeException ex) {
+			log.warn(ex.getMessage(), ex);
+			return UTF_8;
+		}
+	}
+}
@@ -26,26 +26,94 @@ package com.github.mjeanroy.restassert.core.internal.data.bindings;
 
 import com.github.mjeanroy.restassert.core.data.Cookie;
 import com.github.mjeanroy.restassert.core.data.Cookies;
+import com.github.mjeanroy.restassert.core.data.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.common.IdentityCache;
+import com.github.mjeanroy.restassert.core.internal.common.Memo;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.exceptions.NonParsableResponseBodyException;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.github.mjeanroy.restassert.core.internal.common.IdentityCache.identityCache;
+import static com.github.mjeanroy.restassert.core.internal.common.Memo.memo;
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
 import static com.github.mjeanroy.restassert.core.internal.data.HttpHeaders.SET_COOKIE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 
 /// Template for [HttpResponse] interface.
+///
+/// Response headers, body and cookies are computed once, the first time they are requested: some
+/// HTTP clients (such as OkHttp) do not allow the response body to be read more than once.
+///
+/// Headers are read in a single pass and indexed in a [HeaderIndex], so header lookups do not
+/// allocate.
+///
+/// Instances created for the same client response may share these values (see [#AbstractHttpResponse(Object)]),
+/// as long as the client response is reachable: values never reference the client response, so that it can be
+/// garbage collected.
 public abstract class AbstractHttpResponse implements HttpResponse {
 
-	/// Default constructor.
+	/// Values of client responses, shared by instances created for the same client response.
+	private static final IdentityCache<Object, Values> VALUES = identityCache();
+
+	/// Response values, computed once.
+	private final Values values;
+
+	/// Create response whose values are computed once for this instance: this should be used
+	/// for client responses that may be modified once they have been read.
 	protected AbstractHttpResponse() {
+		this.values = new Values();
+	}
+
+	/// Create response whose values are computed once for given client response: instances created for
+	/// the same client response (compared by identity) share the same values, as long as the client
+	/// response is reachable.
+	///
+	/// @param response Client response.
+	protected AbstractHttpResponse(Object response) {
+		this.values = VALUES.get(notNull(response, "Response must not be null"), (r) -> new Values());
 	}
 
 	@Override
 	public String getContent() {
+		return values.content.get(this::readContent);
+	}
+
+	@Override
+	public byte[] getContentBytes() {
+		return values.contentBytes.get(this::readContentBytes);
+	}
+
+	@Override
+	public boolean hasHeader(String name) {
+		return headers().contains(name);
+	}
+
+	@Override
+	public List<String> getHeader(String name) {
+		return headers().get(name);
+	}
+
+	@Override
+	public List<HttpHeader> getHeaders() {
+		return headers().getHeaders();
+	}
+
+	@Override
+	public List<Cookie> getCookies() {
+		return values.cookies.get(this::parseCookies);
+	}
+
+	private HeaderIndex headers() {
+		return values.headers.get(this::readHeaders);
+	}
+
+	private String readContent() {
 		try {
 			return doGetContent();
 		}
@@ -54,23 +122,31 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 		}
 	}
 
-	@Override
-	public boolean hasHeader(String name) {
-		return !getHeader(name).isEmpty();
+	private byte[] readContentBytes() {
+		try {
+			return doGetContentBytes();
+		}
+		catch (IOException ex) {
+			throw new NonParsableResponseBodyException(ex);
+		}
 	}
 
-	@Override
-	public List<Cookie> getCookies() {
+	private List<Cookie> parseCookies() {
 		List<String> setCookieHeaders = getHeader(SET_COOKIE.getName());
-		if (setCookieHeaders == null || setCookieHeaders.isEmpty()) {
+		if (setCookieHeaders.isEmpty()) {
 			return emptyList();
 		}
 
 		// Parse header to create valid cookie object.
-		List<Cookie> cookies = setCookieHeaders.stream().map(Cookies::parse).collect(Collectors.toList());
+		List<Cookie> cookies = setCookieHeaders.stream().map(Cookies::lazyParse).collect(Collectors.toList());
 		return unmodifiableList(cookies);
 	}
 
+	/// Read all response headers, in a single pass.
+	///
+	/// @return Response headers.
+	protected abstract HeaderIndex readHeaders();
+
 	/// Get the content body as a string.
 	///
 	/// If an [java.io.IOException] is thrown, it will be catched
@@ -79,4 +155,35 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 	/// @return Response body.
 	/// @throws IOException If an error occurred during parsing.
 	protected abstract String doGetContent() throws IOException;
+
+	/// Get the content body as raw bytes.
+	///
+	/// Default implementation returns the UTF-8 representation of [#getContent()]: implementations
+	/// should override it to read bytes directly, and may then implement [#doGetContent()] by
+	/// decoding [#getContentBytes()], so that the body is read only once.
+	///
+	/// If an [java.io.IOException] is thrown, it will be catched
+	/// by [#getContentBytes()] method and rethrows as a [NonParsableResponseBodyException].
+	///
+	/// @return Response body.
+	/// @throws IOException If an error occurred during parsing.
+	protected byte[] doGetContentBytes() throws IOException {
+		return getContent().getBytes(UTF_8);
+	}
+
+	/// Response values, computed once: they must not reference the client response.
+	private static final class Values {
+
+		/// Response headers, read once.
+		private final Memo<HeaderIndex> headers = memo();
+
+		/// Response body, read once.
+		private final Memo<String> content = memo();
+
+		/// Response body as raw bytes, read once.
+		private final Memo<byte[]> contentBytes = memo();
+
+		/// Response cookies, parsed once.
+		private final Memo<List<Cookie>> cookies = memo();
+	}
 }
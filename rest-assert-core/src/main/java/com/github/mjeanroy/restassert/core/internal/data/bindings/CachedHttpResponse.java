@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.data.bindings;
+
+import com.github.mjeanroy.restassert.core.data.Cookie;
+import com.github.mjeanroy.restassert.core.data.HttpHeader;
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.common.Lazy;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
+
+import java.util.List;
+
+import static com.github.mjeanroy.restassert.core.internal.common.Lazy.lazy;
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/// Snapshot of an [HttpResponse]: status, headers, body and cookies are read from the
+/// original response at most once, the first time they are requested.
+///
+/// A snapshot is meant to be used by a single assertion (or a single chain of assertions): snapshots are
+/// not cached, since the original response may be modified once it has been read.
+///
+/// This class is thread safe.
+public final class CachedHttpResponse implements HttpResponse {
+
+	/// Create the snapshot of given [HttpResponse], or returns `null` if `response` is `null`.
+	///
+	/// @param response Original response object.
+	/// @return Http response snapshot.
+	public static CachedHttpResponse create(HttpResponse response) {
+		if (response == null) {
+			return null;
+		}
+
+		if (response instanceof CachedHttpResponse) {
+			return (CachedHttpResponse) response;
+		}
+
+		return new CachedHttpResponse(response);
+	}
+
+	/// Response status.
+	private final Lazy<Integer> status;
+
+	/// Response headers.
+	private final Lazy<List<HttpHeader>> headers;
+
+	/// Response header values, indexed by (case-insensitive) header name: values of headers
+	/// appearing more than once are merged.
+	private final Lazy<HeaderIndex> headerIndex;
+
+	/// Response body.
+	private final Lazy<String> content;
+
+	/// Response body, as raw bytes.
+	private final Lazy<byte[]> contentBytes;
+
+	/// Response cookies.
+	private final Lazy<List<Cookie>> cookies;
+
+	// Use static factory
+	private CachedHttpResponse(HttpResponse response) {
+		notNull(response, "Response must not be null");
+		this.status = lazy(response::getStatus);
+		this.headers = lazy(() -> unmodifiableList(response.getHeaders()));
+		this.headerIndex = lazy(() -> HeaderIndex.builder().addAll(headers.get()).build());
+		this.content = lazy(response::getContent);
+		this.contentBytes = lazy(response::getContentBytes);
+		this.cookies = lazy(() -> unmodifiableList(response.getCookies()));
+	}
+
+	@Override
+	public int getStatus() {
+		return status.get();
+	}
+
+	@Override
+	public boolean hasHeader(String name) {
+		return !getHeader(name).isEmpty();
+	}
+
+	@Override
+	public List<String> getHeader(String name) {
+		return headerIndex.get().get(name);
+	}
+
+	@Override
+	public List<HttpHeader> getHeaders() {
+		return headers.get();
+	}
+
+	@Override
+	public String getContent() {
+		return content.get();
+	}
+
+	@Override
+	public byte[] getContentBytes() {
+		return contentBytes.get();
+	}
+
+	@Override
+	public List<Cookie> getCookies() {
+		return cookies.get();
+	}
+}
@@ -24,21 +24,16 @@
 
 package com.github.mjeanroy.restassert.core.internal.data.bindings.apache;
 
-import com.github.mjeanroy.restassert.core.data.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponse;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
-import org.apache.http.NameValuePair;
+import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
-import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
-import static java.util.Collections.unmodifiableList;
 
 /// Implementation of [HttpResponse] using Apache HttpClient
 /// framework as real implementation.
@@ -58,7 +53,8 @@ public class ApacheHttpResponse extends AbstractHttpResponse implements HttpResp
 
 	// Use static factory
 	private ApacheHttpResponse(org.apache.http.HttpResponse response) {
-		this.response = notNull(response, "Response must not be null");
+		super(response);
+		this.response = response;
 	}
 
 	@Override
@@ -67,27 +63,35 @@ public class ApacheHttpResponse extends AbstractHttpResponse implements HttpResp
 	}
 
 	@Override
-	public List<String> getHeader(String name) {
-		return unmodifiableList(
-			Arrays.stream(response.getHeaders(name))
-				.map(Header::getValue)
-				.collect(Collectors.toList())
-		);
+	protected HeaderIndex readHeaders() {
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (Header header : response.getAllHeaders()) {
+			builder.add(header.getName(), header.getValue());
+		}
+
+		return builder.build();
 	}
 
 	@Override
-	public List<HttpHeader> getHeaders() {
-		return unmodifiableList(
-			Arrays.stream(response.getAllHeaders())
-				.map(NameValuePair::getName)
-				.map((name) -> HttpHeader.of(name, getHeader(name)))
-				.collect(Collectors.toList())
-		);
+	protected String doGetContent() throws IOException {
+		return EntityUtils.toString(bufferedEntity());
 	}
 
 	@Override
-	protected String doGetContent() throws IOException {
-		HttpEntity entity = response.getEntity();
-		return EntityUtils.toString(entity);
+	protected byte[] doGetContentBytes() throws IOException {
+		return EntityUtils.toByteArray(bufferedEntity());
+	}
+
+	// Entity may not be repeatable: it is buffered, so that it can be read as text and as raw bytes.
+	private HttpEntity bufferedEntity() throws IOException {
+		synchronized (response) {
+			HttpEntity entity = response.getEntity();
+			if (entity != null && !entity.isRepeatable()) {
+				entity = new BufferedHttpEntity(entity);
+				response.setEntity(entity);
+			}
+
+			return entity;
+		}
 	}
 }
@@ -24,17 +24,13 @@
 
 package com.github.mjeanroy.restassert.core.internal.data.bindings.async;
 
-import com.github.mjeanroy.restassert.core.data.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponse;
 import org.asynchttpclient.Response;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
-import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
 
 /// Implementation of [HttpResponse] using Async-Http (version >= 2.0.0)
 ///  framework as real implementation.
@@ -54,7 +50,8 @@ public class AsyncHttpResponse extends AbstractHttpResponse implements HttpRespo
 
 	// Use static factory
 	private AsyncHttpResponse(Response response) {
-		this.response = notNull(response, "Response must not be null");
+		super(response);
+		this.response = response;
 	}
 
 	@Override
@@ -63,27 +60,22 @@ public class AsyncHttpResponse extends AbstractHttpResponse implements HttpRespo
 	}
 
 	@Override
-	public List<String> getHeader(String name) {
-		List<String> headers = response.getHeaders(name);
-
-		if (headers.isEmpty()) {
-			return emptyList();
+	protected HeaderIndex readHeaders() {
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (Map.Entry<String, String> header : response.getHeaders()) {
+			builder.add(header.getKey(), header.getValue());
 		}
 
-		return unmodifiableList(headers);
+		return builder.build();
 	}
 
 	@Override
-	public List<HttpHeader> getHeaders() {
-		return unmodifiableList(
-			response.getHeaders().names().stream()
-				.map((name) -> HttpHeader.of(name, getHeader(name)))
-				.collect(Collectors.toList())
-		);
+	protected String doGetContent() {
+		return response.getResponseBody();
 	}
 
 	@Override
-	protected String doGetContent() {
-		return response.getResponseBody();
+	protected byte[] doGetContentBytes() {
+		return response.getResponseBodyAsBytes();
 	}
 }
@@ -24,8 +24,8 @@
 
 package com.github.mjeanroy.restassert.core.internal.data.bindings.google;
 
-import com.github.mjeanroy.restassert.core.data.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponse;
 import com.google.api.client.http.HttpHeaders;
 import com.google.common.io.ByteStreams;
@@ -33,12 +33,8 @@ import com.google.common.io.ByteStreams;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
-import java.util.stream.Collectors;
 
-import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
+import static com.github.mjeanroy.restassert.core.internal.data.HeaderIndex.emptyHeaderIndex;
 
 /// Implementation of [HttpResponse] using Google Http Client framework as real implementation.
 public class GoogleHttpResponse extends AbstractHttpResponse implements HttpResponse {
@@ -57,7 +53,8 @@ public class GoogleHttpResponse extends AbstractHttpResponse implements HttpResp
 
 	// Use static factory
 	private GoogleHttpResponse(com.google.api.client.http.HttpResponse response) {
-		this.response = notNull(response, "Response must not be null");
+		super(response);
+		this.response = response;
 	}
 
 	@Override
@@ -66,32 +63,32 @@ public class GoogleHttpResponse extends AbstractHttpResponse implements HttpResp
 	}
 
 	@Override
-	public List<String> getHeader(String name) {
+	protected HeaderIndex readHeaders() {
 		HttpHeaders headers = response.getHeaders();
 
 		if (headers == null || headers.isEmpty()) {
-			return emptyList();
+			return emptyHeaderIndex();
 		}
 
-		return unmodifiableList(
-			headers.getHeaderStringValues(name)
-		);
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (String name : headers.keySet()) {
+			builder.add(name, headers.getHeaderStringValues(name));
+		}
+
+		return builder.build();
 	}
 
 	@Override
-	public List<HttpHeader> getHeaders() {
-		return unmodifiableList(
-			response.getHeaders().keySet().stream()
-				.map((name) -> HttpHeader.of(name, getHeader(name)))
-				.collect(Collectors.toList())
-		);
+	protected String doGetContent() {
+		// Body stream can be read only once, so decode bytes read by doGetContentBytes.
+		return new String(getContentBytes(), response.getContentCharset());
 	}
 
 	@Override
-	protected String doGetContent() throws IOException {
+	protected byte[] doGetContentBytes() throws IOException {
 		try (InputStream is = response.getContent(); ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
 			ByteStreams.copy(is, bos);
-			return new String(bos.toByteArray(), response.getContentCharset());
+			return bos.toByteArray();
 		}
 	}
 }
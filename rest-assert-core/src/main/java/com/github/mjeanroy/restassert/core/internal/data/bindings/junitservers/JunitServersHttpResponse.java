@@ -26,14 +26,9 @@ package com.github.mjeanroy.restassert.core.internal.data.bindings.junitservers;
 
 import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponse;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
-import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
 
 /// Implementation to integrate junit-servers into rest-assert.
 public class JunitServersHttpResponse extends AbstractHttpResponse implements HttpResponse {
@@ -52,7 +47,8 @@ public class JunitServersHttpResponse extends AbstractHttpResponse implements Ht
 
 	// Use static factory
 	private JunitServersHttpResponse(com.github.mjeanroy.junit.servers.client.HttpResponse response) {
-		this.response = notNull(response, "Response must not be null");
+		super(response);
+		this.response = response;
 	}
 
 	@Override
@@ -66,24 +62,12 @@ public class JunitServersHttpResponse extends AbstractHttpResponse implements Ht
 	}
 
 	@Override
-	public List<String> getHeader(String name) {
-		HttpHeader header = response.getHeader(name);
-
-		if (header == null) {
-			return emptyList();
+	protected HeaderIndex readHeaders() {
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (HttpHeader header : response.getHeaders()) {
+			builder.add(header.getName(), header.getValues());
 		}
 
-		return unmodifiableList(
-			header.getValues()
-		);
-	}
-
-	@Override
-	public List<com.github.mjeanroy.restassert.core.data.HttpHeader> getHeaders() {
-		return unmodifiableList(
-			response.getHeaders().stream()
-				.map(h -> com.github.mjeanroy.restassert.core.data.HttpHeader.of(h.getName(), h.getValues()))
-				.collect(Collectors.toList())
-		);
+		return builder.build();
 	}
 }
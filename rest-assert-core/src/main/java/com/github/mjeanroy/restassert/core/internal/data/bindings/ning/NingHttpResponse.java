@@ -24,18 +24,15 @@
 
 package com.github.mjeanroy.restassert.core.internal.data.bindings.ning;
 
-import com.github.mjeanroy.restassert.core.data.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponse;
 import com.ning.http.client.Response;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
-import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
 
 /// Implementation of [HttpResponse] using Async-Http (version < 2.0.0)
 /// framework as real implementation.
@@ -55,7 +52,8 @@ public class NingHttpResponse extends AbstractHttpResponse implements HttpRespon
 
 	// Use static factory
 	private NingHttpResponse(Response response) {
-		this.response = notNull(response, "Response must not be null");
+		super(response);
+		this.response = response;
 	}
 
 	@Override
@@ -64,27 +62,22 @@ public class NingHttpResponse extends AbstractHttpResponse implements HttpRespon
 	}
 
 	@Override
-	public List<String> getHeader(String name) {
-		List<String> headers = response.getHeaders(name);
-
-		if (headers.isEmpty()) {
-			return emptyList();
+	protected HeaderIndex readHeaders() {
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+			builder.add(header.getKey(), header.getValue());
 		}
 
-		return unmodifiableList(headers);
+		return builder.build();
 	}
 
 	@Override
-	public List<HttpHeader> getHeaders() {
-		return unmodifiableList(
-			response.getHeaders().keySet().stream()
-				.map((name) -> HttpHeader.of(name, getHeader(name)))
-				.collect(Collectors.toList())
-		);
+	protected String doGetContent() throws IOException {
+		return response.getResponseBody();
 	}
 
 	@Override
-	protected String doGetContent() throws IOException {
-		return response.getResponseBody();
+	protected byte[] doGetContentBytes() throws IOException {
+		return response.getResponseBodyAsBytes();
 	}
 }
@@ -24,18 +24,18 @@
 
 package com.github.mjeanroy.restassert.core.internal.data.bindings.ok3;
 
-import com.github.mjeanroy.restassert.core.data.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponse;
+import okhttp3.Headers;
+import okhttp3.MediaType;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.nio.charset.Charset;
 
-import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
-import static java.util.Collections.unmodifiableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /// Implementation of [HttpResponse] using OkHttp framework as real implementation.
 public class OkHttpResponse extends AbstractHttpResponse implements HttpResponse {
@@ -54,32 +54,38 @@ public class OkHttpResponse extends AbstractHttpResponse implements HttpResponse
 
 	// Use static factory
 	private OkHttpResponse(Response response) {
-		this.response = notNull(response, "Response must not be null");
+		super(response);
+		this.response = response;
 	}
 
 	@Override
-	protected String doGetContent() throws IOException {
+	protected String doGetContent() {
+		// Body can be read only once, so decode bytes read by doGetContentBytes.
 		ResponseBody body = response.body();
-		return body == null ? "" : body.string();
+		MediaType contentType = body == null ? null : body.contentType();
+		Charset charset = contentType == null ? UTF_8 : contentType.charset(UTF_8);
+		return new String(getContentBytes(), charset);
 	}
 
 	@Override
-	public int getStatus() {
-		return response.code();
+	protected byte[] doGetContentBytes() throws IOException {
+		ResponseBody body = response.body();
+		return body == null ? new byte[0] : body.bytes();
 	}
 
 	@Override
-	public List<String> getHeader(String name) {
-		List<String> values = response.headers(name);
-		return unmodifiableList(values);
+	public int getStatus() {
+		return response.code();
 	}
 
 	@Override
-	public List<HttpHeader> getHeaders() {
-		return unmodifiableList(
-			response.headers().names().stream()
-				.map((name) -> HttpHeader.of(name, getHeader(name)))
-				.collect(Collectors.toList())
-		);
+	protected HeaderIndex readHeaders() {
+		Headers headers = response.headers();
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (int i = 0, size = headers.size(); i < size; i++) {
+			builder.add(headers.name(i), headers.value(i));
+		}
+
+		return builder.build();
 	}
 }
@@ -24,8 +24,8 @@
 
 package com.github.mjeanroy.restassert.core.internal.data.bindings.spring;
 
-import com.github.mjeanroy.restassert.core.data.HttpHeader;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.HeaderIndex;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponse;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,11 +33,8 @@ import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
-import static java.util.Collections.unmodifiableList;
 
 /// Implementation to integrate spring-test into rest-assert.
 ///
@@ -54,7 +51,8 @@ public class SpringMockMvcHttpResponse extends AbstractHttpResponse implements H
 		return resultActions == null ? null : new SpringMockMvcHttpResponse(resultActions.andReturn().getResponse());
 	}
 
-	/// The spring mock implementation of HTTP Servlet Response.
+	/// The spring mock implementation of HTTP Servlet Response: since it may be modified once it has
+	/// been read, its values are not shared with other instances.
 	private final MockHttpServletResponse response;
 
 	private SpringMockMvcHttpResponse(MockHttpServletResponse response) {
@@ -67,26 +65,22 @@ public class SpringMockMvcHttpResponse extends AbstractHttpResponse implements H
 	}
 
 	@Override
-	public boolean hasHeader(String name) {
-		return response.getHeader(name) != null;
-	}
+	protected HeaderIndex readHeaders() {
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (String name : response.getHeaderNames()) {
+			builder.add(name, response.getHeaders(name));
+		}
 
-	@Override
-	public List<String> getHeader(String name) {
-		return unmodifiableList(response.getHeaders(name));
+		return builder.build();
 	}
 
 	@Override
-	public List<HttpHeader> getHeaders() {
-		return unmodifiableList(
-			response.getHeaderNames().stream()
-				.map((name) -> HttpHeader.of(name, getHeader(name)))
-				.collect(Collectors.toList())
-		);
+	protected String doGetContent() throws IOException {
+		return response.getContentAsString();
 	}
 
 	@Override
-	protected String doGetContent() throws IOException {
-		return response.getContentAsString();
+	protected byte[] doGetContentBytes() {
+		return response.getContentAsByteArray();
 	}
 }
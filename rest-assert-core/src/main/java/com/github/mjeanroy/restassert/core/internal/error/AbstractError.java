@@ -24,9 +24,6 @@
 
 package com.github.mjeanroy.restassert.core.internal.error;
 
-import com.github.mjeanroy.restassert.core.internal.common.Strings;
-
-import java.util.Arrays;
 import java.util.Objects;
 
 /// Abstraction of error message.
@@ -159,14 +156,8 @@ public abstract class AbstractError implements RestAssertError {
 	@Override
 	public final String buildMessage() {
 		String rawMessage = message();
-		Object[] args = formatArgs();
-		return args.length == 0 ? rawMessage : String.format(rawMessage, args);
-	}
-
-	private Object[] formatArgs() {
-		return Arrays.stream(args())
-			.map(Strings::serialize)
-			.toArray();
+		Object[] args = args();
+		return args.length == 0 ? rawMessage : String.format(rawMessage, MessageArguments.serialize(args));
 	}
 
 	@Override
@@ -67,9 +67,17 @@ public class CompositeError implements RestAssertError {
 
 	@Override
 	public String buildMessage() {
-		Object[] args = args();
-		String message = message();
-		return args.length == 0 ? message : String.format(message, args);
+		// Format each error on its own: this is equivalent to formatting the joined messages with
+		// all arguments, without building a single template and arguments array for all errors.
+		return errors.stream()
+			.map(CompositeError::formatMessage)
+			.collect(Collectors.joining(MESSAGES_SEPARATOR));
+	}
+
+	private static String formatMessage(RestAssertError error) {
+		Object[] args = error.args();
+		String message = error.message();
+		return args.length == 0 ? message : String.format(message, MessageArguments.render(args));
 	}
 
 	@Override
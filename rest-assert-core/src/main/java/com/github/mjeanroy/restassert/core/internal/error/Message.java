@@ -24,7 +24,6 @@
 
 package com.github.mjeanroy.restassert.core.internal.error;
 
-import com.github.mjeanroy.restassert.core.internal.common.Strings;
 import com.github.mjeanroy.restassert.core.internal.common.ToStringBuilder;
 
 import java.util.ArrayList;
@@ -205,8 +204,7 @@ public final class Message {
 	}
 
 	private String formatTemplateAt(int i) {
-		Object[] formattedArgs = Arrays.stream(args.get(i)).map(Strings::serialize).toArray(Object[]::new);
-		return String.format(templates.get(i), formattedArgs);
+		return String.format(templates.get(i), MessageArguments.serialize(args.get(i)));
 	}
 
 	/// Get number of arguments.
@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.error;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.isGreaterThan;
+
+/// Render message arguments when an error message is built.
+///
+/// Arguments of JSON errors may be entire JSON values, possibly several megabytes long: each
+/// argument is rendered up to a maximum number of characters, the rest is replaced with
+/// `...`. Maps and collections are rendered element by element, so rendering stops as soon as
+/// the limit is reached, without serializing the whole value first.
+///
+/// The default maximum length can be changed with the `restassert.messages.maxLength` system
+/// property, or with [#setMaxLength(int)]: both reject a maximum length less than one.
+public final class MessageArguments {
+
+	/// The system property used to set the maximum length of a rendered argument.
+	static final String MAX_LENGTH_PROPERTY = "restassert.messages.maxLength";
+
+	/// The default maximum length of a rendered argument, in number of characters.
+	static final int DEFAULT_MAX_LENGTH = 4096;
+
+	/// Suffix appended to truncated arguments.
+	private static final String ELLIPSIS = "...";
+
+	/// The maximum length of a rendered argument.
+	private static volatile int maxLength = readMaxLength();
+
+	// Ensure non instantiation.
+	private MessageArguments() {
+	}
+
+	/// Read the maximum length of a rendered argument from the `restassert.messages.maxLength` system
+	/// property, validated as by [#setMaxLength(int)].
+	///
+	/// @return Maximum length, in number of characters.
+	/// @throws IllegalArgumentException If the system property is less than one.
+	static int readMaxLength() {
+		int value = Integer.getInteger(MAX_LENGTH_PROPERTY, DEFAULT_MAX_LENGTH);
+		return isGreaterThan(value, 1, "System property " + MAX_LENGTH_PROPERTY + " must be strictly positive, but was: " + value);
+	}
+
+	/// Get the maximum length of a rendered argument.
+	///
+	/// @return Maximum length, in number of characters.
+	public static int getMaxLength() {
+		return maxLength;
+	}
+
+	/// Set the maximum length of a rendered argument.
+	///
+	/// @param maxLength Maximum length, in number of characters.
+	/// @throws IllegalArgumentException If `maxLength` is less than one.
+	public static void setMaxLength(int maxLength) {
+		MessageArguments.maxLength = isGreaterThan(maxLength, 1, "Maximum length must be strictly positive");
+	}
+
+	/// Serialize arguments: strings are quoted, as well as strings contained in collections
+	/// (see [com.github.mjeanroy.restassert.core.internal.common.Strings#serialize(Object)]).
+	///
+	/// @param args Arguments.
+	/// @return Serialized arguments.
+	static Object[] serialize(Object[] args) {
+		return render(args, true);
+	}
+
+	/// Render arguments as they are, i.e. as [String#valueOf(Object)] would do.
+	///
+	/// @param args Arguments.
+	/// @return Rendered arguments.
+	static Object[] render(Object[] args) {
+		return render(args, false);
+	}
+
+	private static Object[] render(Object[] args, boolean quote) {
+		int max = maxLength;
+		Object[] outputs = new Object[args.length];
+		for (int i = 0; i < args.length; ++i) {
+			outputs[i] = render(args[i], quote, max);
+		}
+
+		return outputs;
+	}
+
+	private static String render(Object value, boolean quote, int max) {
+		if (value == null) {
+			return null;
+		}
+
+		StringBuilder sb = new StringBuilder();
+		append(sb, value, quote, max);
+
+		if (sb.length() > max) {
+			sb.setLength(max);
+			sb.append(ELLIPSIS);
+		}
+
+		return sb.toString();
+	}
+
+	private static void append(StringBuilder sb, Object value, boolean quote, int max) {
+		if (value instanceof Map) {
+			appendMap(sb, (Map<?, ?>) value, max);
+		}
+		else if (value instanceof Collection) {
+			appendCollection(sb, (Collection<?>) value, quote, max);
+		}
+		else if (quote && value instanceof String) {
+			append(sb, "\"", max);
+			append(sb, (String) value, max);
+			append(sb, "\"", max);
+		}
+		else {
+			append(sb, String.valueOf(value), max);
+		}
+	}
+
+	// Maps are always rendered as `AbstractMap#toString()` would do.
+	private static void appendMap(StringBuilder sb, Map<?, ?> map, int max) {
+		append(sb, "{", max);
+
+		Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator();
+		while (it.hasNext() && !isFull(sb, max)) {
+			Map.Entry<?, ?> entry = it.next();
+			appendItem(sb, entry.getKey(), map, "(this Map)", false, max);
+			append(sb, "=", max);
+			appendItem(sb, entry.getValue(), map, "(this Map)", false, max);
+
+			if (it.hasNext()) {
+				append(sb, ", ", max);
+			}
+		}
+
+		append(sb, "}", max);
+	}
+
+	private static void appendCollection(StringBuilder sb, Collection<?> collection, boolean quote, int max) {
+		append(sb, "[", max);
+
+		Iterator<?> it = collection.iterator();
+		while (it.hasNext() && !isFull(sb, max)) {
+			appendItem(sb, it.next(), collection, "(this Collection)", quote, max);
+
+			if (it.hasNext()) {
+				append(sb, ", ", max);
+			}
+		}
+
+		append(sb, "]", max);
+	}
+
+	private static void appendItem(StringBuilder sb, Object item, Object container, String self, boolean quote, int max) {
+		if (item == container) {
+			append(sb, self, max);
+		}
+		else {
+			append(sb, item, quote, max);
+		}
+	}
+
+	// Append at most one character more than the limit: enough to know that the value must be truncated.
+	private static void append(StringBuilder sb, String value, int max) {
+		int remaining = max + 1 - sb.length();
+		if (remaining > 0) {
+			sb.append(value, 0, Math.min(value.length(), remaining));
+		}
+	}
+
+	private static boolean isFull(StringBuilder sb, int max) {
+		return sb.length() > max;
+	}
+}
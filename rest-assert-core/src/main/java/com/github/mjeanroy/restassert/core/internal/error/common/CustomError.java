@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.error.common;
+
+import com.github.mjeanroy.restassert.core.internal.error.Message;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+
+/// Error described with a custom, already formatted, message: this message is used as is, and
+/// replaces the message of the original error.
+public final class CustomError implements RestAssertError {
+
+	/// The message.
+	private final String message;
+
+	// Private constructor, use static factory instead
+	private CustomError(String message) {
+		this.message = notNull(message, "Error message must not be null");
+	}
+
+	/// Build error.
+	///
+	/// @param message The custom message.
+	/// @return Error.
+	public static CustomError customError(String message) {
+		return new CustomError(message);
+	}
+
+	@Override
+	public String message() {
+		return escape(message);
+	}
+
+	@Override
+	public Object[] args() {
+		return new Object[0];
+	}
+
+	@Override
+	public String buildMessage() {
+		return message;
+	}
+
+	@Override
+	public Message getExpectation() {
+		return Message.message(escape(message));
+	}
+
+	@Override
+	public Message getMismatch() {
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return buildMessage();
+	}
+
+	// Escape placeholders, so that the message can be used as a template.
+	private static String escape(String message) {
+		return message.replace("%", "%%");
+	}
+}
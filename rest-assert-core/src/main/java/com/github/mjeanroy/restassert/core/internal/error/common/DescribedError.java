@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.mjeanroy.restassert.core.internal.error.common;
+
+import com.github.mjeanroy.restassert.core.internal.error.Message;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+
+/// Error prefixed with a description (such as `[user] Expecting ...`): the original error is kept,
+/// and is formatted only when the message of this error is built.
+public final class DescribedError implements RestAssertError {
+
+	/// The description.
+	private final String description;
+
+	/// The original error.
+	private final RestAssertError error;
+
+	// Private constructor, use static factory instead
+	private DescribedError(String description, RestAssertError error) {
+		this.description = notNull(description, "Error description must not be null");
+		this.error = notNull(error, "Error must not be null");
+	}
+
+	/// Build error.
+	///
+	/// @param description The description.
+	/// @param error The original error.
+	/// @return Error.
+	public static DescribedError describedError(String description, RestAssertError error) {
+		return new DescribedError(description, error);
+	}
+
+	@Override
+	public String message() {
+		return prefix() + error.message();
+	}
+
+	@Override
+	public Object[] args() {
+		return error.args();
+	}
+
+	@Override
+	public String buildMessage() {
+		return "[" + description + "] " + error.buildMessage();
+	}
+
+	@Override
+	public Message getExpectation() {
+		Message expectation = error.getExpectation();
+		return expectation == null ? null : Message.message(prefix() + expectation.getMessage(), expectation.getArgs());
+	}
+
+	@Override
+	public Message getMismatch() {
+		return error.getMismatch();
+	}
+
+	@Override
+	public String toString() {
+		return buildMessage();
+	}
+
+	// Get the description prefix, escaped so that it can be used in a template.
+	private String prefix() {
+		return "[" + description.replace("%", "%%") + "] ";
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.error.json;
+
+import com.github.mjeanroy.restassert.core.internal.error.AbstractError;
+import com.github.mjeanroy.restassert.core.internal.error.Message;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+
+import java.util.Arrays;
+
+/// Error thrown when an element of a JSON array does not satisfy an assertion: the
+/// original error is reported with the index of the element, and the path of the array.
+public final class ShouldMatchJsonArrayElement extends AbstractError {
+
+	// Private constructor, use static factory instead
+	private ShouldMatchJsonArrayElement(Message expectation) {
+		super(expectation);
+	}
+
+	/// Build error.
+	///
+	/// @param path Path of the JSON array.
+	/// @param index Index of the element, starting at `0`.
+	/// @param error Error of the element.
+	/// @return Error.
+	public static ShouldMatchJsonArrayElement shouldMatchJsonArrayElement(String path, int index, RestAssertError error) {
+		Object[] errorArgs = error.args();
+		Object[] args = Arrays.copyOf(errorArgs, errorArgs.length + 2);
+		args[errorArgs.length] = index;
+		args[errorArgs.length + 1] = path;
+		return new ShouldMatchJsonArrayElement(
+			Message.message(error.message() + " (element %s of %s)", args)
+		);
+	}
+}
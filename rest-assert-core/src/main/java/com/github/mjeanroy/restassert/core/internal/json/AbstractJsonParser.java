@@ -46,6 +46,20 @@ abstract class AbstractJsonParser implements JsonParser {
 		);
 	}
 
+	@Override
+	public final Object parse(byte[] json) {
+		if (json == null || isBlank(json)) {
+			throw new NullPointerException("JSON");
+		}
+
+		try {
+			return translateValue(doParse(json, Object.class));
+		}
+		catch (Exception ex) {
+			throw new JsonException(ex);
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public final List<Object> parseArray(String json) {
@@ -75,6 +89,18 @@ abstract class AbstractJsonParser implements JsonParser {
 
 	abstract <T> T doParse(String json, Class<T> klazz) throws Exception;
 
+	abstract <T> T doParse(byte[] json, Class<T> klazz) throws Exception;
+
+	private static boolean isBlank(byte[] json) {
+		for (byte b : json) {
+			if (!Character.isWhitespace(b)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> Object translateValue(T value) {
 		if (value instanceof Number) {
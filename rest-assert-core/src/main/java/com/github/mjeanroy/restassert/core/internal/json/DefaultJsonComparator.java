@@ -24,78 +24,192 @@
 
 package com.github.mjeanroy.restassert.core.internal.json;
 
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
 import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
 import com.github.mjeanroy.restassert.core.internal.error.RestAssertJsonError;
+import com.github.mjeanroy.restassert.core.internal.json.JsonIgnoredPaths.Cursor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.RecursiveTask;
 
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldBeAnArray.shouldBeAnArray;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldBeAnObject.shouldBeAnObject;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldBeEntryOf.shouldBeEntryOf;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveArrayElement.shouldHaveArrayElement;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntry.shouldHaveEntry;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntryEqualTo.shouldHaveEntryEqualTo;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntryWithSize.shouldHaveEntryWithSize;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveNoMoreDifferences.shouldHaveNoMoreDifferences;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldNotHaveArrayElement.shouldNotHaveArrayElement;
 import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldNotHaveEntry.shouldNotHaveEntry;
 import static com.github.mjeanroy.restassert.core.internal.json.JsonType.parseType;
 import static com.github.mjeanroy.restassert.core.internal.json.JsonContext.rootContext;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 /// Default implementation for [JsonComparator] interface.
+///
+/// Subtrees with the same structural hash are checked for equality first and skipped
+/// when equal, so that only mismatching subtrees are walked to collect errors, see [JsonTreeMatcher].
+///
+/// Arrays are compared in order, unless [JsonComparatorOptions] ignore it: elements are then
+/// matched as multisets. Arrays compared in order may also be aligned (see [JsonComparatorOptions#isAlignArrays()]):
+/// the longest common subsequence of actual and expected elements is computed (see [JsonTreeMatcher]), so that only
+/// inserted, removed and modified elements are reported, instead of a difference for each element following an
+/// inserted or removed one.
+///
+/// The number of reported differences may be limited by [JsonComparatorOptions], see [JsonErrorBudget].
+///
+/// Entries ignored by [JsonComparatorOptions] are compiled as a [JsonIgnoredPaths] trie, consulted while
+/// documents are traversed: ignored entries are skipped, without modifying parsed documents.
+///
+/// Large arrays and objects may be compared in parallel (see [JsonComparatorOptions#getParallelThreshold()]):
+/// their elements are split in fork-join tasks, each task with its own [JsonContext], and errors of each task
+/// are merged in the order of elements, so that errors are the same as with a sequential comparison.
+/// Subtrees are then checked for equality by these tasks only, so that documents are not hashed sequentially first.
+///
+/// This class is thread safe: the state of a comparison is created by [#compare(String, String)]
+/// (or [#compare(ParsedJson, ParsedJson)]).
 public class DefaultJsonComparator implements JsonComparator {
 
+	/// Maximum number of inserted and removed elements of aligned arrays: arrays with more differences are
+	/// compared index by index, since alignment time and memory grow with the number of differences.
+	private static final int MAX_ALIGNMENT_DISTANCE = 1024;
+
 	/// JSON parser.
 	private final JsonParser parser;
 
-	// Use thread local to remains thread safe
-	private final ThreadLocal<JsonContext> contexts = new ThreadLocal<>();
+	/// Comparison options.
+	private final JsonComparatorOptions options;
+
+	/// Ignored entries.
+	private final JsonIgnoredPaths ignoredPaths;
 
-	/// Create new comparator with custom option.
+	/// Create new comparator with default options.
 	///
 	/// @param parser Parser used to extract json data.
 	public DefaultJsonComparator(JsonParser parser) {
+		this(parser, JsonComparatorOptions.defaultOptions());
+	}
+
+	/// Create new comparator with custom options.
+	///
+	/// @param parser Parser used to extract json data.
+	/// @param options Comparison options.
+	public DefaultJsonComparator(JsonParser parser, JsonComparatorOptions options) {
 		this.parser = parser;
+		this.options = options;
+		this.ignoredPaths = JsonIgnoredPaths.compile(options.getIgnoredPaths());
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public List<RestAssertError> compare(String actual, String expected) {
-		contexts.set(rootContext(actual, expected));
-		try {
-			List<RestAssertJsonError> errors = doCompare(actual.trim(), expected.trim());
-			return (List) errors;
+		Comparison comparison = newComparison(actual, expected);
+		return finish(comparison, actual, doCompare(comparison, actual.trim(), expected.trim()));
+	}
+
+	/// Compare parsed documents: parsed values are reused, so that a document compared several times
+	/// (for example, an expected document read from a file, see [JsonFiles]) is parsed only once.
+	///
+	/// Documents that are not both objects or arrays are compared as json representations.
+	///
+	/// @param actual Actual document.
+	/// @param expected Expected document.
+	/// @return List of errors (a.k.a differences).
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<RestAssertError> compare(ParsedJson actual, ParsedJson expected) {
+		Object actualValue = actual.value();
+		Object expectedValue = expected.value();
+		if (!isObjectOrArray(actualValue) || !isObjectOrArray(expectedValue)) {
+			return compare(actual.json(), expected.json());
+		}
+
+		String actualJson = actual.json();
+		Comparison comparison = newComparison(actualJson, expected.json());
+		List<RestAssertJsonError> errors;
+		if (actualValue instanceof Map && expectedValue instanceof List) {
+			errors = singletonList(shouldBeAnArray(actualJson));
+		}
+		else if (actualValue instanceof List && expectedValue instanceof Map) {
+			errors = singletonList(shouldBeAnObject(actualJson));
+		}
+		else if (actualValue instanceof Map) {
+			errors = compareRoots(comparison, (Map<String, Object>) actualValue, (Map<String, Object>) expectedValue);
 		}
-		finally {
-			contexts.remove();
+		else {
+			errors = compareRoots(comparison, (List<Object>) actualValue, (List<Object>) expectedValue);
+		}
+
+		return finish(comparison, actualJson, errors);
+	}
+
+	private Comparison newComparison(String actual, String expected) {
+		boolean hashSubtrees = options.getParallelThreshold() == 0;
+		return new Comparison(rootContext(actual, expected), new JsonTreeMatcher(options), new JsonErrorBudget(options), hashSubtrees);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static List<RestAssertError> finish(Comparison comparison, String actual, List<RestAssertJsonError> errors) {
+		int unreported = comparison.budget.getUnreported();
+		if (unreported > 0) {
+			errors = new ArrayList<>(errors);
+			errors.add(shouldHaveNoMoreDifferences(actual, unreported));
 		}
+
+		return (List) errors;
+	}
+
+	private static boolean isObjectOrArray(Object value) {
+		return value instanceof Map || value instanceof List;
 	}
 
-	private List<RestAssertJsonError> doCompare(String actual, String expected) {
+	private List<RestAssertJsonError> doCompare(Comparison comparison, String actual, String expected) {
 		RestAssertJsonError error = checkType(actual, expected);
 		if (error != null) {
 			return singletonList(error);
 		}
 
 		// Same types
-		boolean isObject = isObject(actual);
-		if (isObject) {
-			Map<String, Object> actualMap = parser.parseObject(actual);
-			Map<String, Object> expectedMap = parser.parseObject(expected);
-			return compareObjects(actualMap, expectedMap);
+		if (isObject(actual)) {
+			return compareRoots(comparison, parser.parseObject(actual), parser.parseObject(expected));
 		}
 		else {
-			List<Object> actualArray = parser.parseArray(actual);
-			List<Object> expectedArray = parser.parseArray(expected);
-			return compareArrays(actualArray, expectedArray);
+			return compareRoots(comparison, parser.parseArray(actual), parser.parseArray(expected));
 		}
 	}
 
-	private RestAssertJsonError checkType(String actual, String expected) {
+	private List<RestAssertJsonError> compareRoots(Comparison comparison, Map<String, Object> actualMap, Map<String, Object> expectedMap) {
+		Cursor root = ignoredPaths.root();
+		return isSameSubtree(comparison, actualMap, expectedMap, "", root) ? emptyList() : compareObjects(comparison, actualMap, expectedMap, root);
+	}
+
+	private List<RestAssertJsonError> compareRoots(Comparison comparison, List<Object> actualArray, List<Object> expectedArray) {
+		Cursor root = ignoredPaths.root();
+		return isSameSubtree(comparison, actualArray, expectedArray, "", root) ? emptyList() : compareArrays(comparison, actualArray, expectedArray, root);
+	}
+
+	// Check if both subtrees are equal, using their structural hashes: subtrees are not hashed before the comparison
+	// has been split in fork-join tasks, since hashing would then be sequential.
+	private static boolean isSameSubtree(Comparison comparison, Object actual, Object expected, String path, Cursor cursor) {
+		return comparison.hashSubtrees && comparison.matcher.isEqual(actual, expected, path, cursor);
+	}
+
+	/// Check that both json representations are objects, or are both arrays.
+	///
+	/// @param actual Actual json representation.
+	/// @param expected Expected json representation.
+	/// @return The error if types are different, `null` otherwise.
+	static RestAssertJsonError checkType(String actual, String expected) {
 		if (isObject(actual) && isArray(expected)) {
 			return shouldBeAnArray(actual);
 		}
@@ -107,14 +221,37 @@ public class DefaultJsonComparator implements JsonComparator {
 		return null;
 	}
 
-	private List<RestAssertJsonError> compareObjects(Map<String, Object> actualMap, Map<String, Object> expectedMap) {
+	private List<RestAssertJsonError> compareObjects(Comparison comparison, Map<String, Object> actualMap, Map<String, Object> expectedMap, Cursor cursor) {
 		LinkedList<RestAssertJsonError> errors = new LinkedList<>();
-		errors.addAll(checkMissingOrUnexpectedEntries(actualMap.keySet(), expectedMap.keySet()));
-		errors.addAll(checkEntries(actualMap, expectedMap));
+		comparison.budget.addAll(errors, checkMissingOrUnexpectedEntries(comparison.context, keys(actualMap, cursor), keys(expectedMap, cursor)));
+		errors.addAll(checkEntries(comparison, actualMap, expectedMap, cursor));
 		return errors;
 	}
 
-	private List<RestAssertJsonError> checkMissingOrUnexpectedEntries(Set<String> actualEntries, Set<String> expectedEntries) {
+	// Get object keys, without the ignored ones.
+	private static Set<String> keys(Map<String, Object> object, Cursor cursor) {
+		if (cursor.isEmpty()) {
+			return object.keySet();
+		}
+
+		Set<String> keys = new LinkedHashSet<>();
+		for (String key : object.keySet()) {
+			if (!cursor.child(key).isIgnored()) {
+				keys.add(key);
+			}
+		}
+
+		return keys;
+	}
+
+	/// Check for missing entries (i.e. entries in expected json but not in actual json) and unexpected entries
+	/// (i.e. entries in actual json but not in expected json).
+	///
+	/// @param context Current json context.
+	/// @param actualEntries Entries of actual json object.
+	/// @param expectedEntries Entries of expected json object.
+	/// @return Missing entries errors, followed by unexpected entries errors.
+	static List<RestAssertJsonError> checkMissingOrUnexpectedEntries(JsonContext context, Set<String> actualEntries, Set<String> expectedEntries) {
 		List<RestAssertJsonError> errors = new LinkedList<>();
 
 		Set<String> missingEntries = new HashSet<>(expectedEntries);
@@ -122,8 +259,8 @@ public class DefaultJsonComparator implements JsonComparator {
 		for (String missingEntry : missingEntries) {
 			errors.add(
 				shouldHaveEntry(
-					contexts.get().actual(),
-					contexts.get().toPath(missingEntry)
+					context.actual(),
+					context.toPath(missingEntry)
 				)
 			);
 		}
@@ -133,8 +270,8 @@ public class DefaultJsonComparator implements JsonComparator {
 		for (String unexpectedEntry : unexpectedEntries) {
 			errors.add(
 				shouldNotHaveEntry(
-					contexts.get().actual(),
-					contexts.get().toPath(unexpectedEntry)
+					context.actual(),
+					context.toPath(unexpectedEntry)
 				)
 			);
 		}
@@ -142,32 +279,59 @@ public class DefaultJsonComparator implements JsonComparator {
 		return errors;
 	}
 
-	private List<RestAssertJsonError> checkEntries(Map<String, Object> actual, Map<String, Object> expected) {
+	private List<RestAssertJsonError> checkEntries(Comparison comparison, Map<String, Object> actual, Map<String, Object> expected, Cursor cursor) {
+		if (isParallel(actual.size())) {
+			List<Entry> entries = new ArrayList<>(actual.size());
+			for (Map.Entry<String, Object> entry : actual.entrySet()) {
+				String key = entry.getKey();
+				if (expected.containsKey(key)) {
+					Cursor child = cursor.child(key);
+					if (!child.isIgnored()) {
+						entries.add(new Entry(key, entry.getValue(), expected.get(key), child));
+					}
+				}
+			}
+
+			return compareInParallel(comparison, entries);
+		}
+
 		List<RestAssertJsonError> errors = new LinkedList<>();
 		for (Map.Entry<String, Object> entry : actual.entrySet()) {
+			if (comparison.budget.isStopped()) {
+				break;
+			}
+
 			String key = entry.getKey();
 			if (expected.containsKey(key)) {
-				errors.addAll(compareValues(key, entry.getValue(), expected.get(key)));
+				Cursor child = cursor.child(key);
+				if (!child.isIgnored()) {
+					errors.addAll(compareValues(comparison, key, entry.getValue(), expected.get(key), child));
+				}
 			}
 		}
 		return errors;
 	}
 
-	private List<RestAssertJsonError> compareValues(String key, Object actualObject, Object expectedObject) {
+	private List<RestAssertJsonError> compareValues(Comparison comparison, String key, Object actualObject, Object expectedObject, Cursor cursor) {
 		List<RestAssertJsonError> errors = new LinkedList<>();
+		JsonContext context = comparison.context;
 
 		JsonType actualType = parseType(actualObject);
 		JsonType expectedType = parseType(expectedObject);
 		if (actualType != expectedType) {
-			errors.add(
+			comparison.budget.add(errors,
 				shouldBeEntryOf(
-					contexts.get().actual(),
-					contexts.get().toPath(key),
+					context.actual(),
+					context.toPath(key),
 					actualType,
 					expectedType
 				)
 			);
 		}
+		else if ((actualType == JsonType.OBJECT || actualType == JsonType.ARRAY) && isSameSubtree(comparison, actualObject, expectedObject, pathOf(comparison, key), cursor)) {
+			// Same subtrees, nothing to report
+			return errors;
+		}
 		else {
 			// Same types, check values
 			if (actualType == JsonType.OBJECT) {
@@ -175,25 +339,25 @@ public class DefaultJsonComparator implements JsonComparator {
 				@SuppressWarnings("unchecked") Map<String, Object> newExpected = (Map<String, Object>) expectedObject;
 
 				// Compare nested object
-				contexts.get().append(key);
-				errors.addAll(compareObjects(newActual, newExpected));
-				contexts.get().remove();
+				context.append(key);
+				errors.addAll(compareObjects(comparison, newActual, newExpected, cursor));
+				context.remove();
 			}
 			else if (actualType == JsonType.ARRAY) {
 				@SuppressWarnings("unchecked") List<Object> newActualArray = (List<Object>) actualObject;
 				@SuppressWarnings("unchecked") List<Object> newExpectedArray = (List<Object>) expectedObject;
 
 				// Compare arrays
-				contexts.get().append(key);
-				errors.addAll(compareArrays(newActualArray, newExpectedArray));
-				contexts.get().remove();
+				context.append(key);
+				errors.addAll(compareArrays(comparison, newActualArray, newExpectedArray, cursor));
+				context.remove();
 			}
 			else if (actualType != JsonType.NULL && !actualObject.equals(expectedObject)) {
 				// Not null and not equals
-				errors.add(
+				comparison.budget.add(errors,
 					shouldHaveEntryEqualTo(
-						contexts.get().actual(),
-						contexts.get().toPath(key),
+						context.actual(),
+						context.toPath(key),
 						actualObject,
 						expectedObject
 					)
@@ -204,43 +368,318 @@ public class DefaultJsonComparator implements JsonComparator {
 		return errors;
 	}
 
-	private List<RestAssertJsonError> compareArrays(List<Object> actualArray, List<Object> expectedArray) {
+	private List<RestAssertJsonError> compareArrays(Comparison comparison, List<Object> actualArray, List<Object> expectedArray, Cursor cursor) {
 		List<RestAssertJsonError> errors = new LinkedList<>();
+		if (cursor.isAllChildrenIgnored()) {
+			return errors;
+		}
 
+		JsonContext context = comparison.context;
+		if (options.hasUnorderedArrays()) {
+			String path = context.toPathIgnoringIndexes();
+			if (options.isArrayOrderIgnored(path)) {
+				addSizeError(comparison, errors, actualArray, expectedArray);
+				errors.addAll(compareUnorderedArrays(comparison, actualArray, expectedArray, path, cursor.anyChild()));
+				return errors;
+			}
+		}
+
+		// Elements of aligned arrays are compared with the cursor of any element: arrays with ignored paths
+		// targeting a specific index are compared index by index.
+		if (options.isAlignArrays() && !cursor.hasSpecificChildren()) {
+			Cursor child = cursor.anyChild();
+			String path = options.hasUnorderedArrays() ? context.toPathIgnoringIndexes() : "";
+			int[] matches = comparison.matcher.align(actualArray, expectedArray, path, child, MAX_ALIGNMENT_DISTANCE);
+			if (matches != null) {
+				// Inserted and removed elements are reported instead of the size difference.
+				errors.addAll(compareAlignedArrays(comparison, actualArray, expectedArray, matches, child));
+				return errors;
+			}
+		}
+
+		addSizeError(comparison, errors, actualArray, expectedArray);
+
+		// Same size
+		int size = Math.min(actualArray.size(), expectedArray.size());
+		Iterator<Object> it1 = actualArray.iterator();
+		Iterator<Object> it2 = expectedArray.iterator();
+
+		if (isParallel(size)) {
+			List<Entry> entries = new ArrayList<>(size);
+			for (int i = 0; i < size; ++i) {
+				Object actualObject = it1.next();
+				Object expectedObject = it2.next();
+				String key = format("[%s]", i);
+				Cursor child = cursor.child(key);
+				if (!child.isIgnored()) {
+					entries.add(new Entry(key, actualObject, expectedObject, child));
+				}
+			}
+
+			errors.addAll(compareInParallel(comparison, entries));
+			return errors;
+		}
+
+		for (int i = 0; i < size && !comparison.budget.isStopped(); ++i) {
+			Object actualObject = it1.next();
+			Object expectedObject = it2.next();
+			String key = format("[%s]", i);
+			Cursor child = cursor.child(key);
+			if (!child.isIgnored()) {
+				errors.addAll(compareValues(comparison, key, actualObject, expectedObject, child));
+			}
+		}
+
+		return errors;
+	}
+
+	private static void addSizeError(Comparison comparison, List<RestAssertJsonError> errors, List<Object> actualArray, List<Object> expectedArray) {
 		int actualSize = actualArray.size();
 		int expectedSize = expectedArray.size();
 		if (actualSize != expectedSize) {
-			errors.add(
+			JsonContext context = comparison.context;
+			comparison.budget.add(errors,
 				shouldHaveEntryWithSize(
-					contexts.get().actual(),
-					contexts.get().toPath(""),
+					context.actual(),
+					context.toPath(""),
 					actualSize,
 					expectedSize
 				)
 			);
 		}
+	}
 
-		// Same size
-		int size = Math.min(actualSize, expectedSize);
-		Iterator<Object> it1 = actualArray.iterator();
-		Iterator<Object> it2 = expectedArray.iterator();
-		for (int i = 0; i < size; ++i) {
-			Object actualObject = it1.next();
-			Object expectedObject = it2.next();
-			String key = format("[%s]", i);
-			errors.addAll(compareValues(key, actualObject, expectedObject));
+	private List<RestAssertJsonError> compareUnorderedArrays(Comparison comparison, List<Object> actualArray, List<Object> expectedArray, String path, Cursor cursor) {
+		List<RestAssertJsonError> errors = new LinkedList<>();
+		JsonContext context = comparison.context;
+
+		int[] matches = comparison.matcher.match(actualArray, expectedArray, path, cursor);
+		boolean[] matchedExpected = new boolean[expectedArray.size()];
+		for (int match : matches) {
+			if (match >= 0) {
+				matchedExpected[match] = true;
+			}
+		}
+
+		// Missing elements, followed by unexpected elements.
+		int j = 0;
+		for (Object expectedObject : expectedArray) {
+			if (!matchedExpected[j]) {
+				comparison.budget.add(errors,
+					shouldHaveArrayElement(context.actual(), context.toPath(format("[%s]", j)), expectedObject)
+				);
+			}
+
+			j++;
+		}
+
+		int i = 0;
+		for (Object actualObject : actualArray) {
+			if (matches[i] < 0) {
+				comparison.budget.add(errors,
+					shouldNotHaveArrayElement(context.actual(), context.toPath(format("[%s]", i)), actualObject)
+				);
+			}
+
+			i++;
 		}
 
 		return errors;
 	}
 
-	private static boolean isObject(String json) {
+	private List<RestAssertJsonError> compareAlignedArrays(Comparison comparison, List<Object> actualArray, List<Object> expectedArray, int[] matches, Cursor cursor) {
+		List<RestAssertJsonError> errors = new LinkedList<>();
+		JsonContext context = comparison.context;
+		List<Object> actualElements = actualArray instanceof RandomAccess ? actualArray : new ArrayList<>(actualArray);
+		List<Object> expectedElements = expectedArray instanceof RandomAccess ? expectedArray : new ArrayList<>(expectedArray);
+
+		// Between two aligned elements, elements at the same position are modified elements, remaining elements
+		// are missing (or unexpected) elements.
+		int i = 0;
+		int j = 0;
+		while ((i < matches.length || j < expectedElements.size()) && !comparison.budget.isStopped()) {
+			int nextI = i;
+			while (nextI < matches.length && matches[nextI] < 0) {
+				nextI++;
+			}
+
+			int nextJ = nextI < matches.length ? matches[nextI] : expectedElements.size();
+			int modified = Math.min(nextI - i, nextJ - j);
+			for (int k = 0; k < modified && !comparison.budget.isStopped(); ++k) {
+				errors.addAll(compareValues(comparison, format("[%s]", i + k), actualElements.get(i + k), expectedElements.get(j + k), cursor));
+			}
+
+			for (int k = j + modified; k < nextJ; ++k) {
+				comparison.budget.add(errors,
+					shouldHaveArrayElement(context.actual(), context.toPath(format("[%s]", k)), expectedElements.get(k))
+				);
+			}
+
+			for (int k = i + modified; k < nextI; ++k) {
+				comparison.budget.add(errors,
+					shouldNotHaveArrayElement(context.actual(), context.toPath(format("[%s]", k)), actualElements.get(k))
+				);
+			}
+
+			i = nextI + 1;
+			j = nextJ + 1;
+		}
+
+		return errors;
+	}
+
+	// Check if given number of elements (or entries) must be compared in parallel.
+	private boolean isParallel(int size) {
+		int threshold = options.getParallelThreshold();
+		return threshold > 0 && size >= threshold;
+	}
+
+	private List<RestAssertJsonError> compareInParallel(Comparison comparison, List<Entry> entries) {
+		if (comparison.budget.isStopped()) {
+			return emptyList();
+		}
+
+		ParallelComparison task = new ParallelComparison(comparison, entries, 0, entries.size());
+		List<RestAssertJsonError> differences = task.invoke();
+
+		List<RestAssertJsonError> errors = new LinkedList<>();
+		comparison.budget.merge(errors, task.budget, differences);
+		return errors;
+	}
+
+	// Get the path, without array indexes, of given entry of the current context: paths are only
+	// needed when the order of some arrays may be ignored.
+	private String pathOf(Comparison comparison, String key) {
+		if (!options.hasUnorderedArrays()) {
+			return "";
+		}
+
+		String path = comparison.context.toPathIgnoringIndexes();
+		return isArrayIndex(key) ? path : comparison.matcher.childPath(path, key);
+	}
+
+	private static boolean isArrayIndex(String key) {
+		return key.startsWith("[");
+	}
+
+	static boolean isObject(String json) {
 		return json.charAt(0) == '{' &&
 			json.charAt(json.length() - 1) == '}';
 	}
 
-	private static boolean isArray(String json) {
+	static boolean isArray(String json) {
 		return json.charAt(0) == '[' &&
 			json.charAt(json.length() - 1) == ']';
 	}
+
+	/// State of a comparison, or of a parallel task.
+	private static final class Comparison {
+
+		/// Current path.
+		private final JsonContext context;
+
+		/// Structural hashes computed so far.
+		private final JsonTreeMatcher matcher;
+
+		/// Differences found so far.
+		private final JsonErrorBudget budget;
+
+		/// Whether subtrees are checked for equality (with their structural hashes) before being compared.
+		private final boolean hashSubtrees;
+
+		private Comparison(JsonContext context, JsonTreeMatcher matcher, JsonErrorBudget budget, boolean hashSubtrees) {
+			this.context = context;
+			this.matcher = matcher;
+			this.budget = budget;
+			this.hashSubtrees = hashSubtrees;
+		}
+	}
+
+	/// Array element, or object entry, to compare.
+	private static final class Entry {
+
+		/// Entry name (or array index, such as `[0]`).
+		private final String key;
+
+		/// Actual value.
+		private final Object actual;
+
+		/// Expected value.
+		private final Object expected;
+
+		/// Ignored entries below the values.
+		private final Cursor cursor;
+
+		private Entry(String key, Object actual, Object expected, Cursor cursor) {
+			this.key = key;
+			this.actual = actual;
+			this.expected = expected;
+			this.cursor = cursor;
+		}
+	}
+
+	/// Compare a range of entries: the range is split in two halves, compared in parallel, as long as it
+	/// contains at least [JsonComparatorOptions#getParallelThreshold()] entries.
+	///
+	/// Errors of both halves are merged in order, with the budget of each half, so that errors are
+	/// the same as with a sequential comparison.
+	private final class ParallelComparison extends RecursiveTask<List<RestAssertJsonError>> {
+
+		/// The comparison that created this task, not used while the task is running.
+		private final Comparison parent;
+
+		/// Entries to compare.
+		private final List<Entry> entries;
+
+		/// First entry of the range, inclusive.
+		private final int from;
+
+		/// Last entry of the range, exclusive.
+		private final int to;
+
+		/// Differences found by this task, available once it is done.
+		private JsonErrorBudget budget;
+
+		private ParallelComparison(Comparison parent, List<Entry> entries, int from, int to) {
+			this.parent = parent;
+			this.entries = entries;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected List<RestAssertJsonError> compute() {
+			int size = to - from;
+			if (size == 1 || !isParallel(size)) {
+				return compareRange();
+			}
+
+			int middle = (from + to) >>> 1;
+			ParallelComparison left = new ParallelComparison(parent, entries, from, middle);
+			ParallelComparison right = new ParallelComparison(parent, entries, middle, to);
+
+			left.fork();
+			List<RestAssertJsonError> rightErrors = right.compute();
+			List<RestAssertJsonError> leftErrors = left.join();
+
+			List<RestAssertJsonError> errors = new LinkedList<>();
+			budget = new JsonErrorBudget(options);
+			budget.merge(errors, left.budget, leftErrors);
+			budget.merge(errors, right.budget, rightErrors);
+			return errors;
+		}
+
+		private List<RestAssertJsonError> compareRange() {
+			Comparison comparison = new Comparison(parent.context.copy(), parent.matcher.fork(), new JsonErrorBudget(options), true);
+			budget = comparison.budget;
+
+			List<RestAssertJsonError> errors = new LinkedList<>();
+			for (int i = from; i < to && !budget.isStopped(); ++i) {
+				Entry entry = entries.get(i);
+				errors.addAll(compareValues(comparison, entry.key, entry.actual, entry.expected, entry.cursor));
+			}
+
+			return errors;
+		}
+	}
 }
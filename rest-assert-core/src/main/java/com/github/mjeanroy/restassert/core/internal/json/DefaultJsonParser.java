@@ -0,0 +1,713 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Implementation of [JsonParser] that does not need any third party library, used
+/// when no other parser is available on the classpath.
+///
+/// The input (a [String], or UTF-8 bytes) is read in a single pass, without
+/// tokenizing or copying it first:
+/// - Objects and arrays are returned as immutable array-backed [Map] and [List]: objects
+///   keep the insertion order of their members, and are indexed only when they have more than a few members.
+/// - Strings without escape sequences are extracted in a single copy (and, when read from bytes,
+///   decoded as UTF-8 only if they contain non ASCII characters).
+/// - Integral numbers are decoded while they are read, without intermediate string, as
+///   [Integer], [Long] (or [BigInteger] when they are too large), floating point numbers are
+///   decoded as [Double]: these are the same types as the ones returned by Jackson.
+///
+/// As with other implementations, a number returned by [#parse(String)] (or [#parse(byte[])]) is
+/// returned as a [Double].
+///
+/// This class is implemented as a singleton.
+/// This class is thread safe.
+final class DefaultJsonParser implements JsonParser {
+
+	/// Get parser.
+	///
+	/// @return Parser.
+	static DefaultJsonParser getInstance() {
+		return INSTANCE;
+	}
+
+	/// The singleton instance.
+	private static final DefaultJsonParser INSTANCE = new DefaultJsonParser();
+
+	// Private constructor, use static factory instead.
+	private DefaultJsonParser() {
+	}
+
+	@Override
+	public Object parse(String json) {
+		return toDouble(parseDocument(json == null ? null : new CharCursor(json)));
+	}
+
+	@Override
+	public Object parse(byte[] json) {
+		return toDouble(parseDocument(json == null ? null : new ByteCursor(json)));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, Object> parseObject(String json) {
+		Object value = parseDocument(json == null ? null : new CharCursor(json));
+		if (!(value instanceof ObjectNode)) {
+			throw new JsonException("Expecting json to be an object");
+		}
+
+		return (Map<String, Object>) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<Object> parseArray(String json) {
+		Object value = parseDocument(json == null ? null : new CharCursor(json));
+		if (!(value instanceof ArrayNode)) {
+			throw new JsonException("Expecting json to be an array");
+		}
+
+		return (List<Object>) value;
+	}
+
+	private static Object parseDocument(Cursor cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			throw new NullPointerException("JSON");
+		}
+
+		return cursor.parseDocument();
+	}
+
+	private static Object toDouble(Object value) {
+		return value instanceof Number ? ((Number) value).doubleValue() : value;
+	}
+
+	/// A cursor over a JSON input.
+	///
+	/// Structural characters, literals and numbers are always ASCII characters, so most of the
+	/// parsing only needs to read code units: implementations only have to extract strings.
+	private abstract static class Cursor {
+
+		/// Maximum number of digits of an integral number decoded as a `long`, without overflow.
+		private static final int MAX_LONG_DIGITS = 18;
+
+		/// Current position.
+		int pos;
+
+		/// Input length.
+		final int length;
+
+		Cursor(int length) {
+			this.pos = 0;
+			this.length = length;
+		}
+
+		/// Get code unit at given position (for bytes, an unsigned byte value).
+		///
+		/// @param index Position.
+		/// @return The code unit.
+		abstract int at(int index);
+
+		/// Extract string between given positions, without any escape sequence.
+		///
+		/// @param start Start position, inclusive.
+		/// @param end End position, exclusive.
+		/// @param ascii Whether all code units between given positions are known to be ASCII characters.
+		/// @return The string.
+		abstract String substring(int start, int end, boolean ascii);
+
+		/// Append characters between given positions, without any escape sequence.
+		///
+		/// @param sb The output.
+		/// @param start Start position, inclusive.
+		/// @param end End position, exclusive.
+		abstract void append(StringBuilder sb, int start, int end);
+
+		final boolean isBlank() {
+			skipWhitespaces();
+			return pos >= length;
+		}
+
+		final Object parseDocument() {
+			Object value = parseValue();
+			skipWhitespaces();
+			if (pos < length) {
+				throw unexpectedCharacter();
+			}
+
+			return value;
+		}
+
+		private Object parseValue() {
+			skipWhitespaces();
+			if (pos >= length) {
+				throw unexpectedEnd();
+			}
+
+			int c = at(pos);
+			switch (c) {
+				case '{':
+					return parseObject();
+				case '[':
+					return parseArray();
+				case '"':
+					return parseString();
+				case 't':
+					parseLiteral("true");
+					return Boolean.TRUE;
+				case 'f':
+					parseLiteral("false");
+					return Boolean.FALSE;
+				case 'n':
+					parseLiteral("null");
+					return null;
+				default:
+					if (c == '-' || isDigit(c)) {
+						return parseNumber();
+					}
+
+					throw unexpectedCharacter();
+			}
+		}
+
+		private Object parseObject() {
+			// Skip '{'
+			pos++;
+
+			ObjectNode node = new ObjectNode();
+			skipWhitespaces();
+			if (pos < length && at(pos) == '}') {
+				pos++;
+				return node;
+			}
+
+			while (true) {
+				skipWhitespaces();
+				if (pos >= length || at(pos) != '"') {
+					throw pos >= length ? unexpectedEnd() : unexpectedCharacter();
+				}
+
+				String key = parseString();
+				skipWhitespaces();
+				consume(':');
+				node.addMember(key, parseValue());
+
+				skipWhitespaces();
+				if (pos >= length) {
+					throw unexpectedEnd();
+				}
+
+				int c = at(pos++);
+				if (c == '}') {
+					return node;
+				}
+
+				if (c != ',') {
+					pos--;
+					throw unexpectedCharacter();
+				}
+			}
+		}
+
+		private Object parseArray() {
+			// Skip '['
+			pos++;
+
+			ArrayNode node = new ArrayNode();
+			skipWhitespaces();
+			if (pos < length && at(pos) == ']') {
+				pos++;
+				return node;
+			}
+
+			while (true) {
+				node.addElement(parseValue());
+
+				skipWhitespaces();
+				if (pos >= length) {
+					throw unexpectedEnd();
+				}
+
+				int c = at(pos++);
+				if (c == ']') {
+					return node;
+				}
+
+				if (c != ',') {
+					pos--;
+					throw unexpectedCharacter();
+				}
+			}
+		}
+
+		private String parseString() {
+			// Skip opening quote
+			int start = ++pos;
+			boolean ascii = true;
+
+			while (pos < length) {
+				int c = at(pos);
+				if (c == '"') {
+					String value = substring(start, pos, ascii);
+					pos++;
+					return value;
+				}
+
+				if (c == '\\') {
+					return parseEscapedString(start);
+				}
+
+				if (c < 0x20) {
+					throw unexpectedCharacter();
+				}
+
+				ascii &= c < 0x80;
+				pos++;
+			}
+
+			throw unexpectedEnd();
+		}
+
+		private String parseEscapedString(int start) {
+			StringBuilder sb = new StringBuilder(pos - start + 16);
+			int from = start;
+
+			while (pos < length) {
+				int c = at(pos);
+				if (c == '"') {
+					append(sb, from, pos);
+					pos++;
+					return sb.toString();
+				}
+
+				if (c < 0x20) {
+					throw unexpectedCharacter();
+				}
+
+				if (c != '\\') {
+					pos++;
+					continue;
+				}
+
+				append(sb, from, pos);
+				if (++pos >= length) {
+					throw unexpectedEnd();
+				}
+
+				switch (at(pos++)) {
+					case '"':
+						sb.append('"');
+						break;
+					case '\\':
+						sb.append('\\');
+						break;
+					case '/':
+						sb.append('/');
+						break;
+					case 'b':
+						sb.append('\b');
+						break;
+					case 'f':
+						sb.append('\f');
+						break;
+					case 'n':
+						sb.append('\n');
+						break;
+					case 'r':
+						sb.append('\r');
+						break;
+					case 't':
+						sb.append('\t');
+						break;
+					case 'u':
+						sb.append(parseUnicode());
+						break;
+					default:
+						pos--;
+						throw unexpectedCharacter();
+				}
+
+				from = pos;
+			}
+
+			throw unexpectedEnd();
+		}
+
+		private char parseUnicode() {
+			if (pos + 4 > length) {
+				throw unexpectedEnd();
+			}
+
+			int value = 0;
+			for (int i = 0; i < 4; ++i) {
+				int digit = Character.digit(at(pos), 16);
+				if (digit < 0) {
+					throw unexpectedCharacter();
+				}
+
+				value = (value << 4) | digit;
+				pos++;
+			}
+
+			return (char) value;
+		}
+
+		private Number parseNumber() {
+			int start = pos;
+			boolean negative = at(pos) == '-';
+			if (negative) {
+				pos++;
+			}
+
+			// Integral part: decoded while it is read.
+			long value = 0;
+			int digits = 0;
+			if (pos < length && at(pos) == '0') {
+				pos++;
+				digits++;
+			}
+			else {
+				while (pos < length && isDigit(at(pos))) {
+					value = value * 10 + (at(pos) - '0');
+					pos++;
+					digits++;
+				}
+			}
+
+			if (digits == 0) {
+				throw pos >= length ? unexpectedEnd() : unexpectedCharacter();
+			}
+
+			boolean integral = true;
+			if (pos < length && at(pos) == '.') {
+				integral = false;
+				pos++;
+				skipDigits();
+			}
+
+			if (pos < length && (at(pos) == 'e' || at(pos) == 'E')) {
+				integral = false;
+				pos++;
+				if (pos < length && (at(pos) == '+' || at(pos) == '-')) {
+					pos++;
+				}
+
+				skipDigits();
+			}
+
+			if (!integral) {
+				return Double.parseDouble(substring(start, pos, true));
+			}
+
+			if (digits > MAX_LONG_DIGITS) {
+				BigInteger bigInteger = new BigInteger(substring(start, pos, true));
+				return bigInteger.bitLength() < Long.SIZE ? (Number) bigInteger.longValue() : bigInteger;
+			}
+
+			long number = negative ? -value : value;
+			return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE ? (Number) (int) number : (Number) number;
+		}
+
+		private void skipDigits() {
+			int start = pos;
+			while (pos < length && isDigit(at(pos))) {
+				pos++;
+			}
+
+			if (pos == start) {
+				throw pos >= length ? unexpectedEnd() : unexpectedCharacter();
+			}
+		}
+
+		private void parseLiteral(String literal) {
+			int size = literal.length();
+			for (int i = 0; i < size; ++i) {
+				if (pos >= length) {
+					throw unexpectedEnd();
+				}
+
+				if (at(pos) != literal.charAt(i)) {
+					throw unexpectedCharacter();
+				}
+
+				pos++;
+			}
+		}
+
+		private void consume(char c) {
+			if (pos >= length) {
+				throw unexpectedEnd();
+			}
+
+			if (at(pos) != c) {
+				throw unexpectedCharacter();
+			}
+
+			pos++;
+		}
+
+		private void skipWhitespaces() {
+			while (pos < length) {
+				int c = at(pos);
+				if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+					return;
+				}
+
+				pos++;
+			}
+		}
+
+		private JsonException unexpectedCharacter() {
+			return new JsonException(format("Unexpected character '%s' at position %s", (char) at(pos), pos));
+		}
+
+		private JsonException unexpectedEnd() {
+			return new JsonException(format("Unexpected end of json at position %s", pos));
+		}
+
+		private static boolean isDigit(int c) {
+			return c >= '0' && c <= '9';
+		}
+	}
+
+	/// A cursor over a [String].
+	private static final class CharCursor extends Cursor {
+		private final String json;
+
+		private CharCursor(String json) {
+			super(json.length());
+			this.json = json;
+		}
+
+		@Override
+		int at(int index) {
+			return json.charAt(index);
+		}
+
+		@Override
+		String substring(int start, int end, boolean ascii) {
+			return json.substring(start, end);
+		}
+
+		@Override
+		void append(StringBuilder sb, int start, int end) {
+			sb.append(json, start, end);
+		}
+	}
+
+	/// A cursor over UTF-8 bytes.
+	///
+	/// Multibyte sequences never contain ASCII bytes, so they can only appear in strings, and
+	/// they are decoded when strings are extracted.
+	private static final class ByteCursor extends Cursor {
+		private final byte[] json;
+
+		private ByteCursor(byte[] json) {
+			super(json.length);
+			this.json = json;
+		}
+
+		@Override
+		int at(int index) {
+			return json[index] & 0xFF;
+		}
+
+		@Override
+		String substring(int start, int end, boolean ascii) {
+			// ASCII is a subset of both UTF-8 and ISO-8859-1, but ISO-8859-1 decoding is much cheaper.
+			return new String(json, start, end - start, ascii ? ISO_8859_1 : UTF_8);
+		}
+
+		@Override
+		void append(StringBuilder sb, int start, int end) {
+			if (end > start) {
+				sb.append(substring(start, end, false));
+			}
+		}
+	}
+
+	/// Immutable JSON object, members are stored in insertion order in two arrays.
+	///
+	/// Small objects are looked up with a linear scan, larger ones are indexed while
+	/// they are read.
+	private static final class ObjectNode extends AbstractMap<String, Object> {
+
+		/// Number of members from which objects are indexed.
+		private static final int INDEX_THRESHOLD = 8;
+
+		private String[] keys;
+		private Object[] values;
+		private int size;
+		private Map<String, Integer> index;
+
+		private ObjectNode() {
+			this.keys = new String[4];
+			this.values = new Object[4];
+			this.size = 0;
+			this.index = null;
+		}
+
+		private void addMember(String key, Object value) {
+			// Duplicate keys: last value wins, but first position is kept.
+			int i = indexOf(key);
+			if (i >= 0) {
+				values[i] = value;
+				return;
+			}
+
+			if (size == keys.length) {
+				keys = Arrays.copyOf(keys, size * 2);
+				values = Arrays.copyOf(values, size * 2);
+			}
+
+			keys[size] = key;
+			values[size] = value;
+			if (index != null) {
+				index.put(key, size);
+			}
+
+			size++;
+
+			if (index == null && size > INDEX_THRESHOLD) {
+				index = new HashMap<>(size * 4);
+				for (int j = 0; j < size; ++j) {
+					index.put(keys[j], j);
+				}
+			}
+		}
+
+		private int indexOf(Object key) {
+			if (index != null) {
+				Integer i = index.get(key);
+				return i == null ? -1 : i;
+			}
+
+			for (int i = 0; i < size; ++i) {
+				if (keys[i].equals(key)) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return indexOf(key) >= 0;
+		}
+
+		@Override
+		public Object get(Object key) {
+			int i = indexOf(key);
+			return i >= 0 ? values[i] : null;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<Entry<String, Object>>() {
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return new Iterator<Entry<String, Object>>() {
+						private int i = 0;
+
+						@Override
+						public boolean hasNext() {
+							return i < size;
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							if (i >= size) {
+								throw new NoSuchElementException();
+							}
+
+							Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[i], values[i]);
+							i++;
+							return entry;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+	}
+
+	/// Immutable JSON array, elements are stored in an array.
+	private static final class ArrayNode extends AbstractList<Object> implements RandomAccess {
+		private Object[] elements;
+		private int size;
+
+		private ArrayNode() {
+			this.elements = new Object[8];
+			this.size = 0;
+		}
+
+		private void addElement(Object value) {
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, size * 2);
+			}
+
+			elements[size++] = value;
+		}
+
+		@Override
+		public Object get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(format("Index: %s, Size: %s", index, size));
+			}
+
+			return elements[index];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
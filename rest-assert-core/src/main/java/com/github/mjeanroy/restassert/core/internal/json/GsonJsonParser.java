@@ -26,6 +26,11 @@ package com.github.mjeanroy.restassert.core.internal.json;
 
 import com.google.gson.Gson;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /// Implementation of [JsonParser] using Google Gson as internal implementation.
 ///
 /// This class is implemented as a singleton.
@@ -52,6 +57,11 @@ final class GsonJsonParser extends AbstractJsonParser {
 		return gson.fromJson(json, klass);
 	}
 
+	@Override
+	<T> T doParse(byte[] json, Class<T> klass) {
+		return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(json), UTF_8), klass);
+	}
+
 	private static final class Holder {
 		private static final GsonJsonParser INSTANCE = new GsonJsonParser(
 			new Gson()
@@ -52,6 +52,11 @@ final class Jackson1JsonParser extends AbstractJsonParser {
 		return mapper.readValue(json, klass);
 	}
 
+	@Override
+	<T> T doParse(byte[] json, Class<T> klass) throws Exception {
+		return mapper.readValue(json, klass);
+	}
+
 	private static final class Holder {
 		private static final Jackson1JsonParser INSTANCE = new Jackson1JsonParser(
 			new ObjectMapper()
@@ -51,6 +51,11 @@ final class Jackson2JsonParser extends AbstractJsonParser {
 		return mapper.readValue(json, klass);
 	}
 
+	@Override
+	<T> T doParse(byte[] json, Class<T> klass) throws Exception {
+		return mapper.readValue(json, klass);
+	}
+
 	private static final class Holder {
 		private static final Jackson2JsonParser INSTANCE = new Jackson2JsonParser(
 			new ObjectMapper().findAndRegisterModules()
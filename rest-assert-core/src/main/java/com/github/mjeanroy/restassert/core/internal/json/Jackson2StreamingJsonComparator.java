@@ -0,0 +1,326 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertJsonError;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldBeEntryOf.shouldBeEntryOf;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntryEqualTo.shouldHaveEntryEqualTo;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntryWithSize.shouldHaveEntryWithSize;
+import static com.github.mjeanroy.restassert.core.internal.json.DefaultJsonComparator.checkMissingOrUnexpectedEntries;
+import static com.github.mjeanroy.restassert.core.internal.json.DefaultJsonComparator.checkType;
+import static com.github.mjeanroy.restassert.core.internal.json.JsonContext.rootContext;
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+/// Implementation of [JsonComparator] using Jackson2 streaming API.
+///
+/// Both documents are read token by token, in lockstep, instead of being parsed as
+/// [Map] and [List] trees: only members of expected objects that appear in a different
+/// order than in actual objects are buffered.
+///
+/// Errors are the same (and reported in the same order) as the ones
+/// reported by [DefaultJsonComparator].
+///
+/// This class is implemented as a singleton.
+/// This class is thread safe.
+final class Jackson2StreamingJsonComparator implements JsonComparator {
+
+	/// Get comparator.
+	///
+	/// @return Comparator.
+	static Jackson2StreamingJsonComparator getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/// Jackson2 factory, used to create parsers.
+	private final JsonFactory factory;
+
+	// Use thread local to remains thread safe
+	private final ThreadLocal<JsonContext> contexts = new ThreadLocal<>();
+
+	/// Comparator of parsed documents: parsed values are compared as trees, instead
+	/// of reading again their json representations.
+	private final JsonComparator treeComparator = new DefaultJsonComparator(JsonParsers.getParser());
+
+	private Jackson2StreamingJsonComparator(JsonFactory factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public List<RestAssertError> compare(String actual, String expected) {
+		contexts.set(rootContext(actual, expected));
+		try {
+			List<RestAssertJsonError> errors = doCompare(actual.trim(), expected.trim());
+			return (List) errors;
+		}
+		catch (IOException ex) {
+			throw new JsonException(ex);
+		}
+		finally {
+			contexts.remove();
+		}
+	}
+
+	@Override
+	public List<RestAssertError> compare(ParsedJson actual, ParsedJson expected) {
+		return treeComparator.compare(actual, expected);
+	}
+
+	private List<RestAssertJsonError> doCompare(String actual, String expected) throws IOException {
+		RestAssertJsonError error = checkType(actual, expected);
+		if (error != null) {
+			return singletonList(error);
+		}
+
+		try (JsonParser actualParser = factory.createParser(actual); JsonParser expectedParser = factory.createParser(expected)) {
+			// Both documents must be objects, or both must be arrays, as with parsed documents.
+			JsonToken root = actualParser.nextToken() == JsonToken.START_OBJECT ? JsonToken.START_OBJECT : JsonToken.START_ARRAY;
+			if (actualParser.currentToken() != root || expectedParser.nextToken() != root) {
+				throw new JsonException(root == JsonToken.START_OBJECT ? "Expecting json to be an object" : "Expecting json to be an array");
+			}
+
+			return root == JsonToken.START_OBJECT ?
+				compareObjects(actualParser, expectedParser) :
+				compareArrays(actualParser, expectedParser);
+		}
+	}
+
+	private List<RestAssertJsonError> compareObjects(JsonParser actual, JsonParser expected) throws IOException {
+		List<RestAssertJsonError> entriesErrors = new LinkedList<>();
+		Set<String> actualEntries = new LinkedHashSet<>();
+		Set<String> expectedEntries = new LinkedHashSet<>();
+
+		// Expected members read ahead of actual ones, waiting for the matching actual member.
+		Map<String, TokenBuffer> pendingEntries = new HashMap<>();
+		boolean expectedEnded = false;
+
+		while (actual.nextToken() == JsonToken.FIELD_NAME) {
+			String key = actual.currentName();
+			actual.nextToken();
+			actualEntries.add(key);
+
+			JsonParser expectedValue = null;
+			TokenBuffer pendingEntry = pendingEntries.remove(key);
+			if (pendingEntry != null) {
+				expectedValue = pendingEntry.asParser();
+				expectedValue.nextToken();
+			}
+			else {
+				while (!expectedEnded) {
+					if (expected.nextToken() != JsonToken.FIELD_NAME) {
+						expectedEnded = true;
+						break;
+					}
+
+					String expectedKey = expected.currentName();
+					expected.nextToken();
+					expectedEntries.add(expectedKey);
+
+					if (expectedKey.equals(key)) {
+						expectedValue = expected;
+						break;
+					}
+
+					TokenBuffer buffer = new TokenBuffer(expected, null);
+					buffer.copyCurrentStructure(expected);
+					pendingEntries.put(expectedKey, buffer);
+				}
+			}
+
+			if (expectedValue == null) {
+				actual.skipChildren();
+			}
+			else {
+				entriesErrors.addAll(compareValues(key, actual, expectedValue));
+			}
+		}
+
+		// Read remaining expected members.
+		while (!expectedEnded && expected.nextToken() == JsonToken.FIELD_NAME) {
+			expectedEntries.add(expected.currentName());
+			expected.nextToken();
+			expected.skipChildren();
+		}
+
+		LinkedList<RestAssertJsonError> errors = new LinkedList<>();
+		errors.addAll(checkMissingOrUnexpectedEntries(contexts.get(), actualEntries, expectedEntries));
+		errors.addAll(entriesErrors);
+		return errors;
+	}
+
+	private List<RestAssertJsonError> compareValues(String key, JsonParser actual, JsonParser expected) throws IOException {
+		List<RestAssertJsonError> errors = new LinkedList<>();
+
+		JsonType actualType = parseType(actual.currentToken());
+		JsonType expectedType = parseType(expected.currentToken());
+		if (actualType != expectedType) {
+			errors.add(
+				shouldBeEntryOf(
+					contexts.get().actual(),
+					contexts.get().toPath(key),
+					actualType,
+					expectedType
+				)
+			);
+
+			actual.skipChildren();
+			expected.skipChildren();
+		}
+		else {
+			// Same types, check values
+			if (actualType == JsonType.OBJECT) {
+				// Compare nested object
+				contexts.get().append(key);
+				errors.addAll(compareObjects(actual, expected));
+				contexts.get().remove();
+			}
+			else if (actualType == JsonType.ARRAY) {
+				// Compare arrays
+				contexts.get().append(key);
+				errors.addAll(compareArrays(actual, expected));
+				contexts.get().remove();
+			}
+			else if (actualType != JsonType.NULL) {
+				Object actualObject = readValue(actual);
+				Object expectedObject = readValue(expected);
+				if (!actualObject.equals(expectedObject)) {
+					// Not null and not equals
+					errors.add(
+						shouldHaveEntryEqualTo(
+							contexts.get().actual(),
+							contexts.get().toPath(key),
+							actualObject,
+							expectedObject
+						)
+					);
+				}
+			}
+		}
+
+		return errors;
+	}
+
+	private List<RestAssertJsonError> compareArrays(JsonParser actual, JsonParser expected) throws IOException {
+		List<RestAssertJsonError> errors = new LinkedList<>();
+
+		int actualSize = 0;
+		int expectedSize = 0;
+		boolean actualEnded = false;
+		boolean expectedEnded = false;
+
+		while (true) {
+			actualEnded = actualEnded || actual.nextToken() == JsonToken.END_ARRAY;
+			expectedEnded = expectedEnded || expected.nextToken() == JsonToken.END_ARRAY;
+
+			if (actualEnded && expectedEnded) {
+				break;
+			}
+
+			if (!actualEnded && !expectedEnded) {
+				errors.addAll(compareValues(format("[%s]", actualSize), actual, expected));
+				actualSize++;
+				expectedSize++;
+			}
+			else if (!actualEnded) {
+				actual.skipChildren();
+				actualSize++;
+			}
+			else {
+				expected.skipChildren();
+				expectedSize++;
+			}
+		}
+
+		if (actualSize != expectedSize) {
+			errors.add(0,
+				shouldHaveEntryWithSize(
+					contexts.get().actual(),
+					contexts.get().toPath(""),
+					actualSize,
+					expectedSize
+				)
+			);
+		}
+
+		return errors;
+	}
+
+	/// Read current scalar value, using the same java types as Jackson2 data binding.
+	private static Object readValue(JsonParser parser) throws IOException {
+		switch (parser.currentToken()) {
+			case VALUE_NUMBER_INT:
+				return parser.getNumberValue();
+			case VALUE_NUMBER_FLOAT:
+				return parser.getDoubleValue();
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				return parser.getBooleanValue();
+			default:
+				return parser.getText();
+		}
+	}
+
+	private static JsonType parseType(JsonToken token) {
+		switch (token) {
+			case START_OBJECT:
+				return JsonType.OBJECT;
+			case START_ARRAY:
+				return JsonType.ARRAY;
+			case VALUE_STRING:
+				return JsonType.STRING;
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				return JsonType.NUMBER;
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				return JsonType.BOOLEAN;
+			case VALUE_NULL:
+				return JsonType.NULL;
+			default:
+				throw new UnsupportedOperationException("Json type of token " + token + " cannot be found");
+		}
+	}
+
+	private static final class Holder {
+		private static final Jackson2StreamingJsonComparator INSTANCE = new Jackson2StreamingJsonComparator(
+			new JsonFactory()
+		);
+	}
+}
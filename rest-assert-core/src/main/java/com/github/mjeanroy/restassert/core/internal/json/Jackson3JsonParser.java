@@ -24,11 +24,16 @@
 
 package com.github.mjeanroy.restassert.core.internal.json;
 
-import tools.jackson.databind.ObjectMapper;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 
 /// Implementation of [JsonParser] using Jackson 3 as internal implementation.
 ///
+/// The mapper is tuned for untyped parsing: no module is looked up on the classpath, property
+/// names are canonicalized (but not interned) and floating point numbers are read as [Double].
+///
 /// This class is implemented as a singleton.
 /// This class is thread safe.
 final class Jackson3JsonParser extends AbstractJsonParser {
@@ -41,9 +46,9 @@ final class Jackson3JsonParser extends AbstractJsonParser {
 	}
 
 	/// Jackson 3 parser.
-	private final ObjectMapper mapper;
+	private final JsonMapper mapper;
 
-	private Jackson3JsonParser(ObjectMapper mapper) {
+	private Jackson3JsonParser(JsonMapper mapper) {
 		super();
 		this.mapper = mapper;
 	}
@@ -53,10 +58,20 @@ final class Jackson3JsonParser extends AbstractJsonParser {
 		return mapper.readValue(json, klass);
 	}
 
+	@Override
+	<T> T doParse(byte[] json, Class<T> klass) {
+		return mapper.readValue(json, klass);
+	}
+
 	private static final class Holder {
 		private static final Jackson3JsonParser INSTANCE = new Jackson3JsonParser(
-			JsonMapper.builder()
-				.findAndAddModules()
+			JsonMapper.builder(
+				JsonFactory.builder()
+					.enable(TokenStreamFactory.Feature.CANONICALIZE_PROPERTY_NAMES)
+					.disable(TokenStreamFactory.Feature.INTERN_PROPERTY_NAMES)
+					.build()
+				)
+				.disable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
 				.build()
 		);
 	}
@@ -37,4 +37,16 @@ public interface JsonComparator {
 	/// @param expected Expected json representation.
 	/// @return List of errors (a.k.a differences).
 	List<RestAssertError> compare(String actual, String expected);
+
+	/// Compare parsed documents.
+	///
+	/// Default implementation compares json representations of documents, implementations should
+	/// override it to reuse parsed values.
+	///
+	/// @param actual Actual document.
+	/// @param expected Expected document.
+	/// @return List of errors (a.k.a differences).
+	default List<RestAssertError> compare(ParsedJson actual, ParsedJson expected) {
+		return compare(actual.json(), expected.json());
+	}
 }
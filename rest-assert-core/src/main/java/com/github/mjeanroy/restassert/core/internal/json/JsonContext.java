@@ -46,6 +46,15 @@ class JsonContext {
 		this.contexts = new LinkedList<>();
 	}
 
+	/// Copy this context, so that it can be used by another thread.
+	///
+	/// @return The copy.
+	JsonContext copy() {
+		JsonContext copy = new JsonContext(actual, expected);
+		copy.contexts.addAll(contexts);
+		return copy;
+	}
+
 	String actual() {
 		return actual;
 	}
@@ -90,6 +99,23 @@ class JsonContext {
 		return sb.toString();
 	}
 
+	String toPathIgnoringIndexes() {
+		StringBuilder sb = new StringBuilder();
+		for (String context : contexts) {
+			if (isArrayNotation(context)) {
+				continue;
+			}
+
+			if (sb.length() > 0) {
+				sb.append('.');
+			}
+
+			sb.append(context);
+		}
+
+		return sb.toString();
+	}
+
 	@Override
 	public String toString() {
 		return toPath("");
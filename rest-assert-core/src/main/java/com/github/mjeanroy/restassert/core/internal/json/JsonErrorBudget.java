@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertJsonError;
+
+import java.util.List;
+
+/// Differences found so far during a comparison, limited by [JsonComparatorOptions#isFailFast()] and
+/// [JsonComparatorOptions#getMaxErrors()]: differences that cannot be reported are only counted.
+///
+/// A new instance must be used for each comparison.
+/// This class is not thread safe.
+final class JsonErrorBudget {
+
+	/// Stop the comparison at the first difference.
+	private final boolean failFast;
+
+	/// Maximum number of reported differences, `0` if all differences are reported.
+	private final int maxErrors;
+
+	/// Number of differences found so far.
+	private int count;
+
+	JsonErrorBudget(JsonComparatorOptions options) {
+		this.failFast = options.isFailFast();
+		this.maxErrors = options.getMaxErrors();
+		this.count = 0;
+	}
+
+	/// Add difference to given errors, if it can still be reported.
+	///
+	/// @param errors Errors.
+	/// @param error The difference.
+	void add(List<RestAssertJsonError> errors, RestAssertJsonError error) {
+		count++;
+		if (count == 1 || (!failFast && (maxErrors == 0 || count <= maxErrors))) {
+			errors.add(error);
+		}
+	}
+
+	/// Add differences to given errors, as long as they can be reported.
+	///
+	/// @param errors Errors.
+	/// @param differences The differences.
+	void addAll(List<RestAssertJsonError> errors, List<RestAssertJsonError> differences) {
+		for (RestAssertJsonError error : differences) {
+			add(errors, error);
+		}
+	}
+
+	/// Add differences found with another budget (for example, by a parallel task), as if they had been found
+	/// with this budget: differences counted, but not reported, by the other budget are counted as well.
+	///
+	/// @param errors Errors.
+	/// @param other The other budget.
+	/// @param differences Differences reported by the other budget.
+	void merge(List<RestAssertJsonError> errors, JsonErrorBudget other, List<RestAssertJsonError> differences) {
+		addAll(errors, differences);
+		count += other.count - differences.size();
+	}
+
+	/// Check if the comparison must stop, i.e. if a difference has been found and the comparison is
+	/// configured to stop at the first difference.
+	///
+	/// @return `true` if comparison must stop, `false` otherwise.
+	boolean isStopped() {
+		return failFast && count > 0;
+	}
+
+	/// Get the number of differences that have been found, but not reported.
+	///
+	/// @return Number of differences that have not been reported.
+	int getUnreported() {
+		return failFast || maxErrors == 0 ? 0 : Math.max(0, count - maxErrors);
+	}
+}
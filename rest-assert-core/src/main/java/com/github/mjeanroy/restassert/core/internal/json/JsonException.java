@@ -34,4 +34,11 @@ public class JsonException extends RuntimeException {
 	JsonException(Throwable th) {
 		super(th);
 	}
+
+	/// Create exception.
+	///
+	/// @param message The error message.
+	JsonException(String message) {
+		super(message);
+	}
 }
@@ -0,0 +1,280 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.github.mjeanroy.restassert.core.internal.common.Files;
+import com.github.mjeanroy.restassert.core.internal.common.Ios;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Expected JSON documents read from files (or URLs), shared between JSON assertions.
+///
+/// Test suites usually compare responses against the same few expected documents again and
+/// again: documents are read once, decoded as UTF-8, and then cached:
+/// - Files are keyed by their absolute URI, so that files of any file system (such as zip file systems)
+///   are supported, and are read again as soon as their size or last modification date change.
+/// - URLs are keyed by their external form, only `file` and `jar` URLs are cached, other URLs
+///   (such as `http` URLs) are read each time.
+///
+/// The cache is bounded by the total number of characters of cached documents: when it is
+/// exceeded, the least recently used documents are evicted. The default maximum size can be
+/// changed with the `restassert.json.files.maxSize` system property, or with [#setMaxSize(long)].
+/// Documents are also softly referenced, so that they can be reclaimed by the garbage collector
+/// if memory runs low.
+///
+/// This class is thread safe.
+public final class JsonFiles {
+
+	/// The system property used to set the maximum size of the cache.
+	static final String MAX_SIZE_PROPERTY = "restassert.json.files.maxSize";
+
+	/// The default maximum size of the cache, in number of characters.
+	static final long DEFAULT_MAX_SIZE = 16L * 1024L * 1024L;
+
+	/// The cached documents, ordered by access.
+	private static final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/// Number of documents found in the cache.
+	private static final LongAdder hits = new LongAdder();
+
+	/// Number of documents that had to be read.
+	private static final LongAdder misses = new LongAdder();
+
+	/// The maximum size of the cache, in number of characters.
+	private static long maxSize = Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+
+	/// The current size of the cache, in number of characters.
+	private static long weight = 0;
+
+	// Ensure non instantiation.
+	private JsonFiles() {
+	}
+
+	/// Read JSON document from given file.
+	///
+	/// @param path File path.
+	/// @return The JSON document.
+	/// @throws Files.UnreadableFileException If file cannot be read.
+	public static ParsedJson read(Path path) {
+		notNull(path, "JSON file must not be null");
+		Supplier<String> loader = () -> Files.readFileToString(path, UTF_8);
+
+		// Attributes are read with NIO, so that paths of any file system (such as zip file systems) are supported.
+		long length;
+		long lastModified;
+		try {
+			length = java.nio.file.Files.size(path);
+			lastModified = java.nio.file.Files.getLastModifiedTime(path).toMillis();
+		}
+		catch (IOException ex) {
+			// File cannot be read, let the loader report it.
+			misses.increment();
+			return ParsedJson.parse(loader.get());
+		}
+
+		String key = path.toAbsolutePath().normalize().toUri().toString();
+		return get(key, length, lastModified, loader);
+	}
+
+	/// Read JSON document from given URL.
+	///
+	/// @param url The URL.
+	/// @return The JSON document.
+	/// @throws Ios.UrlException If URL cannot be read.
+	public static ParsedJson read(URL url) {
+		notNull(url, "JSON URL must not be null");
+		Supplier<String> loader = () -> Ios.readUrl(url, UTF_8);
+		String protocol = url.getProtocol();
+
+		if ("jar".equals(protocol)) {
+			return get(url.toExternalForm(), 0, 0, loader);
+		}
+
+		if ("file".equals(protocol)) {
+			try {
+				File file = new File(url.toURI());
+				String key = file.toPath().toAbsolutePath().normalize().toUri().toString();
+				return get(key, file.length(), file.lastModified(), loader);
+			}
+			catch (URISyntaxException | IllegalArgumentException ex) {
+				// Not a valid file URI, read it without caching.
+			}
+		}
+
+		misses.increment();
+		return ParsedJson.parse(loader.get());
+	}
+
+	private static ParsedJson get(String key, long length, long lastModified, Supplier<String> loader) {
+		synchronized (cache) {
+			Entry entry = cache.get(key);
+			ParsedJson json = entry == null || !entry.isVersion(length, lastModified) ? null : entry.json.get();
+			if (json != null) {
+				hits.increment();
+				return json;
+			}
+		}
+
+		// Read outside of the lock, reading a document is slow.
+		misses.increment();
+		ParsedJson json = ParsedJson.parse(loader.get());
+
+		synchronized (cache) {
+			remove(cache.remove(key));
+
+			Entry entry = new Entry(length, lastModified, json);
+			if (entry.weight <= maxSize) {
+				cache.put(key, entry);
+				weight += entry.weight;
+				evict();
+			}
+		}
+
+		return json;
+	}
+
+	/// Remove least recently used documents until the size of the cache is less than (or equal to)
+	/// the maximum size.
+	private static void evict() {
+		Iterator<Entry> it = cache.values().iterator();
+		while (weight > maxSize && it.hasNext()) {
+			weight -= it.next().weight;
+			it.remove();
+		}
+	}
+
+	private static void remove(Entry entry) {
+		if (entry != null) {
+			weight -= entry.weight;
+		}
+	}
+
+	/// Get the maximum size of the cache, in number of characters.
+	///
+	/// @return Maximum size.
+	public static long getMaxSize() {
+		synchronized (cache) {
+			return maxSize;
+		}
+	}
+
+	/// Set the maximum size of the cache, in number of characters: documents are evicted
+	/// if the cache is now too large.
+	///
+	/// @param maxSize Maximum size, `0` disable the cache.
+	/// @throws IllegalArgumentException If `maxSize` is negative.
+	public static void setMaxSize(long maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Cache size must not be negative");
+		}
+
+		synchronized (cache) {
+			JsonFiles.maxSize = maxSize;
+			evict();
+		}
+	}
+
+	/// Get the number of documents found in the cache.
+	///
+	/// @return Number of cache hits.
+	public static long getHits() {
+		return hits.sum();
+	}
+
+	/// Get the number of documents that have been read, because they were not in the cache.
+	///
+	/// @return Number of cache misses.
+	public static long getMisses() {
+		return misses.sum();
+	}
+
+	/// Get the number of cached documents.
+	///
+	/// @return Cache size.
+	public static int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/// Get the total number of characters of cached documents.
+	///
+	/// @return Cache weight.
+	public static long weight() {
+		synchronized (cache) {
+			return weight;
+		}
+	}
+
+	/// Remove all cached documents, and reset counters.
+	public static void clear() {
+		synchronized (cache) {
+			cache.clear();
+			weight = 0;
+			hits.reset();
+			misses.reset();
+		}
+	}
+
+	/// A cached document.
+	private static final class Entry {
+
+		/// The size of the file when document has been read.
+		private final long length;
+
+		/// The last modification date of the file when document has been read.
+		private final long lastModified;
+
+		/// The document, softly referenced.
+		private final SoftReference<ParsedJson> json;
+
+		/// The number of characters of the document.
+		private final long weight;
+
+		private Entry(long length, long lastModified, ParsedJson json) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.json = new SoftReference<>(json);
+			this.weight = json.json().length();
+		}
+
+		private boolean isVersion(long length, long lastModified) {
+			return this.length == length && this.lastModified == lastModified;
+		}
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/// Paths of JSON entries ignored during a comparison, compiled as a trie.
+///
+/// Supported paths are a subset of JsonPath expressions, with or without the `$` root prefix, made of:
+/// - Member names, such as `key1.key2` or `$['key1']`.
+/// - Array indexes, such as `items[0]`.
+/// - Wildcards, matching any member or any array element, such as `items[*].updatedAt` or `item.*`.
+///
+/// Other expressions (such as filters, slices or deep scans) are not supported, see [#isSupported(String)].
+///
+/// The trie is consulted while both documents are traversed: each node of the documents is associated
+/// with a [Cursor], giving the trie nodes matching this node, and children of ignored nodes are never
+/// compared.
+///
+/// This class is immutable and thread safe.
+public final class JsonIgnoredPaths {
+
+	/// No ignored paths.
+	private static final JsonIgnoredPaths NONE = new JsonIgnoredPaths(new Node());
+
+	/// Wildcard segment.
+	private static final String WILDCARD = "*";
+
+	/// Compile given paths.
+	///
+	/// @param paths Paths to ignore.
+	/// @return Compiled paths.
+	/// @throws IllegalArgumentException If a path is not supported.
+	static JsonIgnoredPaths compile(Iterable<String> paths) {
+		Node root = null;
+		for (String path : paths) {
+			List<String> segments = parse(path);
+			if (segments == null) {
+				throw new IllegalArgumentException("JSON path is not supported: " + path);
+			}
+
+			if (root == null) {
+				root = new Node();
+			}
+
+			Node node = root;
+			for (String segment : segments) {
+				node = node.add(segment);
+			}
+
+			node.ignored = true;
+		}
+
+		return root == null ? NONE : new JsonIgnoredPaths(root);
+	}
+
+	/// Check if given path can be compiled.
+	///
+	/// @param path Path.
+	/// @return `true` if path is supported, `false` otherwise.
+	public static boolean isSupported(String path) {
+		return parse(path) != null;
+	}
+
+	/// The trie root.
+	private final Node root;
+
+	private JsonIgnoredPaths(Node root) {
+		this.root = root;
+	}
+
+	/// Get cursor of documents root.
+	///
+	/// @return Root cursor.
+	Cursor root() {
+		return this == NONE ? Cursor.EMPTY : new Cursor(singletonList(root));
+	}
+
+	/// Parse path into its segments: member names, array indexes (written as `[0]`, such as array
+	/// keys used by comparators) and wildcards.
+	///
+	/// @param path Path.
+	/// @return Path segments, `null` if path is not supported.
+	private static List<String> parse(String path) {
+		String p = path.startsWith("$") ? path.substring(1) : path;
+		List<String> segments = new ArrayList<>();
+
+		int i = 0;
+		int length = p.length();
+		boolean first = true;
+		while (i < length) {
+			char c = p.charAt(i);
+			if (c == '[') {
+				int end = p.indexOf(']', i);
+				if (end < 0) {
+					return null;
+				}
+
+				String segment = parseBracket(p.substring(i + 1, end));
+				if (segment == null) {
+					return null;
+				}
+
+				segments.add(segment);
+				i = end + 1;
+			}
+			else {
+				if (c == '.') {
+					i++;
+				}
+				else if (!first) {
+					return null;
+				}
+
+				int end = i;
+				while (end < length && isNameChar(p.charAt(end))) {
+					end++;
+				}
+
+				String name = p.substring(i, end);
+				if (!name.equals(WILDCARD) && !isName(name)) {
+					return null;
+				}
+
+				segments.add(name);
+				i = end;
+			}
+
+			first = false;
+		}
+
+		return segments.isEmpty() ? null : segments;
+	}
+
+	private static String parseBracket(String selector) {
+		if (selector.equals(WILDCARD)) {
+			return WILDCARD;
+		}
+
+		if (selector.length() >= 2 && selector.charAt(0) == '\'' && selector.charAt(selector.length() - 1) == '\'') {
+			String name = selector.substring(1, selector.length() - 1);
+			return name.indexOf('\'') < 0 && !name.isEmpty() ? name : null;
+		}
+
+		if (selector.isEmpty()) {
+			return null;
+		}
+
+		for (int i = 0; i < selector.length(); ++i) {
+			if (!Character.isDigit(selector.charAt(i))) {
+				return null;
+			}
+		}
+
+		return "[" + Integer.parseInt(selector) + "]";
+	}
+
+	private static boolean isName(String name) {
+		if (name.isEmpty()) {
+			return false;
+		}
+
+		for (int i = 0; i < name.length(); ++i) {
+			if (!isNameChar(name.charAt(i)) || name.charAt(i) == '*') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isNameChar(char c) {
+		return c == '*' || c == '_' || c == '-' || Character.isLetterOrDigit(c);
+	}
+
+	/// The trie nodes matching a node of a JSON document.
+	///
+	/// This class is immutable and thread safe.
+	static final class Cursor {
+
+		/// Cursor of nodes that do not match any ignored path.
+		static final Cursor EMPTY = new Cursor(emptyList());
+
+		/// Matching trie nodes.
+		private final List<Node> nodes;
+
+		private Cursor(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		/// Check if no ignored path goes through the current node.
+		///
+		/// @return `true` if there is no ignored path below the current node, `false` otherwise.
+		boolean isEmpty() {
+			return nodes.isEmpty();
+		}
+
+		/// Check if the current node is ignored.
+		///
+		/// @return `true` if current node is ignored, `false` otherwise.
+		boolean isIgnored() {
+			for (Node node : nodes) {
+				if (node.ignored) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/// Check if all children of the current node are ignored.
+		///
+		/// @return `true` if all children are ignored, `false` otherwise.
+		boolean isAllChildrenIgnored() {
+			for (Node node : nodes) {
+				if (node.wildcard != null && node.wildcard.ignored) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/// Check if an ignored path targets a specific child of the current node, such as `items[0].ts`
+		/// for the `items` array.
+		///
+		/// @return `true` if an ignored path targets a specific child, `false` otherwise.
+		boolean hasSpecificChildren() {
+			for (Node node : nodes) {
+				if (!node.children.isEmpty()) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/// Get cursor of given child of the current node.
+		///
+		/// @param key Member name, or array index written as `[0]`.
+		/// @return Child cursor.
+		Cursor child(String key) {
+			if (nodes.isEmpty()) {
+				return EMPTY;
+			}
+
+			List<Node> children = new ArrayList<>(1);
+			for (Node node : nodes) {
+				Node child = node.children.get(key);
+				if (child != null) {
+					children.add(child);
+				}
+
+				if (node.wildcard != null) {
+					children.add(node.wildcard);
+				}
+			}
+
+			return children.isEmpty() ? EMPTY : new Cursor(children);
+		}
+
+		/// Get cursor of any child of the current node, ignoring paths targeting a specific child: this
+		/// is used for arrays whose order is ignored, where indexes are meaningless.
+		///
+		/// @return Child cursor.
+		Cursor anyChild() {
+			if (nodes.isEmpty()) {
+				return EMPTY;
+			}
+
+			List<Node> children = new ArrayList<>(1);
+			for (Node node : nodes) {
+				if (node.wildcard != null) {
+					children.add(node.wildcard);
+				}
+			}
+
+			return children.isEmpty() ? EMPTY : new Cursor(children);
+		}
+	}
+
+	/// Trie node.
+	private static final class Node {
+
+		/// Children, indexed by member name or array index.
+		private final Map<String, Node> children = new HashMap<>();
+
+		/// Child matching any member or array element.
+		private Node wildcard;
+
+		/// Flag set if node is ignored.
+		private boolean ignored;
+
+		private Node add(String segment) {
+			if (segment.equals(WILDCARD)) {
+				if (wildcard == null) {
+					wildcard = new Node();
+				}
+
+				return wildcard;
+			}
+
+			return children.computeIfAbsent(segment, (s) -> new Node());
+		}
+	}
+}
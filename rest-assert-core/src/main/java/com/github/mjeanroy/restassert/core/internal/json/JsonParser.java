@@ -39,6 +39,12 @@ public interface JsonParser {
 	/// @return Object result.
 	Object parse(String json);
 
+	/// Parse JSON representation, encoded in UTF-8, and return object result.
+	///
+	/// @param json Json bytes.
+	/// @return Object result.
+	Object parse(byte[] json);
+
 	/// Parse JSON object and deserialize result into a map object.
 	///
 	/// @param json Json string.
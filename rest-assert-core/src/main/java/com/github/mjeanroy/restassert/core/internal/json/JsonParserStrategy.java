@@ -26,13 +26,27 @@ package com.github.mjeanroy.restassert.core.internal.json;
 
 import com.github.mjeanroy.restassert.core.internal.common.ClassUtils;
 
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
 /// Access json parser implementation.
+///
+/// Strategies are detected in declaration order, unless a strategy is selected with the
+/// `restassert.json.parser` system property (for example, `-Drestassert.json.parser=gson`).
 enum JsonParserStrategy {
 	/// [JsonParser] using Jackson 3 as internal implementation.
 	JACKSON3("tools.jackson.databind.ObjectMapper") {
 		@Override
 		JsonParser build() {
-			return Jackson2JsonParser.getInstance();
+			return Jackson3JsonParser.getInstance();
+		}
+
+		/// Jackson 2 is often available next to Jackson 3 (for example, as a transitive dependency): in this case,
+		/// use the Jackson 2 streaming comparator, since it does not need to build both documents first.
+		@Override
+		JsonComparator buildComparator() {
+			return ClassUtils.isPresent(JACKSON2.className) ? JACKSON2.buildComparator() : super.buildComparator();
 		}
 	},
 
@@ -42,6 +56,11 @@ enum JsonParserStrategy {
 		JsonParser build() {
 			return Jackson2JsonParser.getInstance();
 		}
+
+		@Override
+		JsonComparator buildComparator() {
+			return Jackson2StreamingJsonComparator.getInstance();
+		}
 	},
 
 	/// [JsonParser] using Google Gson as internal implementation.
@@ -58,8 +77,19 @@ enum JsonParserStrategy {
 		JsonParser build() {
 			return Jackson1JsonParser.getInstance();
 		}
+	},
+
+	/// Built-in [JsonParser], always available: used when no other implementation is available.
+	DEFAULT("com.github.mjeanroy.restassert.core.internal.json.DefaultJsonParser") {
+		@Override
+		JsonParser build() {
+			return DefaultJsonParser.getInstance();
+		}
 	};
 
+	/// The system property used to select a strategy, by its (case insensitive) name.
+	static final String PARSER_PROPERTY = "restassert.json.parser";
+
 	private final String className;
 
 	JsonParserStrategy(String className) {
@@ -71,16 +101,65 @@ enum JsonParserStrategy {
 	/// @return Parser.
 	abstract JsonParser build();
 
+	/// Get comparator instance according to strategy.
+	///
+	/// By default, comparator compares parsed objects, but strategies may
+	/// override it to provide a more efficient implementation.
+	///
+	/// @return Comparator.
+	JsonComparator buildComparator() {
+		return new DefaultJsonComparator(build());
+	}
+
 	static JsonParser autoDetect() {
+		return detect().build();
+	}
+
+	static JsonComparator autoDetectComparator() {
+		return detect().buildComparator();
+	}
+
+	private static JsonParserStrategy detect() {
+		return detect(System.getProperty(PARSER_PROPERTY));
+	}
+
+	/// Get strategy with given name, or detect the first available strategy if name is `null`.
+	///
+	/// @param name Strategy name, may be `null`.
+	/// @return The strategy.
+	/// @throws IllegalArgumentException If no strategy has given name.
+	/// @throws UnsupportedOperationException If the strategy is not available on classpath.
+	static JsonParserStrategy detect(String name) {
+		if (name != null) {
+			JsonParserStrategy strategy = find(name.trim());
+			if (!ClassUtils.isPresent(strategy.className)) {
+				throw new UnsupportedOperationException(
+					format("Json parser %s has been selected, please add it to your classpath", strategy)
+				);
+			}
+
+			return strategy;
+		}
+
 		for (JsonParserStrategy strategy : JsonParserStrategy.values()) {
 			if (ClassUtils.isPresent(strategy.className)) {
-				return strategy.build();
+				return strategy;
+			}
+		}
+
+		// Should not happen, since built-in implementation is always available.
+		return DEFAULT;
+	}
+
+	private static JsonParserStrategy find(String name) {
+		for (JsonParserStrategy strategy : JsonParserStrategy.values()) {
+			if (strategy.name().equalsIgnoreCase(name)) {
+				return strategy;
 			}
 		}
 
-		// Fail if no available implementation found
-		throw new UnsupportedOperationException(
-			"Please add a json parser to your classpath (Jackson2, Jackson1 or Gson)"
+		throw new IllegalArgumentException(
+			format("Unknown json parser %s, must be one of %s", name, Arrays.toString(JsonParserStrategy.values()))
 		);
 	}
 }
@@ -24,7 +24,9 @@
 
 package com.github.mjeanroy.restassert.core.internal.json;
 
-/// Static helper that can auto-detect the most appropriate JSON parser.
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
+
+/// Static helper that can auto-detect the most appropriate JSON parser (and JSON comparator).
 public final class JsonParsers {
 
 	/// Get JSON parser.
@@ -34,10 +36,29 @@ public final class JsonParsers {
 		return Holder.INSTANCE;
 	}
 
+	/// Get JSON comparator.
+	///
+	/// @return JSON comparator.
+	public static JsonComparator getComparator() {
+		return ComparatorHolder.INSTANCE;
+	}
+
+	/// Get JSON comparator using given options.
+	///
+	/// @param options Comparison options.
+	/// @return JSON comparator.
+	public static JsonComparator getComparator(JsonComparatorOptions options) {
+		return options.isDefault() ? getComparator() : new DefaultJsonComparator(getParser(), options);
+	}
+
 	private JsonParsers() {
 	}
 
 	private static class Holder {
 		public static final JsonParser INSTANCE = JsonParserStrategy.autoDetect();
 	}
+
+	private static class ComparatorHolder {
+		public static final JsonComparator INSTANCE = JsonParserStrategy.autoDetectComparator();
+	}
 }
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// A prefix tree of JSON paths, used to read several entries with a single walk of a
+/// parsed document.
+///
+/// Only simple paths, i.e. a chain of property names such as `$.key1.key2` or `key1.key2`, can
+/// be added to the tree: each property name is a node, so that entries sharing the same parent
+/// are resolved during the same descent.
+///
+/// This class is not thread safe.
+final class JsonPathTrie {
+
+	/// The root node, matching the document itself.
+	private final Node root;
+
+	JsonPathTrie() {
+		this.root = new Node();
+	}
+
+	/// Add path to the tree.
+	///
+	/// @param path The path.
+	/// @return `true` if path has been added, `false` if it is not a simple path.
+	boolean add(String path) {
+		String normalizedPath = JsonPaths.normalize(path).substring(2);
+		List<String> properties = splitProperties(normalizedPath);
+		if (properties == null) {
+			return false;
+		}
+
+		Node node = root;
+		for (String property : properties) {
+			node = node.children.computeIfAbsent(property, (k) -> new Node());
+		}
+
+		node.paths.add(path);
+		return true;
+	}
+
+	/// Resolve all paths of the tree against given document, in a single depth-first walk.
+	///
+	/// Paths that do not exist in the document are not part of the result: note that an
+	/// entry may exist with a `null` value.
+	///
+	/// @param document The parsed document.
+	/// @return Value of each path found in the document.
+	Map<String, Object> resolve(Object document) {
+		Map<String, Object> values = new HashMap<>();
+		walk(root, document, values);
+		return values;
+	}
+
+	private static void walk(Node node, Object value, Map<String, Object> values) {
+		for (String path : node.paths) {
+			values.put(path, value);
+		}
+
+		if (node.children.isEmpty() || !(value instanceof Map)) {
+			return;
+		}
+
+		Map<?, ?> object = (Map<?, ?>) value;
+		for (Map.Entry<String, Node> child : node.children.entrySet()) {
+			String property = child.getKey();
+			if (object.containsKey(property)) {
+				walk(child.getValue(), object.get(property), values);
+			}
+		}
+	}
+
+	// Split path into property names, returns `null` if it is not a simple path.
+	private static List<String> splitProperties(String path) {
+		List<String> properties = new ArrayList<>();
+		int start = 0;
+
+		for (int i = 0; i <= path.length(); ++i) {
+			if (i == path.length() || path.charAt(i) == '.') {
+				if (i == start) {
+					return null;
+				}
+
+				properties.add(path.substring(start, i));
+				start = i + 1;
+			}
+			else if (!isPropertyChar(path.charAt(i))) {
+				return null;
+			}
+		}
+
+		return properties;
+	}
+
+	private static boolean isPropertyChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+	}
+
+	/// A node of the tree.
+	private static final class Node {
+
+		/// Children, keyed by property name.
+		private final Map<String, Node> children;
+
+		/// Original paths ending on this node.
+		private final List<String> paths;
+
+		private Node() {
+			this.children = new LinkedHashMap<>();
+			this.paths = new ArrayList<>(1);
+		}
+	}
+}
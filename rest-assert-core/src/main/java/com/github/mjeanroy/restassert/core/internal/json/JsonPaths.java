@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+
+/// Compiled JsonPath expressions, shared between JSON assertions.
+///
+/// Compiling a JsonPath expression means tokenizing and parsing it: since the same paths are
+/// usually checked again and again, compiled expressions are cached, keyed by their normalized
+/// representation (see [#normalize(String)]).
+///
+/// The cache is bounded: once it is full, new expressions are still compiled but are no longer
+/// cached. Hit and miss counters are available to check that it is large enough.
+///
+/// This class is thread safe.
+public final class JsonPaths {
+
+	/// The maximum number of cached expressions.
+	static final int MAX_SIZE = 1024;
+
+	/// The cached expressions, keyed by normalized path.
+	private static final ConcurrentMap<String, JsonPath> cache = new ConcurrentHashMap<>();
+
+	/// Number of expressions found in the cache.
+	private static final LongAdder hits = new LongAdder();
+
+	/// Number of expressions that had to be compiled.
+	private static final LongAdder misses = new LongAdder();
+
+	// Ensure non instantiation.
+	private JsonPaths() {
+	}
+
+	/// Get compiled JsonPath expression.
+	///
+	/// Path can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// @param path Entry path.
+	/// @return The compiled expression.
+	/// @throws InvalidPathException If path is not a valid JsonPath expression.
+	public static JsonPath compile(String path) {
+		String normalizedPath = normalize(path);
+		JsonPath jsonPath = cache.get(normalizedPath);
+		if (jsonPath != null) {
+			hits.increment();
+			return jsonPath;
+		}
+
+		misses.increment();
+		jsonPath = JsonPath.compile(normalizedPath);
+
+		if (cache.size() >= MAX_SIZE) {
+			return jsonPath;
+		}
+
+		JsonPath previous = cache.putIfAbsent(normalizedPath, jsonPath);
+		return previous == null ? jsonPath : previous;
+	}
+
+	/// Normalize path as a JsonPath expression: a raw path entry, such as `key1.key2`, is
+	/// returned as `$.key1.key2`.
+	///
+	/// @param path Entry path.
+	/// @return The JsonPath expression.
+	public static String normalize(String path) {
+		notNull(path, "JSON path must not be null");
+		return path.startsWith("$.") ? path : ("$." + path);
+	}
+
+	/// Get the number of expressions found in the cache.
+	///
+	/// @return Number of cache hits.
+	public static long getHits() {
+		return hits.sum();
+	}
+
+	/// Get the number of expressions that have been compiled, because they were not in the cache.
+	///
+	/// @return Number of cache misses.
+	public static long getMisses() {
+		return misses.sum();
+	}
+
+	/// Get the number of cached expressions.
+	///
+	/// @return Cache size.
+	public static int size() {
+		return cache.size();
+	}
+
+	/// Remove all cached expressions, and reset counters.
+	public static void clear() {
+		cache.clear();
+		hits.reset();
+		misses.reset();
+	}
+}
@@ -0,0 +1,451 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
+import com.github.mjeanroy.restassert.core.internal.json.JsonIgnoredPaths.Cursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/// Structural comparison of parsed JSON trees.
+///
+/// Each object and array is reduced to a structural hash, computed once and cached (by identity)
+/// as a Merkle tree: the hash of a node is derived from the hashes of its children, and does not
+/// depend on the order of object members (nor on the order of elements of arrays whose order is
+/// ignored, see [JsonComparatorOptions]). It is used to:
+/// - Skip subtrees that are equal: subtrees with different hashes are never equal, and subtrees with
+///   the same hash are confirmed with a deep comparison, that stops as soon as child hashes differ.
+/// - Match elements of arrays whose order is ignored as multisets: expected elements are indexed
+///   by hash, so that each actual element is only compared with expected elements sharing the
+///   same hash.
+///
+/// Paths used by this class are written without array indexes, see [JsonComparatorOptions].
+///
+/// Entries ignored by the comparison (see [JsonIgnoredPaths]) are neither part of hashes, nor compared.
+///
+/// A new instance must be used for each comparison, since hashes are cached by node identity.
+/// This class is not thread safe: parallel tasks use their own matcher, see [#fork()].
+final class JsonTreeMatcher {
+
+	/// Hash of `null` values.
+	private static final int NULL_HASH = 0x9e3779b9;
+
+	/// Comparison options.
+	private final JsonComparatorOptions options;
+
+	/// Check if paths are needed, i.e. if the order of some arrays may be ignored.
+	private final boolean trackPaths;
+
+	/// Hashes of objects and arrays, computed so far.
+	private final Map<Object, Integer> hashes;
+
+	/// The matcher that created this one, whose hashes are read but never updated.
+	private final JsonTreeMatcher parent;
+
+	JsonTreeMatcher(JsonComparatorOptions options) {
+		this(options, null);
+	}
+
+	private JsonTreeMatcher(JsonComparatorOptions options, JsonTreeMatcher parent) {
+		this.options = options;
+		this.trackPaths = options.hasUnorderedArrays();
+		this.hashes = new IdentityHashMap<>();
+		this.parent = parent;
+	}
+
+	/// Create matcher for a task running in another thread: hashes computed so far by this matcher are
+	/// reused, new hashes are only cached by the new matcher.
+	///
+	/// This matcher must not be used while new matchers are in use.
+	///
+	/// @return The new matcher.
+	JsonTreeMatcher fork() {
+		return new JsonTreeMatcher(options, this);
+	}
+
+	/// Check that two JSON values are equal, ignoring order of object members, and order of
+	/// elements of arrays whose order is ignored.
+	///
+	/// @param actual Actual value.
+	/// @param expected Expected value.
+	/// @param path Path of the values.
+	/// @param cursor Ignored entries below the values.
+	/// @return `true` if values are equal, `false` otherwise.
+	boolean isEqual(Object actual, Object expected, String path, Cursor cursor) {
+		if (actual == null || expected == null) {
+			return actual == expected;
+		}
+
+		if (actual instanceof Map) {
+			return expected instanceof Map && hash(actual, path, cursor) == hash(expected, path, cursor) && isEqualObject((Map<?, ?>) actual, (Map<?, ?>) expected, path, cursor);
+		}
+
+		if (actual instanceof List) {
+			return expected instanceof List && hash(actual, path, cursor) == hash(expected, path, cursor) && isEqualArray(asList(actual), asList(expected), path, cursor);
+		}
+
+		return actual.equals(expected);
+	}
+
+	/// Match elements of actual array with elements of expected array, regardless of their order.
+	///
+	/// @param actual Actual array.
+	/// @param expected Expected array.
+	/// @param path Path of the arrays.
+	/// @param cursor Ignored entries below each element.
+	/// @return For each actual element, the index of the matching expected element, or `-1`.
+	int[] match(List<Object> actual, List<Object> expected, String path, Cursor cursor) {
+		List<Object> actualElements = randomAccess(actual);
+		List<Object> expectedElements = randomAccess(expected);
+
+		Map<Integer, List<Integer>> candidatesByHash = new HashMap<>();
+		for (int i = 0; i < expectedElements.size(); ++i) {
+			int hash = hash(expectedElements.get(i), path, cursor);
+			candidatesByHash.computeIfAbsent(hash, (h) -> new ArrayList<>(1)).add(i);
+		}
+
+		int[] matches = new int[actualElements.size()];
+		Arrays.fill(matches, -1);
+
+		for (int i = 0; i < actualElements.size(); ++i) {
+			Object element = actualElements.get(i);
+			List<Integer> candidates = candidatesByHash.get(hash(element, path, cursor));
+			if (candidates == null) {
+				continue;
+			}
+
+			Iterator<Integer> it = candidates.iterator();
+			while (it.hasNext()) {
+				int candidate = it.next();
+				if (isEqual(element, expectedElements.get(candidate), path, cursor)) {
+					matches[i] = candidate;
+					it.remove();
+					break;
+				}
+			}
+		}
+
+		return matches;
+	}
+
+	/// Align elements of actual array with elements of expected array, keeping their order: the longest
+	/// common subsequence of both arrays is computed, so that elements inserted in, or removed from, the actual
+	/// array are not matched.
+	///
+	/// Common leading and trailing elements are matched first, then remaining elements are aligned with
+	/// the Myers algorithm, comparing element hashes before confirming matches with a deep comparison: this
+	/// runs in `O((N + M) * D)` time, where `D` is the number of inserted and removed elements, so that mostly
+	/// equal arrays are aligned in near linear time.
+	///
+	/// @param actual Actual array.
+	/// @param expected Expected array.
+	/// @param path Path of the arrays.
+	/// @param cursor Ignored entries below each element.
+	/// @param maxDistance Maximum number of inserted and removed elements.
+	/// @return For each actual element, the index of the aligned expected element, or `-1`; `null` if more than
+	/// `maxDistance` elements have been inserted or removed.
+	int[] align(List<Object> actual, List<Object> expected, String path, Cursor cursor, int maxDistance) {
+		List<Object> actualElements = randomAccess(actual);
+		List<Object> expectedElements = randomAccess(expected);
+
+		int[] actualHashes = hashes(actualElements, path, cursor);
+		int[] expectedHashes = hashes(expectedElements, path, cursor);
+		ElementMatcher matcher = (i, j) -> actualHashes[i] == expectedHashes[j] && isEqual(actualElements.get(i), expectedElements.get(j), path, cursor);
+
+		int[] matches = new int[actualHashes.length];
+		Arrays.fill(matches, -1);
+
+		// Common leading and trailing elements.
+		int start = 0;
+		int actualEnd = actualHashes.length;
+		int expectedEnd = expectedHashes.length;
+		while (start < actualEnd && start < expectedEnd && matcher.matches(start, start)) {
+			matches[start] = start;
+			start++;
+		}
+
+		while (actualEnd > start && expectedEnd > start && matcher.matches(actualEnd - 1, expectedEnd - 1)) {
+			actualEnd--;
+			expectedEnd--;
+			matches[actualEnd] = expectedEnd;
+		}
+
+		int n = actualEnd - start;
+		int m = expectedEnd - start;
+		if (n == 0 || m == 0) {
+			return matches;
+		}
+
+		// Furthest reaching paths: for each diagonal `k = x - y`, the furthest `x` reached, where `x` is
+		// an index of the actual array and `y` an index of the expected array.
+		int max = Math.min(n + m, maxDistance);
+		int offset = max + 1;
+		int[] v = new int[2 * max + 3];
+		List<int[]> trace = new ArrayList<>();
+
+		for (int d = 0; d <= max; ++d) {
+			for (int k = -d; k <= d; k += 2) {
+				int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]) ? v[offset + k + 1] : v[offset + k - 1] + 1;
+				int y = x - k;
+				while (x < n && y < m && matcher.matches(start + x, start + y)) {
+					x++;
+					y++;
+				}
+
+				v[offset + k] = x;
+				if (x >= n && y >= m) {
+					backtrack(trace, n, m, start, matches);
+					return matches;
+				}
+			}
+
+			trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+		}
+
+		return null;
+	}
+
+	// Walk the furthest reaching paths backward, from the end of both arrays, to match elements of each diagonal.
+	private static void backtrack(List<int[]> trace, int n, int m, int start, int[] matches) {
+		int x = n;
+		int y = m;
+		for (int d = trace.size(); d > 0; --d) {
+			int[] previous = trace.get(d - 1);
+			int k = x - y;
+			int previousK = k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1]) ? k + 1 : k - 1;
+			int previousX = previous[previousK + d - 1];
+			int previousY = previousX - previousK;
+			while (x > previousX && y > previousY) {
+				x--;
+				y--;
+				matches[start + x] = start + y;
+			}
+
+			x = previousX;
+			y = previousY;
+		}
+
+		while (x > 0 && y > 0) {
+			x--;
+			y--;
+			matches[start + x] = start + y;
+		}
+	}
+
+	private int[] hashes(List<Object> elements, String path, Cursor cursor) {
+		int[] hashes = new int[elements.size()];
+		for (int i = 0; i < hashes.length; ++i) {
+			hashes[i] = hash(elements.get(i), path, cursor);
+		}
+
+		return hashes;
+	}
+
+	/// Get the path of an object member.
+	///
+	/// @param path Path of the object.
+	/// @param key Member name.
+	/// @return Path of the member.
+	String childPath(String path, String key) {
+		if (!trackPaths) {
+			return path;
+		}
+
+		return path.isEmpty() ? key : path + "." + key;
+	}
+
+	/// Compute structural hash of given JSON value.
+	///
+	/// @param value JSON value.
+	/// @param path Path of the value.
+	/// @param cursor Ignored entries below the value.
+	/// @return The hash.
+	int hash(Object value, String path, Cursor cursor) {
+		if (value == null) {
+			return NULL_HASH;
+		}
+
+		if (!(value instanceof Map) && !(value instanceof List)) {
+			return value.hashCode();
+		}
+
+		Integer hash = cachedHash(value);
+		if (hash == null) {
+			hash = value instanceof Map ? hashObject((Map<?, ?>) value, path, cursor) : hashArray((List<?>) value, path, cursor);
+			hashes.put(value, hash);
+		}
+
+		return hash;
+	}
+
+	private Integer cachedHash(Object value) {
+		for (JsonTreeMatcher matcher = this; matcher != null; matcher = matcher.parent) {
+			Integer hash = matcher.hashes.get(value);
+			if (hash != null) {
+				return hash;
+			}
+		}
+
+		return null;
+	}
+
+	private int hashObject(Map<?, ?> object, String path, Cursor cursor) {
+		// Sum of member hashes, so that member order does not matter.
+		int hash = 1;
+		for (Map.Entry<?, ?> entry : object.entrySet()) {
+			String key = String.valueOf(entry.getKey());
+			Cursor child = cursor.child(key);
+			if (!child.isIgnored()) {
+				hash += key.hashCode() ^ mix(hash(entry.getValue(), childPath(path, key), child));
+			}
+		}
+
+		return mix(hash);
+	}
+
+	private int hashArray(List<?> array, String path, Cursor cursor) {
+		int hash = 2;
+		if (cursor.isAllChildrenIgnored()) {
+			return mix(hash);
+		}
+
+		boolean ignoreOrder = options.isArrayOrderIgnored(path);
+		Cursor anyChild = ignoreOrder ? cursor.anyChild() : null;
+		int i = 0;
+		for (Object element : array) {
+			Cursor child = ignoreOrder ? anyChild : childOf(cursor, i++);
+			if (!child.isIgnored()) {
+				int elementHash = hash(element, path, child);
+				hash = ignoreOrder ? hash + mix(elementHash) : (31 * hash + elementHash);
+			}
+		}
+
+		return mix(hash);
+	}
+
+	private boolean isEqualObject(Map<?, ?> actual, Map<?, ?> expected, String path, Cursor cursor) {
+		if (cursor.isEmpty() && actual.size() != expected.size()) {
+			return false;
+		}
+
+		int size = 0;
+		for (Map.Entry<?, ?> entry : actual.entrySet()) {
+			String key = String.valueOf(entry.getKey());
+			Cursor child = cursor.child(key);
+			if (child.isIgnored()) {
+				continue;
+			}
+
+			if (!expected.containsKey(key)) {
+				return false;
+			}
+
+			if (!isEqual(entry.getValue(), expected.get(key), childPath(path, key), child)) {
+				return false;
+			}
+
+			size++;
+		}
+
+		return cursor.isEmpty() || size == countEntries(expected, cursor);
+	}
+
+	private static int countEntries(Map<?, ?> object, Cursor cursor) {
+		int size = 0;
+		for (Object key : object.keySet()) {
+			if (!cursor.child(String.valueOf(key)).isIgnored()) {
+				size++;
+			}
+		}
+
+		return size;
+	}
+
+	private boolean isEqualArray(List<Object> actual, List<Object> expected, String path, Cursor cursor) {
+		if (cursor.isAllChildrenIgnored()) {
+			return true;
+		}
+
+		if (actual.size() != expected.size()) {
+			return false;
+		}
+
+		if (options.isArrayOrderIgnored(path)) {
+			for (int match : match(actual, expected, path, cursor.anyChild())) {
+				if (match < 0) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		Iterator<Object> it1 = actual.iterator();
+		Iterator<Object> it2 = expected.iterator();
+		int i = 0;
+		while (it1.hasNext()) {
+			Object actualElement = it1.next();
+			Object expectedElement = it2.next();
+			Cursor child = childOf(cursor, i++);
+			if (!child.isIgnored() && !isEqual(actualElement, expectedElement, path, child)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	// Get cursor of array element, avoiding to create the element key if nothing is ignored.
+	private static Cursor childOf(Cursor cursor, int index) {
+		return cursor.isEmpty() ? cursor : cursor.child("[" + index + "]");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> asList(Object value) {
+		return (List<Object>) value;
+	}
+
+	private static List<Object> randomAccess(List<Object> elements) {
+		return elements instanceof RandomAccess ? elements : new ArrayList<>(elements);
+	}
+
+	private static int mix(int hash) {
+		int h = hash * 0x85ebca6b;
+		return h ^ (h >>> 16);
+	}
+
+	// Check if an actual element, and an expected element, given by their indexes, are equal.
+	@FunctionalInterface
+	private interface ElementMatcher {
+		boolean matches(int actualIndex, int expectedIndex);
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+import static com.github.mjeanroy.restassert.core.internal.common.PreConditions.notNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Read records of a newline-delimited JSON document (see [NDJSON](https://github.com/ndjson/ndjson-spec)
+/// and [JSON Lines](https://jsonlines.org/)).
+///
+/// Records are read one line at a time: only the current record is kept in memory, and is parsed
+/// lazily (see [ParsedJson]). Blank lines are skipped.
+///
+/// This class is not thread safe.
+public final class NdJsonReader implements Closeable {
+
+	/// Create reader of given input, decoded as UTF-8.
+	///
+	/// @param input The input.
+	/// @return The reader.
+	public static NdJsonReader ndJsonReader(InputStream input) {
+		return ndJsonReader(input, UTF_8);
+	}
+
+	/// Create reader of given input, decoded with given charset (for example, the charset declared
+	/// by the `Content-Type` header of an HTTP response).
+	///
+	/// @param input The input.
+	/// @param charset The charset, UTF-8 is used if it is `null`.
+	/// @return The reader.
+	public static NdJsonReader ndJsonReader(InputStream input, Charset charset) {
+		return new NdJsonReader(notNull(input, "NDJSON input must not be null"), charset == null ? UTF_8 : charset);
+	}
+
+	/// The input.
+	private final BufferedReader reader;
+
+	/// Line number of the current record, `0` before the first record is read.
+	private long lineNumber;
+
+	// Private constructor, use static factory instead
+	private NdJsonReader(InputStream input, Charset charset) {
+		this.reader = new BufferedReader(new InputStreamReader(input, charset));
+		this.lineNumber = 0;
+	}
+
+	/// Read next record.
+	///
+	/// @return The next record, `null` if all records have been read.
+	/// @throws NdJsonException If input cannot be read.
+	public ParsedJson next() {
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (!line.trim().isEmpty()) {
+					return ParsedJson.parse(line);
+				}
+			}
+
+			return null;
+		}
+		catch (IOException ex) {
+			throw new NdJsonException(ex);
+		}
+	}
+
+	/// Get the line number of the last record returned by [#next()].
+	///
+	/// @return Line number, starting at `1`.
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	@Override
+	public void close() {
+		try {
+			reader.close();
+		}
+		catch (IOException ex) {
+			throw new NdJsonException(ex);
+		}
+	}
+
+	/// Exception thrown when a newline-delimited JSON document cannot be read.
+	public static class NdJsonException extends RuntimeException {
+		private NdJsonException(Exception cause) {
+			super(cause);
+		}
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.github.mjeanroy.restassert.core.internal.common.Lazy;
+import com.github.mjeanroy.restassert.core.internal.common.Strings;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mjeanroy.restassert.core.internal.common.Lazy.lazy;
+import static com.github.mjeanroy.restassert.core.internal.common.Strings.trimToNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+/// A JSON document, parsed once and shared between several assertions.
+///
+/// The raw JSON is parsed lazily, the first time a parsed value is requested, and
+/// parsed values are then reused:
+/// - The JSON value returned by [#value()] is parsed with the [JsonParser] returned by [JsonParsers#getParser()].
+/// - A document created from raw bytes (see [#parseBytes(byte[], Charset)]) is parsed from these bytes, the raw JSON
+///   returned by [#json()] being decoded only when it is requested.
+/// - A document created from an already parsed value (see [#of(Object)]) is never parsed, the raw JSON
+///   returned by [#json()] being serialized only when it is requested.
+/// - Entries returned by [#read(String)] are extracted from a single JsonPath [DocumentContext], using
+///   expressions compiled by [JsonPaths#compile(String)]: this document is parsed by JsonPath itself, so that
+///   entry values (such as numbers) do not depend on the [JsonParser] available on the classpath.
+///
+/// This class is thread safe.
+public final class ParsedJson {
+
+	/// Create parsed JSON document from its raw representation.
+	///
+	/// Note that the raw JSON is not parsed until a parsed value is requested.
+	///
+	/// @param json The raw JSON, may be `null`.
+	/// @return The parsed JSON.
+	public static ParsedJson parse(String json) {
+		return new ParsedJson(json);
+	}
+
+	/// Create parsed JSON document from its raw representation, encoded in UTF-8.
+	///
+	/// Note that the raw JSON is not parsed (nor decoded) until a parsed value (or the raw JSON) is requested.
+	///
+	/// @param json The raw JSON, may be `null`.
+	/// @return The parsed JSON.
+	public static ParsedJson parseBytes(byte[] json) {
+		return new ParsedJson(json, UTF_8);
+	}
+
+	/// Create parsed JSON document from its raw representation, encoded with given charset (for example,
+	/// the charset declared by the `Content-Type` header of an HTTP response).
+	///
+	/// Note that the raw JSON is not parsed (nor decoded) until a parsed value (or the raw JSON) is requested:
+	/// a document encoded in UTF-8 is parsed from its raw bytes, other documents are parsed once decoded.
+	///
+	/// @param json The raw JSON, may be `null`.
+	/// @param charset The charset, UTF-8 is used if it is `null`.
+	/// @return The parsed JSON.
+	public static ParsedJson parseBytes(byte[] json, Charset charset) {
+		return new ParsedJson(json, charset == null ? UTF_8 : charset);
+	}
+
+	/// Create JSON document from an already parsed value, such as an element of a JSON array
+	/// read from another document.
+	///
+	/// Note that the raw JSON is serialized only when it is requested.
+	///
+	/// @param value The JSON value, may be `null`.
+	/// @return The parsed JSON.
+	public static ParsedJson of(Object value) {
+		return new ParsedJson(value);
+	}
+
+	/// The raw JSON, `null` if the document has been created from raw bytes.
+	private final String text;
+
+	/// The raw JSON bytes, `null` if the document has been created from a string.
+	private final byte[] bytes;
+
+	/// Whether the document has been created from an already parsed value.
+	private final boolean parsed;
+
+	/// The raw JSON, decoded from raw bytes if needed.
+	private final Lazy<String> json;
+
+	/// The parsed JSON value.
+	private final Lazy<Object> value;
+
+	/// The JsonPath document, used to extract entries.
+	private final Lazy<DocumentContext> document;
+
+	private ParsedJson(String json) {
+		this.text = json;
+		this.bytes = null;
+		this.parsed = false;
+		this.json = lazy(() -> json);
+		this.value = lazy(() -> JsonParsers.getParser().parse(json));
+		this.document = lazy(() -> JsonPath.parse(json));
+	}
+
+	private ParsedJson(byte[] json, Charset charset) {
+		this.text = null;
+		this.bytes = json;
+		this.parsed = false;
+		this.json = lazy(() -> json == null ? null : new String(json, charset));
+
+		if (UTF_8.equals(charset)) {
+			this.value = lazy(() -> JsonParsers.getParser().parse(json));
+			this.document = lazy(() -> JsonPath.parse(new ByteArrayInputStream(json)));
+		}
+		else {
+			this.value = lazy(() -> JsonParsers.getParser().parse(json()));
+			this.document = lazy(() -> JsonPath.parse(json()));
+		}
+	}
+
+	private ParsedJson(Object value) {
+		this.text = null;
+		this.bytes = null;
+		this.parsed = true;
+		this.document = lazy(() -> JsonPath.parse(value));
+		this.json = lazy(() -> serialize(value));
+		this.value = lazy(() -> value);
+	}
+
+	/// Get the raw JSON.
+	///
+	/// @return Raw JSON.
+	public String json() {
+		return text == null ? json.get() : text;
+	}
+
+	/// Check if raw JSON is `null` or empty.
+	///
+	/// @return `true` if raw JSON is `null` or empty, `false` otherwise.
+	public boolean isEmpty() {
+		if (parsed) {
+			return false;
+		}
+
+		return bytes == null ? Strings.isEmpty(text) : bytes.length == 0;
+	}
+
+	/// Check if raw JSON is `null`, empty or blank.
+	///
+	/// @return `true` if raw JSON is `null`, empty or blank, `false` otherwise.
+	public boolean isBlank() {
+		if (parsed) {
+			return false;
+		}
+
+		return bytes == null ? trimToNull(text) == null : trimToNull(json()) == null;
+	}
+
+	/// Get parsed JSON value.
+	///
+	/// @return The JSON value.
+	/// @throws NullPointerException If raw JSON is `null` or blank.
+	public Object value() {
+		return value.get();
+	}
+
+	/// Read JSON entry.
+	///
+	/// Path can be specified as:
+	/// - JSON Path payload, such as `$.key1.key2`
+	/// - Or, raw path entry, such as `key1.key2`
+	///
+	/// @param path Entry path.
+	/// @param <T> Type of entry.
+	/// @return The entry value.
+	/// @throws PathNotFoundException If entry does not exist.
+	public <T> T read(String path) {
+		if (parsed && value.get() == null) {
+			// JsonPath cannot read a null document: no entry can be found in a JSON null anyway.
+			throw new PathNotFoundException("Expected to find an object with property " + path + " but found null");
+		}
+
+		return document.get().read(JsonPaths.compile(path));
+	}
+
+	/// Read several JSON entries.
+	///
+	/// Simple paths (see [#read(String)]), such as `key1.key2`, are resolved together with a single
+	/// walk of the document, other paths are read one by one.
+	///
+	/// Entries that do not exist are not part of the result: note that an entry may exist with
+	/// a `null` value.
+	///
+	/// @param paths Entry paths.
+	/// @return Value of each entry found, keyed by path.
+	public Map<String, Object> readAll(Iterable<String> paths) {
+		JsonPathTrie trie = new JsonPathTrie();
+		List<String> otherPaths = new ArrayList<>();
+		for (String path : paths) {
+			if (!trie.add(path)) {
+				otherPaths.add(path);
+			}
+		}
+
+		Map<String, Object> values = trie.resolve(parsed ? value.get() : document.get().json());
+		for (String path : otherPaths) {
+			try {
+				values.put(path, read(path));
+			}
+			catch (PathNotFoundException ex) {
+				// Entry does not exist.
+			}
+		}
+
+		return values;
+	}
+
+	/// Check if JSON contains given entry.
+	///
+	/// @param path Entry path.
+	/// @return `true` if JSON contains given entry, `false` otherwise.
+	/// @see #read(String)
+	public boolean has(String path) {
+		try {
+			read(path);
+			return true;
+		}
+		catch (PathNotFoundException ex) {
+			return false;
+		}
+	}
+
+	private static String serialize(Object value) {
+		// JsonPath can only serialize objects and arrays: a value is serialized as a single element array.
+		String json = JsonPath.parse(singletonList(value)).jsonString();
+		return json.substring(1, json.length() - 1);
+	}
+}
@@ -96,6 +96,27 @@ class CookiesTest {
 		);
 	}
 
+	@Test
+	void it_should_implement_to_string_and_hash_code_of_cookie_with_malformed_attribute() {
+		Cookie cookie = Cookies.lazyParse("id=1; path=/; Max-Age=abc; expires=Fri, 06 May 2016 16:19:20 -0000");
+
+		assertThatThrownBy(cookie::getMaxAge).isInstanceOf(RuntimeException.class);
+		assertThat(cookie.hashCode()).isEqualTo(cookie.hashCode());
+		assertThat(cookie.toString()).isEqualTo(
+			"ParsedCookie{" +
+				"name=id, " +
+				"value=1, " +
+				"domain=null, " +
+				"path=/, " +
+				"secure=false, " +
+				"httpOnly=false, " +
+				"sameSite=null, " +
+				"maxAge=abc, " +
+				"expires=Fri, 06 May 2016 16:19:20 -0000" +
+				"}"
+		);
+	}
+
 	@Test
 	void it_should_not_parse_empty_set_cookie_header() {
 		assertThatThrownBy(() -> Cookies.parse("  "))
@@ -306,6 +327,71 @@ class CookiesTest {
 			.hasMessage("Expires second cannot be less than 0 or greater than 59");
 	}
 
+	@Test
+	void it_should_parse_set_cookie_lazily() {
+		String setCookie = " user_session = foobar== ;Domain=github.com; PATH = / ; expires=Fri, 06 May 2016 16:19:20 -0000; Max-Age=3600; SameSite=Strict; Secure; httponly ";
+		Cookie cookie = Cookies.lazyParse(setCookie);
+
+		assertThat(cookie).isNotNull();
+		assertThat(cookie.getName()).isEqualTo("user_session");
+		assertThat(cookie.getValue()).isEqualTo("foobar==");
+		assertThat(cookie.getDomain()).isEqualTo("github.com");
+		assertThat(cookie.getPath()).isEqualTo("/");
+		assertThat(cookie.isSecured()).isTrue();
+		assertThat(cookie.isHttpOnly()).isTrue();
+		assertThat(cookie.getSameSite()).isEqualTo(SameSite.STRICT);
+		assertThat(cookie.getMaxAge()).isEqualTo(3600L);
+		assertThat(cookie.getExpires()).isInSameSecondAs(createUtcDate(2016, Calendar.MAY, 6, 16, 19, 20));
+		assertThat(cookie).isEqualTo(Cookies.parse(setCookie)).hasSameHashCodeAs(Cookies.parse(setCookie));
+		assertThat(Cookies.parse(setCookie)).isEqualTo(cookie);
+	}
+
+	@Test
+	void it_should_decode_lazily_parsed_attributes_when_accessed() {
+		Cookie cookie = Cookies.lazyParse("name=value; Max-Age=1.5; expires=Thu, 10 Apr 1600 18:30:00 +0000; SameSite=Unknown");
+
+		assertThat(cookie.getName()).isEqualTo("name");
+		assertThat(cookie.getValue()).isEqualTo("value");
+
+		assertThatThrownBy(cookie::getMaxAge)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Max-Age is not a valid number");
+
+		assertThatThrownBy(cookie::getExpires)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Expires year must be greater than 1601");
+
+		assertThatThrownBy(cookie::getSameSite)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Unknown SameSite value: Unknown");
+	}
+
+	@Test
+	void it_should_lazily_parse_set_cookie_without_attributes() {
+		Cookie cookie = Cookies.lazyParse("name=");
+
+		assertThat(cookie.getName()).isEqualTo("name");
+		assertThat(cookie.getValue()).isEmpty();
+		assertThat(cookie.getDomain()).isNull();
+		assertThat(cookie.getPath()).isNull();
+		assertThat(cookie.isSecured()).isFalse();
+		assertThat(cookie.isHttpOnly()).isFalse();
+		assertThat(cookie.getSameSite()).isEqualTo(SameSite.LAX);
+		assertThat(cookie.getMaxAge()).isNull();
+		assertThat(cookie.getExpires()).isNull();
+	}
+
+	@Test
+	void it_should_not_lazily_parse_set_cookie_without_name_or_value() {
+		assertThatThrownBy(() -> Cookies.lazyParse("=value; Secure"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Set-Cookie header must have a name");
+
+		assertThatThrownBy(() -> Cookies.lazyParse("name; Path=/a=b"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Set-Cookie header must have a value");
+	}
+
 	@Test
 	void it_should_compare_cookies() {
 		assertThat(Cookies.equals(null, null)).isTrue();
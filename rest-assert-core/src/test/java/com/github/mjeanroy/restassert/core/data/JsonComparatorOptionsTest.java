@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonComparatorOptionsTest {
+
+	@Test
+	void it_should_create_default_options() {
+		JsonComparatorOptions options = JsonComparatorOptions.defaultOptions();
+
+		assertThat(options.isIgnoreArrayOrder()).isFalse();
+		assertThat(options.getIgnoreArrayOrderPaths()).isEmpty();
+		assertThat(options.isArrayOrderIgnored("tags")).isFalse();
+		assertThat(options.isDefault()).isTrue();
+		assertThat(options).isEqualTo(JsonComparatorOptions.builder().build());
+	}
+
+	@Test
+	void it_should_ignore_order_of_all_arrays() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setIgnoreArrayOrder(true).build();
+
+		assertThat(options.isIgnoreArrayOrder()).isTrue();
+		assertThat(options.isArrayOrderIgnored("")).isTrue();
+		assertThat(options.isArrayOrderIgnored("tags")).isTrue();
+		assertThat(options.isDefault()).isFalse();
+	}
+
+	@Test
+	void it_should_ignore_order_of_arrays_at_given_paths() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder()
+			.addIgnoreArrayOrder("$.items.tags", "$", "ids")
+			.build();
+
+		assertThat(options.isIgnoreArrayOrder()).isFalse();
+		assertThat(options.getIgnoreArrayOrderPaths()).containsExactly("items.tags", "", "ids");
+		assertThat(options.isArrayOrderIgnored("items.tags")).isTrue();
+		assertThat(options.isArrayOrderIgnored("$.items.tags")).isTrue();
+		assertThat(options.isArrayOrderIgnored("")).isTrue();
+		assertThat(options.isArrayOrderIgnored("ids")).isTrue();
+		assertThat(options.isArrayOrderIgnored("items")).isFalse();
+		assertThat(options.isDefault()).isFalse();
+	}
+
+	@Test
+	void it_should_ignore_entries() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder()
+			.addIgnoredPath("id", "$.items[*].updatedAt")
+			.build();
+
+		assertThat(options.getIgnoredPaths()).containsExactly("id", "$.items[*].updatedAt");
+		assertThat(options.hasUnorderedArrays()).isFalse();
+		assertThat(options.isDefault()).isFalse();
+		assertThat(options).isNotEqualTo(JsonComparatorOptions.defaultOptions());
+	}
+
+	@Test
+	void it_should_fail_to_ignore_unsupported_entries() {
+		assertThat(JsonComparatorOptions.isIgnoredPathSupported("items[*].id")).isTrue();
+		assertThat(JsonComparatorOptions.isIgnoredPathSupported("items[0:2]")).isFalse();
+		assertThatThrownBy(() -> JsonComparatorOptions.builder().addIgnoredPath("items[?(@.id)]"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("JSON path is not supported: items[?(@.id)]");
+	}
+
+	@Test
+	void it_should_limit_reported_differences() {
+		JsonComparatorOptions failFast = JsonComparatorOptions.builder().setFailFast(true).build();
+		JsonComparatorOptions maxErrors = JsonComparatorOptions.builder().setMaxErrors(10).build();
+
+		assertThat(failFast.isFailFast()).isTrue();
+		assertThat(failFast.getMaxErrors()).isZero();
+		assertThat(failFast.isDefault()).isFalse();
+
+		assertThat(maxErrors.isFailFast()).isFalse();
+		assertThat(maxErrors.getMaxErrors()).isEqualTo(10);
+		assertThat(maxErrors.isDefault()).isFalse();
+
+		assertThatThrownBy(() -> JsonComparatorOptions.builder().setMaxErrors(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Maximum number of errors must not be negative");
+	}
+
+	@Test
+	void it_should_compare_in_parallel() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setParallelThreshold(1000).build();
+
+		assertThat(options.getParallelThreshold()).isEqualTo(1000);
+		assertThat(options.isDefault()).isFalse();
+		assertThat(JsonComparatorOptions.defaultOptions().getParallelThreshold()).isZero();
+
+		assertThatThrownBy(() -> JsonComparatorOptions.builder().setParallelThreshold(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Parallel threshold must not be negative");
+	}
+
+	@Test
+	void it_should_align_arrays() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setAlignArrays(true).build();
+
+		assertThat(options.isAlignArrays()).isTrue();
+		assertThat(options.isDefault()).isFalse();
+		assertThat(options).isNotEqualTo(JsonComparatorOptions.defaultOptions());
+		assertThat(JsonComparatorOptions.defaultOptions().isAlignArrays()).isFalse();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().addIgnoreArrayOrder("tags").build();
+
+		assertThat(options).hasToString(
+			"JsonComparatorOptions{ignoreArrayOrder=false, ignoreArrayOrderPaths=[tags], ignoredPaths=[], failFast=false, maxErrors=0, parallelThreshold=0, alignArrays=false}"
+		);
+	}
+}
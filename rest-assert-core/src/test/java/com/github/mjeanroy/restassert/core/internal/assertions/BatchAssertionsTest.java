@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.BatchAssertions.batchAssertions;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchAssertionsTest {
+
+	private static final ResponseSpec SPEC = ResponseSpec.builder()
+		.isStatusEqual(200)
+		.hasHeader("ETag")
+		.build();
+
+	@Test
+	void it_should_check_all_responses_sequentially() {
+		BatchReport report = batchAssertions(SPEC).withParallelism(1).run(responses(100, 10));
+		verifyReport(report, 100, 10);
+	}
+
+	@Test
+	void it_should_check_all_responses_in_parallel() {
+		BatchReport report = batchAssertions(SPEC).withParallelism(4).run(responses(1000, 7));
+		verifyReport(report, 1000, 7);
+	}
+
+	@Test
+	void it_should_check_stream_of_responses() {
+		BatchReport report = batchAssertions(SPEC).withParallelism(4).run(responses(1000, 7).stream());
+		verifyReport(report, 1000, 7);
+	}
+
+	@Test
+	void it_should_check_responses_with_custom_executor() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			BatchReport report = batchAssertions(SPEC).withParallelism(2).withExecutor(executor).run(responses(500, 3));
+			verifyReport(report, 500, 3);
+			assertThat(executor.isShutdown()).isFalse();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void it_should_retain_first_failures_only() {
+		BatchReport report = batchAssertions(SPEC).withParallelism(4).withMaxFailures(5).run(responses(1000, 2));
+
+		assertThat(report.getTotal()).isEqualTo(1000);
+		assertThat(report.getFailed()).isEqualTo(500);
+		assertThat(report.getFailures()).extracting(BatchReport.Failure::getIndex).containsExactly(0L, 2L, 4L, 6L, 8L);
+	}
+
+	@Test
+	void it_should_report_exceptions_as_failures() {
+		Assertion<HttpResponse> assertion = (rsp) -> {
+			throw new IllegalStateException("Oops");
+		};
+
+		BatchReport report = batchAssertions(assertion).withParallelism(2).run(responses(3, 1));
+
+		assertThat(report.isSuccess()).isFalse();
+		assertThat(report.getFailed()).isEqualTo(3);
+		assertThat(report.getFailures()).hasSize(3).allSatisfy((failure) ->
+			assertThat(failure.getError().buildMessage()).isEqualTo("Expecting assertion not to throw but was \"java.lang.IllegalStateException: Oops\"")
+		);
+	}
+
+	@Test
+	void it_should_report_errors_as_failures() {
+		Assertion<HttpResponse> assertion = (rsp) -> {
+			throw new AssertionError("Oops");
+		};
+
+		BatchReport report = batchAssertions(assertion).run(responses(2, 1));
+
+		assertThat(report.getFailed()).isEqualTo(2);
+		assertThat(report.getFailures()).extracting(BatchReport.Failure::getIndex).containsExactly(0L, 1L);
+		assertThat(report.getFailures()).allSatisfy((failure) ->
+			assertThat(failure.getError().buildMessage()).isEqualTo("Expecting assertion not to throw but was \"java.lang.AssertionError: Oops\"")
+		);
+	}
+
+	@Test
+	void it_should_rethrow_fatal_errors() {
+		Assertion<HttpResponse> assertion = (rsp) -> {
+			throw new OutOfMemoryError("Oops");
+		};
+
+		assertThatThrownBy(() -> batchAssertions(assertion).run(responses(2, 1)))
+			.isInstanceOf(OutOfMemoryError.class)
+			.hasMessage("Oops");
+	}
+
+	@Test
+	void it_should_rethrow_fatal_errors_in_parallel() {
+		Assertion<HttpResponse> assertion = (rsp) -> {
+			throw new LinkageError("Oops");
+		};
+
+		assertThatThrownBy(() -> batchAssertions(assertion).withParallelism(4).run(responses(100, 1)))
+			.isExactlyInstanceOf(LinkageError.class)
+			.hasMessage("Oops");
+	}
+
+	@Test
+	void it_should_report_success() {
+		BatchReport report = batchAssertions(SPEC).run(responses(10, 0));
+		assertThat(report.isSuccess()).isTrue();
+		assertThat(report.getTotal()).isEqualTo(10);
+		assertThat(report.getFailed()).isZero();
+		assertThat(report.getFailures()).isEmpty();
+		assertThat(report).hasToString("BatchReport{total: 10, failed: 0}");
+	}
+
+	@Test
+	void it_should_fail_with_invalid_parameters() {
+		assertThatThrownBy(() -> batchAssertions(SPEC).withParallelism(0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Parallelism must be greater than or equal to 1");
+
+		assertThatThrownBy(() -> batchAssertions(SPEC).withMaxFailures(-1))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Maximum number of failures must be positive");
+	}
+
+	private static void verifyReport(BatchReport report, int total, int modulo) {
+		long failed = IntStream.range(0, total).filter((i) -> i % modulo == 0).count();
+
+		assertThat(report.getTotal()).isEqualTo(total);
+		assertThat(report.getFailed()).isEqualTo(failed);
+		assertThat(report.isSuccess()).isFalse();
+		assertThat(report.getFailures()).hasSize((int) Math.min(failed, 100));
+		assertThat(report.getFailures()).allSatisfy((failure) -> {
+			assertThat(failure.getIndex() % modulo).isZero();
+			assertThat(failure.getError().buildMessage()).isEqualTo("Expecting status code to be 200 but was 500");
+		});
+
+		assertThat(report.getFailures()).extracting(BatchReport.Failure::getIndex).isSorted();
+	}
+
+	// Every `modulo`-th response fails (none if modulo is zero).
+	private static List<HttpResponse> responses(int size, int modulo) {
+		List<HttpResponse> responses = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			boolean fail = modulo > 0 && i % modulo == 0;
+			responses.add(new HttpResponseBuilderImpl()
+				.setStatus(fail ? 500 : 200)
+				.addHeader("ETag", "\"" + i + "\"")
+				.build());
+		}
+
+		return responses;
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.data.HttpHeader;
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.exceptions.InvalidHeaderValue;
+import com.github.mjeanroy.restassert.core.internal.json.JsonException;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailureResult;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertSuccessResult;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResponseSpecTest {
+
+	private static final ResponseSpec SPEC = ResponseSpec.builder()
+		.isStatusEqual(200)
+		.isContentTypeEqualTo("application/json; charset=utf-8")
+		.hasMimeType("application/json")
+		.hasCharset("utf-8")
+		.doesNotHaveHeader("X-Powered-By")
+		.hasCookie("id", "1")
+		.isJsonEqualTo("{\"id\": 1}")
+		.build();
+
+	@Test
+	void it_should_build_spec() {
+		assertThat(SPEC.size()).isEqualTo(7);
+	}
+
+	@Test
+	void it_should_pass_with_matching_response() {
+		HttpResponse response = new HttpResponseBuilderImpl()
+			.setStatus(200)
+			.addHeader("Content-Type", "APPLICATION/JSON; charset=\"UTF-8\"")
+			.addCookie("id", "1")
+			.setContent("{\"id\":1}")
+			.build();
+
+		assertSuccessResult(SPEC.handle(response));
+	}
+
+	@Test
+	void it_should_report_all_failures() {
+		HttpResponse response = new HttpResponseBuilderImpl()
+			.setStatus(404)
+			.addHeader("Content-Type", "application/json; charset=utf-8")
+			.addHeader("X-Powered-By", "Express")
+			.addCookie("id", "1")
+			.setContent("{\"id\":1}")
+			.build();
+
+		assertFailureResult(SPEC.handle(response), String.join(System.lineSeparator(), Arrays.asList(
+			"Expecting status code to be 200 but was 404,",
+			"Expecting response not to have header X-Powered-By"
+		)));
+	}
+
+	@Test
+	void it_should_report_single_failure() {
+		HttpResponse response = new HttpResponseBuilderImpl()
+			.setStatus(500)
+			.addHeader("Content-Type", "application/json; charset=utf-8")
+			.addCookie("id", "1")
+			.setContent("{\"id\":1}")
+			.build();
+
+		assertFailureResult(SPEC.handle(response), "Expecting status code to be 200 but was 500");
+	}
+
+	@Test
+	void it_should_fail_with_null_response() {
+		assertFailureResult(SPEC.handle(null), "Expecting HTTP Response not to be null");
+	}
+
+	@Test
+	void it_should_read_headers_once() {
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getStatus()).thenReturn(200);
+		when(response.getHeaders()).thenReturn(singletonList(HttpHeader.of("Content-Type", singletonList("application/json"))));
+		when(response.getCookies()).thenReturn(emptyList());
+
+		ResponseSpec spec = ResponseSpec.builder()
+			.isStatusBetween(200, 299)
+			.hasHeader("Content-Type")
+			.hasMimeType("application/json")
+			.doesNotHaveHeader("Content-Encoding")
+			.doesNotHaveCookie()
+			.build();
+
+		assertSuccessResult(spec.handle(response));
+		verify(response, times(1)).getHeaders();
+		verify(response, times(1)).getCookies();
+	}
+
+	@Test
+	void it_should_fail_to_build_spec_with_invalid_expected_value() {
+		assertThatThrownBy(() -> ResponseSpec.builder().isContentTypeEqualTo("invalid"))
+			.isInstanceOf(InvalidHeaderValue.class);
+	}
+
+	@Test
+	void it_should_fail_to_build_spec_with_invalid_json() {
+		assertThatThrownBy(() -> ResponseSpec.builder().isJsonEqualTo("{\"id\": "))
+			.isInstanceOf(JsonException.class);
+	}
+
+	@Test
+	void it_should_not_be_affected_by_builder_updates() {
+		ResponseSpecBuilder builder = ResponseSpec.builder().isStatusEqual(200);
+		ResponseSpec spec = builder.build();
+		builder.hasHeader("ETag");
+		assertThat(spec.size()).isEqualTo(1);
+	}
+}
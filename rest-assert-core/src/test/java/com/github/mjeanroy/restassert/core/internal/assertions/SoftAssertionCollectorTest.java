@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions;
+
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import com.github.mjeanroy.restassert.tests.builders.RestAssertErrorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.collect;
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.isActive;
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.softly;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailureResult;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertSuccessResult;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SoftAssertionCollectorTest {
+
+	@Test
+	void it_should_not_collect_errors_outside_soft_block() {
+		assertThat(isActive()).isFalse();
+		assertThat(collect(createError("Error 1"))).isFalse();
+	}
+
+	@Test
+	void it_should_succeed_without_errors() {
+		AtomicBoolean active = new AtomicBoolean(false);
+		AssertionResult result = softly(() -> active.set(isActive()));
+
+		assertSuccessResult(result);
+		assertThat(active.get()).isTrue();
+		assertThat(isActive()).isFalse();
+	}
+
+	@Test
+	void it_should_return_single_error() {
+		RestAssertError error = createError("Error 1");
+		AssertionResult result = softly(() -> collect(error));
+
+		assertThat(result.isFailure()).isTrue();
+		assertThat(result.getError()).isSameAs(error);
+	}
+
+	@Test
+	void it_should_combine_all_errors() {
+		AssertionResult result = softly(() -> {
+			collect(createError("Error 1"));
+			collect(createError("Error %s", 2));
+		});
+
+		assertFailureResult(result, "Error 1," + System.lineSeparator() + "Error 2");
+	}
+
+	@Test
+	void it_should_collect_nested_errors_in_enclosing_block() {
+		AssertionResult result = softly(() -> {
+			collect(createError("Error 1"));
+			assertSuccessResult(softly(() -> collect(createError("Error 2"))));
+			assertThat(isActive()).isTrue();
+		});
+
+		assertFailureResult(result, "Error 1," + System.lineSeparator() + "Error 2");
+	}
+
+	@Test
+	void it_should_stop_collecting_if_assertions_throw() {
+		assertThatThrownBy(() -> softly(() -> { throw new IllegalStateException("Oops"); }))
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("Oops");
+
+		assertThat(isActive()).isFalse();
+	}
+
+	@Test
+	void it_should_attach_collected_errors_if_assertions_throw() {
+		assertThatThrownBy(() -> softly(() -> {
+			collect(createError("Error 1"));
+			collect(createError("Error 2"));
+			throw new IllegalStateException("Oops");
+		}))
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("Oops")
+			.satisfies((ex) -> assertThat(ex.getSuppressed()).hasSize(1).extracting(Throwable::getMessage).containsExactly(
+				"Error 1," + System.lineSeparator() + "Error 2"
+			));
+	}
+
+	private static RestAssertError createError(String message, Object... args) {
+		return new RestAssertErrorBuilder().setExpectation(message, args).build();
+	}
+}
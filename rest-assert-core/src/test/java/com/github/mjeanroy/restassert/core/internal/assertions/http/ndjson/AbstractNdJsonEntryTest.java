@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.http.ndjson;
+
+import com.github.mjeanroy.restassert.core.data.HttpHeader;
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.assertions.AbstractAssertionsTest;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+abstract class AbstractNdJsonEntryTest extends AbstractAssertionsTest<HttpResponse> {
+
+	HttpResponseAssertions assertions;
+
+	@BeforeEach
+	void setUp() {
+		assertions = HttpResponseAssertions.instance();
+	}
+
+	@Test
+	void it_should_pass() {
+		HttpResponse response = newResponse(String.join("\n",
+			record(validValue()),
+			"",
+			record(validValue()),
+			record(validValue())
+		));
+
+		AssertionResult result = run(response);
+
+		checkSuccess(result);
+	}
+
+	@Test
+	void it_should_fail_with_line_number() {
+		HttpResponse response = newResponse(String.join("\n",
+			record(validValue()),
+			"",
+			"{\"name\": \"John Doe\"}"
+		));
+
+		AssertionResult result = run(response);
+
+		checkError(result, "Expecting json to contain entry \"id\" (line 3)");
+	}
+
+	@Test
+	void it_should_fail_with_line_number_of_invalid_record() {
+		HttpResponse response = newResponse(String.join("\n",
+			record(validValue()),
+			"{not json",
+			record(validValue())
+		));
+
+		AssertionResult result = run(response);
+
+		checkError(result, "Expecting json to be valid but was \"{not json\" (line 2)");
+	}
+
+	@Test
+	void it_should_read_records_with_declared_charset() {
+		byte[] body = String.join("\n", record(validValue()), record(validValue())).getBytes(UTF_16);
+		HttpHeader contentType = HttpHeader.of("Content-Type", singletonList("application/x-ndjson; charset=UTF-16"));
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getHeaders()).thenReturn(singletonList(contentType));
+		when(response.getHeader("Content-Type")).thenReturn(contentType.getValues());
+		when(response.getContentBytes()).thenReturn(body);
+		when(response.getContentStream()).thenAnswer((invocation) -> new ByteArrayInputStream(body));
+
+		AssertionResult result = run(response);
+
+		checkSuccess(result);
+	}
+
+	@Test
+	void it_should_fail_if_response_is_null() {
+		AssertionResult result = run(null);
+		checkError(result, "Expecting HTTP Response not to be null");
+	}
+
+	abstract String validValue();
+
+	static String record(String value) {
+		return format("{\"id\": %s, \"name\": \"John Doe\"}", value);
+	}
+
+	static HttpResponse newResponse(String content) {
+		return new HttpResponseBuilderImpl().setContent(content).build();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.http.ndjson;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.assertions.AbstractAssertionsTest;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HasNdJsonRecordCountTest extends AbstractAssertionsTest<HttpResponse> {
+
+	private HttpResponseAssertions assertions;
+
+	@BeforeEach
+	void setUp() {
+		assertions = HttpResponseAssertions.instance();
+	}
+
+	@Override
+	protected AssertionResult run(HttpResponse response) {
+		return assertions.hasNdJsonRecordCount(response, 3);
+	}
+
+	@Test
+	void it_should_pass() {
+		HttpResponse response = newResponse("{\"id\": 1}\n{\"id\": 2}\r\n\n{\"id\": 3}\n");
+		checkSuccess(run(response));
+	}
+
+	@Test
+	void it_should_pass_with_empty_body() {
+		HttpResponse response = newResponse("");
+		checkSuccess(assertions.hasNdJsonRecordCount(response, 0));
+	}
+
+	@Test
+	void it_should_fail() {
+		HttpResponse response = newResponse("{\"id\": 1}\n{\"id\": 2}");
+		checkError(run(response), "Expecting ndjson to have 3 record(s) but was 2");
+	}
+
+	@Test
+	void it_should_fail_if_response_is_null() {
+		AssertionResult result = run(null);
+		checkError(result, "Expecting HTTP Response not to be null");
+	}
+
+	@Test
+	void it_should_not_accept_negative_count() {
+		HttpResponse response = newResponse("");
+		assertThatThrownBy(() -> assertions.hasNdJsonRecordCount(response, -1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Number of records must not be negative");
+	}
+
+	private static HttpResponse newResponse(String content) {
+		return new HttpResponseBuilderImpl().setContent(content).build();
+	}
+}
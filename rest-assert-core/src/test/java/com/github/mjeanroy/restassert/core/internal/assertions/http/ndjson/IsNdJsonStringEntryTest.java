@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.http.ndjson;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class IsNdJsonStringEntryTest extends AbstractNdJsonEntryTest {
+
+	@Override
+	protected AssertionResult run(HttpResponse response) {
+		return assertions.isNdJsonStringEntry(response, "id");
+	}
+
+	@Override
+	String validValue() {
+		return "\"1\"";
+	}
+
+	@Test
+	void it_should_report_failing_records() {
+		HttpResponse response = newResponse(String.join("\n",
+			record("1"),
+			record("\"2\""),
+			record("true")
+		));
+
+		AssertionResult result = run(response);
+
+		checkError(result, String.join(System.lineSeparator(),
+			"Expecting json entry id to be a string but was a number (line 1),",
+			"Expecting json entry id to be a string but was a boolean (line 3)"
+		));
+	}
+
+	@Test
+	void it_should_stop_after_ten_failing_records() {
+		List<String> records = new ArrayList<>();
+		List<String> errors = new ArrayList<>();
+		for (int i = 1; i <= 20; ++i) {
+			records.add(record("1"));
+			if (i <= 10) {
+				errors.add("Expecting json entry id to be a string but was a number (line " + i + ")");
+			}
+		}
+
+		AssertionResult result = run(newResponse(String.join("\n", records)));
+
+		checkError(result, String.join("," + System.lineSeparator(), errors));
+	}
+}
@@ -26,6 +26,7 @@ package com.github.mjeanroy.restassert.core.internal.assertions.impl;
 
 import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
 import com.github.mjeanroy.restassert.core.data.Cookie;
+import com.github.mjeanroy.restassert.core.data.Cookies;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
 import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
 import com.github.mjeanroy.restassert.tests.builders.MockCookieBuilder;
@@ -141,6 +142,21 @@ class HasCookieAssertionTest {
 		);
 	}
 
+	@Test
+	void it_should_not_decode_cookies_with_another_name() {
+		Cookie c1 = Cookies.lazyParse("foo=bar; Max-Age=3600");
+		Cookie c2 = Cookies.lazyParse("quix=bar; Max-Age=invalid; Expires=invalid; SameSite=invalid");
+		Cookie expected = Cookies.builder("foo", "bar").setMaxAge(3600L).build();
+
+		HasCookieAssertion assertion = new HasCookieAssertion(expected);
+		HttpResponse rsp = new HttpResponseBuilderImpl().addCookie(c2, c1).build();
+
+		AssertionResult result = assertion.handle(rsp);
+
+		assertThat(result).isNotNull();
+		assertThat(result.isSuccess()).isTrue();
+	}
+
 	@Test
 	void it_should_fail_if_cookie_is_null() {
 		assertThatThrownBy(() -> new HasCookieAssertion((Cookie) null))
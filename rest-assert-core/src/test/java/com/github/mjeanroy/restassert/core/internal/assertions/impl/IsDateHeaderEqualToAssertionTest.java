@@ -72,6 +72,51 @@ class IsDateHeaderEqualToAssertionTest {
 		assertThat(result.isFailure()).isFalse();
 	}
 
+	@Test
+	void it_should_not_fail_if_header_is_set_with_expected_date_in_another_format() {
+		String name = "foo";
+		String value = "Thu May  5 19:29:03 2016";
+		Date date = createUtcDate(2016, MAY, 5, 19, 29, 3);
+		IsDateHeaderEqualToAssertion assertion = new IsDateHeaderEqualToAssertion(name, date);
+		HttpResponse rsp = new HttpResponseBuilderImpl().addHeader(name, value).build();
+
+		AssertionResult result = assertion.handle(rsp);
+
+		assertThat(result).isNotNull();
+		assertThat(result.isSuccess()).isTrue();
+	}
+
+	@Test
+	void it_should_ignore_milliseconds_of_expected_date() {
+		String name = "foo";
+		String value = "Thu, 05 May 2016 19:29:03 GMT";
+		long seconds = createUtcDate(2016, MAY, 5, 19, 29, 3).getTime() / 1000;
+		Date date = new Date(seconds * 1000 + 500);
+		IsDateHeaderEqualToAssertion assertion = new IsDateHeaderEqualToAssertion(name, date);
+		HttpResponse rsp = new HttpResponseBuilderImpl().addHeader(name, value).build();
+
+		AssertionResult result = assertion.handle(rsp);
+
+		assertThat(result).isNotNull();
+		assertThat(result.isSuccess()).isTrue();
+	}
+
+	@Test
+	void it_should_fail_if_header_is_not_a_valid_date() {
+		String name = "foo";
+		Date date = createUtcDate(2016, MAY, 5, 19, 30, 3);
+		IsDateHeaderEqualToAssertion assertion = new IsDateHeaderEqualToAssertion(name, date);
+		HttpResponse rsp = new HttpResponseBuilderImpl().addHeader(name, "foo").build();
+
+		AssertionResult result = assertion.handle(rsp);
+
+		assertThat(result).isNotNull();
+		assertThat(result.isFailure()).isTrue();
+		assertThat(result.getError()).hasToString(
+			"Expecting response to have header \"foo\" equal to \"Thu, 05 May 2016 19:30:03 GMT\" but was \"foo\""
+		);
+	}
+
 	@Test
 	void it_should_fail_if_header_is_not_set() {
 		String name = "foo";
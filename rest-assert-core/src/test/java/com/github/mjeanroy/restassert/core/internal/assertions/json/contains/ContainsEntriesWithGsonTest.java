@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.json.contains;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
+import com.github.mjeanroy.restassert.core.internal.json.JsonParsers;
+import com.github.mjeanroy.restassert.core.internal.json.ParsedJson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonObject;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertSuccessResult;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Run with Gson as JSON parser (see `restassert.json.parser` system property), that parses all numbers as doubles.
+class ContainsEntriesWithGsonTest {
+
+	private JsonAssertions assertions;
+
+	@BeforeEach
+	void setUp() {
+		assertions = JsonAssertions.instance();
+	}
+
+	@Test
+	void it_should_check_if_json_contains_number_entries() {
+		assertThat(JsonParsers.getParser().getClass().getSimpleName()).isEqualTo("GsonJsonParser");
+
+		ParsedJson actual = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("o", jsonObject(
+				jsonEntry("n", 2)
+			))
+		));
+
+		// Parse the value first, entries must not be read from it.
+		assertThat(actual.value()).isNotNull();
+
+		assertSuccessResult(assertions.containsEntries(actual, JsonAssertions.jsonEntry("id", 1)));
+		assertSuccessResult(assertions.containsEntries(actual, JsonAssertions.jsonEntry("o.n", 2)));
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.json.isequalto;
+
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonArray;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailureResult;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertSuccessResult;
+import static com.github.mjeanroy.restassert.tests.fixtures.JsonFixtures.jsonFailure;
+import static com.github.mjeanroy.restassert.tests.fixtures.JsonFixtures.jsonSuccess;
+
+class IsEqualToWithOptionsTest extends AbstractJsonAssertion_isEqualTo_Test<String> {
+
+	@Override
+	AssertionResult run(String actual, String expected) {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().addIgnoreArrayOrder("tags").build();
+		return assertions.isEqualTo(actual, expected, options);
+	}
+
+	@Override
+	String successObject() {
+		return jsonSuccess();
+	}
+
+	@Override
+	String failureObject() {
+		return jsonFailure();
+	}
+
+	@Test
+	void it_should_pass_ignoring_array_order() {
+		String actual = toJSON(jsonEntry("tags", jsonArray("foo", "bar")));
+		String expected = toJSON(jsonEntry("tags", jsonArray("bar", "foo")));
+		AssertionResult result = run(actual, expected);
+		assertSuccessResult(result);
+	}
+
+	@Test
+	void it_should_fail_ignoring_array_order() {
+		String actual = toJSON(jsonEntry("tags", jsonArray("foo", "bar")));
+		String expected = toJSON(jsonEntry("tags", jsonArray("bar", "baz")));
+		AssertionResult result = run(actual, expected);
+		assertFailureResult(result, String.join(System.lineSeparator(),
+			"Expecting json to contain array element tags[1] equal to baz,",
+			"Expecting json not to contain array element tags[0] equal to foo"
+		));
+	}
+
+	@Test
+	void it_should_report_limited_number_of_differences() {
+		String actual = toJSON(jsonEntry("ids", jsonArray("1", "2", "3", "4")));
+		String expected = toJSON(jsonEntry("ids", jsonArray("0", "1", "2", "3")));
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setMaxErrors(2).build();
+		AssertionResult result = assertions.isEqualTo(actual, expected, options);
+		assertFailureResult(result, String.join(System.lineSeparator(),
+			"Expecting json entry ids[0] to be equal to 0 but was 1,",
+			"Expecting json entry ids[1] to be equal to 1 but was 2,",
+			"Expecting json to be equal, but found 2 more differences"
+		));
+	}
+
+	@Test
+	void it_should_stop_at_first_difference() {
+		String actual = toJSON(jsonEntry("ids", jsonArray("1", "2", "3", "4")));
+		String expected = toJSON(jsonEntry("ids", jsonArray("0", "1", "2", "3")));
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setFailFast(true).build();
+		AssertionResult result = assertions.isEqualTo(actual, expected, options);
+		assertFailureResult(result, "Expecting json entry ids[0] to be equal to 0 but was 1");
+	}
+}
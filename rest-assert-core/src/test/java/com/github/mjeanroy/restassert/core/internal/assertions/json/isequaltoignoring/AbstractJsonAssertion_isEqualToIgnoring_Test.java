@@ -79,6 +79,16 @@ abstract class AbstractJsonAssertion_isEqualToIgnoring_Test<T> {
 		assertSuccessResult(result);
 	}
 
+	@Test
+	void it_should_support_json_path_wildcards() {
+		String actual = actual();
+		T expected = failureObject();
+		List<String> ignoringKeys = asList("$.str", "$.nb", "$.bool", "$.array[*]");
+		AssertionResult result = run(actual, expected, ignoringKeys);
+
+		assertSuccessResult(result);
+	}
+
 	@Test
 	void it_should_fail() {
 		String actual = actual();
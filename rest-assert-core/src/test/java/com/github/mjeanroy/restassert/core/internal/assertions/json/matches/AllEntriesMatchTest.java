@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.json.matches;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
+import com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.hasEntry;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isArrayEntry;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isBooleanEntry;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isEntryEqualTo;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isNumberEntry;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isObjectEntry;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isStringEntry;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailureResult;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertSuccessResult;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllEntriesMatchTest {
+
+	private static final String JSON = "{" +
+		"\"items\": [" +
+		"{\"id\": 1, \"name\": \"foo\", \"active\": true, \"tags\": [], \"meta\": {}}," +
+		"{\"id\": 2, \"name\": \"bar\", \"active\": false, \"tags\": [\"x\"], \"meta\": {\"k\": 1}}" +
+		"]," +
+		"\"empty\": []," +
+		"\"name\": \"list\"" +
+		"}";
+
+	private JsonAssertions assertions;
+
+	@BeforeEach
+	void setUp() {
+		assertions = JsonAssertions.instance();
+	}
+
+	@Test
+	void it_should_check_that_all_entries_match() {
+		assertSuccessResult(assertions.allEntriesMatch(JSON, "items", isNumberEntry("id"), isStringEntry("name")));
+		assertSuccessResult(assertions.allEntriesMatch(JSON, "$.items", hasEntry("id"), isBooleanEntry("active"), isArrayEntry("tags"), isObjectEntry("meta")));
+		assertSuccessResult(assertions.allEntriesMatch(JSON, "empty", hasEntry("id")));
+	}
+
+	@Test
+	void it_should_fail_with_first_failing_entry() {
+		assertFailureResult(
+			assertions.allEntriesMatch(JSON, "items", isNumberEntry("id"), isEntryEqualTo("name", "foo")),
+			"Expecting json entry \"name\" to be equal to \"foo\" but was \"bar\" (element 1 of \"items\")"
+		);
+
+		assertFailureResult(
+			assertions.allEntriesMatch(JSON, "items", isStringEntry("id")),
+			"Expecting json entry \"id\" to be a string but was a number (element 0 of \"items\")"
+		);
+
+		assertFailureResult(
+			assertions.allEntriesMatch("{\"ids\": [1, 2]}", "ids", hasEntry("id")),
+			"Expecting json to contain entry \"id\" (element 0 of \"ids\")"
+		);
+	}
+
+	@Test
+	void it_should_stop_at_first_failing_entry() {
+		AtomicInteger count = new AtomicInteger(0);
+		JsonEntryAssertion counter = json -> {
+			count.incrementAndGet();
+			return success();
+		};
+
+		assertions.allEntriesMatch(JSON, "items", isEntryEqualTo("id", 0), counter);
+		assertThat(count.get()).isZero();
+
+		assertions.allEntriesMatch(JSON, "items", counter, isEntryEqualTo("id", 0));
+		assertThat(count.get()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_fail_if_entry_is_not_an_array() {
+		assertFailureResult(
+			assertions.allEntriesMatch(JSON, "name", hasEntry("id")),
+			"Expecting json entry \"name\" to be an array but was a string"
+		);
+
+		assertFailureResult(
+			assertions.allEntriesMatch(JSON, "missing", hasEntry("id")),
+			"Expecting json to contain entry \"missing\""
+		);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.json.matches;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
+import com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult.success;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.hasEntry;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isEntryEqualTo;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isNumberEntry;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailureResult;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertSuccessResult;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnyEntryMatchesTest {
+
+	private static final String JSON = "{" +
+		"\"items\": [{\"id\": 1, \"name\": \"foo\"}, null, \"bar\", {\"id\": 2, \"name\": \"bar\"}]," +
+		"\"empty\": []" +
+		"}";
+
+	private JsonAssertions assertions;
+
+	@BeforeEach
+	void setUp() {
+		assertions = JsonAssertions.instance();
+	}
+
+	@Test
+	void it_should_check_that_any_entry_matches() {
+		assertSuccessResult(assertions.anyEntryMatches(JSON, "items", isNumberEntry("id"), isEntryEqualTo("name", "bar")));
+		assertSuccessResult(assertions.anyEntryMatches(JSON, "$.items", hasEntry("name")));
+	}
+
+	@Test
+	void it_should_fail_if_no_entry_matches() {
+		assertFailureResult(
+			assertions.anyEntryMatches(JSON, "items", isEntryEqualTo("name", "baz")),
+			"Expecting json array \"items\" to have at least one matching element but none of its 4 element(s) matched"
+		);
+
+		assertFailureResult(
+			assertions.anyEntryMatches(JSON, "empty", hasEntry("id")),
+			"Expecting json array \"empty\" to have at least one matching element but none of its 0 element(s) matched"
+		);
+	}
+
+	@Test
+	void it_should_stop_at_first_matching_entry() {
+		AtomicInteger count = new AtomicInteger(0);
+		JsonEntryAssertion counter = json -> {
+			count.incrementAndGet();
+			return success();
+		};
+
+		assertSuccessResult(assertions.anyEntryMatches(JSON, "items", counter));
+		assertThat(count.get()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_fail_if_entry_is_not_an_array() {
+		assertFailureResult(
+			assertions.anyEntryMatches("{\"items\": {}}", "items", hasEntry("id")),
+			"Expecting json entry \"items\" to be an array but was an object"
+		);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.assertions.json.parse;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
+import com.github.mjeanroy.restassert.core.internal.json.ParsedJson;
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailureResult;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertSuccessResult;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParseJsonTest {
+
+	@Test
+	void it_should_reuse_parsed_json_with_same_payload() {
+		String json = toJSON(jsonEntry("id", 1));
+		ParsedJson parsedJson = JsonAssertions.parseJson(json);
+		assertThat(parsedJson.json()).isSameAs(json);
+		assertThat(JsonAssertions.parseJson(json)).isSameAs(parsedJson);
+	}
+
+	@Test
+	void it_should_not_reuse_parsed_json_with_another_payload() {
+		String json1 = toJSON(jsonEntry("id", 1));
+		String json2 = toJSON(jsonEntry("id", 1));
+		ParsedJson parsedJson1 = JsonAssertions.parseJson(json1);
+		ParsedJson parsedJson2 = JsonAssertions.parseJson(json2);
+		assertThat(parsedJson2).isNotSameAs(parsedJson1);
+		assertThat(parsedJson2.json()).isSameAs(json2);
+	}
+
+	@Test
+	void it_should_parse_http_response_body_with_declared_charset() {
+		String json = toJSON(jsonEntry("name", "Hervé"));
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getHeader("Content-Type")).thenReturn(singletonList("application/json; charset=ISO-8859-1"));
+		when(response.getContentBytes()).thenReturn(json.getBytes(ISO_8859_1));
+
+		ParsedJson parsedJson = JsonAssertions.parseJson(response);
+		assertThat(parsedJson.json()).isEqualTo(json);
+		assertThat((String) parsedJson.read("name")).isEqualTo("Hervé");
+		assertThat(JsonAssertions.parseJson(parsedJson.json())).isSameAs(parsedJson);
+	}
+
+	@Test
+	void it_should_run_assertions_on_parsed_json() {
+		JsonAssertions assertions = JsonAssertions.instance();
+		ParsedJson parsedJson = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("name", "John Doe")
+		));
+
+		assertSuccessResult(assertions.isObject(parsedJson));
+		assertSuccessResult(assertions.isNumberEntry(parsedJson, "id"));
+		assertSuccessResult(assertions.contains(parsedJson, "id", "name"));
+		assertSuccessResult(assertions.containsEntries(parsedJson, JsonAssertions.jsonEntry("name", "John Doe")));
+
+		assertFailureResult(assertions.isArray(parsedJson), "Expecting json to be an array but was an object");
+		assertFailureResult(assertions.isStringEntry(parsedJson, "id"), "Expecting json entry \"id\" to be a string but was a number");
+		assertFailureResult(assertions.isStringEntry(parsedJson, "foo"), "Expecting json to contain entry \"foo\"");
+	}
+}
@@ -27,6 +27,7 @@ package com.github.mjeanroy.restassert.core.internal.common;
 import org.junit.jupiter.api.Test;
 
 import java.util.Date;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -77,6 +78,51 @@ class DatesTest {
 			.hasTime(784111777000L);
 	}
 
+	@Test
+	void it_should_parse_rfc_1123_with_utc_time_zone() {
+		assertThat(Dates.parseHttpDate("Sun, 06 Nov 1994 08:49:37 UTC")).hasTime(784111777000L);
+	}
+
+	@Test
+	void it_should_parse_rfc_1123_with_numeric_offset() {
+		assertThat(Dates.parseHttpDate("Sun, 06 Nov 1994 09:49:37 +0100")).hasTime(784111777000L);
+		assertThat(Dates.parseHttpDate("Sun, 06 Nov 1994 07:49:37 GMT-01:00")).hasTime(784111777000L);
+	}
+
+	@Test
+	void it_should_parse_rfc_1123_with_named_time_zone() {
+		assertThat(Dates.parseHttpDate("Sun, 06 Nov 1994 00:49:37 PST")).hasTime(784111777000L);
+	}
+
+	@Test
+	void it_should_parse_dates_with_named_time_zone_in_parallel() {
+		long[] millis = IntStream.range(0, 1000).parallel()
+			.mapToLong((i) -> Dates.parseHttpDateMillis(i % 2 == 0 ? "Sun, 06 Nov 1994 00:49:37 PST" : "Sun, 06 Nov 1994 03:49:37 EST"))
+			.distinct()
+			.toArray();
+
+		assertThat(millis).containsExactly(784111777000L);
+	}
+
+	@Test
+	void it_should_parse_leap_day() {
+		assertThat(Dates.parseHttpDate("Thu, 29 Feb 2024 12:00:00 GMT")).hasTime(1709208000000L);
+	}
+
+	@Test
+	void it_should_parse_http_date_as_millis() {
+		assertThat(Dates.parseHttpDateMillis("Sun, 06 Nov 1994 08:49:37 GMT")).isEqualTo(784111777000L);
+		assertThat(Dates.parseHttpDateMillis("Sunday, 06-Nov-94 08:49:37 GMT")).isEqualTo(784111777000L);
+		assertThat(Dates.parseHttpDateMillis("Sun Nov  6 08:49:37 1994")).isEqualTo(784111777000L);
+	}
+
+	@Test
+	void it_should_not_fail_to_parse_invalid_http_date_as_millis() {
+		assertThat(Dates.parseHttpDateMillis("foo bar")).isEqualTo(Dates.INVALID_HTTP_DATE);
+		assertThat(Dates.parseHttpDateMillis("")).isEqualTo(Dates.INVALID_HTTP_DATE);
+		assertThat(Dates.parseHttpDateMillis("Sun, 06 Nov 1994 08:49")).isEqualTo(Dates.INVALID_HTTP_DATE);
+	}
+
 	@Test
 	void it_should_throw_exception_if_pattern_is_not_known() {
 		String date = "foo bar";
@@ -93,4 +139,21 @@ class DatesTest {
 
 		assertThat(Dates.formatHttpDate(date)).isEqualTo("Sun, 06 Nov 1994 08:49:37 GMT");
 	}
+
+	@Test
+	void it_should_format_date_from_millis() {
+		assertThat(Dates.formatHttpDate(784111777000L)).isEqualTo("Sun, 06 Nov 1994 08:49:37 GMT");
+		assertThat(Dates.formatHttpDate(784111777999L)).isEqualTo("Sun, 06 Nov 1994 08:49:37 GMT");
+		assertThat(Dates.formatHttpDate(0L)).isEqualTo("Thu, 01 Jan 1970 00:00:00 GMT");
+		assertThat(Dates.formatHttpDate(-1L)).isEqualTo("Wed, 31 Dec 1969 23:59:59 GMT");
+		assertThat(Dates.formatHttpDate(1709208000000L)).isEqualTo("Thu, 29 Feb 2024 12:00:00 GMT");
+	}
+
+	@Test
+	void it_should_format_and_parse_same_date() {
+		for (long millis = -2208988800000L; millis < 4102444800000L; millis += 86399999L) {
+			String date = Dates.formatHttpDate(millis);
+			assertThat(Dates.parseHttpDateMillis(date)).isEqualTo(Math.floorDiv(millis, 1000L) * 1000L);
+		}
+	}
 }
@@ -27,6 +27,7 @@ package com.github.mjeanroy.restassert.core.internal.common;
 import org.junit.jupiter.api.Test;
 
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -52,4 +53,14 @@ class FilesTest {
 			expectedContent
 		);
 	}
+
+	@Test
+	void it_should_read_file_to_string_with_charset() throws Exception {
+		URL resource = getClass().getResource("/test.txt");
+		Path path = Paths.get(resource.toURI());
+
+		String content = Files.readFileToString(path, StandardCharsets.UTF_8);
+
+		assertThat(content).isEqualTo("Hello World\nFoo Bar\nTest");
+	}
 }
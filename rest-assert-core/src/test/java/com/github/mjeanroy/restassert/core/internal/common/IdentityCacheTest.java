@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityCacheTest {
+
+	@Test
+	void it_should_compute_value_once_per_key() {
+		AtomicInteger counter = new AtomicInteger(0);
+		IdentityCache<Object, Integer> cache = IdentityCache.identityCache();
+		Object key = new Object();
+
+		assertThat(cache.get(key, (k) -> counter.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.get(key, (k) -> counter.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_compare_keys_using_identity() {
+		IdentityCache<String, String> cache = IdentityCache.identityCache();
+		String key1 = new String("key");
+		String key2 = new String("key");
+
+		assertThat(cache.get(key1, (k) -> "value1")).isEqualTo("value1");
+		assertThat(cache.get(key2, (k) -> "value2")).isEqualTo("value2");
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_remove_entry_once_key_has_been_garbage_collected() throws Exception {
+		IdentityCache<Object, String> cache = IdentityCache.identityCache();
+		Object key = new Object();
+		cache.get(key, (k) -> "value");
+		cache.get(new Object(), (k) -> "value");
+
+		for (int i = 0; i < 50 && cache.size() > 1; ++i) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get(key, (k) -> "new value")).isEqualTo("value");
+	}
+
+	@Test
+	void it_should_clear_cache() {
+		IdentityCache<Object, String> cache = IdentityCache.identityCache();
+		cache.get(new Object(), (k) -> "value");
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+}
@@ -27,6 +27,7 @@ package com.github.mjeanroy.restassert.core.internal.common;
 import org.junit.jupiter.api.Test;
 
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,4 +46,11 @@ class IosTest {
 			))
 		);
 	}
+
+	@Test
+	void it_should_read_url_with_charset() {
+		URL url = getClass().getResource("/test.txt");
+		String output = Ios.readUrl(url, StandardCharsets.UTF_8);
+		assertThat(output).isEqualTo("Hello World\nFoo Bar\nTest");
+	}
 }
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyTest {
+
+	@Test
+	void it_should_compute_value_once() {
+		AtomicInteger counter = new AtomicInteger(0);
+		Lazy<Integer> lazy = Lazy.lazy(counter::incrementAndGet);
+
+		assertThat(lazy.isInitialized()).isFalse();
+		assertThat(counter.get()).isZero();
+
+		assertThat(lazy.get()).isEqualTo(1);
+		assertThat(lazy.get()).isEqualTo(1);
+		assertThat(lazy.isInitialized()).isTrue();
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_compute_null_value_once() {
+		AtomicInteger counter = new AtomicInteger(0);
+		Lazy<String> lazy = Lazy.lazy(() -> {
+			counter.incrementAndGet();
+			return null;
+		});
+
+		assertThat(lazy.get()).isNull();
+		assertThat(lazy.get()).isNull();
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_fail_with_null_supplier() {
+		assertThatThrownBy(() -> Lazy.lazy(null))
+			.isInstanceOf(NullPointerException.class)
+			.hasMessage("Supplier must not be null");
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.data;
+
+import com.github.mjeanroy.restassert.core.data.HttpHeader;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HeaderIndexTest {
+
+	@Test
+	void it_should_get_headers_ignoring_case() {
+		HeaderIndex index = HeaderIndex.builder()
+			.add("Content-Type", "application/json")
+			.add("etag", "\"123\"")
+			.build();
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.contains("content-type")).isTrue();
+		assertThat(index.contains("CONTENT-TYPE")).isTrue();
+		assertThat(index.contains("ETag")).isTrue();
+		assertThat(index.contains("Content-Length")).isFalse();
+		assertThat(index.get("CONTENT-type")).containsExactly("application/json");
+		assertThat(index.get("ETAG")).containsExactly("\"123\"");
+		assertThat(index.get("Content-Length")).isEmpty();
+	}
+
+	@Test
+	void it_should_merge_values_of_same_header() {
+		HeaderIndex index = HeaderIndex.builder()
+			.add("Set-Cookie", "id=1")
+			.add("Vary", "Accept")
+			.add("set-cookie", asList("name=john", "lang=fr"))
+			.build();
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.get("Set-Cookie")).containsExactly("id=1", "name=john", "lang=fr");
+		assertThat(index.getHeaders()).containsExactly(
+			HttpHeader.of("Set-Cookie", asList("id=1", "name=john", "lang=fr")),
+			HttpHeader.of("Vary", singletonList("Accept"))
+		);
+	}
+
+	@Test
+	void it_should_index_many_headers() {
+		HeaderIndex.Builder builder = HeaderIndex.builder();
+		for (int i = 0; i < 100; i++) {
+			builder.add("X-Header-" + i, String.valueOf(i));
+		}
+
+		HeaderIndex index = builder.build();
+
+		assertThat(index.size()).isEqualTo(100);
+		assertThat(index.getHeaders()).extracting(HttpHeader::getName).startsWith("X-Header-0", "X-Header-1", "X-Header-2");
+		for (int i = 0; i < 100; i++) {
+			assertThat(index.get("x-header-" + i)).containsExactly(String.valueOf(i));
+		}
+	}
+
+	@Test
+	void it_should_create_empty_index() {
+		HeaderIndex index = HeaderIndex.emptyHeaderIndex();
+		assertThat(index.size()).isZero();
+		assertThat(index.getHeaders()).isEmpty();
+		assertThat(index.contains("Content-Type")).isFalse();
+		assertThat(index.get("Content-Type")).isEmpty();
+	}
+
+	@Test
+	void it_should_return_immutable_values() {
+		HeaderIndex index = HeaderIndex.builder().add("Vary", "Accept").build();
+		assertThatThrownBy(() -> index.get("Vary").add("Origin")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> index.getHeaders().clear()).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void it_should_compare_ignoring_ascii_case() {
+		assertThat(HeaderIndex.equalsIgnoreCase("Content-Type", "content-TYPE")).isTrue();
+		assertThat(HeaderIndex.equalsIgnoreCase("Content-Type", "Content-Types")).isFalse();
+		assertThat(HeaderIndex.hashIgnoreCase("Content-Type")).isEqualTo(HeaderIndex.hashIgnoreCase("CONTENT-TYPE"));
+	}
+
+	@Test
+	void it_should_find_standard_header_ignoring_case() {
+		for (HttpHeaders header : HttpHeaders.values()) {
+			assertThat(HttpHeaders.find(header.getName())).isSameAs(header);
+			assertThat(HttpHeaders.find(header.getName().toUpperCase())).isSameAs(header);
+			assertThat(HttpHeaders.find(header.getName().toLowerCase())).isSameAs(header);
+		}
+
+		assertThat(HttpHeaders.find("X-Custom-Header")).isNull();
+	}
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
@@ -136,6 +137,49 @@ public abstract class AbstractHttpResponseTest<T> {
 		assertThat(result).isEqualTo(body);
 	}
 
+	@Test
+	void it_should_return_response_body_more_than_once() {
+		String body = "foo";
+		T response = getBuilder().setContent(body).build();
+
+		HttpResponse httpResponse = create(response);
+		assertThat(httpResponse.getContent()).isEqualTo(body);
+		assertThat(httpResponse.getContent()).isEqualTo(body);
+	}
+
+	@Test
+	void it_should_return_response_body_as_bytes() {
+		T response = getBuilder().setContent("foo").build();
+
+		HttpResponse httpResponse = create(response);
+		assertThat(httpResponse.getContentBytes()).isEqualTo("foo".getBytes(UTF_8));
+		assertThat(httpResponse.getContentStream()).hasBinaryContent("foo".getBytes(UTF_8));
+	}
+
+	@Test
+	void it_should_return_response_body_as_bytes_and_string() {
+		T response = getBuilder().setContent("foo").build();
+
+		HttpResponse httpResponse = create(response);
+		assertThat(httpResponse.getContentBytes()).isEqualTo("foo".getBytes(UTF_8));
+		assertThat(httpResponse.getContent()).isEqualTo("foo");
+		assertThat(httpResponse.getContentBytes()).isEqualTo("foo".getBytes(UTF_8));
+	}
+
+	@Test
+	void it_should_share_response_values_for_same_response() {
+		T response = getBuilder().setContent("foo").build();
+		HttpResponse httpResponse = create(response);
+		byte[] contentBytes = httpResponse.getContentBytes();
+
+		assertThat(create(response).getContentBytes()).isEqualTo(contentBytes);
+		if (isSharedByResponse()) {
+			assertThat(create(response).getContentBytes()).isSameAs(contentBytes);
+		}
+
+		assertThat(create(getBuilder().setContent("foo").build()).getContentBytes()).isNotSameAs(contentBytes);
+	}
+
 	@Test
 	void it_should_return_empty_list_if_set_cookie_header_is_missing() {
 		T response = getBuilder().build();
@@ -161,5 +205,9 @@ public abstract class AbstractHttpResponseTest<T> {
 
 	protected abstract HttpResponseBuilder<T> getBuilder();
 
+	protected boolean isSharedByResponse() {
+		return true;
+	}
+
 	protected abstract HttpResponse create(T response);
 }
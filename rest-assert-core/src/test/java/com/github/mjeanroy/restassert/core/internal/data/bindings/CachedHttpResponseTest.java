@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.data.bindings;
+
+import com.github.mjeanroy.restassert.core.data.Cookie;
+import com.github.mjeanroy.restassert.core.data.HttpHeader;
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
+import com.github.mjeanroy.restassert.tests.builders.MockCookieBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedHttpResponseTest {
+
+	@Test
+	void it_should_create_null_http_response() {
+		assertThat(CachedHttpResponse.create(null)).isNull();
+	}
+
+	@Test
+	void it_should_create_new_snapshot_for_each_call() {
+		HttpResponse response = new HttpResponseBuilderImpl().build();
+		CachedHttpResponse httpResponse = CachedHttpResponse.create(response);
+		assertThat(httpResponse).isNotNull();
+		assertThat(CachedHttpResponse.create(response)).isNotSameAs(httpResponse);
+		assertThat(CachedHttpResponse.create(httpResponse)).isSameAs(httpResponse);
+	}
+
+	@Test
+	void it_should_read_response_once() {
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getStatus()).thenReturn(200);
+		when(response.getContent()).thenReturn("foo");
+		when(response.getHeaders()).thenReturn(singletonList(HttpHeader.of("Content-Type", singletonList("application/json"))));
+		when(response.getCookies()).thenReturn(singletonList(new MockCookieBuilder().setName("id").setValue("1").build()));
+
+		CachedHttpResponse httpResponse = CachedHttpResponse.create(response);
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(httpResponse.getStatus()).isEqualTo(200);
+			assertThat(httpResponse.getContent()).isEqualTo("foo");
+			assertThat(httpResponse.getHeaders()).hasSize(1);
+			assertThat(httpResponse.getCookies()).hasSize(1).extracting(Cookie::getName).containsExactly("id");
+		}
+
+		verify(response, times(1)).getStatus();
+		verify(response, times(1)).getContent();
+		verify(response, times(1)).getHeaders();
+		verify(response, times(1)).getCookies();
+	}
+
+	@Test
+	void it_should_get_headers_ignoring_case() {
+		HttpResponse response = new HttpResponseBuilderImpl()
+			.addHeader("Content-Type", "application/json")
+			.build();
+
+		CachedHttpResponse httpResponse = CachedHttpResponse.create(response);
+
+		assertThat(httpResponse.hasHeader("content-type")).isTrue();
+		assertThat(httpResponse.hasHeader("CONTENT-TYPE")).isTrue();
+		assertThat(httpResponse.hasHeader("Location")).isFalse();
+
+		List<String> values = httpResponse.getHeader("content-type");
+		assertThat(values).containsExactly("application/json");
+		assertThat(httpResponse.getHeader("Location")).isNotNull().isEmpty();
+	}
+
+	@Test
+	void it_should_keep_values_of_repeated_headers() {
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getHeaders()).thenReturn(asList(
+			HttpHeader.of("Vary", singletonList("Accept")),
+			HttpHeader.of("vary", singletonList("Accept-Encoding"))
+		));
+
+		CachedHttpResponse httpResponse = CachedHttpResponse.create(response);
+
+		assertThat(httpResponse.getHeader("Vary")).containsExactly("Accept", "Accept-Encoding");
+		assertThat(httpResponse.getHeaders()).hasSize(2);
+	}
+}
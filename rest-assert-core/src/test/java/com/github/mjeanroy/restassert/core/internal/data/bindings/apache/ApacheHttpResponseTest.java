@@ -28,6 +28,15 @@ import com.github.mjeanroy.restassert.core.data.HttpResponse;
 import com.github.mjeanroy.restassert.core.internal.data.bindings.AbstractHttpResponseTest;
 import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilder;
 import com.github.mjeanroy.restassert.tests.builders.apache.ApacheHttpResponseBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class ApacheHttpResponseTest extends AbstractHttpResponseTest<org.apache.http.HttpResponse> {
 
@@ -40,4 +49,18 @@ class ApacheHttpResponseTest extends AbstractHttpResponseTest<org.apache.http.Ht
 	protected HttpResponse create(org.apache.http.HttpResponse response) {
 		return ApacheHttpResponse.create(response);
 	}
+
+	@Test
+	void it_should_read_non_repeatable_entity_as_bytes_and_string() throws Exception {
+		org.apache.http.HttpResponse response = new ApacheHttpResponseBuilder().build();
+		byte[] body = "{\"name\": \"été\"}".getBytes(ISO_8859_1);
+		response.setEntity(new InputStreamEntity(new ByteArrayInputStream(body), ContentType.create("application/json", ISO_8859_1)));
+
+		HttpResponse httpResponse = create(response);
+
+		assertThat(httpResponse.getContentBytes()).isEqualTo(body);
+		assertThat(httpResponse.getContent()).isEqualTo("{\"name\": \"été\"}");
+		assertThat(response.getEntity().isRepeatable()).isTrue();
+		assertThat(EntityUtils.toByteArray(response.getEntity())).isEqualTo(body);
+	}
 }
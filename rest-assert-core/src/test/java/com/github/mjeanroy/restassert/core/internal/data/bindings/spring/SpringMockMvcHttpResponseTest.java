@@ -41,4 +41,10 @@ class SpringMockMvcHttpResponseTest extends AbstractHttpResponseTest<ResultActio
 	protected HttpResponse create(ResultActions response) {
 		return SpringMockMvcHttpResponse.create(response);
 	}
+
+	@Override
+	protected boolean isSharedByResponse() {
+		// Mock responses may be modified once they have been read.
+		return false;
+	}
 }
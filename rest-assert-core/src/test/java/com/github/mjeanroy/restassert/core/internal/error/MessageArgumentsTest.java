@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.error;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mjeanroy.restassert.core.internal.error.CompositeError.composeErrors;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageArgumentsTest {
+
+	@AfterEach
+	void tearDown() {
+		MessageArguments.setMaxLength(MessageArguments.DEFAULT_MAX_LENGTH);
+	}
+
+	@Test
+	void it_should_serialize_arguments() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("id", 1);
+		map.put("tags", asList("foo", "bar"));
+
+		Object[] args = MessageArguments.serialize(new Object[]{null, 1, "foo", asList("foo", 1, null), map});
+
+		assertThat(args).containsExactly(null, "1", "\"foo\"", "[\"foo\", 1, null]", "{id=1, tags=[foo, bar]}");
+	}
+
+	@Test
+	void it_should_render_arguments() {
+		Object[] args = MessageArguments.render(new Object[]{null, 1, "foo", asList("foo", 1, null)});
+		assertThat(args).containsExactly(null, "1", "foo", "[foo, 1, null]");
+	}
+
+	@Test
+	void it_should_truncate_long_arguments() {
+		MessageArguments.setMaxLength(10);
+
+		Object[] args = MessageArguments.serialize(new Object[]{
+			"0123456789",
+			"01234567",
+			asList("foo", "bar", "baz", "quix"),
+			asList(1, 2, 3, 4, 5),
+		});
+
+		assertThat(args).containsExactly(
+			"\"012345678...",
+			"\"01234567\"",
+			"[\"foo\", \"b...",
+			"[1, 2, 3, ..."
+		);
+	}
+
+	@Test
+	void it_should_truncate_arguments_of_built_messages() {
+		MessageArguments.setMaxLength(10);
+
+		List<RestAssertError> errors = singletonList(
+			new AbstractError("Expecting %s", "0123456789") {
+			}
+		);
+
+		assertThat(errors.get(0).buildMessage()).isEqualTo("Expecting \"012345678...");
+		assertThat(composeErrors(errors).buildMessage()).isEqualTo("Expecting 0123456789");
+		assertThat(Message.message("Expecting %s", "0123456789").formatMessage()).isEqualTo("Expecting \"012345678...");
+	}
+
+	@Test
+	void it_should_read_max_length_from_system_property() {
+		System.setProperty(MessageArguments.MAX_LENGTH_PROPERTY, "10");
+		try {
+			assertThat(MessageArguments.readMaxLength()).isEqualTo(10);
+		}
+		finally {
+			System.clearProperty(MessageArguments.MAX_LENGTH_PROPERTY);
+		}
+
+		assertThat(MessageArguments.readMaxLength()).isEqualTo(MessageArguments.DEFAULT_MAX_LENGTH);
+	}
+
+	@Test
+	void it_should_not_accept_empty_max_length_from_system_property() {
+		System.setProperty(MessageArguments.MAX_LENGTH_PROPERTY, "0");
+		try {
+			assertThatThrownBy(MessageArguments::readMaxLength)
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("System property restassert.messages.maxLength must be strictly positive, but was: 0");
+		}
+		finally {
+			System.clearProperty(MessageArguments.MAX_LENGTH_PROPERTY);
+		}
+	}
+
+	@Test
+	void it_should_not_accept_empty_max_length() {
+		assertThatThrownBy(() -> MessageArguments.setMaxLength(0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Maximum length must be strictly positive");
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.mjeanroy.restassert.core.internal.error.common;
+
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import com.github.mjeanroy.restassert.tests.builders.RestAssertErrorBuilder;
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.core.internal.error.common.DescribedError.describedError;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DescribedErrorTest {
+
+	@Test
+	void it_should_format_error_message() {
+		RestAssertError error = new RestAssertErrorBuilder().setExpectation("Expecting status code to be %s", new Object[]{ 200 }).build();
+		DescribedError describedError = describedError("100% ok", error);
+
+		assertThat(describedError).isNotNull();
+		assertThat(describedError.message()).isEqualTo("[100%% ok] Expecting status code to be %s");
+		assertThat(describedError.args()).containsExactly(200);
+		assertThat(describedError.buildMessage()).isEqualTo("[100% ok] Expecting status code to be 200");
+		assertThat(describedError.getExpectation().formatMessage()).isEqualTo("[100% ok] Expecting status code to be 200");
+		assertThat(describedError.toString()).isEqualTo(describedError.buildMessage());
+	}
+}
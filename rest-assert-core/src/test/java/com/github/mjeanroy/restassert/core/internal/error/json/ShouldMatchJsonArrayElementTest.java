@@ -0,0 +1,48 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.error.json;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldHaveEntry.shouldHaveEntry;
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldMatchJsonArrayElement.shouldMatchJsonArrayElement;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShouldMatchJsonArrayElementTest {
+
+	@Test
+	void it_should_format_error_message() {
+		String json = toJSON(jsonEntry("name", "John Doe"));
+		ShouldMatchJsonArrayElement error = shouldMatchJsonArrayElement("$.users", 3, shouldHaveEntry(json, "id"));
+
+		assertThat(error).isNotNull();
+		assertThat(error.message()).isEqualTo("Expecting json to contain entry %s (element %s of %s)");
+		assertThat(error.args()).hasSize(3).containsExactly("id", 3, "$.users");
+		assertThat(error.buildMessage()).isEqualTo("Expecting json to contain entry \"id\" (element 3 of \"$.users\")");
+		assertThat(error.toString()).isEqualTo(error.buildMessage());
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.error.json;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.core.internal.error.json.ShouldNotHaveArrayElement.shouldNotHaveArrayElement;
+import static com.github.mjeanroy.restassert.test.commons.StringTestUtils.fmt;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonArray;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShouldNotHaveArrayElementTest {
+
+	@Test
+	void it_should_format_error_message() {
+		String json = toJSON(jsonEntry("tags", jsonArray("foo", "bar")));
+		String entry = "tags[1]";
+		ShouldNotHaveArrayElement error = shouldNotHaveArrayElement(json, entry, "baz");
+
+		assertThat(error).isNotNull();
+		assertThat(error.json()).isEqualTo(json);
+		assertThat(error.entryName()).isEqualTo(entry);
+
+		assertThat(error.message()).isEqualTo("Expecting json not to contain array element %s equal to %s");
+		assertThat(error.args()).hasSize(2).containsExactly(entry, "baz");
+		assertThat(error.buildMessage()).isEqualTo(String.format("Expecting json not to contain array element %s equal to %s", fmt(entry), fmt("baz")));
+		assertThat(error.toString()).isEqualTo(error.buildMessage());
+	}
+}
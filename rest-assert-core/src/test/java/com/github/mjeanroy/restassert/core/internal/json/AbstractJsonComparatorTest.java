@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.restassert.core.internal.json;
 
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
 import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
 import com.github.mjeanroy.restassert.test.json.JSONArray;
 import com.github.mjeanroy.restassert.test.json.JSONObject;
@@ -45,11 +46,15 @@ public abstract class AbstractJsonComparatorTest {
 
 	@BeforeEach
 	void setUp() {
-		comparator = new DefaultJsonComparator(jsonParser());
+		comparator = jsonComparator();
 	}
 
 	protected abstract JsonParser jsonParser();
 
+	protected JsonComparator jsonComparator() {
+		return new DefaultJsonComparator(jsonParser());
+	}
+
 	@Test
 	void it_should_create_comparator_with_arguments() throws Exception {
 		JsonParser parser = mock(JsonParser.class);
@@ -407,6 +412,294 @@ public abstract class AbstractJsonComparatorTest {
 		);
 	}
 
+	@Test
+	void it_should_compare_arrays_ignoring_order() {
+		String actual = jsonObject(
+			jsonEntry("tags", jsonArray("a", "b", "c")),
+			jsonEntry("users", jsonArray(
+				jsonObject(jsonEntry("id", 1), jsonEntry("name", "John")),
+				jsonObject(jsonEntry("id", 2))
+			))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("tags", jsonArray("c", "a", "b")),
+			jsonEntry("users", jsonArray(
+				jsonObject(jsonEntry("id", 2)),
+				jsonObject(jsonEntry("name", "John"), jsonEntry("id", 1))
+			))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setIgnoreArrayOrder(true).build();
+
+		assertThat(new DefaultJsonComparator(jsonParser(), options).compare(actual, expected)).isEmpty();
+		assertThat(comparator.compare(actual, expected)).isNotEmpty();
+	}
+
+	@Test
+	void it_should_report_unmatched_elements_ignoring_array_order() {
+		String actual = jsonObject(
+			jsonEntry("ids", jsonArray("1", "2", "2", "3"))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("ids", jsonArray("2", "1", "3", "3"))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setIgnoreArrayOrder(true).build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json to contain array element \"ids[3]\" equal to \"3\"",
+			"Expecting json not to contain array element \"ids[2]\" equal to \"2\""
+		);
+	}
+
+	@Test
+	void it_should_compare_arrays_ignoring_order_at_given_paths() {
+		String actual = jsonObject(
+			jsonEntry("ids", jsonArray("1", "2")),
+			jsonEntry("items", jsonArray(
+				jsonObject(jsonEntry("tags", jsonArray("a", "b")))
+			))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("ids", jsonArray("2", "1")),
+			jsonEntry("items", jsonArray(
+				jsonObject(jsonEntry("tags", jsonArray("b", "a")))
+			))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().addIgnoreArrayOrder("$.items.tags").build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json entry \"ids[0]\" to be equal to \"2\" but was \"1\"",
+			"Expecting json entry \"ids[1]\" to be equal to \"1\" but was \"2\""
+		);
+	}
+
+	@Test
+	void it_should_compare_ignoring_entries() {
+		String actual = jsonObject(
+			jsonEntry("id", "1"),
+			jsonEntry("items", jsonArray(
+				jsonObject(jsonEntry("name", "foo"), jsonEntry("updatedAt", "2024")),
+				jsonObject(jsonEntry("name", "bar"), jsonEntry("updatedAt", "2025"))
+			))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("items", jsonArray(
+				jsonObject(jsonEntry("name", "foo")),
+				jsonObject(jsonEntry("name", "baz"), jsonEntry("updatedAt", "2026"))
+			))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().addIgnoredPath("id", "$.items[*].updatedAt").build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json entry \"items[1].name\" to be equal to \"baz\" but was \"bar\""
+		);
+	}
+
+	@Test
+	void it_should_compare_ignoring_array_elements() {
+		String actual = jsonObject(
+			jsonEntry("ids", jsonArray("1", "2")),
+			jsonEntry("tags", jsonArray("a", "b"))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("ids", jsonArray("1", "3")),
+			jsonEntry("tags", jsonArray("c"))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().addIgnoredPath("ids[1]", "tags[*]").build();
+
+		assertThat(new DefaultJsonComparator(jsonParser(), options).compare(actual, expected)).isEmpty();
+	}
+
+	@Test
+	void it_should_compare_ignoring_entries_and_array_order() {
+		String actual = jsonArray(
+			jsonObject(jsonEntry("id", "1"), jsonEntry("version", "1")),
+			jsonObject(jsonEntry("id", "2"), jsonEntry("version", "2"))
+		).toJSON();
+
+		String expected = jsonArray(
+			jsonObject(jsonEntry("id", "2")),
+			jsonObject(jsonEntry("id", "1"), jsonEntry("version", "3"))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setIgnoreArrayOrder(true).addIgnoredPath("$[*].version").build();
+
+		assertThat(new DefaultJsonComparator(jsonParser(), options).compare(actual, expected)).isEmpty();
+	}
+
+	@Test
+	void it_should_stop_comparison_at_first_difference() {
+		String actual = jsonObject(
+			jsonEntry("ids", jsonArray("1", "2", "3")),
+			jsonEntry("name", "foo")
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("ids", jsonArray("0", "1", "2")),
+			jsonEntry("name", "bar")
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setFailFast(true).build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).hasSize(1);
+	}
+
+	@Test
+	void it_should_report_limited_number_of_differences() {
+		String actual = jsonObject(
+			jsonEntry("ids", jsonArray("1", "2", "3")),
+			jsonEntry("tags", jsonArray("a", "b"))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("ids", jsonArray("0", "1", "2")),
+			jsonEntry("tags", jsonArray("b", "c"))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setMaxErrors(2).addIgnoreArrayOrder("tags").build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).hasSize(3);
+		assertThat(errors.get(2).buildMessage()).isEqualTo("Expecting json to be equal, but found 3 more differences");
+	}
+
+	@Test
+	void it_should_compare_in_parallel() {
+		String actual = users(50, 3, 17, 18, 41);
+		String expected = users(50);
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setParallelThreshold(4).build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).hasSize(4).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json entry \"users[3].name\" to be equal to \"user 3\" but was \"changed 3\"",
+			"Expecting json entry \"users[17].name\" to be equal to \"user 17\" but was \"changed 17\"",
+			"Expecting json entry \"users[18].name\" to be equal to \"user 18\" but was \"changed 18\"",
+			"Expecting json entry \"users[41].name\" to be equal to \"user 41\" but was \"changed 41\""
+		);
+	}
+
+	@Test
+	void it_should_compare_equal_documents_in_parallel() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setParallelThreshold(4).build();
+		DefaultJsonComparator comparator = new DefaultJsonComparator(jsonParser(), options);
+
+		assertThat(comparator.compare(users(50), users(50))).isEmpty();
+		assertThat(comparator.compare(ParsedJson.parse(users(50)), ParsedJson.parse(users(50)))).isEmpty();
+	}
+
+	@Test
+	void it_should_compare_in_parallel_with_limited_number_of_differences() {
+		String actual = users(50, 3, 17, 18, 41);
+		String expected = users(50);
+
+		JsonComparatorOptions failFast = JsonComparatorOptions.builder().setParallelThreshold(4).setFailFast(true).build();
+		List<RestAssertError> failFastErrors = new DefaultJsonComparator(jsonParser(), failFast).compare(actual, expected);
+		assertThat(failFastErrors).hasSize(1).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json entry \"users[3].name\" to be equal to \"user 3\" but was \"changed 3\""
+		);
+
+		JsonComparatorOptions maxErrors = JsonComparatorOptions.builder().setParallelThreshold(4).setMaxErrors(2).build();
+		List<RestAssertError> maxErrorsErrors = new DefaultJsonComparator(jsonParser(), maxErrors).compare(actual, expected);
+		assertThat(maxErrorsErrors).hasSize(3).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json entry \"users[3].name\" to be equal to \"user 3\" but was \"changed 3\"",
+			"Expecting json entry \"users[17].name\" to be equal to \"user 17\" but was \"changed 17\"",
+			"Expecting json to be equal, but found 2 more differences"
+		);
+	}
+
+	@Test
+	void it_should_compare_aligned_arrays() {
+		String actual = jsonObject(
+			jsonEntry("ids", jsonArray("0", "1", "x", "3", "5", "6"))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("ids", jsonArray("0", "1", "2", "3", "4", "5"))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setAlignArrays(true).build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json entry \"ids[2]\" to be equal to \"2\" but was \"x\"",
+			"Expecting json to contain array element \"ids[4]\" equal to \"4\"",
+			"Expecting json not to contain array element \"ids[5]\" equal to \"6\""
+		);
+	}
+
+	@Test
+	void it_should_report_only_inserted_element_of_aligned_arrays() {
+		String expected = users(1000);
+		String actual = expected.replace("[", "[{\"id\": \"new\", \"name\": \"user new\"}, ");
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setAlignArrays(true).build();
+		List<RestAssertError> errors = new DefaultJsonComparator(jsonParser(), options).compare(actual, expected);
+
+		assertThat(errors).hasSize(1);
+		assertThat(errors.get(0).buildMessage()).startsWith("Expecting json not to contain array element \"users[0]\"");
+	}
+
+	@Test
+	void it_should_compare_aligned_arrays_ignoring_array_elements() {
+		String actual = jsonObject(
+			jsonEntry("items", jsonArray(
+				jsonObject(jsonEntry("id", "1"), jsonEntry("ts", "2025")),
+				jsonObject(jsonEntry("id", "2"), jsonEntry("ts", "2026"))
+			))
+		).toJSON();
+
+		String expected = jsonObject(
+			jsonEntry("items", jsonArray(
+				jsonObject(jsonEntry("id", "1"), jsonEntry("ts", "2026")),
+				jsonObject(jsonEntry("id", "2"), jsonEntry("ts", "2026"))
+			))
+		).toJSON();
+
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setAlignArrays(true).addIgnoredPath("items[0].ts").build();
+
+		assertThat(new DefaultJsonComparator(jsonParser(), options).compare(actual, expected)).isEmpty();
+	}
+
+	@Test
+	void it_should_compare_parsed_documents() {
+		ParsedJson expected = ParsedJson.parse(users(10));
+
+		assertThat(comparator.compare(ParsedJson.parse(users(10)), expected)).isEmpty();
+		assertThat(comparator.compare(ParsedJson.parse(users(10, 3)), expected)).hasSize(1).extracting(RestAssertError::buildMessage).containsExactly(
+			"Expecting json entry \"users[3].name\" to be equal to \"user 3\" but was \"changed 3\""
+		);
+	}
+
+	private static String users(int count, int... changed) {
+		StringBuilder sb = new StringBuilder("{\"users\": [");
+		for (int i = 0, j = 0; i < count; ++i) {
+			boolean isChanged = j < changed.length && changed[j] == i;
+			if (isChanged) {
+				j++;
+			}
+
+			sb.append(i == 0 ? "" : ", ")
+				.append("{\"id\": \"").append(i).append("\", ")
+				.append("\"name\": \"").append(isChanged ? "changed " : "user ").append(i).append("\"}");
+		}
+
+		return sb.append("]}").toString();
+	}
+
 	private void checkComparison(String actual, String expected, String expectedErrorMessage) {
 		List<RestAssertError> errors = comparator.compare(actual, expected);
 		assertThat(errors).hasSize(1);
@@ -414,5 +707,10 @@ public abstract class AbstractJsonComparatorTest {
 		RestAssertError error = errors.get(0);
 		assertThat(error).isNotNull();
 		assertThat(error.buildMessage()).isEqualTo(expectedErrorMessage);
+
+		// Parsed documents should be reported with the same errors.
+		List<RestAssertError> parsedErrors = comparator.compare(ParsedJson.parse(actual), ParsedJson.parse(expected));
+		assertThat(parsedErrors).hasSize(1);
+		assertThat(parsedErrors.get(0).buildMessage()).isEqualTo(expectedErrorMessage);
 	}
 }
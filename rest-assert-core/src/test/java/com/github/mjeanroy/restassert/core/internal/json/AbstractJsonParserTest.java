@@ -34,6 +34,7 @@ import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonArray;
 import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
 import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonObject;
 import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
@@ -86,6 +87,21 @@ public abstract class AbstractJsonParserTest {
 		assertThat(((List<Object>) result)).hasSize(1);
 	}
 
+	@Test
+	void it_should_parse_bytes() {
+		byte[] actual = toJSON(jsonEntry("str", "été")).getBytes(UTF_8);
+		Object result = parser().parse(actual);
+
+		assertThat(result).isInstanceOf(Map.class);
+		assertThat(((Map<String, Object>) result)).containsExactly(entry("str", "été"));
+	}
+
+	@Test
+	void it_should_fail_to_parse_blank_bytes() {
+		assertThatThrownBy(() -> parser().parse(" ".getBytes(UTF_8))).isInstanceOf(NullPointerException.class);
+		assertThatThrownBy(() -> parser().parse("{".getBytes(UTF_8))).isInstanceOf(JsonException.class);
+	}
+
 	@Test
 	void it_should_parse_with_object() {
 		String actual = toJSON(
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class DefaultJsonParserTest extends AbstractJsonParserTest {
+
+	@Override
+	JsonParser parser() {
+		return DefaultJsonParser.getInstance();
+	}
+
+	@Test
+	void it_should_parse_nested_numbers() {
+		List<Object> list = parser().parseArray("[0, -1, 2147483648, 12345678901234567890, -9223372036854775808, 1.5, -2e3, 1E-2]");
+		assertThat(list).containsExactly(
+			0,
+			-1,
+			2147483648L,
+			new BigInteger("12345678901234567890"),
+			Long.MIN_VALUE,
+			1.5D,
+			-2000D,
+			0.01D
+		);
+	}
+
+	@Test
+	void it_should_parse_escaped_strings() {
+		assertThat(parser().parse("\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\\u00e9\\u20AC\"")).isEqualTo("a\"b\\c/d\b\f\n\r\té€");
+		assertThat(parser().parse("\"été \\\"€\\\"\"".getBytes(UTF_8))).isEqualTo("été \"€\"");
+	}
+
+	@Test
+	void it_should_keep_insertion_order_of_object_members() {
+		StringBuilder json = new StringBuilder("{");
+		for (int i = 20; i > 0; --i) {
+			json.append("\"key").append(i).append("\": ").append(i).append(i > 1 ? ", " : "}");
+		}
+
+		Map<String, Object> map = parser().parseObject(json.toString());
+
+		assertThat(map).hasSize(20);
+		assertThat(map.keySet()).startsWith("key20", "key19").endsWith("key2", "key1");
+		assertThat(map).contains(entry("key1", 1), entry("key15", 15), entry("key20", 20));
+		assertThat(map).doesNotContainKey("key21");
+	}
+
+	@Test
+	void it_should_keep_last_value_of_duplicate_keys() {
+		Map<String, Object> map = parser().parseObject("{\"id\": 1, \"name\": \"John\", \"id\": 2}");
+		assertThat(map).containsExactly(
+			entry("id", 2),
+			entry("name", "John")
+		);
+	}
+
+	@Test
+	void it_should_be_equal_to_other_maps_and_lists() {
+		Map<String, Object> map = parser().parseObject("{\"id\": 1, \"tags\": [\"foo\", \"bar\"], \"empty\": {}}");
+		Map<String, Object> other = JsonParsers.getParser().parseObject("{\"empty\": {}, \"tags\": [\"foo\", \"bar\"], \"id\": 1}");
+		assertThat(map).isEqualTo(other).hasSameHashCodeAs(other);
+	}
+
+	@Test
+	void it_should_return_immutable_values() {
+		Map<String, Object> map = parser().parseObject("{\"id\": 1}");
+		List<Object> list = parser().parseArray("[1]");
+
+		assertThatThrownBy(() -> map.put("name", "John")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> list.add(2)).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void it_should_fail_with_invalid_json() {
+		assertThatThrownBy(() -> parser().parse("{\"id\": 1,}"))
+			.isExactlyInstanceOf(JsonException.class)
+			.hasMessage("Unexpected character '}' at position 9");
+
+		assertThatThrownBy(() -> parser().parse("[1, 2"))
+			.isExactlyInstanceOf(JsonException.class)
+			.hasMessage("Unexpected end of json at position 5");
+
+		assertThatThrownBy(() -> parser().parse("01")).isExactlyInstanceOf(JsonException.class);
+		assertThatThrownBy(() -> parser().parse("-")).isExactlyInstanceOf(JsonException.class);
+		assertThatThrownBy(() -> parser().parse("1.")).isExactlyInstanceOf(JsonException.class);
+		assertThatThrownBy(() -> parser().parse("tru")).isExactlyInstanceOf(JsonException.class);
+		assertThatThrownBy(() -> parser().parse("\"\\x\"")).isExactlyInstanceOf(JsonException.class);
+		assertThatThrownBy(() -> parser().parse("\"a\nb\"")).isExactlyInstanceOf(JsonException.class);
+		assertThatThrownBy(() -> parser().parse("{} {}")).isExactlyInstanceOf(JsonException.class);
+	}
+
+	@Test
+	void it_should_fail_to_parse_object_or_array_with_other_values() {
+		assertThatThrownBy(() -> parser().parseObject("[]"))
+			.isExactlyInstanceOf(JsonException.class)
+			.hasMessage("Expecting json to be an object");
+
+		assertThatThrownBy(() -> parser().parseArray("{}"))
+			.isExactlyInstanceOf(JsonException.class)
+			.hasMessage("Expecting json to be an array");
+	}
+
+	@Test
+	void it_should_fail_to_parse_blank_string() {
+		assertThatThrownBy(() -> parser().parse((String) null)).isExactlyInstanceOf(NullPointerException.class);
+		assertThatThrownBy(() -> parser().parse(" \n ")).isExactlyInstanceOf(NullPointerException.class);
+	}
+}
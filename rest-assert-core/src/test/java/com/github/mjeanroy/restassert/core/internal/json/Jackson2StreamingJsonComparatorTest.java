@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonArray;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonObject;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Jackson2StreamingJsonComparatorTest extends AbstractJsonComparatorTest {
+
+	@Override
+	protected JsonParser jsonParser() {
+		return Jackson2JsonParser.getInstance();
+	}
+
+	@Override
+	protected JsonComparator jsonComparator() {
+		return Jackson2StreamingJsonComparator.getInstance();
+	}
+
+	@Test
+	void it_should_compare_objects_with_entries_in_different_order() {
+		String actual = toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("name", "John Doe"),
+			jsonEntry("address", jsonObject(
+				jsonEntry("city", "Paris"),
+				jsonEntry("zip", "75001")
+			))
+		);
+
+		String expected = toJSON(
+			jsonEntry("address", jsonObject(
+				jsonEntry("zip", "75001"),
+				jsonEntry("city", "Paris")
+			)),
+			jsonEntry("name", "John Doe"),
+			jsonEntry("id", 1)
+		);
+
+		assertThat(jsonComparator().compare(actual, expected)).isEmpty();
+	}
+
+	@Test
+	void it_should_report_same_errors_as_default_comparator() {
+		String actual = toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("name", "John Doe"),
+			jsonEntry("admin", true),
+			jsonEntry("unexpected", "foo"),
+			jsonEntry("roles", jsonArray("admin", "user", "guest")),
+			jsonEntry("address", jsonObject(
+				jsonEntry("city", "Paris"),
+				jsonEntry("zip", 75001)
+			)),
+			jsonEntry("friends", jsonArray(
+				jsonObject(jsonEntry("id", 2), jsonEntry("name", "Jane Doe")),
+				jsonObject(jsonEntry("id", 3), jsonEntry("name", "Jack Doe"))
+			))
+		);
+
+		String expected = toJSON(
+			jsonEntry("friends", jsonArray(
+				jsonObject(jsonEntry("name", "Jane Doe"), jsonEntry("id", 2.5)),
+				jsonObject(jsonEntry("name", "Jack"), jsonEntry("id", 3))
+			)),
+			jsonEntry("address", jsonObject(
+				jsonEntry("zip", "75001"),
+				jsonEntry("city", "London"),
+				jsonEntry("country", "UK")
+			)),
+			jsonEntry("roles", jsonArray("admin", "guest")),
+			jsonEntry("admin", false),
+			jsonEntry("missing", "bar"),
+			jsonEntry("name", "John Doe"),
+			jsonEntry("id", 1)
+		);
+
+		List<RestAssertError> errors = jsonComparator().compare(actual, expected);
+		List<RestAssertError> expectedErrors = new DefaultJsonComparator(jsonParser()).compare(actual, expected);
+
+		assertThat(errors).hasSize(10);
+		assertThat(errors).extracting(RestAssertError::buildMessage).containsExactlyElementsOf(
+			expectedErrors.stream().map(RestAssertError::buildMessage).collect(Collectors.toList())
+		);
+	}
+
+	@Test
+	void it_should_fail_to_compare_scalars() {
+		assertThatThrownBy(() -> jsonComparator().compare("1", "2"))
+			.isExactlyInstanceOf(JsonException.class)
+			.hasMessage("Expecting json to be an array");
+	}
+
+	@Test
+	void it_should_fail_to_compare_object_with_scalar() {
+		assertThatThrownBy(() -> jsonComparator().compare("{}", "1"))
+			.isExactlyInstanceOf(JsonException.class)
+			.hasMessage("Expecting json to be an object");
+
+		assertThatThrownBy(() -> jsonComparator().compare("[]", "1"))
+			.isExactlyInstanceOf(JsonException.class)
+			.hasMessage("Expecting json to be an array");
+	}
+}
@@ -95,6 +95,23 @@ class JsonContextTest {
 		assertThat(context.toString()).isEqualTo("");
 	}
 
+	@Test
+	void it_should_copy_context() {
+		String actual = toJSON(jsonEntry("id", 1));
+		String expected = toJSON(jsonEntry("id", 2));
+
+		JsonContext context = JsonContext.rootContext(actual, expected);
+		context.append("foo");
+
+		JsonContext copy = context.copy();
+		copy.append("bar");
+
+		assertThat(copy.actual()).isEqualTo(actual);
+		assertThat(copy.expected()).isEqualTo(expected);
+		assertThat(copy.toString()).isEqualTo("foo.bar");
+		assertThat(context.toString()).isEqualTo("foo");
+	}
+
 	@Test
 	void it_should_get_path_with_array() {
 		String actual = toJSON(
@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonFilesTest {
+
+	@TempDir
+	Path tmpDir;
+
+	@BeforeEach
+	void setUp() {
+		JsonFiles.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		JsonFiles.setMaxSize(JsonFiles.DEFAULT_MAX_SIZE);
+		JsonFiles.clear();
+	}
+
+	@Test
+	void it_should_read_and_cache_file() throws Exception {
+		Path path = write("test.json", "{\"id\": \"été\"}");
+
+		ParsedJson j1 = JsonFiles.read(path);
+
+		assertThat(j1.json()).isEqualTo("{\"id\": \"été\"}");
+		assertThat(JsonFiles.size()).isEqualTo(1);
+		assertThat(JsonFiles.weight()).isEqualTo(j1.json().length());
+		assertThat(JsonFiles.getHits()).isZero();
+		assertThat(JsonFiles.getMisses()).isEqualTo(1);
+
+		ParsedJson j2 = JsonFiles.read(path);
+
+		assertThat(j2).isSameAs(j1);
+		assertThat(JsonFiles.getHits()).isEqualTo(1);
+		assertThat(JsonFiles.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_share_file_and_file_url() throws Exception {
+		Path path = write("test.json", "{\"id\": 1}");
+		URL url = path.toUri().toURL();
+
+		ParsedJson j1 = JsonFiles.read(path);
+		ParsedJson j2 = JsonFiles.read(url);
+
+		assertThat(j2).isSameAs(j1);
+		assertThat(JsonFiles.size()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_read_file_again_when_it_has_been_modified() throws Exception {
+		Path path = write("test.json", "{\"id\": 1}");
+		ParsedJson j1 = JsonFiles.read(path);
+
+		write("test.json", "{\"id\": 12}");
+		ParsedJson j2 = JsonFiles.read(path);
+
+		assertThat(j2).isNotSameAs(j1);
+		assertThat(j2.json()).isEqualTo("{\"id\": 12}");
+		assertThat(JsonFiles.size()).isEqualTo(1);
+		assertThat(JsonFiles.weight()).isEqualTo(j2.json().length());
+		assertThat(JsonFiles.getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_evict_least_recently_used_files() throws Exception {
+		Path p1 = write("p1.json", "[1]");
+		Path p2 = write("p2.json", "[2]");
+		Path p3 = write("p3.json", "[3]");
+
+		JsonFiles.setMaxSize(6);
+
+		ParsedJson j1 = JsonFiles.read(p1);
+		JsonFiles.read(p2);
+		JsonFiles.read(p1);
+		JsonFiles.read(p3);
+
+		assertThat(JsonFiles.size()).isEqualTo(2);
+		assertThat(JsonFiles.weight()).isEqualTo(6);
+		assertThat(JsonFiles.read(p1)).isSameAs(j1);
+	}
+
+	@Test
+	void it_should_not_cache_file_larger_than_max_size() throws Exception {
+		Path path = write("test.json", "{\"id\": 1}");
+
+		JsonFiles.setMaxSize(0);
+
+		ParsedJson j1 = JsonFiles.read(path);
+		ParsedJson j2 = JsonFiles.read(path);
+
+		assertThat(j2).isNotSameAs(j1);
+		assertThat(JsonFiles.size()).isZero();
+		assertThat(JsonFiles.weight()).isZero();
+	}
+
+	@Test
+	void it_should_evict_files_when_max_size_is_updated() throws Exception {
+		JsonFiles.read(write("p1.json", "[1]"));
+		JsonFiles.read(write("p2.json", "[2]"));
+
+		JsonFiles.setMaxSize(3);
+
+		assertThat(JsonFiles.size()).isEqualTo(1);
+		assertThat(JsonFiles.weight()).isEqualTo(3);
+	}
+
+	@Test
+	void it_should_fail_with_negative_max_size() {
+		assertThatThrownBy(() -> JsonFiles.setMaxSize(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Cache size must not be negative");
+	}
+
+	@Test
+	void it_should_read_and_cache_file_of_zip_file_system() throws Exception {
+		URI uri = URI.create("jar:" + tmpDir.resolve("test.zip").toUri());
+		try (FileSystem zipFs = FileSystems.newFileSystem(uri, singletonMap("create", "true"))) {
+			Path path = Files.write(zipFs.getPath("test.json"), "{\"id\": 1}".getBytes(UTF_8));
+
+			ParsedJson j1 = JsonFiles.read(path);
+			ParsedJson j2 = JsonFiles.read(path);
+
+			assertThat(j1.json()).isEqualTo("{\"id\": 1}");
+			assertThat(j2).isSameAs(j1);
+			assertThat(JsonFiles.size()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void it_should_fail_to_read_unknown_file() {
+		Path path = tmpDir.resolve("unknown.json");
+		assertThatThrownBy(() -> JsonFiles.read(path)).isInstanceOf(com.github.mjeanroy.restassert.core.internal.common.Files.UnreadableFileException.class);
+		assertThat(JsonFiles.size()).isZero();
+	}
+
+	private Path write(String name, String content) throws Exception {
+		return Files.write(tmpDir.resolve(name), content.getBytes(UTF_8));
+	}
+}
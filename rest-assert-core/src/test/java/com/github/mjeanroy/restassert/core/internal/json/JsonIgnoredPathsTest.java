@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.github.mjeanroy.restassert.core.internal.json.JsonIgnoredPaths.Cursor;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonIgnoredPathsTest {
+
+	@Test
+	void it_should_check_if_path_is_supported() {
+		assertThat(JsonIgnoredPaths.isSupported("id")).isTrue();
+		assertThat(JsonIgnoredPaths.isSupported("$.user.id")).isTrue();
+		assertThat(JsonIgnoredPaths.isSupported("$['user']['id']")).isTrue();
+		assertThat(JsonIgnoredPaths.isSupported("items[0].id")).isTrue();
+		assertThat(JsonIgnoredPaths.isSupported("items[*].updated_at")).isTrue();
+		assertThat(JsonIgnoredPaths.isSupported("$[*].id")).isTrue();
+		assertThat(JsonIgnoredPaths.isSupported("user.*")).isTrue();
+
+		assertThat(JsonIgnoredPaths.isSupported("$")).isFalse();
+		assertThat(JsonIgnoredPaths.isSupported("$..id")).isFalse();
+		assertThat(JsonIgnoredPaths.isSupported("items[0:3]")).isFalse();
+		assertThat(JsonIgnoredPaths.isSupported("items[?(@.id)]")).isFalse();
+		assertThat(JsonIgnoredPaths.isSupported("items[0")).isFalse();
+		assertThat(JsonIgnoredPaths.isSupported("first name")).isFalse();
+	}
+
+	@Test
+	void it_should_return_empty_cursor_without_paths() {
+		Cursor root = JsonIgnoredPaths.compile(emptyList()).root();
+
+		assertThat(root).isSameAs(Cursor.EMPTY);
+		assertThat(root.isEmpty()).isTrue();
+		assertThat(root.child("id")).isSameAs(Cursor.EMPTY);
+	}
+
+	@Test
+	void it_should_match_member_names() {
+		Cursor root = JsonIgnoredPaths.compile(asList("id", "$.user.name", "$['user']['email']")).root();
+
+		assertThat(root.isIgnored()).isFalse();
+		assertThat(root.child("id").isIgnored()).isTrue();
+		assertThat(root.child("name").isEmpty()).isTrue();
+
+		Cursor user = root.child("user");
+		assertThat(user.isEmpty()).isFalse();
+		assertThat(user.isIgnored()).isFalse();
+		assertThat(user.child("name").isIgnored()).isTrue();
+		assertThat(user.child("email").isIgnored()).isTrue();
+		assertThat(user.child("id").isIgnored()).isFalse();
+	}
+
+	@Test
+	void it_should_match_array_indexes_and_wildcards() {
+		Cursor root = JsonIgnoredPaths.compile(asList("items[0].id", "items[*].updatedAt", "tags[*]")).root();
+
+		Cursor item0 = root.child("items").child("[0]");
+		assertThat(item0.child("id").isIgnored()).isTrue();
+		assertThat(item0.child("updatedAt").isIgnored()).isTrue();
+
+		Cursor item1 = root.child("items").child("[1]");
+		assertThat(item1.child("id").isIgnored()).isFalse();
+		assertThat(item1.child("updatedAt").isIgnored()).isTrue();
+
+		assertThat(root.child("items").isAllChildrenIgnored()).isFalse();
+		assertThat(root.child("items").anyChild().child("id").isIgnored()).isFalse();
+		assertThat(root.child("items").anyChild().child("updatedAt").isIgnored()).isTrue();
+		assertThat(root.child("tags").isAllChildrenIgnored()).isTrue();
+
+		assertThat(root.child("items").hasSpecificChildren()).isTrue();
+		assertThat(root.child("tags").hasSpecificChildren()).isFalse();
+	}
+
+	@Test
+	void it_should_fail_to_compile_unsupported_path() {
+		assertThatThrownBy(() -> JsonIgnoredPaths.compile(asList("id", "$..id")))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("JSON path is not supported: $..id");
+	}
+}
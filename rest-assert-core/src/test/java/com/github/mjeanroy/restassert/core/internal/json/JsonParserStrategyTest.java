@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonParserStrategyTest {
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_17)
+	void it_should_prefer_jackson3() {
+		JsonParserStrategy strategy = JsonParserStrategy.detect(null);
+		assertThat(strategy).isEqualTo(JsonParserStrategy.JACKSON3);
+		assertThat(strategy.build()).isSameAs(Jackson3JsonParser.getInstance());
+		assertThat(strategy.buildComparator()).isSameAs(Jackson2StreamingJsonComparator.getInstance());
+	}
+
+	@Test
+	void it_should_select_strategy_by_name() {
+		assertThat(JsonParserStrategy.detect("gson")).isEqualTo(JsonParserStrategy.GSON);
+		assertThat(JsonParserStrategy.detect(" Jackson2 ")).isEqualTo(JsonParserStrategy.JACKSON2);
+		assertThat(JsonParserStrategy.detect("JACKSON1")).isEqualTo(JsonParserStrategy.JACKSON1);
+	}
+
+	@Test
+	void it_should_select_builtin_strategy() {
+		JsonParserStrategy strategy = JsonParserStrategy.detect("default");
+		assertThat(strategy).isEqualTo(JsonParserStrategy.DEFAULT);
+		assertThat(strategy.build()).isSameAs(DefaultJsonParser.getInstance());
+	}
+
+	@Test
+	void it_should_fail_to_select_unknown_strategy() {
+		assertThatThrownBy(() -> JsonParserStrategy.detect("fastjson"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Unknown json parser fastjson, must be one of [JACKSON3, JACKSON2, GSON, JACKSON1, DEFAULT]");
+	}
+}
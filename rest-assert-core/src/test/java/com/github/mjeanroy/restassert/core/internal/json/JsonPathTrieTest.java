@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonObject;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class JsonPathTrieTest {
+
+	@Test
+	void it_should_not_add_complex_paths() {
+		JsonPathTrie trie = new JsonPathTrie();
+
+		assertThat(trie.add("foo.bar")).isTrue();
+		assertThat(trie.add("$.foo.bar_1")).isTrue();
+		assertThat(trie.add("$.foo-bar")).isTrue();
+		assertThat(trie.add("$.foo[0]")).isFalse();
+		assertThat(trie.add("$..foo")).isFalse();
+		assertThat(trie.add("$.foo.*")).isFalse();
+		assertThat(trie.add("$['foo']")).isFalse();
+		assertThat(trie.add("foo.")).isFalse();
+	}
+
+	@Test
+	void it_should_resolve_all_paths() {
+		ParsedJson json = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("nickname", (String) null),
+			jsonEntry("user", jsonObject(
+				jsonEntry("name", "John Doe"),
+				jsonEntry("address", jsonObject(
+					jsonEntry("city", "Paris")
+				))
+			))
+		));
+
+		JsonPathTrie trie = new JsonPathTrie();
+		trie.add("id");
+		trie.add("$.id");
+		trie.add("nickname");
+		trie.add("user.name");
+		trie.add("user.address.city");
+		trie.add("user.address.zipCode");
+		trie.add("user.name.first");
+		trie.add("unknown.name");
+
+		Map<String, Object> values = trie.resolve(json.value());
+
+		assertThat(values).containsOnly(
+			entry("id", 1),
+			entry("$.id", 1),
+			entry("nickname", null),
+			entry("user.name", "John Doe"),
+			entry("user.address.city", "Paris")
+		);
+	}
+}
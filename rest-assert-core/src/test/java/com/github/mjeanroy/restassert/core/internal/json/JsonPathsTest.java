@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPathsTest {
+
+	@BeforeEach
+	void setUp() {
+		JsonPaths.clear();
+	}
+
+	@Test
+	void it_should_normalize_path() {
+		assertThat(JsonPaths.normalize("foo.bar")).isEqualTo("$.foo.bar");
+		assertThat(JsonPaths.normalize("$.foo.bar")).isEqualTo("$.foo.bar");
+	}
+
+	@Test
+	void it_should_compile_and_cache_path() {
+		JsonPath p1 = JsonPaths.compile("foo.bar");
+
+		assertThat(p1.getPath()).isEqualTo("$['foo']['bar']");
+		assertThat(JsonPaths.size()).isEqualTo(1);
+		assertThat(JsonPaths.getHits()).isZero();
+		assertThat(JsonPaths.getMisses()).isEqualTo(1);
+
+		JsonPath p2 = JsonPaths.compile("$.foo.bar");
+
+		assertThat(p2).isSameAs(p1);
+		assertThat(JsonPaths.size()).isEqualTo(1);
+		assertThat(JsonPaths.getHits()).isEqualTo(1);
+		assertThat(JsonPaths.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_not_cache_more_than_max_size() {
+		for (int i = 0; i < JsonPaths.MAX_SIZE + 10; ++i) {
+			JsonPaths.compile("foo" + i);
+		}
+
+		assertThat(JsonPaths.size()).isEqualTo(JsonPaths.MAX_SIZE);
+		assertThat(JsonPaths.getMisses()).isEqualTo(JsonPaths.MAX_SIZE + 10);
+		assertThat(JsonPaths.compile("foo" + JsonPaths.MAX_SIZE)).isNotSameAs(JsonPaths.compile("foo" + JsonPaths.MAX_SIZE));
+	}
+
+	@Test
+	void it_should_not_cache_invalid_path() {
+		assertThatThrownBy(() -> JsonPaths.compile("foo..")).isInstanceOf(InvalidPathException.class);
+		assertThat(JsonPaths.size()).isZero();
+	}
+
+	@Test
+	void it_should_reset_cache() {
+		JsonPaths.compile("foo");
+		JsonPaths.compile("foo");
+
+		JsonPaths.clear();
+
+		assertThat(JsonPaths.size()).isZero();
+		assertThat(JsonPaths.getHits()).isZero();
+		assertThat(JsonPaths.getMisses()).isZero();
+	}
+}
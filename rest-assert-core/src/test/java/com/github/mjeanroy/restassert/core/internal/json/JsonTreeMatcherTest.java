@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.github.mjeanroy.restassert.core.data.JsonComparatorOptions;
+import com.github.mjeanroy.restassert.core.internal.json.JsonIgnoredPaths.Cursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonTreeMatcherTest {
+
+	@Test
+	void it_should_compute_hash_ignoring_object_member_order() {
+		JsonTreeMatcher matcher = new JsonTreeMatcher(JsonComparatorOptions.defaultOptions());
+
+		Map<String, Object> o1 = object("id", 1, "name", "John");
+		Map<String, Object> o2 = object("name", "John", "id", 1);
+		Map<String, Object> o3 = object("name", "Jane", "id", 1);
+
+		assertThat(matcher.hash(o1, "", Cursor.EMPTY)).isEqualTo(matcher.hash(o2, "", Cursor.EMPTY));
+		assertThat(matcher.hash(o1, "", Cursor.EMPTY)).isNotEqualTo(matcher.hash(o3, "", Cursor.EMPTY));
+		assertThat(matcher.isEqual(o1, o2, "", Cursor.EMPTY)).isTrue();
+		assertThat(matcher.isEqual(o1, o3, "", Cursor.EMPTY)).isFalse();
+	}
+
+	@Test
+	void it_should_compare_arrays_in_order() {
+		JsonTreeMatcher matcher = new JsonTreeMatcher(JsonComparatorOptions.defaultOptions());
+
+		Map<String, Object> o1 = object("tags", asList("a", "b"));
+		Map<String, Object> o2 = object("tags", asList("b", "a"));
+
+		assertThat(matcher.isEqual(o1, object("tags", asList("a", "b")), "", Cursor.EMPTY)).isTrue();
+		assertThat(matcher.isEqual(o1, o2, "", Cursor.EMPTY)).isFalse();
+	}
+
+	@Test
+	void it_should_compare_arrays_ignoring_order_at_given_path() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().addIgnoreArrayOrder("tags").build();
+		JsonTreeMatcher matcher = new JsonTreeMatcher(options);
+
+		Map<String, Object> o1 = object("tags", asList("a", "b"), "ids", asList(1, 2));
+		Map<String, Object> o2 = object("tags", asList("b", "a"), "ids", asList(1, 2));
+		Map<String, Object> o3 = object("tags", asList("b", "a"), "ids", asList(2, 1));
+
+		assertThat(matcher.hash(o1, "", Cursor.EMPTY)).isEqualTo(matcher.hash(o2, "", Cursor.EMPTY));
+		assertThat(matcher.isEqual(o1, o2, "", Cursor.EMPTY)).isTrue();
+		assertThat(matcher.isEqual(o1, o3, "", Cursor.EMPTY)).isFalse();
+	}
+
+	@Test
+	void it_should_match_array_elements_as_multisets() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().setIgnoreArrayOrder(true).build();
+		JsonTreeMatcher matcher = new JsonTreeMatcher(options);
+
+		List<Object> actual = asList(object("id", 1), object("id", 2), object("id", 2), null);
+		List<Object> expected = asList(null, object("id", 2), object("id", 3), object("id", 1));
+
+		assertThat(matcher.match(actual, expected, "", Cursor.EMPTY)).containsExactly(3, 1, -1, 0);
+	}
+
+	@Test
+	void it_should_align_array_elements() {
+		JsonTreeMatcher matcher = new JsonTreeMatcher(JsonComparatorOptions.defaultOptions());
+
+		List<Object> actual = asList(0, object("id", 1), object("id", 2), 4, object("id", 5), 6);
+		List<Object> expected = asList(object("id", 1), object("id", 2), 3, object("id", 5), 6, 7);
+
+		assertThat(matcher.align(actual, expected, "", Cursor.EMPTY, 10)).containsExactly(-1, 0, 1, -1, 3, 4);
+	}
+
+	@Test
+	void it_should_not_align_array_elements_with_too_many_differences() {
+		JsonTreeMatcher matcher = new JsonTreeMatcher(JsonComparatorOptions.defaultOptions());
+
+		List<Object> actual = asList(1, 2, 3, 4);
+		List<Object> expected = asList(5, 6, 7, 8);
+
+		assertThat(matcher.align(actual, expected, "", Cursor.EMPTY, 7)).isNull();
+		assertThat(matcher.align(actual, expected, "", Cursor.EMPTY, 8)).containsExactly(-1, -1, -1, -1);
+	}
+
+	@Test
+	void it_should_confirm_equal_hashes_with_deep_comparison() {
+		JsonTreeMatcher matcher = new JsonTreeMatcher(JsonComparatorOptions.defaultOptions());
+
+		// "Aa" and "BB" have the same hash code.
+		List<Object> a1 = asList("Aa");
+		List<Object> a2 = asList("BB");
+
+		assertThat(matcher.hash(a1, "", Cursor.EMPTY)).isEqualTo(matcher.hash(a2, "", Cursor.EMPTY));
+		assertThat(matcher.isEqual(a1, a2, "", Cursor.EMPTY)).isFalse();
+	}
+
+	@Test
+	void it_should_ignore_entries() {
+		JsonComparatorOptions options = JsonComparatorOptions.builder().addIgnoredPath("items[*].updatedAt").build();
+		Cursor root = JsonIgnoredPaths.compile(options.getIgnoredPaths()).root();
+		JsonTreeMatcher matcher = new JsonTreeMatcher(options);
+
+		Map<String, Object> o1 = object("items", asList(object("id", "1", "updatedAt", "2024")));
+		Map<String, Object> o2 = object("items", asList(object("id", "1")));
+		Map<String, Object> o3 = object("items", asList(object("id", "2", "updatedAt", "2024")));
+
+		assertThat(matcher.hash(o1, "", root)).isEqualTo(matcher.hash(o2, "", root));
+		assertThat(matcher.isEqual(o1, o2, "", root)).isTrue();
+		assertThat(matcher.isEqual(o1, o3, "", root)).isFalse();
+	}
+
+	private static Map<String, Object> object(Object... keyValues) {
+		Map<String, Object> object = new LinkedHashMap<>();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			object.put((String) keyValues[i], keyValues[i + 1]);
+		}
+
+		return object;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static com.github.mjeanroy.restassert.core.internal.json.NdJsonReader.ndJsonReader;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NdJsonReaderTest {
+
+	@Test
+	void it_should_read_records() {
+		String ndjson = "{\"id\": 1}\n\n{\"id\": 2}\r\n  \n[\"é\"]";
+
+		try (NdJsonReader reader = ndJsonReader(new ByteArrayInputStream(ndjson.getBytes(UTF_8)))) {
+			assertThat(reader.getLineNumber()).isZero();
+
+			assertThat(reader.next().json()).isEqualTo("{\"id\": 1}");
+			assertThat(reader.getLineNumber()).isEqualTo(1L);
+
+			assertThat(reader.next().json()).isEqualTo("{\"id\": 2}");
+			assertThat(reader.getLineNumber()).isEqualTo(3L);
+
+			assertThat(reader.next().json()).isEqualTo("[\"é\"]");
+			assertThat(reader.getLineNumber()).isEqualTo(5L);
+
+			assertThat(reader.next()).isNull();
+			assertThat(reader.getLineNumber()).isEqualTo(5L);
+		}
+	}
+
+	@Test
+	void it_should_read_records_with_charset() {
+		String ndjson = "[\"é\"]\n[\"à\"]";
+
+		try (NdJsonReader reader = ndJsonReader(new ByteArrayInputStream(ndjson.getBytes(UTF_16)), UTF_16)) {
+			assertThat(reader.next().json()).isEqualTo("[\"é\"]");
+			assertThat(reader.next().json()).isEqualTo("[\"à\"]");
+			assertThat(reader.next()).isNull();
+			assertThat(reader.getLineNumber()).isEqualTo(2L);
+		}
+	}
+
+	@Test
+	void it_should_not_read_null_input() {
+		assertThatThrownBy(() -> ndJsonReader(null))
+			.isInstanceOf(NullPointerException.class)
+			.hasMessage("NDJSON input must not be null");
+	}
+}
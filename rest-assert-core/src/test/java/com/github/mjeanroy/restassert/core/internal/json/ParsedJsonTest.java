@@ -0,0 +1,218 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.core.internal.json;
+
+import com.jayway.jsonpath.PathNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonArray;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonEntry;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.jsonObject;
+import static com.github.mjeanroy.restassert.test.json.JSONTestUtils.toJSON;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class ParsedJsonTest {
+
+	@Test
+	void it_should_get_raw_json() {
+		String json = toJSON(jsonEntry("id", 1));
+		ParsedJson parsedJson = ParsedJson.parse(json);
+		assertThat(parsedJson.json()).isSameAs(json);
+	}
+
+	@Test
+	void it_should_check_if_json_is_empty() {
+		assertThat(ParsedJson.parse(null).isEmpty()).isTrue();
+		assertThat(ParsedJson.parse("").isEmpty()).isTrue();
+		assertThat(ParsedJson.parse("  ").isEmpty()).isFalse();
+		assertThat(ParsedJson.parse("{}").isEmpty()).isFalse();
+	}
+
+	@Test
+	void it_should_check_if_json_is_blank() {
+		assertThat(ParsedJson.parse(null).isBlank()).isTrue();
+		assertThat(ParsedJson.parse("").isBlank()).isTrue();
+		assertThat(ParsedJson.parse("  ").isBlank()).isTrue();
+		assertThat(ParsedJson.parse("{}").isBlank()).isFalse();
+	}
+
+	@Test
+	void it_should_parse_bytes() {
+		String json = toJSON(jsonEntry("name", "Hervé"));
+		ParsedJson parsedJson = ParsedJson.parseBytes(json.getBytes(UTF_8));
+
+		assertThat(parsedJson.isEmpty()).isFalse();
+		assertThat(parsedJson.isBlank()).isFalse();
+		assertThat((Map<String, Object>) parsedJson.value()).containsExactly(entry("name", "Hervé"));
+		assertThat((String) parsedJson.read("name")).isEqualTo("Hervé");
+		assertThat(parsedJson.json()).isEqualTo(json);
+	}
+
+	@Test
+	void it_should_parse_bytes_with_charset() {
+		String json = toJSON(jsonEntry("name", "Hervé"));
+		ParsedJson parsedJson = ParsedJson.parseBytes(json.getBytes(ISO_8859_1), ISO_8859_1);
+
+		assertThat((Map<String, Object>) parsedJson.value()).containsExactly(entry("name", "Hervé"));
+		assertThat((String) parsedJson.read("name")).isEqualTo("Hervé");
+		assertThat(parsedJson.json()).isEqualTo(json);
+	}
+
+	@Test
+	void it_should_check_if_bytes_are_empty_or_blank() {
+		assertThat(ParsedJson.parseBytes(null).isEmpty()).isTrue();
+		assertThat(ParsedJson.parseBytes(new byte[0]).isEmpty()).isTrue();
+		assertThat(ParsedJson.parseBytes(" ".getBytes(UTF_8)).isEmpty()).isFalse();
+		assertThat(ParsedJson.parseBytes(" ".getBytes(UTF_8)).isBlank()).isTrue();
+	}
+
+	@Test
+	void it_should_create_document_from_value() {
+		Map<String, Object> value = JsonParsers.getParser().parseObject(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("address", jsonObject(
+				jsonEntry("city", "Paris")
+			))
+		));
+
+		ParsedJson parsedJson = ParsedJson.of(value);
+
+		assertThat(parsedJson.isEmpty()).isFalse();
+		assertThat(parsedJson.isBlank()).isFalse();
+		assertThat(parsedJson.value()).isSameAs(value);
+		assertThat((String) parsedJson.read("address.city")).isEqualTo("Paris");
+		assertThat(parsedJson.readAll(asList("id", "name"))).containsOnly(entry("id", 1));
+		assertThat(JsonParsers.getParser().parse(parsedJson.json())).isEqualTo(value);
+		assertThat(ParsedJson.of("Hello \"World\"").json()).isEqualTo("\"Hello \\\"World\\\"\"");
+		assertThat(ParsedJson.of(true).json()).isEqualTo("true");
+	}
+
+	@Test
+	void it_should_create_document_from_null_value() {
+		ParsedJson parsedJson = ParsedJson.of(null);
+
+		assertThat(parsedJson.isEmpty()).isFalse();
+		assertThat(parsedJson.value()).isNull();
+		assertThat(parsedJson.json()).isEqualTo("null");
+		assertThat(parsedJson.has("id")).isFalse();
+		assertThat(parsedJson.readAll(asList("id", "$..id"))).isEmpty();
+		assertThatThrownBy(() -> parsedJson.read("id")).isExactlyInstanceOf(PathNotFoundException.class);
+	}
+
+	@Test
+	void it_should_parse_value_once() {
+		ParsedJson parsedJson = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("name", "John Doe")
+		));
+
+		Object value = parsedJson.value();
+		assertThat(value).isInstanceOf(Map.class);
+		assertThat(parsedJson.value()).isSameAs(value);
+	}
+
+	@Test
+	void it_should_read_entries_with_json_path_once_value_is_parsed() {
+		ParsedJson parsedJson = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("address", jsonObject(
+				jsonEntry("zip", 75001)
+			))
+		));
+
+		assertThat(parsedJson.value()).isInstanceOf(Map.class);
+		assertThat((Object) parsedJson.read("id")).isEqualTo(1);
+		assertThat((Object) parsedJson.read("address.zip")).isEqualTo(75001);
+	}
+
+	@Test
+	void it_should_read_entries() {
+		ParsedJson parsedJson = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("name", "John Doe"),
+			jsonEntry("roles", jsonArray("ADMIN")),
+			jsonEntry("address", jsonObject(
+				jsonEntry("city", "Paris")
+			))
+		));
+
+		assertThat((Object) parsedJson.read("id")).isEqualTo(1);
+		assertThat((Object) parsedJson.read("$.id")).isEqualTo(1);
+		assertThat((Object) parsedJson.read("name")).isEqualTo("John Doe");
+		assertThat((Object) parsedJson.read("roles[0]")).isEqualTo("ADMIN");
+		assertThat((Object) parsedJson.read("address.city")).isEqualTo("Paris");
+	}
+
+	@Test
+	void it_should_fail_to_read_missing_entry() {
+		ParsedJson parsedJson = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1)
+		));
+
+		assertThatThrownBy(() -> parsedJson.read("name")).isInstanceOf(PathNotFoundException.class);
+	}
+
+	@Test
+	void it_should_check_if_entry_exists() {
+		ParsedJson parsedJson = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("address", jsonObject(
+				jsonEntry("city", "Paris")
+			))
+		));
+
+		assertThat(parsedJson.has("id")).isTrue();
+		assertThat(parsedJson.has("$.id")).isTrue();
+		assertThat(parsedJson.has("address.city")).isTrue();
+		assertThat(parsedJson.has("name")).isFalse();
+		assertThat(parsedJson.has("address.zipCode")).isFalse();
+	}
+
+	@Test
+	void it_should_read_all_entries() {
+		ParsedJson parsedJson = ParsedJson.parse(toJSON(
+			jsonEntry("id", 1),
+			jsonEntry("roles", jsonArray("ADMIN")),
+			jsonEntry("address", jsonObject(
+				jsonEntry("city", "Paris")
+			))
+		));
+
+		Map<String, Object> values = parsedJson.readAll(asList("id", "$.address.city", "roles[0]", "name", "roles[1]"));
+
+		assertThat(values).containsOnly(
+			entry("id", 1),
+			entry("$.address.city", "Paris"),
+			entry("roles[0]", "ADMIN")
+		);
+	}
+}
@@ -113,6 +113,7 @@ public abstract class AbstractTemplateModel implements TemplateModel {
 	/// @return List of methods.
 	protected final List<Map<String, Object>> getMethods() {
 		List<Method> methods = findPublicMethods(coreClass());
+		methods.removeIf((method) -> !isProxied(method));
 
 		// Sort methods by name
 		// Not mandatory but useful for tests and to group
@@ -128,6 +129,16 @@ public abstract class AbstractTemplateModel implements TemplateModel {
 		return unmodifiableList(models);
 	}
 
+	/// Check if given core method should be proxified in the generated class.
+	///
+	/// By default, all public methods of the core class are proxified.
+	///
+	/// @param method The core method.
+	/// @return `true` if method should be proxified, `false` otherwise.
+	protected boolean isProxied(Method method) {
+		return true;
+	}
+
 	private Map<String, Object> getMethod(Method method) {
 		final String coreMethodName = method.getName();
 
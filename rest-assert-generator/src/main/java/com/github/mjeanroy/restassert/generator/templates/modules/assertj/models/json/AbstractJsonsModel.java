@@ -28,6 +28,8 @@ import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
 import com.github.mjeanroy.restassert.generator.TemplateModel;
 import com.github.mjeanroy.restassert.generator.templates.modules.AbstractTemplateModel;
 
+import java.lang.reflect.Method;
+
 /// Abstract model for [JsonAssertions] assertions.
 ///
 /// Actual object (a.k.a tested object) is an instance of [java.lang.String] class
@@ -45,4 +47,10 @@ public abstract class AbstractJsonsModel extends AbstractTemplateModel implement
 	protected String getActualClass() {
 		return String.class.getName();
 	}
+
+	@Override
+	protected boolean isProxied(Method method) {
+		// Assertions on already parsed JSON documents are not exposed.
+		return method.getParameterTypes()[0] == String.class;
+	}
 }
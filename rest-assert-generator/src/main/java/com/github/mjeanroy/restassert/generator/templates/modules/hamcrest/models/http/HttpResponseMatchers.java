@@ -25,6 +25,7 @@
 package com.github.mjeanroy.restassert.generator.templates.modules.hamcrest.models.http;
 
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse;
 import com.github.mjeanroy.restassert.generator.TemplateModel;
 
 /// Template model for rest-assert-hamcrest HttpResponseMatchers class.
@@ -52,6 +53,6 @@ public class HttpResponseMatchers extends AbstractHamcrestHttpAssertTemplateMode
 
 	@Override
 	public String getFactory() {
-		return null;
+		return CachedHttpResponse.class.getName();
 	}
 }
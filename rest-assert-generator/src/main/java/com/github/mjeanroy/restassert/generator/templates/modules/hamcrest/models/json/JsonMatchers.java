@@ -28,6 +28,8 @@ import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
 import com.github.mjeanroy.restassert.generator.TemplateModel;
 import com.github.mjeanroy.restassert.generator.templates.modules.hamcrest.AbstractHamcrestTemplateModel;
 
+import java.lang.reflect.Method;
+
 import static com.github.mjeanroy.restassert.generator.utils.GeneratorUtils.generateAssertMethodName;
 
 /// Template model for rest-assert-hamcrest JsonAssert class.
@@ -80,4 +82,10 @@ public class JsonMatchers extends AbstractHamcrestTemplateModel implements Templ
 	protected String buildMethodName(String methodName) {
 		return generateAssertMethodName(methodName);
 	}
+
+	@Override
+	protected boolean isProxied(Method method) {
+		// Assertions on already parsed JSON documents are not exposed.
+		return method.getParameterTypes()[0] == String.class;
+	}
 }
@@ -25,13 +25,14 @@
 package com.github.mjeanroy.restassert.generator.templates.modules.unit.models.http;
 
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse;
 import com.github.mjeanroy.restassert.generator.TemplateModel;
 
 /// Template model for rest-assert-unit HttpAssert class.
 public final class HttpAssert extends AbstractUnitHttpAssertTemplateModel implements TemplateModel {
 
 	/// Singleton Instance.
-	private static final HttpAssert INSTANCE = new HttpAssert(null);
+	private static final HttpAssert INSTANCE = new HttpAssert(CachedHttpResponse.class);
 
 	/// Get singleton instance.
 	///
@@ -62,6 +63,6 @@ public final class HttpAssert extends AbstractUnitHttpAssertTemplateModel implem
 
 	@Override
 	public String getFactory() {
-		return factory != null ? String.format("%s.create", factory.getName()) : null;
+		return factory != null ? factory.getName() : null;
 	}
 }
@@ -28,6 +28,8 @@ import com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions;
 import com.github.mjeanroy.restassert.generator.TemplateModel;
 import com.github.mjeanroy.restassert.generator.templates.modules.unit.models.AbstractUnitTemplateModel;
 
+import java.lang.reflect.Method;
+
 import static com.github.mjeanroy.restassert.generator.utils.GeneratorUtils.generateAssertMethodName;
 
 /// Template model for rest-assert-unit JsonAssert class.
@@ -85,4 +87,10 @@ public final class JsonAssert extends AbstractUnitTemplateModel implements Templ
 	public String getAssertedClassName() {
 		return String.class.getName();
 	}
+
+	@Override
+	protected boolean isProxied(Method method) {
+		// Assertions on already parsed JSON documents are not exposed.
+		return method.getParameterTypes()[0] == String.class;
+	}
 }
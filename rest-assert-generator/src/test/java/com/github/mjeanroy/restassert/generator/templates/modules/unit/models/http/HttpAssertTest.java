@@ -26,6 +26,7 @@ package com.github.mjeanroy.restassert.generator.templates.modules.unit.models.h
 
 import com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions;
 import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse;
 import com.github.mjeanroy.restassert.generator.templates.modules.AbstractTemplateModel;
 import com.github.mjeanroy.restassert.generator.templates.modules.unit.models.AbstractUnitTemplateModelTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -73,7 +74,7 @@ class HttpAssertTest extends AbstractUnitTemplateModelTest {
 
 	@Override
 	protected String getFactory() {
-		return null;
+		return CachedHttpResponse.class.getName();
 	}
 
 	@Override
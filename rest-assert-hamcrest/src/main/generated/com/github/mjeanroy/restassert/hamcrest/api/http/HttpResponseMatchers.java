@@ -0,0 +1,2090 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.hamcrest.api.http;
+
+import org.hamcrest.TypeSafeMatcher;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.hamcrest.api.AbstractHamcrestMatcher;
+
+/// Matchers for [com.github.mjeanroy.restassert.core.data.HttpResponse] instances.
+public final class HttpResponseMatchers {
+
+	private static final com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions.instance();
+
+	private HttpResponseMatchers() {
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveAccessControlAllowCredentials() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveAccessControlAllowCredentials(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveAccessControlAllowHeaders() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveAccessControlAllowHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveAccessControlAllowMaxAge() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveAccessControlAllowMaxAge(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveAccessControlAllowMethods() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveAccessControlAllowMethods(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveAccessControlAllowOrigin() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveAccessControlAllowOrigin(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveAccessControlExposeHeaders() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveAccessControlExposeHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveCacheControl() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveCacheControl(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveContentDisposition() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveContentDisposition(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveContentEncoding() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveContentEncoding(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveContentSecurityPolicy() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveContentSecurityPolicy(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveContentTypeOptions() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveContentTypeOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveCookie() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveCookie(final java.lang.String name) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), name
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveETag() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveETag(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveExpires() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveExpires(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveFrameOptions() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveFrameOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveHeader(final java.lang.String headerName) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveHeader(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), headerName
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveLastModified() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveLastModified(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveLocation() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveLocation(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHavePragma() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHavePragma(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveStrictTransportSecurity() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveStrictTransportSecurity(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> doesNotHaveXssProtection() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.doesNotHaveXssProtection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasAccessControlAllowCredentials() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasAccessControlAllowCredentials(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasAccessControlAllowHeaders() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasAccessControlAllowHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasAccessControlAllowMaxAge() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasAccessControlAllowMaxAge(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasAccessControlAllowMethods() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasAccessControlAllowMethods(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasAccessControlAllowOrigin() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasAccessControlAllowOrigin(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasAccessControlExposeHeaders() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasAccessControlExposeHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasCacheControl() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasCacheControl(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.nio.charset.Charset)]
+	///
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasCharset(final java.nio.charset.Charset expectedCharset) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasCharset(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), expectedCharset
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasCharset(final java.lang.String expectedCharset) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasCharset(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), expectedCharset
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasContentDisposition() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasContentDisposition(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasContentEncoding() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasContentEncoding(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasContentLength() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasContentLength(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasContentSecurityPolicy() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasContentSecurityPolicy(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasContentType() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasContentType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasContentTypeOptions() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasContentTypeOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	///
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasCookie(final java.lang.String name, final java.lang.String value) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), name, value
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.Cookie)]
+	///
+	/// @param cookie See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasCookie(final com.github.mjeanroy.restassert.core.data.Cookie cookie) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), cookie
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasCookie(final java.lang.String name) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), name
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasETag() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasETag(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasExpires() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasExpires(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasFrameOptions() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasFrameOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasHeader(final java.lang.String headerName) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasHeader(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), headerName
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasLastModified() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasLastModified(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasLocation() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasLocation(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.MediaType)]
+	///
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasMimeType(final com.github.mjeanroy.restassert.core.data.MediaType expectedMimeType) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasMimeType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), expectedMimeType
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasMimeType(final java.lang.String expectedMimeType) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasMimeType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), expectedMimeType
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasNdJsonEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasNdJsonEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	///
+	/// @param expectedCount See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasNdJsonRecordCount(final long expectedCount) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasNdJsonRecordCount(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), expectedCount
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasPragma() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasPragma(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasStrictTransportSecurity() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasStrictTransportSecurity(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> hasXssProtection() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.hasXssProtection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccepted() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccepted(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, boolean)]
+	///
+	/// @param flag See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlAllowCredentialsEqualTo(final boolean flag) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlAllowCredentialsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), flag
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	///
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlAllowHeadersEqualTo(final java.lang.String value, final java.lang.String... other) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlAllowHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), value, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param accessControlAllowHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlAllowHeadersEqualTo(final java.lang.Iterable<java.lang.String> accessControlAllowHeaders) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlAllowHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), accessControlAllowHeaders
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	///
+	/// @param maxAge See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlAllowMaxAgeEqualTo(final long maxAge) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlAllowMaxAgeEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), maxAge
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.RequestMethod, com.github.mjeanroy.restassert.core.data.RequestMethod...)]
+	///
+	/// @param method See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlAllowMethodsEqualTo(final com.github.mjeanroy.restassert.core.data.RequestMethod method, final com.github.mjeanroy.restassert.core.data.RequestMethod... other) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlAllowMethodsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), method, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod>)]
+	///
+	/// @param methods See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlAllowMethodsEqualTo(final java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod> methods) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlAllowMethodsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), methods
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param accessControlAllowOrigin See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlAllowOriginEqualTo(final java.lang.String accessControlAllowOrigin) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlAllowOriginEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), accessControlAllowOrigin
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param accessControlExposeHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlExposeHeadersEqualTo(final java.lang.Iterable<java.lang.String> accessControlExposeHeaders) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlExposeHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), accessControlExposeHeaders
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	///
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isAccessControlExposeHeadersEqualTo(final java.lang.String value, final java.lang.String... other) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isAccessControlExposeHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), value, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isBadRequest() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isBadRequest(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isCacheControlEqualTo(final java.lang.String cacheControl) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isCacheControlEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), cacheControl
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.CacheControl)]
+	///
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isCacheControlEqualTo(final com.github.mjeanroy.restassert.core.data.CacheControl cacheControl) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isCacheControlEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), cacheControl
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isClientError() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isClientError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isConflict() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isConflict(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentDispositionValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentDispositionEqualTo(final java.lang.String contentDispositionValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentDispositionEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentDispositionValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentEncoding)]
+	///
+	/// @param contentEncoding See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentEncodingEqualTo(final com.github.mjeanroy.restassert.core.data.ContentEncoding contentEncoding) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentEncodingEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentEncoding
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentEncodingValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentEncodingEqualTo(final java.lang.String contentEncodingValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentEncodingEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentEncodingValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy)]
+	///
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentSecurityPolicyEqualTo(final com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy contentSecurityPolicy) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentSecurityPolicyEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentSecurityPolicy
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentSecurityPolicyEqualTo(final java.lang.String contentSecurityPolicy) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentSecurityPolicyEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentSecurityPolicy
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentType)]
+	///
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentTypeEqualTo(final com.github.mjeanroy.restassert.core.data.ContentType contentTypeValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentTypeEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentTypeValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentTypeEqualTo(final java.lang.String contentTypeValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentTypeEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentTypeValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentTypeOptions)]
+	///
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentTypeOptionsEqualTo(final com.github.mjeanroy.restassert.core.data.ContentTypeOptions contentTypeOptions) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentTypeOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentTypeOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isContentTypeOptionsEqualTo(final java.lang.String contentTypeOptions) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isContentTypeOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), contentTypeOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isCreated() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isCreated(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isCss() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isCss(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isCsv() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isCsv(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param etagValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isETagEqualTo(final java.lang.String etagValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isETagEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), etagValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isExpiresEqualTo(final java.lang.String expiresValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isExpiresEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), expiresValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	///
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isExpiresEqualTo(final java.util.Date expiresValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isExpiresEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), expiresValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isForbidden() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isForbidden(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.FrameOptions)]
+	///
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isFrameOptionsEqualTo(final com.github.mjeanroy.restassert.core.data.FrameOptions frameOptions) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isFrameOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), frameOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isFrameOptionsEqualTo(final java.lang.String frameOptions) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isFrameOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), frameOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isGone() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isGone(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isGzipped() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isGzipped(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	///
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @param headerValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isHeaderEqualTo(final java.lang.String headerName, final java.lang.String headerValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isHeaderEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), headerName, headerValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isHtml() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isHtml(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isInternalServerError() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isInternalServerError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isJavascript() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isJavascript(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isJson() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isJson(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	///
+	/// @param lastModifiedDate See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isLastModifiedEqualTo(final java.util.Date lastModifiedDate) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isLastModifiedEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), lastModifiedDate
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param lastModifiedValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isLastModifiedEqualTo(final java.lang.String lastModifiedValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isLastModifiedEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), lastModifiedValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param locationValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isLocationEqualTo(final java.lang.String locationValue) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isLocationEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), locationValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isMethodNotAllowed() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isMethodNotAllowed(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isMovedPermanently() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isMovedPermanently(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isMovedTemporarily() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isMovedTemporarily(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isMultipleChoices() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isMultipleChoices(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNdJsonArrayEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNdJsonArrayEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNdJsonBooleanEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNdJsonBooleanEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNdJsonNumberEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNdJsonNumberEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNdJsonObjectEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNdJsonObjectEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNdJsonStringEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNdJsonStringEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNoContent() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNoContent(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotAcceptable() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotAcceptable(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotClientError() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotClientError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotFound() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotFound(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotImplemented() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotImplemented(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotModified() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotModified(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotRedirection() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotRedirection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotServerError() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotServerError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isNotSuccess() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isNotSuccess(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isOk() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isOk(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isPartialContent() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isPartialContent(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isPdf() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isPdf(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isPermanentRedirect() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isPermanentRedirect(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param pragma See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isPragmaEqualTo(final java.lang.String pragma) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isPragmaEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), pragma
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isPreConditionFailed() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isPreConditionFailed(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isRedirection() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isRedirection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isRequestEntityTooLarge() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isRequestEntityTooLarge(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isRequestTimeout() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isRequestTimeout(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isRequestUriTooLong() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isRequestUriTooLong(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isRequestedRangeNotSatisfiable() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isRequestedRangeNotSatisfiable(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isResetContent() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isResetContent(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isSeeOther() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isSeeOther(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isServerError() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isServerError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	///
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isStatusBetween(final int start, final int end) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isStatusBetween(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), start, end
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual(com.github.mjeanroy.restassert.core.data.HttpResponse, int)]
+	///
+	/// @param status See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isStatusEqual(final int status) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isStatusEqual(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), status
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	///
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isStatusOutOf(final int start, final int end) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isStatusOutOf(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), start, end
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isStrictTransportSecurityEqualTo(final java.lang.String strictTransportSecurity) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isStrictTransportSecurityEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), strictTransportSecurity
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity)]
+	///
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isStrictTransportSecurityEqualTo(final com.github.mjeanroy.restassert.core.data.StrictTransportSecurity strictTransportSecurity) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isStrictTransportSecurityEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), strictTransportSecurity
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isSuccess() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isSuccess(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isTemporaryRedirect() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isTemporaryRedirect(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isText() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isText(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isUnauthorized() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isUnauthorized(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isUnsupportedMediaType() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isUnsupportedMediaType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isUtf8() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isUtf8(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isXml() {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isXml(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.XssProtection)]
+	///
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isXssProtectionEqualTo(final com.github.mjeanroy.restassert.core.data.XssProtection xssProtection) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isXssProtectionEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), xssProtection
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse> isXssProtectionEqualTo(final java.lang.String xssProtection) {
+		return new AbstractHamcrestMatcher<com.github.mjeanroy.restassert.core.data.HttpResponse>() {
+			@Override
+			protected final AssertionResult verify(com.github.mjeanroy.restassert.core.data.HttpResponse actual) {
+				return assertions.isXssProtectionEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.CachedHttpResponse.create(actual), xssProtection
+				);
+			}
+		};
+	}
+
+}
+
@@ -0,0 +1,2090 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.hamcrest.api.http;
+
+import org.hamcrest.TypeSafeMatcher;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.hamcrest.api.AbstractHamcrestMatcher;
+
+/// Matchers for [org.springframework.test.web.servlet.ResultActions] instances.
+public final class SpringMockMvcHttpResponseMatchers {
+
+	private static final com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions.instance();
+
+	private SpringMockMvcHttpResponseMatchers() {
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveAccessControlAllowCredentials() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveAccessControlAllowCredentials(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveAccessControlAllowHeaders() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveAccessControlAllowHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveAccessControlAllowMaxAge() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveAccessControlAllowMaxAge(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveAccessControlAllowMethods() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveAccessControlAllowMethods(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveAccessControlAllowOrigin() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveAccessControlAllowOrigin(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveAccessControlExposeHeaders() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveAccessControlExposeHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveCacheControl() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveCacheControl(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveContentDisposition() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveContentDisposition(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveContentEncoding() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveContentEncoding(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveContentSecurityPolicy() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveContentSecurityPolicy(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveContentTypeOptions() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveContentTypeOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveCookie() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveCookie(final java.lang.String name) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), name
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveETag() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveETag(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveExpires() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveExpires(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveFrameOptions() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveFrameOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveHeader(final java.lang.String headerName) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveHeader(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), headerName
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveLastModified() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveLastModified(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveLocation() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveLocation(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHavePragma() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHavePragma(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveStrictTransportSecurity() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveStrictTransportSecurity(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> doesNotHaveXssProtection() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.doesNotHaveXssProtection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasAccessControlAllowCredentials() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasAccessControlAllowCredentials(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasAccessControlAllowHeaders() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasAccessControlAllowHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasAccessControlAllowMaxAge() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasAccessControlAllowMaxAge(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasAccessControlAllowMethods() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasAccessControlAllowMethods(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasAccessControlAllowOrigin() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasAccessControlAllowOrigin(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasAccessControlExposeHeaders() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasAccessControlExposeHeaders(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasCacheControl() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasCacheControl(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.nio.charset.Charset)]
+	///
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasCharset(final java.nio.charset.Charset expectedCharset) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasCharset(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), expectedCharset
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasCharset(final java.lang.String expectedCharset) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasCharset(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), expectedCharset
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasContentDisposition() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasContentDisposition(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasContentEncoding() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasContentEncoding(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasContentLength() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasContentLength(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasContentSecurityPolicy() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasContentSecurityPolicy(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasContentType() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasContentType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasContentTypeOptions() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasContentTypeOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	///
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasCookie(final java.lang.String name, final java.lang.String value) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), name, value
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.Cookie)]
+	///
+	/// @param cookie See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasCookie(final com.github.mjeanroy.restassert.core.data.Cookie cookie) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), cookie
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasCookie(final java.lang.String name) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasCookie(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), name
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasETag() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasETag(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasExpires() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasExpires(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasFrameOptions() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasFrameOptions(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasHeader(final java.lang.String headerName) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasHeader(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), headerName
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasLastModified() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasLastModified(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasLocation() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasLocation(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.MediaType)]
+	///
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasMimeType(final com.github.mjeanroy.restassert.core.data.MediaType expectedMimeType) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasMimeType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), expectedMimeType
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasMimeType(final java.lang.String expectedMimeType) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasMimeType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), expectedMimeType
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasNdJsonEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasNdJsonEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	///
+	/// @param expectedCount See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasNdJsonRecordCount(final long expectedCount) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasNdJsonRecordCount(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), expectedCount
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasPragma() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasPragma(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasStrictTransportSecurity() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasStrictTransportSecurity(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> hasXssProtection() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.hasXssProtection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccepted() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccepted(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, boolean)]
+	///
+	/// @param flag See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlAllowCredentialsEqualTo(final boolean flag) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlAllowCredentialsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), flag
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	///
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlAllowHeadersEqualTo(final java.lang.String value, final java.lang.String... other) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlAllowHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), value, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param accessControlAllowHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlAllowHeadersEqualTo(final java.lang.Iterable<java.lang.String> accessControlAllowHeaders) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlAllowHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), accessControlAllowHeaders
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	///
+	/// @param maxAge See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlAllowMaxAgeEqualTo(final long maxAge) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlAllowMaxAgeEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), maxAge
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.RequestMethod, com.github.mjeanroy.restassert.core.data.RequestMethod...)]
+	///
+	/// @param method See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlAllowMethodsEqualTo(final com.github.mjeanroy.restassert.core.data.RequestMethod method, final com.github.mjeanroy.restassert.core.data.RequestMethod... other) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlAllowMethodsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), method, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod>)]
+	///
+	/// @param methods See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlAllowMethodsEqualTo(final java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod> methods) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlAllowMethodsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), methods
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param accessControlAllowOrigin See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlAllowOriginEqualTo(final java.lang.String accessControlAllowOrigin) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlAllowOriginEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), accessControlAllowOrigin
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param accessControlExposeHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlExposeHeadersEqualTo(final java.lang.Iterable<java.lang.String> accessControlExposeHeaders) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlExposeHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), accessControlExposeHeaders
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	///
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isAccessControlExposeHeadersEqualTo(final java.lang.String value, final java.lang.String... other) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isAccessControlExposeHeadersEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), value, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isBadRequest() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isBadRequest(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isCacheControlEqualTo(final java.lang.String cacheControl) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isCacheControlEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), cacheControl
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.CacheControl)]
+	///
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isCacheControlEqualTo(final com.github.mjeanroy.restassert.core.data.CacheControl cacheControl) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isCacheControlEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), cacheControl
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isClientError() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isClientError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isConflict() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isConflict(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentDispositionValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentDispositionEqualTo(final java.lang.String contentDispositionValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentDispositionEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentDispositionValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentEncoding)]
+	///
+	/// @param contentEncoding See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentEncodingEqualTo(final com.github.mjeanroy.restassert.core.data.ContentEncoding contentEncoding) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentEncodingEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentEncoding
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentEncodingValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentEncodingEqualTo(final java.lang.String contentEncodingValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentEncodingEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentEncodingValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy)]
+	///
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentSecurityPolicyEqualTo(final com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy contentSecurityPolicy) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentSecurityPolicyEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentSecurityPolicy
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentSecurityPolicyEqualTo(final java.lang.String contentSecurityPolicy) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentSecurityPolicyEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentSecurityPolicy
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentType)]
+	///
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentTypeEqualTo(final com.github.mjeanroy.restassert.core.data.ContentType contentTypeValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentTypeEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentTypeValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentTypeEqualTo(final java.lang.String contentTypeValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentTypeEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentTypeValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentTypeOptions)]
+	///
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentTypeOptionsEqualTo(final com.github.mjeanroy.restassert.core.data.ContentTypeOptions contentTypeOptions) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentTypeOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentTypeOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isContentTypeOptionsEqualTo(final java.lang.String contentTypeOptions) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isContentTypeOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), contentTypeOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isCreated() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isCreated(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isCss() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isCss(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isCsv() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isCsv(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param etagValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isETagEqualTo(final java.lang.String etagValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isETagEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), etagValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isExpiresEqualTo(final java.lang.String expiresValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isExpiresEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), expiresValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	///
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isExpiresEqualTo(final java.util.Date expiresValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isExpiresEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), expiresValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isForbidden() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isForbidden(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.FrameOptions)]
+	///
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isFrameOptionsEqualTo(final com.github.mjeanroy.restassert.core.data.FrameOptions frameOptions) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isFrameOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), frameOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isFrameOptionsEqualTo(final java.lang.String frameOptions) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isFrameOptionsEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), frameOptions
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isGone() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isGone(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isGzipped() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isGzipped(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	///
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @param headerValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isHeaderEqualTo(final java.lang.String headerName, final java.lang.String headerValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isHeaderEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), headerName, headerValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isHtml() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isHtml(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isInternalServerError() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isInternalServerError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isJavascript() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isJavascript(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isJson() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isJson(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	///
+	/// @param lastModifiedDate See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isLastModifiedEqualTo(final java.util.Date lastModifiedDate) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isLastModifiedEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), lastModifiedDate
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param lastModifiedValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isLastModifiedEqualTo(final java.lang.String lastModifiedValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isLastModifiedEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), lastModifiedValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param locationValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isLocationEqualTo(final java.lang.String locationValue) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isLocationEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), locationValue
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isMethodNotAllowed() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isMethodNotAllowed(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isMovedPermanently() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isMovedPermanently(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isMovedTemporarily() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isMovedTemporarily(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isMultipleChoices() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isMultipleChoices(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNdJsonArrayEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNdJsonArrayEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNdJsonBooleanEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNdJsonBooleanEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNdJsonNumberEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNdJsonNumberEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNdJsonObjectEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNdJsonObjectEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNdJsonStringEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNdJsonStringEntry(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNoContent() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNoContent(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotAcceptable() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotAcceptable(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotClientError() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotClientError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotFound() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotFound(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotImplemented() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotImplemented(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotModified() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotModified(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotRedirection() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotRedirection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotServerError() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotServerError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isNotSuccess() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isNotSuccess(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isOk() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isOk(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isPartialContent() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isPartialContent(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isPdf() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isPdf(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isPermanentRedirect() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isPermanentRedirect(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param pragma See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isPragmaEqualTo(final java.lang.String pragma) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isPragmaEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), pragma
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isPreConditionFailed() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isPreConditionFailed(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isRedirection() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isRedirection(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isRequestEntityTooLarge() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isRequestEntityTooLarge(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isRequestTimeout() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isRequestTimeout(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isRequestUriTooLong() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isRequestUriTooLong(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isRequestedRangeNotSatisfiable() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isRequestedRangeNotSatisfiable(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isResetContent() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isResetContent(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isSeeOther() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isSeeOther(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isServerError() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isServerError(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	///
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isStatusBetween(final int start, final int end) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isStatusBetween(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), start, end
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual(com.github.mjeanroy.restassert.core.data.HttpResponse, int)]
+	///
+	/// @param status See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isStatusEqual(final int status) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isStatusEqual(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), status
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	///
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isStatusOutOf(final int start, final int end) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isStatusOutOf(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), start, end
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isStrictTransportSecurityEqualTo(final java.lang.String strictTransportSecurity) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isStrictTransportSecurityEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), strictTransportSecurity
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity)]
+	///
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isStrictTransportSecurityEqualTo(final com.github.mjeanroy.restassert.core.data.StrictTransportSecurity strictTransportSecurity) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isStrictTransportSecurityEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), strictTransportSecurity
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isSuccess() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isSuccess(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isTemporaryRedirect() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isTemporaryRedirect(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isText() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isText(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isUnauthorized() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isUnauthorized(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isUnsupportedMediaType() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isUnsupportedMediaType(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isUtf8() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isUtf8(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isXml() {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isXml(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual)
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.XssProtection)]
+	///
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isXssProtectionEqualTo(final com.github.mjeanroy.restassert.core.data.XssProtection xssProtection) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isXssProtectionEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), xssProtection
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	///
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<org.springframework.test.web.servlet.ResultActions> isXssProtectionEqualTo(final java.lang.String xssProtection) {
+		return new AbstractHamcrestMatcher<org.springframework.test.web.servlet.ResultActions>() {
+			@Override
+			protected final AssertionResult verify(org.springframework.test.web.servlet.ResultActions actual) {
+				return assertions.isXssProtectionEqualTo(
+					com.github.mjeanroy.restassert.core.internal.data.bindings.spring.SpringMockMvcHttpResponse.create(actual), xssProtection
+				);
+			}
+		};
+	}
+
+}
+
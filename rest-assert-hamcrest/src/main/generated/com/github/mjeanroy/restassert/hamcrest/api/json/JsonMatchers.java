@@ -0,0 +1,616 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.hamcrest.api.json;
+
+import org.hamcrest.TypeSafeMatcher;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.hamcrest.api.AbstractHamcrestMatcher;
+
+/// Matchers for JSON payloads.
+public final class JsonMatchers {
+
+	private static final com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions.instance();
+
+	private JsonMatchers() {
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @param assertion See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> allEntriesMatch(final java.lang.String path, final com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, final com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.allEntriesMatch(
+					actual, path, assertion, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @param assertion See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> anyEntryMatches(final java.lang.String path, final com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, final com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.anyEntryMatches(
+					actual, path, assertion, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.String, java.lang.String...)]
+	///
+	/// @param key See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> contains(final java.lang.String key, final java.lang.String... other) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.contains(
+					actual, key, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param keys See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> contains(final java.lang.Iterable<java.lang.String> keys) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.contains(
+					actual, keys
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, com.github.mjeanroy.restassert.core.data.JsonEntry, com.github.mjeanroy.restassert.core.data.JsonEntry...)]
+	///
+	/// @param entry See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> containsEntries(final com.github.mjeanroy.restassert.core.data.JsonEntry entry, final com.github.mjeanroy.restassert.core.data.JsonEntry... other) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.containsEntries(
+					actual, entry, other
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.JsonEntry>)]
+	///
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> containsEntries(final java.lang.Iterable<com.github.mjeanroy.restassert.core.data.JsonEntry> entries) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.containsEntries(
+					actual, entries
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArray(java.lang.String)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isArray() {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isArray(
+					actual
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry(java.lang.String, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isArrayEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isArrayEntry(
+					actual, path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBoolean(java.lang.String)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isBoolean() {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isBoolean(
+					actual
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry(java.lang.String, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isBooleanEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isBooleanEntry(
+					actual, path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.lang.String expected, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, expected, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI)]
+	///
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.net.URI uri) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, uri
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL)]
+	///
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.net.URL url) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, url
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.nio.file.Path path, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, path, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.net.URI uri, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, uri, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File)]
+	///
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.io.File file) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, file
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.io.File file, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, file, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.nio.file.Path path) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String)]
+	///
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.lang.String expected) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, expected
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualTo(final java.net.URL url, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualTo(
+					actual, url, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.nio.file.Path path, final java.lang.Iterable<java.lang.String> entries) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, path, entries
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.io.File file, final java.lang.Iterable<java.lang.String> entries) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, file, entries
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable<java.lang.String>, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.lang.String expected, final java.lang.Iterable<java.lang.String> entries, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, expected, entries, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.lang.String expected, final java.lang.Iterable<java.lang.String> entries) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, expected, entries
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable<java.lang.String>, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.io.File file, final java.lang.Iterable<java.lang.String> entries, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, file, entries, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.net.URL url, final java.lang.Iterable<java.lang.String> entries) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, url, entries
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable<java.lang.String>, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.net.URL url, final java.lang.Iterable<java.lang.String> entries, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, url, entries, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable<java.lang.String>, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.nio.file.Path path, final java.lang.Iterable<java.lang.String> entries, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, path, entries, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable<java.lang.String>)]
+	///
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.net.URI uri, final java.lang.Iterable<java.lang.String> entries) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, uri, entries
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable<java.lang.String>, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	///
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isEqualToIgnoring(final java.net.URI uri, final java.lang.Iterable<java.lang.String> entries, final com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isEqualToIgnoring(
+					actual, uri, entries, options
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNotNull(java.lang.String)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isNotNull() {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isNotNull(
+					actual
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumber(java.lang.String)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isNumber() {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isNumber(
+					actual
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry(java.lang.String, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isNumberEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isNumberEntry(
+					actual, path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObject(java.lang.String)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isObject() {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isObject(
+					actual
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry(java.lang.String, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isObjectEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isObjectEntry(
+					actual, path
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isString(java.lang.String)]
+	///
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isString() {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isString(
+					actual
+				);
+			}
+		};
+	}
+
+	/// Hamcrest assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry(java.lang.String, java.lang.String)]
+	///
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry
+	/// @return The Hamcrest matcher.
+	public static TypeSafeMatcher<java.lang.String> isStringEntry(final java.lang.String path) {
+		return new AbstractHamcrestMatcher<java.lang.String>() {
+			@Override
+			protected final AssertionResult verify(java.lang.String actual) {
+				return assertions.isStringEntry(
+					actual, path
+				);
+			}
+		};
+	}
+
+}
+
@@ -81,7 +81,10 @@ public abstract class AbstractHamcrestMatcher<T> extends TypeSafeMatcher<T> {
 	/// @return The assertion result.
 	protected abstract AssertionResult verify(T actual);
 
-	private RestAssertError error() {
+	/// Get the error of the last verification, verifying `null` if nothing has been verified yet.
+	///
+	/// @return The error.
+	RestAssertError error() {
 		if (assertionResult == null) {
 			// If we are there, it means it likely has been called with null.
 			assertionResult = verify(null);
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.hamcrest.api;
+
+import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.StringDescription;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.collect;
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.isActive;
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.softly;
+import static com.github.mjeanroy.restassert.core.internal.error.common.CustomError.customError;
+
+/// Soft assertions: run a set of assertions and report all failures at once.
+///
+/// Since [MatcherAssert#assertThat(Object, Matcher)] always fails immediately, assertions must
+/// be written with [#checkThat(Object, Matcher)]:
+///
+/// ```
+///   RestAssertSoftly.assertSoftly(() -> {
+///     checkThat(response, isOk());
+///     checkThat(response, isJson());
+///     checkThat(response, hasETag());
+///   });
+/// ```
+///
+/// Assertions are not stopped by the first failure: each failure is collected, and a single
+/// [AssertionError] combining all of them is thrown once every assertion has been evaluated.
+public final class RestAssertSoftly {
+
+	// Ensure non instantiation.
+	private RestAssertSoftly() {
+	}
+
+	/// Run given assertions and throws a single [AssertionError] if at least one of them failed.
+	///
+	/// @param assertions Assertions to run.
+	public static void assertSoftly(Runnable assertions) {
+		AssertionResult result = softly(assertions);
+		if (result.isFailure()) {
+			throw new AssertionError(result.getError().buildMessage());
+		}
+	}
+
+	/// Check that given object satisfies given matcher.
+	///
+	/// Inside [#assertSoftly(Runnable)], a failure is collected, otherwise it is
+	/// equivalent to [MatcherAssert#assertThat(Object, Matcher)].
+	///
+	/// @param actual Object being tested.
+	/// @param matcher The matcher.
+	/// @param <T> Type of object being tested.
+	public static <T> void checkThat(T actual, Matcher<? super T> matcher) {
+		checkThat("", actual, matcher);
+	}
+
+	/// Check that given object satisfies given matcher.
+	///
+	/// Inside [#assertSoftly(Runnable)], a failure is collected, otherwise it is
+	/// equivalent to [MatcherAssert#assertThat(String, Object, Matcher)].
+	///
+	/// @param reason The reason, added to the error message.
+	/// @param actual Object being tested.
+	/// @param matcher The matcher.
+	/// @param <T> Type of object being tested.
+	public static <T> void checkThat(String reason, T actual, Matcher<? super T> matcher) {
+		if (!isActive()) {
+			MatcherAssert.assertThat(reason, actual, matcher);
+		}
+		else if (!matcher.matches(actual)) {
+			collect(error(reason, actual, matcher));
+		}
+	}
+
+	// Rest-assert matchers give their error, so that it is formatted only at the end: other
+	// matchers are described immediately.
+	private static <T> RestAssertError error(String reason, T actual, Matcher<? super T> matcher) {
+		if (matcher instanceof AbstractHamcrestMatcher && (reason == null || reason.isEmpty())) {
+			return ((AbstractHamcrestMatcher<?>) matcher).error();
+		}
+
+		Description description = new StringDescription();
+		if (reason != null && !reason.isEmpty()) {
+			description.appendText(reason).appendText(System.lineSeparator());
+		}
+
+		description.appendText("Expected: ")
+			.appendDescriptionOf(matcher)
+			.appendText(System.lineSeparator())
+			.appendText("     but: ");
+
+		matcher.describeMismatch(actual, description);
+		return customError(description.toString());
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.hamcrest.api;
+
+import com.github.mjeanroy.restassert.core.data.HttpResponse;
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilderImpl;
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.hamcrest.api.RestAssertSoftly.assertSoftly;
+import static com.github.mjeanroy.restassert.hamcrest.api.RestAssertSoftly.checkThat;
+import static com.github.mjeanroy.restassert.hamcrest.api.http.HttpResponseMatchers.hasETag;
+import static com.github.mjeanroy.restassert.hamcrest.api.http.HttpResponseMatchers.isCreated;
+import static com.github.mjeanroy.restassert.hamcrest.api.http.HttpResponseMatchers.isOk;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailure;
+import static org.hamcrest.Matchers.equalTo;
+
+class RestAssertSoftlyTest {
+
+	@Test
+	void it_should_pass_if_all_assertions_pass() {
+		HttpResponse rsp = new HttpResponseBuilderImpl().setStatus(200).addHeader("ETag", "abc").build();
+		assertSoftly(() -> {
+			checkThat(rsp, isOk());
+			checkThat(rsp, hasETag());
+		});
+	}
+
+	@Test
+	void it_should_fail_with_all_errors() {
+		HttpResponse rsp = new HttpResponseBuilderImpl().setStatus(500).build();
+		assertFailure(
+			"Expecting status code to be 200 but was 500," + System.lineSeparator() +
+			"Expecting status code to be 201 but was 500," + System.lineSeparator() +
+			"Expected: <201>" + System.lineSeparator() +
+			"     but: was <500>",
+			() -> assertSoftly(() -> {
+				checkThat(rsp, isOk());
+				checkThat(rsp, isCreated());
+				checkThat(rsp.getStatus(), equalTo(201));
+			})
+		);
+	}
+
+	@Test
+	void it_should_fail_immediately_outside_soft_block() {
+		HttpResponse rsp = new HttpResponseBuilderImpl().setStatus(500).build();
+		assertFailure(
+			"Expected: Expecting status code to be 200" + System.lineSeparator() +
+			"     but: was 500",
+			() -> checkThat(rsp, isOk())
+		);
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.unit.api.cookie;
+
+import static com.github.mjeanroy.restassert.unit.api.AssertUtil.check;
+
+/// Static assertions.
+///
+/// Generated on: October 17, 2026 at 7:01:29 AM UTC
+/// Template: AssertTemplate.txt
+public final class CookieAssert {
+
+	private static final com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions.instance();
+
+	// Private constructor to ensure no instantiation
+	private CookieAssert() {
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param domain See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasDomain(com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String domain) {
+		assertHasDomain(null, actual, domain);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param domain See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasDomain(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasDomain(String message, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String domain) {
+		check(message, assertions.hasDomain(actual, domain));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge(com.github.mjeanroy.restassert.core.data.Cookie, long)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param maxAge See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge(com.github.mjeanroy.restassert.core.data.Cookie, long)
+	public static void assertHasMaxAge(com.github.mjeanroy.restassert.core.data.Cookie actual, long maxAge) {
+		assertHasMaxAge(null, actual, maxAge);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge(com.github.mjeanroy.restassert.core.data.Cookie, long)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param maxAge See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasMaxAge(com.github.mjeanroy.restassert.core.data.Cookie, long)
+	public static void assertHasMaxAge(String message, com.github.mjeanroy.restassert.core.data.Cookie actual, long maxAge) {
+		check(message, assertions.hasMaxAge(actual, maxAge));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasName(com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String name) {
+		assertHasName(null, actual, name);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasName(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasName(String message, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String name) {
+		check(message, assertions.hasName(actual, name));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasPath(com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String path) {
+		assertHasPath(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasPath(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasPath(String message, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String path) {
+		check(message, assertions.hasPath(actual, path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param sameSite See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasSameSite(com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String sameSite) {
+		assertHasSameSite(null, actual, sameSite);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param sameSite See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasSameSite(String message, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String sameSite) {
+		check(message, assertions.hasSameSite(actual, sameSite));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, com.github.mjeanroy.restassert.core.data.Cookie.SameSite)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param sameSite See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, com.github.mjeanroy.restassert.core.data.Cookie.SameSite)
+	public static void assertHasSameSite(com.github.mjeanroy.restassert.core.data.Cookie actual, com.github.mjeanroy.restassert.core.data.Cookie.SameSite sameSite) {
+		assertHasSameSite(null, actual, sameSite);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, com.github.mjeanroy.restassert.core.data.Cookie.SameSite)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param sameSite See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasSameSite(com.github.mjeanroy.restassert.core.data.Cookie, com.github.mjeanroy.restassert.core.data.Cookie.SameSite)
+	public static void assertHasSameSite(String message, com.github.mjeanroy.restassert.core.data.Cookie actual, com.github.mjeanroy.restassert.core.data.Cookie.SameSite sameSite) {
+		check(message, assertions.hasSameSite(actual, sameSite));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasValue(com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String value) {
+		assertHasValue(null, actual, value);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#hasValue(com.github.mjeanroy.restassert.core.data.Cookie, java.lang.String)
+	public static void assertHasValue(String message, com.github.mjeanroy.restassert.core.data.Cookie actual, java.lang.String value) {
+		check(message, assertions.hasValue(actual, value));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertIsHttpOnly(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsHttpOnly(String message, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		check(message, assertions.isHttpOnly(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsNotHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertIsNotHttpOnly(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotHttpOnly(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsNotHttpOnly(String message, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		check(message, assertions.isNotHttpOnly(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotSecured(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotSecured(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsNotSecured(com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertIsNotSecured(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotSecured(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isNotSecured(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsNotSecured(String message, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		check(message, assertions.isNotSecured(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isSecured(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isSecured(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsSecured(com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		assertIsSecured(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isSecured(com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.CookieAssertions#isSecured(com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertIsSecured(String message, com.github.mjeanroy.restassert.core.data.Cookie actual) {
+		check(message, assertions.isSecured(actual));
+	}
+
+}
+
@@ -0,0 +1,2862 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.unit.api.http;
+
+import static com.github.mjeanroy.restassert.unit.api.AssertUtil.check;
+
+/// Static assertions.
+///
+/// Generated on: October 17, 2026 at 7:01:28 AM UTC
+/// Template: AssertTemplate.txt
+public final class ApacheHttpAssert {
+
+	private static final com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions.instance();
+
+	// Private constructor to ensure no instantiation
+	private ApacheHttpAssert() {
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowCredentials(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveAccessControlAllowCredentials(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowCredentials(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowHeaders(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveAccessControlAllowHeaders(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowHeaders(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowMaxAge(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveAccessControlAllowMaxAge(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowMaxAge(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowMethods(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveAccessControlAllowMethods(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowMethods(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveAccessControlAllowMethods(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowOrigin(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveAccessControlAllowOrigin(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlAllowOrigin(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlExposeHeaders(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveAccessControlExposeHeaders(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveAccessControlExposeHeaders(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveCacheControl(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveCacheControl(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveCacheControl(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveCacheControl(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentDisposition(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveContentDisposition(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentDisposition(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveContentDisposition(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentEncoding(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveContentEncoding(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentEncoding(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveContentEncoding(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentSecurityPolicy(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveContentSecurityPolicy(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentSecurityPolicy(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveContentSecurityPolicy(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentTypeOptions(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveContentTypeOptions(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveContentTypeOptions(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveContentTypeOptions(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertDoesNotHaveCookie(org.apache.http.HttpResponse actual, java.lang.String name) {
+		assertDoesNotHaveCookie(null, actual, name);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertDoesNotHaveCookie(String message, org.apache.http.HttpResponse actual, java.lang.String name) {
+		check(message, assertions.doesNotHaveCookie(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), name));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveCookie(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveCookie(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveCookie(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveCookie(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveCookie(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveETag(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveETag(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveETag(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveETag(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveETag(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveExpires(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveExpires(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveExpires(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveExpires(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveFrameOptions(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveFrameOptions(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveFrameOptions(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveFrameOptions(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertDoesNotHaveHeader(org.apache.http.HttpResponse actual, java.lang.String headerName) {
+		assertDoesNotHaveHeader(null, actual, headerName);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertDoesNotHaveHeader(String message, org.apache.http.HttpResponse actual, java.lang.String headerName) {
+		check(message, assertions.doesNotHaveHeader(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), headerName));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveLastModified(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveLastModified(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveLastModified(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveLastModified(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveLocation(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveLocation(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveLocation(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveLocation(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHavePragma(org.apache.http.HttpResponse actual) {
+		assertDoesNotHavePragma(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHavePragma(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHavePragma(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHavePragma(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveStrictTransportSecurity(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveStrictTransportSecurity(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveStrictTransportSecurity(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveStrictTransportSecurity(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveXssProtection(org.apache.http.HttpResponse actual) {
+		assertDoesNotHaveXssProtection(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#doesNotHaveXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertDoesNotHaveXssProtection(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.doesNotHaveXssProtection(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowCredentials(org.apache.http.HttpResponse actual) {
+		assertHasAccessControlAllowCredentials(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowCredentials(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasAccessControlAllowCredentials(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowHeaders(org.apache.http.HttpResponse actual) {
+		assertHasAccessControlAllowHeaders(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowHeaders(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasAccessControlAllowHeaders(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowMaxAge(org.apache.http.HttpResponse actual) {
+		assertHasAccessControlAllowMaxAge(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowMaxAge(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasAccessControlAllowMaxAge(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowMethods(org.apache.http.HttpResponse actual) {
+		assertHasAccessControlAllowMethods(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowMethods(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowMethods(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasAccessControlAllowMethods(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowOrigin(org.apache.http.HttpResponse actual) {
+		assertHasAccessControlAllowOrigin(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlAllowOrigin(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasAccessControlAllowOrigin(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlExposeHeaders(org.apache.http.HttpResponse actual) {
+		assertHasAccessControlExposeHeaders(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasAccessControlExposeHeaders(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasAccessControlExposeHeaders(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasCacheControl(org.apache.http.HttpResponse actual) {
+		assertHasCacheControl(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCacheControl(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasCacheControl(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasCacheControl(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.nio.charset.Charset)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.nio.charset.Charset)
+	public static void assertHasCharset(org.apache.http.HttpResponse actual, java.nio.charset.Charset expectedCharset) {
+		assertHasCharset(null, actual, expectedCharset);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.nio.charset.Charset)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.nio.charset.Charset)
+	public static void assertHasCharset(String message, org.apache.http.HttpResponse actual, java.nio.charset.Charset expectedCharset) {
+		check(message, assertions.hasCharset(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), expectedCharset));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasCharset(org.apache.http.HttpResponse actual, java.lang.String expectedCharset) {
+		assertHasCharset(null, actual, expectedCharset);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expectedCharset See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCharset(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasCharset(String message, org.apache.http.HttpResponse actual, java.lang.String expectedCharset) {
+		check(message, assertions.hasCharset(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), expectedCharset));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentDisposition(org.apache.http.HttpResponse actual) {
+		assertHasContentDisposition(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentDisposition(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentDisposition(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasContentDisposition(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentEncoding(org.apache.http.HttpResponse actual) {
+		assertHasContentEncoding(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentEncoding(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentEncoding(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasContentEncoding(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentLength(org.apache.http.HttpResponse actual) {
+		assertHasContentLength(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentLength(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentLength(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasContentLength(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentSecurityPolicy(org.apache.http.HttpResponse actual) {
+		assertHasContentSecurityPolicy(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentSecurityPolicy(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentSecurityPolicy(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasContentSecurityPolicy(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentType(org.apache.http.HttpResponse actual) {
+		assertHasContentType(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentType(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentType(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasContentType(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentTypeOptions(org.apache.http.HttpResponse actual) {
+		assertHasContentTypeOptions(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasContentTypeOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasContentTypeOptions(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasContentTypeOptions(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)
+	public static void assertHasCookie(org.apache.http.HttpResponse actual, java.lang.String name, java.lang.String value) {
+		assertHasCookie(null, actual, name, value);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)
+	public static void assertHasCookie(String message, org.apache.http.HttpResponse actual, java.lang.String name, java.lang.String value) {
+		check(message, assertions.hasCookie(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), name, value));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasCookie(org.apache.http.HttpResponse actual, java.lang.String name) {
+		assertHasCookie(null, actual, name);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param name See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasCookie(String message, org.apache.http.HttpResponse actual, java.lang.String name) {
+		check(message, assertions.hasCookie(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), name));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param cookie See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertHasCookie(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.Cookie cookie) {
+		assertHasCookie(null, actual, cookie);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.Cookie)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param cookie See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasCookie(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.Cookie)
+	public static void assertHasCookie(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.Cookie cookie) {
+		check(message, assertions.hasCookie(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), cookie));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasETag(org.apache.http.HttpResponse actual) {
+		assertHasETag(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasETag(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasETag(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasETag(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasExpires(org.apache.http.HttpResponse actual) {
+		assertHasExpires(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasExpires(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasExpires(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasExpires(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasFrameOptions(org.apache.http.HttpResponse actual) {
+		assertHasFrameOptions(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasFrameOptions(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasFrameOptions(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasFrameOptions(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasHeader(org.apache.http.HttpResponse actual, java.lang.String headerName) {
+		assertHasHeader(null, actual, headerName);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasHeader(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasHeader(String message, org.apache.http.HttpResponse actual, java.lang.String headerName) {
+		check(message, assertions.hasHeader(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), headerName));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasLastModified(org.apache.http.HttpResponse actual) {
+		assertHasLastModified(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLastModified(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasLastModified(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasLastModified(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasLocation(org.apache.http.HttpResponse actual) {
+		assertHasLocation(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasLocation(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasLocation(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasLocation(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasMimeType(org.apache.http.HttpResponse actual, java.lang.String expectedMimeType) {
+		assertHasMimeType(null, actual, expectedMimeType);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasMimeType(String message, org.apache.http.HttpResponse actual, java.lang.String expectedMimeType) {
+		check(message, assertions.hasMimeType(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), expectedMimeType));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.MediaType)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.MediaType)
+	public static void assertHasMimeType(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.MediaType expectedMimeType) {
+		assertHasMimeType(null, actual, expectedMimeType);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.MediaType)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expectedMimeType See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasMimeType(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.MediaType)
+	public static void assertHasMimeType(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.MediaType expectedMimeType) {
+		check(message, assertions.hasMimeType(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), expectedMimeType));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasNdJsonEntry(org.apache.http.HttpResponse actual, java.lang.String path) {
+		assertHasNdJsonEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertHasNdJsonEntry(String message, org.apache.http.HttpResponse actual, java.lang.String path) {
+		check(message, assertions.hasNdJsonEntry(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expectedCount See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount(com.github.mjeanroy.restassert.core.data.HttpResponse, long)
+	public static void assertHasNdJsonRecordCount(org.apache.http.HttpResponse actual, long expectedCount) {
+		assertHasNdJsonRecordCount(null, actual, expectedCount);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expectedCount See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasNdJsonRecordCount(com.github.mjeanroy.restassert.core.data.HttpResponse, long)
+	public static void assertHasNdJsonRecordCount(String message, org.apache.http.HttpResponse actual, long expectedCount) {
+		check(message, assertions.hasNdJsonRecordCount(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), expectedCount));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasPragma(org.apache.http.HttpResponse actual) {
+		assertHasPragma(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasPragma(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasPragma(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasPragma(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasStrictTransportSecurity(org.apache.http.HttpResponse actual) {
+		assertHasStrictTransportSecurity(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasStrictTransportSecurity(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasStrictTransportSecurity(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasStrictTransportSecurity(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasXssProtection(org.apache.http.HttpResponse actual) {
+		assertHasXssProtection(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#hasXssProtection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertHasXssProtection(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.hasXssProtection(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsAccepted(org.apache.http.HttpResponse actual) {
+		assertIsAccepted(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccepted(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsAccepted(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isAccepted(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, boolean)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param flag See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, boolean)
+	public static void assertIsAccessControlAllowCredentialsEqualTo(org.apache.http.HttpResponse actual, boolean flag) {
+		assertIsAccessControlAllowCredentialsEqualTo(null, actual, flag);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, boolean)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param flag See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowCredentialsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, boolean)
+	public static void assertIsAccessControlAllowCredentialsEqualTo(String message, org.apache.http.HttpResponse actual, boolean flag) {
+		check(message, assertions.isAccessControlAllowCredentialsEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), flag));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param accessControlAllowHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)
+	public static void assertIsAccessControlAllowHeadersEqualTo(org.apache.http.HttpResponse actual, java.lang.Iterable<java.lang.String> accessControlAllowHeaders) {
+		assertIsAccessControlAllowHeadersEqualTo(null, actual, accessControlAllowHeaders);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param accessControlAllowHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)
+	public static void assertIsAccessControlAllowHeadersEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.Iterable<java.lang.String> accessControlAllowHeaders) {
+		check(message, assertions.isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), accessControlAllowHeaders));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)
+	public static void assertIsAccessControlAllowHeadersEqualTo(org.apache.http.HttpResponse actual, java.lang.String value, java.lang.String... other) {
+		assertIsAccessControlAllowHeadersEqualTo(null, actual, value, other);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)
+	public static void assertIsAccessControlAllowHeadersEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String value, java.lang.String... other) {
+		check(message, assertions.isAccessControlAllowHeadersEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), value, other));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param maxAge See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, long)
+	public static void assertIsAccessControlAllowMaxAgeEqualTo(org.apache.http.HttpResponse actual, long maxAge) {
+		assertIsAccessControlAllowMaxAgeEqualTo(null, actual, maxAge);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, long)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param maxAge See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMaxAgeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, long)
+	public static void assertIsAccessControlAllowMaxAgeEqualTo(String message, org.apache.http.HttpResponse actual, long maxAge) {
+		check(message, assertions.isAccessControlAllowMaxAgeEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), maxAge));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param methods See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)
+	public static void assertIsAccessControlAllowMethodsEqualTo(org.apache.http.HttpResponse actual, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod> methods) {
+		assertIsAccessControlAllowMethodsEqualTo(null, actual, methods);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param methods See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)
+	public static void assertIsAccessControlAllowMethodsEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.RequestMethod> methods) {
+		check(message, assertions.isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), methods));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.RequestMethod, com.github.mjeanroy.restassert.core.data.RequestMethod...)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param method See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.RequestMethod, com.github.mjeanroy.restassert.core.data.RequestMethod...)
+	public static void assertIsAccessControlAllowMethodsEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.RequestMethod method, com.github.mjeanroy.restassert.core.data.RequestMethod... other) {
+		assertIsAccessControlAllowMethodsEqualTo(null, actual, method, other);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.RequestMethod, com.github.mjeanroy.restassert.core.data.RequestMethod...)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param method See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.RequestMethod, com.github.mjeanroy.restassert.core.data.RequestMethod...)
+	public static void assertIsAccessControlAllowMethodsEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.RequestMethod method, com.github.mjeanroy.restassert.core.data.RequestMethod... other) {
+		check(message, assertions.isAccessControlAllowMethodsEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), method, other));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param accessControlAllowOrigin See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsAccessControlAllowOriginEqualTo(org.apache.http.HttpResponse actual, java.lang.String accessControlAllowOrigin) {
+		assertIsAccessControlAllowOriginEqualTo(null, actual, accessControlAllowOrigin);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param accessControlAllowOrigin See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlAllowOriginEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsAccessControlAllowOriginEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String accessControlAllowOrigin) {
+		check(message, assertions.isAccessControlAllowOriginEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), accessControlAllowOrigin));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)
+	public static void assertIsAccessControlExposeHeadersEqualTo(org.apache.http.HttpResponse actual, java.lang.String value, java.lang.String... other) {
+		assertIsAccessControlExposeHeadersEqualTo(null, actual, value, other);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param value See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String...)
+	public static void assertIsAccessControlExposeHeadersEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String value, java.lang.String... other) {
+		check(message, assertions.isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), value, other));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param accessControlExposeHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)
+	public static void assertIsAccessControlExposeHeadersEqualTo(org.apache.http.HttpResponse actual, java.lang.Iterable<java.lang.String> accessControlExposeHeaders) {
+		assertIsAccessControlExposeHeadersEqualTo(null, actual, accessControlExposeHeaders);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param accessControlExposeHeaders See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.Iterable)
+	public static void assertIsAccessControlExposeHeadersEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.Iterable<java.lang.String> accessControlExposeHeaders) {
+		check(message, assertions.isAccessControlExposeHeadersEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), accessControlExposeHeaders));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsBadRequest(org.apache.http.HttpResponse actual) {
+		assertIsBadRequest(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isBadRequest(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsBadRequest(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isBadRequest(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsCacheControlEqualTo(org.apache.http.HttpResponse actual, java.lang.String cacheControl) {
+		assertIsCacheControlEqualTo(null, actual, cacheControl);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsCacheControlEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String cacheControl) {
+		check(message, assertions.isCacheControlEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), cacheControl));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.CacheControl)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.CacheControl)
+	public static void assertIsCacheControlEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.CacheControl cacheControl) {
+		assertIsCacheControlEqualTo(null, actual, cacheControl);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.CacheControl)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param cacheControl See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCacheControlEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.CacheControl)
+	public static void assertIsCacheControlEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.CacheControl cacheControl) {
+		check(message, assertions.isCacheControlEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), cacheControl));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsClientError(org.apache.http.HttpResponse actual) {
+		assertIsClientError(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsClientError(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isClientError(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsConflict(org.apache.http.HttpResponse actual) {
+		assertIsConflict(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isConflict(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsConflict(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isConflict(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentDispositionValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentDispositionEqualTo(org.apache.http.HttpResponse actual, java.lang.String contentDispositionValue) {
+		assertIsContentDispositionEqualTo(null, actual, contentDispositionValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentDispositionValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentDispositionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentDispositionEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String contentDispositionValue) {
+		check(message, assertions.isContentDispositionEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentDispositionValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentEncoding)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentEncoding See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentEncoding)
+	public static void assertIsContentEncodingEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentEncoding contentEncoding) {
+		assertIsContentEncodingEqualTo(null, actual, contentEncoding);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentEncoding)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentEncoding See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentEncoding)
+	public static void assertIsContentEncodingEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentEncoding contentEncoding) {
+		check(message, assertions.isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentEncoding));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentEncodingValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentEncodingEqualTo(org.apache.http.HttpResponse actual, java.lang.String contentEncodingValue) {
+		assertIsContentEncodingEqualTo(null, actual, contentEncodingValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentEncodingValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentEncodingEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String contentEncodingValue) {
+		check(message, assertions.isContentEncodingEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentEncodingValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy)
+	public static void assertIsContentSecurityPolicyEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy contentSecurityPolicy) {
+		assertIsContentSecurityPolicyEqualTo(null, actual, contentSecurityPolicy);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy)
+	public static void assertIsContentSecurityPolicyEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentSecurityPolicy contentSecurityPolicy) {
+		check(message, assertions.isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentSecurityPolicy));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentSecurityPolicyEqualTo(org.apache.http.HttpResponse actual, java.lang.String contentSecurityPolicy) {
+		assertIsContentSecurityPolicyEqualTo(null, actual, contentSecurityPolicy);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentSecurityPolicy See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentSecurityPolicyEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String contentSecurityPolicy) {
+		check(message, assertions.isContentSecurityPolicyEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentSecurityPolicy));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentType)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentType)
+	public static void assertIsContentTypeEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentType contentTypeValue) {
+		assertIsContentTypeEqualTo(null, actual, contentTypeValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentType)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentType)
+	public static void assertIsContentTypeEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentType contentTypeValue) {
+		check(message, assertions.isContentTypeEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentTypeValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentTypeEqualTo(org.apache.http.HttpResponse actual, java.lang.String contentTypeValue) {
+		assertIsContentTypeEqualTo(null, actual, contentTypeValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentTypeValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentTypeEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String contentTypeValue) {
+		check(message, assertions.isContentTypeEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentTypeValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentTypeOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentTypeOptions)
+	public static void assertIsContentTypeOptionsEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentTypeOptions contentTypeOptions) {
+		assertIsContentTypeOptionsEqualTo(null, actual, contentTypeOptions);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentTypeOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.ContentTypeOptions)
+	public static void assertIsContentTypeOptionsEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.ContentTypeOptions contentTypeOptions) {
+		check(message, assertions.isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentTypeOptions));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentTypeOptionsEqualTo(org.apache.http.HttpResponse actual, java.lang.String contentTypeOptions) {
+		assertIsContentTypeOptionsEqualTo(null, actual, contentTypeOptions);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param contentTypeOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsContentTypeOptionsEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String contentTypeOptions) {
+		check(message, assertions.isContentTypeOptionsEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), contentTypeOptions));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsCreated(org.apache.http.HttpResponse actual) {
+		assertIsCreated(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCreated(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsCreated(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isCreated(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsCss(org.apache.http.HttpResponse actual) {
+		assertIsCss(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCss(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsCss(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isCss(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsCsv(org.apache.http.HttpResponse actual) {
+		assertIsCsv(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isCsv(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsCsv(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isCsv(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param etagValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsETagEqualTo(org.apache.http.HttpResponse actual, java.lang.String etagValue) {
+		assertIsETagEqualTo(null, actual, etagValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param etagValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isETagEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsETagEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String etagValue) {
+		check(message, assertions.isETagEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), etagValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsExpiresEqualTo(org.apache.http.HttpResponse actual, java.lang.String expiresValue) {
+		assertIsExpiresEqualTo(null, actual, expiresValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsExpiresEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String expiresValue) {
+		check(message, assertions.isExpiresEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), expiresValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)
+	public static void assertIsExpiresEqualTo(org.apache.http.HttpResponse actual, java.util.Date expiresValue) {
+		assertIsExpiresEqualTo(null, actual, expiresValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expiresValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isExpiresEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)
+	public static void assertIsExpiresEqualTo(String message, org.apache.http.HttpResponse actual, java.util.Date expiresValue) {
+		check(message, assertions.isExpiresEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), expiresValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsForbidden(org.apache.http.HttpResponse actual) {
+		assertIsForbidden(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isForbidden(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsForbidden(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isForbidden(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.FrameOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.FrameOptions)
+	public static void assertIsFrameOptionsEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.FrameOptions frameOptions) {
+		assertIsFrameOptionsEqualTo(null, actual, frameOptions);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.FrameOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.FrameOptions)
+	public static void assertIsFrameOptionsEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.FrameOptions frameOptions) {
+		check(message, assertions.isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), frameOptions));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsFrameOptionsEqualTo(org.apache.http.HttpResponse actual, java.lang.String frameOptions) {
+		assertIsFrameOptionsEqualTo(null, actual, frameOptions);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param frameOptions See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsFrameOptionsEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String frameOptions) {
+		check(message, assertions.isFrameOptionsEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), frameOptions));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsGone(org.apache.http.HttpResponse actual) {
+		assertIsGone(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGone(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsGone(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isGone(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsGzipped(org.apache.http.HttpResponse actual) {
+		assertIsGzipped(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isGzipped(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsGzipped(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isGzipped(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @param headerValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)
+	public static void assertIsHeaderEqualTo(org.apache.http.HttpResponse actual, java.lang.String headerName, java.lang.String headerValue) {
+		assertIsHeaderEqualTo(null, actual, headerName, headerValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param headerName See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @param headerValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHeaderEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String, java.lang.String)
+	public static void assertIsHeaderEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String headerName, java.lang.String headerValue) {
+		check(message, assertions.isHeaderEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), headerName, headerValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsHtml(org.apache.http.HttpResponse actual) {
+		assertIsHtml(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isHtml(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsHtml(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isHtml(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsInternalServerError(org.apache.http.HttpResponse actual) {
+		assertIsInternalServerError(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isInternalServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsInternalServerError(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isInternalServerError(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsJavascript(org.apache.http.HttpResponse actual) {
+		assertIsJavascript(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJavascript(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsJavascript(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isJavascript(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsJson(org.apache.http.HttpResponse actual) {
+		assertIsJson(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isJson(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsJson(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isJson(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param lastModifiedDate See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)
+	public static void assertIsLastModifiedEqualTo(org.apache.http.HttpResponse actual, java.util.Date lastModifiedDate) {
+		assertIsLastModifiedEqualTo(null, actual, lastModifiedDate);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param lastModifiedDate See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.util.Date)
+	public static void assertIsLastModifiedEqualTo(String message, org.apache.http.HttpResponse actual, java.util.Date lastModifiedDate) {
+		check(message, assertions.isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), lastModifiedDate));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param lastModifiedValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsLastModifiedEqualTo(org.apache.http.HttpResponse actual, java.lang.String lastModifiedValue) {
+		assertIsLastModifiedEqualTo(null, actual, lastModifiedValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param lastModifiedValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsLastModifiedEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String lastModifiedValue) {
+		check(message, assertions.isLastModifiedEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), lastModifiedValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param locationValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsLocationEqualTo(org.apache.http.HttpResponse actual, java.lang.String locationValue) {
+		assertIsLocationEqualTo(null, actual, locationValue);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param locationValue See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isLocationEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsLocationEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String locationValue) {
+		check(message, assertions.isLocationEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), locationValue));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMethodNotAllowed(org.apache.http.HttpResponse actual) {
+		assertIsMethodNotAllowed(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMethodNotAllowed(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMethodNotAllowed(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isMethodNotAllowed(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMovedPermanently(org.apache.http.HttpResponse actual) {
+		assertIsMovedPermanently(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedPermanently(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMovedPermanently(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isMovedPermanently(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMovedTemporarily(org.apache.http.HttpResponse actual) {
+		assertIsMovedTemporarily(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMovedTemporarily(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMovedTemporarily(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isMovedTemporarily(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMultipleChoices(org.apache.http.HttpResponse actual) {
+		assertIsMultipleChoices(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isMultipleChoices(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsMultipleChoices(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isMultipleChoices(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonArrayEntry(org.apache.http.HttpResponse actual, java.lang.String path) {
+		assertIsNdJsonArrayEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonArrayEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonArrayEntry(String message, org.apache.http.HttpResponse actual, java.lang.String path) {
+		check(message, assertions.isNdJsonArrayEntry(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonBooleanEntry(org.apache.http.HttpResponse actual, java.lang.String path) {
+		assertIsNdJsonBooleanEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonBooleanEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonBooleanEntry(String message, org.apache.http.HttpResponse actual, java.lang.String path) {
+		check(message, assertions.isNdJsonBooleanEntry(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonNumberEntry(org.apache.http.HttpResponse actual, java.lang.String path) {
+		assertIsNdJsonNumberEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonNumberEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonNumberEntry(String message, org.apache.http.HttpResponse actual, java.lang.String path) {
+		check(message, assertions.isNdJsonNumberEntry(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonObjectEntry(org.apache.http.HttpResponse actual, java.lang.String path) {
+		assertIsNdJsonObjectEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonObjectEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonObjectEntry(String message, org.apache.http.HttpResponse actual, java.lang.String path) {
+		check(message, assertions.isNdJsonObjectEntry(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonStringEntry(org.apache.http.HttpResponse actual, java.lang.String path) {
+		assertIsNdJsonStringEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNdJsonStringEntry(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsNdJsonStringEntry(String message, org.apache.http.HttpResponse actual, java.lang.String path) {
+		check(message, assertions.isNdJsonStringEntry(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNoContent(org.apache.http.HttpResponse actual) {
+		assertIsNoContent(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNoContent(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNoContent(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNoContent(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotAcceptable(org.apache.http.HttpResponse actual) {
+		assertIsNotAcceptable(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotAcceptable(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotAcceptable(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotAcceptable(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotClientError(org.apache.http.HttpResponse actual) {
+		assertIsNotClientError(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotClientError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotClientError(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotClientError(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotFound(org.apache.http.HttpResponse actual) {
+		assertIsNotFound(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotFound(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotFound(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotFound(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotImplemented(org.apache.http.HttpResponse actual) {
+		assertIsNotImplemented(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotImplemented(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotImplemented(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotImplemented(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotModified(org.apache.http.HttpResponse actual) {
+		assertIsNotModified(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotModified(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotModified(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotModified(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotRedirection(org.apache.http.HttpResponse actual) {
+		assertIsNotRedirection(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotRedirection(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotRedirection(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotServerError(org.apache.http.HttpResponse actual) {
+		assertIsNotServerError(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotServerError(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotServerError(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotSuccess(org.apache.http.HttpResponse actual) {
+		assertIsNotSuccess(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isNotSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsNotSuccess(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isNotSuccess(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsOk(org.apache.http.HttpResponse actual) {
+		assertIsOk(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isOk(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsOk(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isOk(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPartialContent(org.apache.http.HttpResponse actual) {
+		assertIsPartialContent(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPartialContent(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPartialContent(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isPartialContent(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPdf(org.apache.http.HttpResponse actual) {
+		assertIsPdf(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPdf(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPdf(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isPdf(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPermanentRedirect(org.apache.http.HttpResponse actual) {
+		assertIsPermanentRedirect(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPermanentRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPermanentRedirect(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isPermanentRedirect(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param pragma See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsPragmaEqualTo(org.apache.http.HttpResponse actual, java.lang.String pragma) {
+		assertIsPragmaEqualTo(null, actual, pragma);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param pragma See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPragmaEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsPragmaEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String pragma) {
+		check(message, assertions.isPragmaEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), pragma));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPreConditionFailed(org.apache.http.HttpResponse actual) {
+		assertIsPreConditionFailed(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isPreConditionFailed(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsPreConditionFailed(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isPreConditionFailed(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRedirection(org.apache.http.HttpResponse actual) {
+		assertIsRedirection(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRedirection(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRedirection(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isRedirection(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestEntityTooLarge(org.apache.http.HttpResponse actual) {
+		assertIsRequestEntityTooLarge(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestEntityTooLarge(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestEntityTooLarge(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isRequestEntityTooLarge(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestTimeout(org.apache.http.HttpResponse actual) {
+		assertIsRequestTimeout(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestTimeout(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestTimeout(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isRequestTimeout(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestUriTooLong(org.apache.http.HttpResponse actual) {
+		assertIsRequestUriTooLong(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestUriTooLong(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestUriTooLong(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isRequestUriTooLong(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestedRangeNotSatisfiable(org.apache.http.HttpResponse actual) {
+		assertIsRequestedRangeNotSatisfiable(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isRequestedRangeNotSatisfiable(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsRequestedRangeNotSatisfiable(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isRequestedRangeNotSatisfiable(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsResetContent(org.apache.http.HttpResponse actual) {
+		assertIsResetContent(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isResetContent(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsResetContent(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isResetContent(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsSeeOther(org.apache.http.HttpResponse actual) {
+		assertIsSeeOther(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSeeOther(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsSeeOther(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isSeeOther(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsServerError(org.apache.http.HttpResponse actual) {
+		assertIsServerError(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isServerError(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsServerError(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isServerError(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)
+	public static void assertIsStatusBetween(org.apache.http.HttpResponse actual, int start, int end) {
+		assertIsStatusBetween(null, actual, start, end);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusBetween(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)
+	public static void assertIsStatusBetween(String message, org.apache.http.HttpResponse actual, int start, int end) {
+		check(message, assertions.isStatusBetween(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), start, end));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual(com.github.mjeanroy.restassert.core.data.HttpResponse, int)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param status See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual(com.github.mjeanroy.restassert.core.data.HttpResponse, int)
+	public static void assertIsStatusEqual(org.apache.http.HttpResponse actual, int status) {
+		assertIsStatusEqual(null, actual, status);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual(com.github.mjeanroy.restassert.core.data.HttpResponse, int)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param status See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusEqual(com.github.mjeanroy.restassert.core.data.HttpResponse, int)
+	public static void assertIsStatusEqual(String message, org.apache.http.HttpResponse actual, int status) {
+		check(message, assertions.isStatusEqual(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), status));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)
+	public static void assertIsStatusOutOf(org.apache.http.HttpResponse actual, int start, int end) {
+		assertIsStatusOutOf(null, actual, start, end);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param start See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @param end See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStatusOutOf(com.github.mjeanroy.restassert.core.data.HttpResponse, int, int)
+	public static void assertIsStatusOutOf(String message, org.apache.http.HttpResponse actual, int start, int end) {
+		check(message, assertions.isStatusOutOf(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), start, end));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity)
+	public static void assertIsStrictTransportSecurityEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity strictTransportSecurity) {
+		assertIsStrictTransportSecurityEqualTo(null, actual, strictTransportSecurity);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity)
+	public static void assertIsStrictTransportSecurityEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.StrictTransportSecurity strictTransportSecurity) {
+		check(message, assertions.isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), strictTransportSecurity));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsStrictTransportSecurityEqualTo(org.apache.http.HttpResponse actual, java.lang.String strictTransportSecurity) {
+		assertIsStrictTransportSecurityEqualTo(null, actual, strictTransportSecurity);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param strictTransportSecurity See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsStrictTransportSecurityEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String strictTransportSecurity) {
+		check(message, assertions.isStrictTransportSecurityEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), strictTransportSecurity));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsSuccess(org.apache.http.HttpResponse actual) {
+		assertIsSuccess(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isSuccess(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsSuccess(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isSuccess(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsTemporaryRedirect(org.apache.http.HttpResponse actual) {
+		assertIsTemporaryRedirect(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isTemporaryRedirect(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsTemporaryRedirect(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isTemporaryRedirect(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsText(org.apache.http.HttpResponse actual) {
+		assertIsText(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isText(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsText(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isText(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsUnauthorized(org.apache.http.HttpResponse actual) {
+		assertIsUnauthorized(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnauthorized(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsUnauthorized(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isUnauthorized(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsUnsupportedMediaType(org.apache.http.HttpResponse actual) {
+		assertIsUnsupportedMediaType(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUnsupportedMediaType(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsUnsupportedMediaType(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isUnsupportedMediaType(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsUtf8(org.apache.http.HttpResponse actual) {
+		assertIsUtf8(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isUtf8(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsUtf8(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isUtf8(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsXml(org.apache.http.HttpResponse actual) {
+		assertIsXml(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml(com.github.mjeanroy.restassert.core.data.HttpResponse)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXml(com.github.mjeanroy.restassert.core.data.HttpResponse)
+	public static void assertIsXml(String message, org.apache.http.HttpResponse actual) {
+		check(message, assertions.isXml(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual)));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.XssProtection)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.XssProtection)
+	public static void assertIsXssProtectionEqualTo(org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.XssProtection xssProtection) {
+		assertIsXssProtectionEqualTo(null, actual, xssProtection);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.XssProtection)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, com.github.mjeanroy.restassert.core.data.XssProtection)
+	public static void assertIsXssProtectionEqualTo(String message, org.apache.http.HttpResponse actual, com.github.mjeanroy.restassert.core.data.XssProtection xssProtection) {
+		check(message, assertions.isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), xssProtection));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsXssProtectionEqualTo(org.apache.http.HttpResponse actual, java.lang.String xssProtection) {
+		assertIsXssProtectionEqualTo(null, actual, xssProtection);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param xssProtection See com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.HttpResponseAssertions#isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.data.HttpResponse, java.lang.String)
+	public static void assertIsXssProtectionEqualTo(String message, org.apache.http.HttpResponse actual, java.lang.String xssProtection) {
+		check(message, assertions.isXssProtectionEqualTo(com.github.mjeanroy.restassert.core.internal.data.bindings.apache.ApacheHttpResponse.create(actual), xssProtection));
+	}
+
+}
+
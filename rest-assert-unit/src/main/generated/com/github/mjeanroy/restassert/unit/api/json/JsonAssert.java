@@ -0,0 +1,859 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.unit.api.json;
+
+import static com.github.mjeanroy.restassert.unit.api.AssertUtil.check;
+
+/// Static assertions.
+///
+/// Generated on: October 17, 2026 at 7:01:29 AM UTC
+/// Template: AssertTemplate.txt
+public final class JsonAssert {
+
+	private static final com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions assertions = com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions.instance();
+
+	// Private constructor to ensure no instantiation
+	private JsonAssert() {
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @param assertion See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)
+	public static void assertAllEntriesMatch(java.lang.String actual, java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		assertAllEntriesMatch(null, actual, path, assertion, other);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @param assertion See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#allEntriesMatch(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)
+	public static void assertAllEntriesMatch(String message, java.lang.String actual, java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		check(message, assertions.allEntriesMatch(actual, path, assertion, other));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @param assertion See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)
+	public static void assertAnyEntryMatches(java.lang.String actual, java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		assertAnyEntryMatches(null, actual, path, assertion, other);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @param assertion See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#anyEntryMatches(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion...)
+	public static void assertAnyEntryMatches(String message, java.lang.String actual, java.lang.String path, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion assertion, com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion... other) {
+		check(message, assertions.anyEntryMatches(actual, path, assertion, other));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.String, java.lang.String...)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param key See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.String, java.lang.String...)
+	public static void assertContains(java.lang.String actual, java.lang.String key, java.lang.String... other) {
+		assertContains(null, actual, key, other);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.String, java.lang.String...)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param key See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.String, java.lang.String...)
+	public static void assertContains(String message, java.lang.String actual, java.lang.String key, java.lang.String... other) {
+		check(message, assertions.contains(actual, key, other));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param keys See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.Iterable)
+	public static void assertContains(java.lang.String actual, java.lang.Iterable<java.lang.String> keys) {
+		assertContains(null, actual, keys);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param keys See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#contains(java.lang.String, java.lang.Iterable)
+	public static void assertContains(String message, java.lang.String actual, java.lang.Iterable<java.lang.String> keys) {
+		check(message, assertions.contains(actual, keys));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, java.lang.Iterable)
+	public static void assertContainsEntries(java.lang.String actual, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.JsonEntry> entries) {
+		assertContainsEntries(null, actual, entries);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, java.lang.Iterable)
+	public static void assertContainsEntries(String message, java.lang.String actual, java.lang.Iterable<com.github.mjeanroy.restassert.core.data.JsonEntry> entries) {
+		check(message, assertions.containsEntries(actual, entries));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, com.github.mjeanroy.restassert.core.data.JsonEntry, com.github.mjeanroy.restassert.core.data.JsonEntry...)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param entry See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, com.github.mjeanroy.restassert.core.data.JsonEntry, com.github.mjeanroy.restassert.core.data.JsonEntry...)
+	public static void assertContainsEntries(java.lang.String actual, com.github.mjeanroy.restassert.core.data.JsonEntry entry, com.github.mjeanroy.restassert.core.data.JsonEntry... other) {
+		assertContainsEntries(null, actual, entry, other);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, com.github.mjeanroy.restassert.core.data.JsonEntry, com.github.mjeanroy.restassert.core.data.JsonEntry...)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param entry See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @param other See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#containsEntries(java.lang.String, com.github.mjeanroy.restassert.core.data.JsonEntry, com.github.mjeanroy.restassert.core.data.JsonEntry...)
+	public static void assertContainsEntries(String message, java.lang.String actual, com.github.mjeanroy.restassert.core.data.JsonEntry entry, com.github.mjeanroy.restassert.core.data.JsonEntry... other) {
+		check(message, assertions.containsEntries(actual, entry, other));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArray(java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArray(java.lang.String)
+	public static void assertIsArray(java.lang.String actual) {
+		assertIsArray(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArray(java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArray(java.lang.String)
+	public static void assertIsArray(String message, java.lang.String actual) {
+		check(message, assertions.isArray(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry(java.lang.String, java.lang.String)
+	public static void assertIsArrayEntry(java.lang.String actual, java.lang.String path) {
+		assertIsArrayEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isArrayEntry(java.lang.String, java.lang.String)
+	public static void assertIsArrayEntry(String message, java.lang.String actual, java.lang.String path) {
+		check(message, assertions.isArrayEntry(actual, path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBoolean(java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBoolean(java.lang.String)
+	public static void assertIsBoolean(java.lang.String actual) {
+		assertIsBoolean(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBoolean(java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBoolean(java.lang.String)
+	public static void assertIsBoolean(String message, java.lang.String actual) {
+		check(message, assertions.isBoolean(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry(java.lang.String, java.lang.String)
+	public static void assertIsBooleanEntry(java.lang.String actual, java.lang.String path) {
+		assertIsBooleanEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isBooleanEntry(java.lang.String, java.lang.String)
+	public static void assertIsBooleanEntry(String message, java.lang.String actual, java.lang.String path) {
+		check(message, assertions.isBooleanEntry(actual, path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(java.lang.String actual, java.lang.String expected, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualTo(null, actual, expected, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.lang.String expected, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualTo(actual, expected, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI)
+	public static void assertIsEqualTo(java.lang.String actual, java.net.URI uri) {
+		assertIsEqualTo(null, actual, uri);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.net.URI uri) {
+		check(message, assertions.isEqualTo(actual, uri));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL)
+	public static void assertIsEqualTo(java.lang.String actual, java.net.URL url) {
+		assertIsEqualTo(null, actual, url);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.net.URL url) {
+		check(message, assertions.isEqualTo(actual, url));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(java.lang.String actual, java.nio.file.Path path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualTo(null, actual, path, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.nio.file.Path path, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualTo(actual, path, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(java.lang.String actual, java.net.URI uri, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualTo(null, actual, uri, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URI, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.net.URI uri, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualTo(actual, uri, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File)
+	public static void assertIsEqualTo(java.lang.String actual, java.io.File file) {
+		assertIsEqualTo(null, actual, file);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.io.File file) {
+		check(message, assertions.isEqualTo(actual, file));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(java.lang.String actual, java.io.File file, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualTo(null, actual, file, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.io.File, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.io.File file, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualTo(actual, file, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path)
+	public static void assertIsEqualTo(java.lang.String actual, java.nio.file.Path path) {
+		assertIsEqualTo(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.nio.file.Path)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.nio.file.Path path) {
+		check(message, assertions.isEqualTo(actual, path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String)
+	public static void assertIsEqualTo(java.lang.String actual, java.lang.String expected) {
+		assertIsEqualTo(null, actual, expected);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.lang.String)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.lang.String expected) {
+		check(message, assertions.isEqualTo(actual, expected));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(java.lang.String actual, java.net.URL url, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualTo(null, actual, url, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualTo(java.lang.String, java.net.URL, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualTo(String message, java.lang.String actual, java.net.URL url, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualTo(actual, url, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries) {
+		assertIsEqualToIgnoring(null, actual, path, entries);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries) {
+		check(message, assertions.isEqualToIgnoring(actual, path, entries));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.io.File file, java.lang.Iterable<java.lang.String> entries) {
+		assertIsEqualToIgnoring(null, actual, file, entries);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.io.File file, java.lang.Iterable<java.lang.String> entries) {
+		check(message, assertions.isEqualToIgnoring(actual, file, entries));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.lang.String expected, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualToIgnoring(null, actual, expected, entries, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.lang.String expected, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualToIgnoring(actual, expected, entries, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.lang.String expected, java.lang.Iterable<java.lang.String> entries) {
+		assertIsEqualToIgnoring(null, actual, expected, entries);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param expected See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.lang.String, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.lang.String expected, java.lang.Iterable<java.lang.String> entries) {
+		check(message, assertions.isEqualToIgnoring(actual, expected, entries));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.io.File file, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualToIgnoring(null, actual, file, entries, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param file See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.io.File, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.io.File file, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualToIgnoring(actual, file, entries, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.net.URL url, java.lang.Iterable<java.lang.String> entries) {
+		assertIsEqualToIgnoring(null, actual, url, entries);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.net.URL url, java.lang.Iterable<java.lang.String> entries) {
+		check(message, assertions.isEqualToIgnoring(actual, url, entries));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.net.URL url, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualToIgnoring(null, actual, url, entries, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param url See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URL, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.net.URL url, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualToIgnoring(actual, url, entries, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualToIgnoring(null, actual, path, entries, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.nio.file.Path, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.nio.file.Path path, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualToIgnoring(actual, path, entries, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.net.URI uri, java.lang.Iterable<java.lang.String> entries) {
+		assertIsEqualToIgnoring(null, actual, uri, entries);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.net.URI uri, java.lang.Iterable<java.lang.String> entries) {
+		check(message, assertions.isEqualToIgnoring(actual, uri, entries));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(java.lang.String actual, java.net.URI uri, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		assertIsEqualToIgnoring(null, actual, uri, entries, options);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param uri See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param entries See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @param options See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isEqualToIgnoring(java.lang.String, java.net.URI, java.lang.Iterable, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions)
+	public static void assertIsEqualToIgnoring(String message, java.lang.String actual, java.net.URI uri, java.lang.Iterable<java.lang.String> entries, com.github.mjeanroy.restassert.core.data.JsonComparatorOptions options) {
+		check(message, assertions.isEqualToIgnoring(actual, uri, entries, options));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNotNull(java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNotNull(java.lang.String)
+	public static void assertIsNotNull(java.lang.String actual) {
+		assertIsNotNull(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNotNull(java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNotNull(java.lang.String)
+	public static void assertIsNotNull(String message, java.lang.String actual) {
+		check(message, assertions.isNotNull(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumber(java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumber(java.lang.String)
+	public static void assertIsNumber(java.lang.String actual) {
+		assertIsNumber(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumber(java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumber(java.lang.String)
+	public static void assertIsNumber(String message, java.lang.String actual) {
+		check(message, assertions.isNumber(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry(java.lang.String, java.lang.String)
+	public static void assertIsNumberEntry(java.lang.String actual, java.lang.String path) {
+		assertIsNumberEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isNumberEntry(java.lang.String, java.lang.String)
+	public static void assertIsNumberEntry(String message, java.lang.String actual, java.lang.String path) {
+		check(message, assertions.isNumberEntry(actual, path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObject(java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObject(java.lang.String)
+	public static void assertIsObject(java.lang.String actual) {
+		assertIsObject(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObject(java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObject(java.lang.String)
+	public static void assertIsObject(String message, java.lang.String actual) {
+		check(message, assertions.isObject(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry(java.lang.String, java.lang.String)
+	public static void assertIsObjectEntry(java.lang.String actual, java.lang.String path) {
+		assertIsObjectEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isObjectEntry(java.lang.String, java.lang.String)
+	public static void assertIsObjectEntry(String message, java.lang.String actual, java.lang.String path) {
+		check(message, assertions.isObjectEntry(actual, path));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isString(java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isString(java.lang.String)
+	public static void assertIsString(java.lang.String actual) {
+		assertIsString(null, actual);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isString(java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isString(java.lang.String)
+	public static void assertIsString(String message, java.lang.String actual) {
+		check(message, assertions.isString(actual));
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with default message if test failed.
+	///
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry(java.lang.String, java.lang.String)
+	public static void assertIsStringEntry(java.lang.String actual, java.lang.String path) {
+		assertIsStringEntry(null, actual, path);
+	}
+
+	/// Static assertion for [com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry(java.lang.String, java.lang.String)]
+	/// Throws an [AssertionError] with given message if test failed.
+	///
+	/// @param message  The identifying message for the [AssertionError].
+	/// @param actual Actual object.
+	/// @param path See com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry
+	/// @see com.github.mjeanroy.restassert.core.internal.assertions.JsonAssertions#isStringEntry(java.lang.String, java.lang.String)
+	public static void assertIsStringEntry(String message, java.lang.String actual, java.lang.String path) {
+		check(message, assertions.isStringEntry(actual, path));
+	}
+
+}
+
@@ -25,8 +25,10 @@
 package com.github.mjeanroy.restassert.unit.api;
 
 import com.github.mjeanroy.restassert.core.internal.assertions.AssertionResult;
+import com.github.mjeanroy.restassert.core.internal.error.RestAssertError;
 
-import static com.github.mjeanroy.restassert.core.internal.common.Objects.firstNonNull;
+import static com.github.mjeanroy.restassert.core.internal.assertions.SoftAssertionCollector.collect;
+import static com.github.mjeanroy.restassert.core.internal.error.common.CustomError.customError;
 
 /// Static assertion utilities.
 public final class AssertUtil {
@@ -37,11 +39,16 @@ public final class AssertUtil {
 
 	/// Check for assertion result and throws [AssertionError] in case of error.
 	///
+	/// Inside [RestAssertSoftly#assertSoftly(Runnable)], the error is collected instead.
+	///
 	/// @param message The custom message, a default error message will be used if it is null.
 	/// @param result The assertion result.
 	public static void check(String message, AssertionResult result) {
 		if (result.isFailure()) {
-			throw new AssertionError(firstNonNull(message, result.getError().buildMessage()));
+			RestAssertError error = message == null ? result.getError() : customError(message);
+			if (!collect(error)) {
+				throw new AssertionError(error.buildMessage());
+			}
 		}
 	}
 }
@@ -223,6 +223,15 @@ public interface HttpAsserter<T> {
 
 	void assertIsUtf8(String message, T actual);
 
+	// NDJSON
+	void assertHasNdJsonRecordCount(T actual, long expectedCount);
+
+	void assertHasNdJsonRecordCount(String message, T actual, long expectedCount);
+
+	void assertHasNdJsonEntry(T actual, String path);
+
+	void assertHasNdJsonEntry(String message, T actual, String path);
+
 	// Mime Types
 	void assertHasMimeType(T actual, String mimeType);
 
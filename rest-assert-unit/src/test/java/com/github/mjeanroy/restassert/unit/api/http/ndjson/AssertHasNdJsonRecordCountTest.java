@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.unit.api.http.ndjson;
+
+import com.github.mjeanroy.restassert.tests.builders.HttpResponseBuilder;
+import com.github.mjeanroy.restassert.unit.api.http.AbstractHttpTest;
+import com.github.mjeanroy.restassert.unit.api.http.HttpAsserter;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailure;
+
+class AssertHasNdJsonRecordCountTest extends AbstractHttpTest<String> {
+
+	private static final long COUNT = 2;
+
+	@Override
+	protected Stream<String> testInputs() {
+		return Stream.of(
+			"{\"id\": 1}\n{\"id\": 2}\n",
+			"{\"id\": 1}\n\n{\"id\": 2}"
+		);
+	}
+
+	@Override
+	protected void runTestFailure(String msg, Consumer<String> testFn) {
+		String message = msg == null ? "Expecting ndjson to have 2 record(s) but was 3" : msg;
+		assertFailure(message, () ->
+			testFn.accept("{\"id\": 1}\n{\"id\": 2}\n{\"id\": 3}\n")
+		);
+	}
+
+	@Override
+	protected <T> void runTest(HttpAsserter<T> httpAssert, T actual) {
+		httpAssert.assertHasNdJsonRecordCount(
+			actual,
+			COUNT
+		);
+	}
+
+	@Override
+	protected <T> void runTest(HttpAsserter<T> httpAssert, String message, T actual) {
+		httpAssert.assertHasNdJsonRecordCount(
+			message,
+			actual,
+			COUNT
+		);
+	}
+
+	@Override
+	protected <T> void setupHttpResponse(HttpResponseBuilder<T> builder, String content) {
+		builder.setContent(content);
+	}
+}
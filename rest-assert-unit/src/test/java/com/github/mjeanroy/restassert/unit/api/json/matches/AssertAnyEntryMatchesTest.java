@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.restassert.unit.api.json.matches;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isEntryEqualTo;
+import static com.github.mjeanroy.restassert.core.internal.assertions.JsonEntryAssertion.isNumberEntry;
+import static com.github.mjeanroy.restassert.tests.AssertionUtils.assertFailure;
+import static com.github.mjeanroy.restassert.unit.api.json.JsonAssert.assertAnyEntryMatches;
+
+class AssertAnyEntryMatchesTest {
+
+	private static final String JSON = "{\"items\": [{\"id\": 1, \"name\": \"foo\"}, {\"id\": \"2\", \"name\": \"bar\"}]}";
+
+	@Test
+	void it_should_pass_if_any_entry_matches() {
+		assertAnyEntryMatches(JSON, "items", isNumberEntry("id"));
+	}
+
+	@Test
+	void it_should_fail() {
+		String message = "Expecting json array \"items\" to have at least one matching element but none of its 2 element(s) matched";
+		assertFailure(message, () -> assertAnyEntryMatches(JSON, "items", isEntryEqualTo("id", 3)));
+	}
+
+	@Test
+	void it_should_fail_with_custom_message() {
+		String message = "error";
+		assertFailure(message, () -> assertAnyEntryMatches(message, JSON, "items", isEntryEqualTo("id", 3)));
+	}
+}